@@ -2,7 +2,9 @@ package com.ktdsuniversity.edu.hello_spring;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+@EnableScheduling // @Scheduled 메소드 실행 (로그인 실패 횟수 반영 등)
 @SpringBootApplication
 public class HelloSpringApplication {
 
@@ -1,5 +1,8 @@
 package com.ktdsuniversity.edu.hello_spring.access.dao;
 
+import java.util.List;
+
+import com.ktdsuniversity.edu.hello_spring.access.vo.AccessLogPurgeVO;
 import com.ktdsuniversity.edu.hello_spring.access.vo.AccessLogVO;
 
 public interface AccessLogDao {
@@ -8,7 +11,34 @@ public interface AccessLogDao {
 	
 	public int insertNewAccessLog(AccessLogVO accessLogVO);
 	
-	public int selectLoginFailCount(String ip);
+	/**
+	 * 여러 건의 접근 기록을 한 번에 INSERT 한다 (JDBC Batch)
+	 * @param accessLogList 접근 기록 (accessTime이 있다면 그 시간으로 기록한다)
+	 * @return DB에 INSERT 한 접근 기록의 개수
+	 */
+	public int insertNewAccessLogBatch(List<AccessLogVO> accessLogList);
+	
+	/**
+	 * 하루 동안의 접근 기록을 시간별로 집계해서 ACCESS_LOG_HOURLY에 반영한다
+	 * 같은 날을 다시 집계하면 이전 집계를 덮어쓴다
+	 * @param accessDay 집계할 날 (YYYY-MM-DD)
+	 * @return 반영한 집계 행의 수
+	 */
+	public int mergeAccessLogHourly(String accessDay);
+	
+	/**
+	 * @return 집계한 마지막 날 (YYYY-MM-DD). 없다면 null
+	 */
+	public String selectLastRollupDay();
 	
+	/**
+	 * @return 가장 오래된 접근 기록의 날 (YYYY-MM-DD). 없다면 null
+	 */
+	public String selectOldestAccessDay();
 	
+	/**
+	 * 기준 날짜 이전의 접근 기록을 최대 chunkSize개 삭제한다
+	 * @return 삭제한 개수 (chunkSize보다 작다면 더 이상 삭제할 기록이 없다)
+	 */
+	public int deleteAccessLogBefore(AccessLogPurgeVO accessLogPurgeVO);
 }
@@ -1,16 +1,36 @@
 package com.ktdsuniversity.edu.hello_spring.access.dao.impl;
 
+import java.util.List;
+
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.SqlSessionUtils;
 import org.mybatis.spring.support.SqlSessionDaoSupport;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
 import com.ktdsuniversity.edu.hello_spring.access.dao.AccessLogDao;
+import com.ktdsuniversity.edu.hello_spring.access.vo.AccessLogPurgeVO;
 import com.ktdsuniversity.edu.hello_spring.access.vo.AccessLogVO;
+import com.ktdsuniversity.edu.hello_spring.common.beans.id.IdGenerator;
+import com.ktdsuniversity.edu.hello_spring.common.beans.id.TimeOrderedIdGenerator;
 
 @Repository
 public class AccessLogDaoImpl extends SqlSessionDaoSupport implements AccessLogDao{
 
+	private static final String ACCESS_LOG_ID_PREFIX = "AL-";
+	
+	/**
+	 * ACCESS_LOG_ID를 INSERT 하기 전에 만든다 (Sequence를 사용하지 않는다)
+	 */
+	@Autowired
+	@Qualifier("accessLogIdGenerator")
+	private IdGenerator accessLogIdGenerator;
+
 	@Autowired
 	@Override
 	public void setSqlSessionTemplate(SqlSessionTemplate sqlSessionTemplate) {
@@ -19,11 +39,72 @@ public class AccessLogDaoImpl extends SqlSessionDaoSupport implements AccessLogD
 	
 	@Override
 	public int insertNewAccessLog(AccessLogVO accessLogVO) {
+		this.assignAccessLogId(accessLogVO);
 		return getSqlSession().insert(NAMESPACE+ ".insertNewAccessLog", accessLogVO);
 	}
 	
+	/**
+	 * BATCH Executor의 SqlSession으로 INSERT를 모아 한 번에 전송한다
+	 * 트랜잭션 안이라면 트랜잭션에 묶인 BATCH SqlSession을 함께 사용하고 트랜잭션이 끝날 때 commit 된다
+	 */
+	@Override
+	public int insertNewAccessLogBatch(List<AccessLogVO> accessLogList) {
+		if(accessLogList.isEmpty()) {
+			return 0;
+		}
+		
+		SqlSessionFactory sqlSessionFactory = this.getSqlSessionTemplate().getSqlSessionFactory();
+		SqlSession batchSession = SqlSessionUtils.getSqlSession(sqlSessionFactory
+															   , ExecutorType.BATCH
+															   , this.getSqlSessionTemplate().getPersistenceExceptionTranslator());
+		try {
+			for(AccessLogVO accessLogVO : accessLogList) {
+				this.assignAccessLogId(accessLogVO);
+				batchSession.insert(NAMESPACE + ".insertNewAccessLog", accessLogVO);
+			}
+			
+			int insertCount = 0;
+			for(BatchResult batchResult : batchSession.flushStatements()) {
+				for(int count : batchResult.getUpdateCounts()) {
+					// Oracle JDBC는 Batch의 건별 결과 대신 SUCCESS_NO_INFO(-2)를 돌려줄 수 있다
+					insertCount += count > 0 ? count : 1;
+				}
+			}
+			if(!SqlSessionUtils.isSqlSessionTransactional(batchSession, sqlSessionFactory)) {
+				batchSession.commit();
+			}
+			return insertCount;
+		} finally {
+			SqlSessionUtils.closeSqlSession(batchSession, sqlSessionFactory);
+		}
+	}
+	
+	@Override
+	public int mergeAccessLogHourly(String accessDay) {
+		return getSqlSession().update(NAMESPACE + ".mergeAccessLogHourly", accessDay);
+	}
+	
 	@Override
-	public int selectLoginFailCount(String ip) {
-		return getSqlSession().selectOne(NAMESPACE + ".selectLoginFailCount", ip);
+	public String selectLastRollupDay() {
+		return getSqlSession().selectOne(NAMESPACE + ".selectLastRollupDay");
+	}
+	
+	@Override
+	public String selectOldestAccessDay() {
+		return getSqlSession().selectOne(NAMESPACE + ".selectOldestAccessDay");
+	}
+	
+	@Override
+	public int deleteAccessLogBefore(AccessLogPurgeVO accessLogPurgeVO) {
+		return getSqlSession().delete(NAMESPACE + ".deleteAccessLogBefore", accessLogPurgeVO);
+	}
+	
+	/**
+	 * ID가 없다면 만든다: AL-{36진수 13자리}. 문자열 순서가 만든 시간 순서와 같다
+	 */
+	private void assignAccessLogId(AccessLogVO accessLogVO) {
+		if(accessLogVO.getAccessLogId() == null) {
+			accessLogVO.setAccessLogId(ACCESS_LOG_ID_PREFIX + TimeOrderedIdGenerator.toSortableString(this.accessLogIdGenerator.nextId()));
+		}
 	}
 }
@@ -0,0 +1,30 @@
+package com.ktdsuniversity.edu.hello_spring.access.vo;
+
+/**
+ * 보관 기간이 지난 접근 기록 삭제 조건
+ */
+public class AccessLogPurgeVO {
+
+	/**
+	 * 이 날짜(YYYY-MM-DD) 이전의 기록을 삭제한다
+	 */
+	private String beforeDay;
+	
+	/**
+	 * 한 번에 삭제할 최대 개수
+	 */
+	private int chunkSize;
+	
+	public String getBeforeDay() {
+		return beforeDay;
+	}
+	public void setBeforeDay(String beforeDay) {
+		this.beforeDay = beforeDay;
+	}
+	public int getChunkSize() {
+		return chunkSize;
+	}
+	public void setChunkSize(int chunkSize) {
+		this.chunkSize = chunkSize;
+	}
+}
@@ -2,6 +2,7 @@ package com.ktdsuniversity.edu.hello_spring.bbs.dao;
 
 import java.util.List;
 
+import com.ktdsuniversity.edu.hello_spring.bbs.vo.BoardSummaryVO;
 import com.ktdsuniversity.edu.hello_spring.bbs.vo.BoardVO;
 import com.ktdsuniversity.edu.hello_spring.bbs.vo.DeleteBoardVO;
 import com.ktdsuniversity.edu.hello_spring.bbs.vo.ModifyBoardVO;
@@ -12,12 +13,20 @@ public interface BoardDao {
 
 	public int selectBoardAllCount(SearchBoardVO searchBoardVO);
 	
+	/**
+	 * 검색 결과를 searchBoardVO.countLimit개까지만 센다
+	 * 검색어 검색(LIKE '%검색어%')에서 모든 게시글을 세지 않기 위해 사용
+	 * @param searchBoardVO
+	 * @return 검색 결과의 수 (countLimit보다 크지 않다)
+	 */
+	public int selectBoardCountWithLimit(SearchBoardVO searchBoardVO);
+	
 	/**
 	 * 페이지네이션 처리 없이 모든 게시글을 조회한다
 	 * 엑셀 다운로드에서 사용
 	 * @return
 	 */
-	public List<BoardVO> selectAllBoard();
+	public List<BoardSummaryVO> selectAllBoard();
 	
 	/**
 	 * 페이지네이션 처리한 게시글을 조회한다
@@ -25,7 +34,16 @@ public interface BoardDao {
 	 * @param searchBoardVO
 	 * @return
 	 */
-	public List<BoardVO> selectAllBoard(SearchBoardVO searchBoardVO);
+	public List<BoardSummaryVO> selectAllBoard(SearchBoardVO searchBoardVO);
+	
+	/**
+	 * 페이지네이션 처리한 게시글과 검색 결과의 총 개수(BoardSummaryVO.totalCnt)를 한 번에 조회한다
+	 * 총 개수는 searchBoardVO.countLimit개까지만 센다
+	 * 검색 결과의 수를 모를 때 목록 페이지에서 사용
+	 * @param searchBoardVO 조회할 페이지가 countLimit개 안에 있어야 한다
+	 * @return 조회할 페이지에 게시글이 없다면 빈 목록 (총 개수를 알 수 없다)
+	 */
+	public List<BoardSummaryVO> selectAllBoardWithCount(SearchBoardVO searchBoardVO);
 	
 	public int inserNewBoard(WriteBoardVO writeBoardVO);
 	
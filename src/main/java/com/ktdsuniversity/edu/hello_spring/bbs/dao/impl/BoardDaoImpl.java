@@ -7,20 +7,30 @@ import org.mybatis.spring.support.SqlSessionDaoSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
 import com.ktdsuniversity.edu.hello_spring.bbs.dao.BoardDao;
+import com.ktdsuniversity.edu.hello_spring.bbs.vo.BoardSummaryVO;
 import com.ktdsuniversity.edu.hello_spring.bbs.vo.BoardVO;
 import com.ktdsuniversity.edu.hello_spring.bbs.vo.DeleteBoardVO;
 import com.ktdsuniversity.edu.hello_spring.bbs.vo.ModifyBoardVO;
 import com.ktdsuniversity.edu.hello_spring.bbs.vo.SearchBoardVO;
 import com.ktdsuniversity.edu.hello_spring.bbs.vo.WriteBoardVO;
+import com.ktdsuniversity.edu.hello_spring.common.beans.id.IdGenerator;
 
 @Repository
 public class BoardDaoImpl extends SqlSessionDaoSupport implements BoardDao {
 
 	public static final Logger logger = LoggerFactory.getLogger(BoardDaoImpl.class); //Logger, LoggerFactory 모두 slf4j 선택
 	
+	/**
+	 * 게시글 ID를 INSERT 하기 전에 만든다 (SEQ_BOARD_PK를 Block 단위로 사용한다)
+	 */
+	@Autowired
+	@Qualifier("boardIdGenerator")
+	private IdGenerator boardIdGenerator;
+	
 	@Autowired
 	@Override
 	public void setSqlSessionTemplate(SqlSessionTemplate sqlSessionTemplate) {
@@ -38,17 +48,29 @@ public class BoardDaoImpl extends SqlSessionDaoSupport implements BoardDao {
 	}
 	
 	@Override
-	public List<BoardVO> selectAllBoard() {
+	public int selectBoardCountWithLimit(SearchBoardVO searchBoardVO) {
+		return this.getSqlSession().selectOne("com.ktdsuniversity.edu.hello_spring.bbs.dao.BoardDao.selectBoardCountWithLimit", searchBoardVO);
+	}
+	
+	@Override
+	public List<BoardSummaryVO> selectAllBoard() {
 		return this.getSqlSession().selectList("com.ktdsuniversity.edu.hello_spring.bbs.dao.BoardDao.selectAllBoard");
 	}
 	
 	@Override
-	public List<BoardVO> selectAllBoard(SearchBoardVO searchBoardVO) {
+	public List<BoardSummaryVO> selectAllBoard(SearchBoardVO searchBoardVO) {
 		return this.getSqlSession().selectList("com.ktdsuniversity.edu.hello_spring.bbs.dao.BoardDao.selectAllBoard", searchBoardVO);
 	}
 	
+	@Override
+	public List<BoardSummaryVO> selectAllBoardWithCount(SearchBoardVO searchBoardVO) {
+		return this.getSqlSession().selectList("com.ktdsuniversity.edu.hello_spring.bbs.dao.BoardDao.selectAllBoardWithCount", searchBoardVO);
+	}
+	
 	@Override
 	public int inserNewBoard(WriteBoardVO writeBoardVO) {
+		// 요청 파라미터로 전달된 값은 사용하지 않는다
+		writeBoardVO.setId(Math.toIntExact(this.boardIdGenerator.nextId()));
 		return this.getSqlSession().insert("com.ktdsuniversity.edu.hello_spring.bbs.dao.BoardDao.inserNewBoard", writeBoardVO);
 	}
 	
@@ -5,6 +5,7 @@ import java.util.List;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.mybatis.spring.support.SqlSessionDaoSupport;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
 import com.ktdsuniversity.edu.hello_spring.bbs.dao.ReplyDao;
@@ -12,10 +13,18 @@ import com.ktdsuniversity.edu.hello_spring.bbs.vo.DeleteReplyVO;
 import com.ktdsuniversity.edu.hello_spring.bbs.vo.ModifyReplyVO;
 import com.ktdsuniversity.edu.hello_spring.bbs.vo.ReplyVO;
 import com.ktdsuniversity.edu.hello_spring.bbs.vo.WriteReplyVO;
+import com.ktdsuniversity.edu.hello_spring.common.beans.id.IdGenerator;
 
 @Repository
 public class ReplyDaoImpl extends SqlSessionDaoSupport implements ReplyDao{
 
+	/**
+	 * 댓글 ID를 INSERT 하기 전에 만든다 (SEQ_REPLIES_PK를 Block 단위로 사용한다)
+	 */
+	@Autowired
+	@Qualifier("replyIdGenerator")
+	private IdGenerator replyIdGenerator;
+	
 	@Autowired
 	@Override
 	public void setSqlSessionTemplate(SqlSessionTemplate sqlSessionTemplate) {
@@ -34,6 +43,8 @@ public class ReplyDaoImpl extends SqlSessionDaoSupport implements ReplyDao{
 	
 	@Override
 	public int insertNewReply(WriteReplyVO writeReplyVO) {
+		// 요청 파라미터로 전달된 값은 사용하지 않는다
+		writeReplyVO.setReplyId(Math.toIntExact(this.replyIdGenerator.nextId()));
 		return this.getSqlSession().insert(NAMESPACE + ".insertNewReply", writeReplyVO);
 	}
 	
@@ -0,0 +1,37 @@
+package com.ktdsuniversity.edu.hello_spring.bbs.event;
+
+/**
+ * 게시글이 등록/수정/삭제되었음을 알리는 이벤트
+ *
+ * 게시글 목록을 캐시하고 있는 곳(BoardListCache)에서 받아서 캐시를 삭제한다
+ * 실제로 변경된 게시글이 있을 때만 발생시킨다 (수정/삭제 권한이 없어서 변경된 행이 없다면 발생시키지 않는다)
+ */
+public class BoardChangedEvent {
+
+	public enum ChangeType {
+		CREATED, UPDATED, DELETED
+	}
+
+	/**
+	 * 변경된 게시글의 번호
+	 */
+	private final int boardId;
+
+	/**
+	 * 변경 유형
+	 */
+	private final ChangeType changeType;
+
+	public BoardChangedEvent(int boardId, ChangeType changeType) {
+		this.boardId = boardId;
+		this.changeType = changeType;
+	}
+
+	public int getBoardId() {
+		return boardId;
+	}
+
+	public ChangeType getChangeType() {
+		return changeType;
+	}
+}
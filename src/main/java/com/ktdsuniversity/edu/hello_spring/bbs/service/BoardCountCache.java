@@ -0,0 +1,306 @@
+package com.ktdsuniversity.edu.hello_spring.bbs.service;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktdsuniversity.edu.hello_spring.bbs.dao.BoardDao;
+import com.ktdsuniversity.edu.hello_spring.bbs.event.BoardChangedEvent;
+import com.ktdsuniversity.edu.hello_spring.bbs.vo.SearchBoardVO;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 게시글 수 캐시
+ *
+ * 이전에는 게시글 목록을 조회할 때마다 BOARD와 MEMBERS를 JOIN 해서 모든 게시글의 수를 셌다 (selectBoardAllCount)
+ * -> 페이지 개수(PaginationVO.setPageCount)를 계산하기 위해서만 사용한다
+ *
+ * 1. 전체 게시글 수 (검색어 없음)
+ *    - 처음 한 번만 조회하고 메모리에 보관한다
+ *    - 게시글이 등록/삭제되면(BoardChangedEvent) commit 된 이후에 1씩 더하고 뺀다
+ *    - 주기적으로(reconcile-interval-millis) 데이터베이스의 수와 비교해서 다르면 데이터베이스의 수로 바꾼다
+ *      (회원 탈퇴, 데이터베이스에서 직접 변경한 경우 등)
+ * 2. 검색 결과의 수
+ *    - 짧은 시간(expire-after-write-seconds) 동안 캐시한다. 게시글이 변경되면 유효시간과 관계 없이 삭제한다
+ *    - 글번호 검색을 제외한 검색어 검색은 LIKE '%검색어%'로 모든 게시글을 확인해야 한다
+ *      -> keyword-count-limit + 1개까지만 센다. 넘으면 "keyword-count-limit건 이상"으로 보여준다 (approximate)
+ *    - 게시글 목록과 함께 센 수(selectAllBoardWithCount)도 같은 개수까지만 세고 캐시한다 (putCount)
+ *
+ * 전체 게시글 수, 보정 횟수는 /actuator/metrics/board.count.* 로 확인할 수 있다
+ * 검색 결과 수 캐시의 적중률은 /actuator/metrics/cache.* 로 확인할 수 있다 (cache=boardCount)
+ */
+public class BoardCountCache implements MeterBinder {
+
+	private static final Logger logger = LoggerFactory.getLogger(BoardCountCache.class);
+
+	private static final String CACHE_NAME = "boardCount";
+
+	/**
+	 * 제목/내용으로 검색하는 검색 유형 (게시글이 수정되면 검색 결과의 수가 바뀔 수 있다)
+	 */
+	private static final Set<String> TEXT_SEARCH_TYPES = Set.of("subject", "content", "subject+content");
+
+	/**
+	 * 게시글 수
+	 * @param count 게시글 수 (approximate라면 센 만큼의 수)
+	 * @param approximate true: count개 이상 (검색 결과를 모두 세지 않았다)
+	 */
+	public record BoardCount(int count, boolean approximate) {
+	}
+
+	/**
+	 * 검색 결과 수 캐시 Key
+	 */
+	record Key(String searchType, String searchKeyword) {
+
+		boolean isTextSearch() {
+			return TEXT_SEARCH_TYPES.contains(this.searchType);
+		}
+	}
+
+	private final BoardDao boardDao;
+
+	/**
+	 * 이 개수까지만 센다 (글번호 검색을 제외한 검색어 검색)
+	 */
+	private final int keywordCountLimit;
+
+	/**
+	 * 전체 게시글 수. 아직 조회하지 않았다면 -1
+	 */
+	private long totalCount = -1;
+
+	/**
+	 * 게시글이 등록/삭제될 때마다 증가한다
+	 * 데이터베이스의 수를 세는 중에 게시글이 변경되었다면 센 결과로 바꾸지 않는다 (변경이 포함되었는지 알 수 없다)
+	 */
+	private long changeVersion;
+
+	private final Cache<Key, BoardCount> searchCountCache;
+
+	private final AtomicLong reconcileCorrectionCount = new AtomicLong();
+
+	/**
+	 * @param boardDao 게시글 수를 조회할 DAO
+	 * @param searchCountMaximumSize 캐시할 검색 결과 수의 최대 개수
+	 * @param searchCountExpireAfterWrite 검색 결과 수 캐시 유효시간
+	 * @param keywordCountLimit 검색어 검색에서 셀 최대 개수
+	 */
+	public BoardCountCache(BoardDao boardDao, long searchCountMaximumSize, Duration searchCountExpireAfterWrite, int keywordCountLimit) {
+		if(keywordCountLimit < 1) {
+			throw new IllegalArgumentException("keywordCountLimit은 1 이상이어야 합니다.");
+		}
+		this.boardDao = boardDao;
+		this.keywordCountLimit = keywordCountLimit;
+		this.searchCountCache = Caffeine.newBuilder()
+										.maximumSize(searchCountMaximumSize)
+										.expireAfterWrite(searchCountExpireAfterWrite)
+										.recordStats()
+										.build();
+	}
+
+	/**
+	 * @param searchBoardVO 검색 조건
+	 * @return 검색 조건에 맞는 게시글 수
+	 */
+	public BoardCount getCount(SearchBoardVO searchBoardVO) {
+		Key key = keyOf(searchBoardVO);
+		if(key == null) {
+			return new BoardCount(this.getTotalCount(), false);
+		}
+		return this.searchCountCache.get(key, this::selectSearchCount);
+	}
+
+	/**
+	 * 세지 않고 알고 있는 수만 반환한다
+	 * @param searchBoardVO 검색 조건
+	 * @return 검색 조건에 맞는 게시글 수 (검색 결과의 수를 캐시하고 있지 않다면 null)
+	 */
+	public BoardCount getIfPresent(SearchBoardVO searchBoardVO) {
+		Key key = keyOf(searchBoardVO);
+		if(key == null) {
+			return new BoardCount(this.getTotalCount(), false);
+		}
+		return this.searchCountCache.getIfPresent(key);
+	}
+
+	/**
+	 * 검색 결과를 셀 최대 개수 (keyword-count-limit + 1)
+	 * keyword-count-limit개까지 세면 정확히 keyword-count-limit건인지, 더 있는지 알 수 없다
+	 */
+	public int getCountLimit() {
+		return this.keywordCountLimit + 1;
+	}
+
+	/**
+	 * 게시글 목록과 함께 센 검색 결과의 수를 캐시한다 (selectAllBoardWithCount)
+	 * 전체 게시글 수는 바꾸지 않는다 (등록/삭제 이벤트와 reconcile로만 바꾼다)
+	 * @param searchBoardVO 검색 조건
+	 * @param count 검색 조건에 맞는 게시글의 수 (getCountLimit()개까지 센 수)
+	 * @return 캐시한 게시글 수
+	 */
+	public BoardCount putCount(SearchBoardVO searchBoardVO, int count) {
+		BoardCount boardCount = this.toBoardCount(count);
+		Key key = keyOf(searchBoardVO);
+		if(key != null) {
+			this.searchCountCache.put(key, boardCount);
+		}
+		return boardCount;
+	}
+
+	/**
+	 * @return 검색어가 없다면 null
+	 */
+	private static Key keyOf(SearchBoardVO searchBoardVO) {
+		String searchKeyword = searchBoardVO.getSearchKeyword();
+		if(searchKeyword == null || searchKeyword.isEmpty()) {
+			return null;
+		}
+		return new Key(searchBoardVO.getSearchType(), searchKeyword);
+	}
+
+	/**
+	 * 전체 게시글 수
+	 * 처음 조회할 때만 데이터베이스에서 센다
+	 */
+	public int getTotalCount() {
+		long version;
+		synchronized(this) {
+			if(this.totalCount >= 0) {
+				return (int) this.totalCount;
+			}
+			version = this.changeVersion;
+		}
+
+		int count = this.boardDao.selectBoardAllCount(new SearchBoardVO());
+		synchronized(this) {
+			if(this.totalCount < 0 && version == this.changeVersion) {
+				this.totalCount = count;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 데이터베이스의 전체 게시글 수와 비교해서 다르면 데이터베이스의 수로 바꾼다
+	 */
+	@Scheduled(fixedDelayString = "${app.board.count.reconcile-interval-millis}")
+	public void reconcile() {
+		long version;
+		synchronized(this) {
+			if(this.totalCount < 0) {
+				// 아직 조회하지 않았다 -> 처음 조회할 때 센다
+				return;
+			}
+			version = this.changeVersion;
+		}
+
+		int count;
+		try {
+			count = this.boardDao.selectBoardAllCount(new SearchBoardVO());
+		} catch (RuntimeException re) {
+			// 다음 실행에서 다시 비교한다
+			logger.error("게시글 수 비교 실패. {}", re.getMessage());
+			return;
+		}
+
+		synchronized(this) {
+			if(version != this.changeVersion) {
+				// 세는 중에 게시글이 변경되었다 -> 다음 실행에서 다시 비교한다
+				return;
+			}
+			if(this.totalCount != count) {
+				logger.info("게시글 수 보정: {} -> {}", this.totalCount, count);
+				this.totalCount = count;
+				this.reconcileCorrectionCount.incrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * 게시글이 변경되면 전체 게시글 수를 바꾸고 검색 결과 수 캐시를 삭제한다
+	 * 트랜잭션 안에서 발생한 이벤트라면 commit 된 이후에 실행한다 (rollback 되면 바꾸지 않는다)
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void applyBoardChange(BoardChangedEvent boardChangedEvent) {
+		switch(boardChangedEvent.getChangeType()) {
+			case CREATED -> {
+				this.addTotalCount(1);
+				this.searchCountCache.invalidateAll();
+			}
+			case DELETED -> {
+				this.addTotalCount(-1);
+				this.searchCountCache.invalidateAll();
+			}
+			case UPDATED -> this.searchCountCache.asMap()
+												 .keySet()
+												 .removeIf(Key::isTextSearch);
+		}
+	}
+
+	private synchronized void addTotalCount(int delta) {
+		this.changeVersion++;
+		if(this.totalCount >= 0) {
+			this.totalCount = Math.max(0, this.totalCount + delta);
+		}
+	}
+
+	/**
+	 * 글번호 검색은 정확한 수를 센다 (PK 조회)
+	 * 그 외의 검색어 검색은 keyword-count-limit + 1개까지만 센다
+	 * (keyword-count-limit개까지 세면 정확히 keyword-count-limit건인지, 더 있는지 알 수 없다)
+	 */
+	private BoardCount selectSearchCount(Key key) {
+		SearchBoardVO searchBoardVO = new SearchBoardVO();
+		searchBoardVO.setSearchType(key.searchType());
+		searchBoardVO.setSearchKeyword(key.searchKeyword());
+
+		if("boardId".equals(key.searchType())) {
+			return new BoardCount(this.boardDao.selectBoardAllCount(searchBoardVO), false);
+		}
+
+		searchBoardVO.setCountLimit(this.getCountLimit());
+		return this.toBoardCount(this.boardDao.selectBoardCountWithLimit(searchBoardVO));
+	}
+
+	/**
+	 * @param count getCountLimit()개까지 센 수
+	 */
+	private BoardCount toBoardCount(int count) {
+		if(count > this.keywordCountLimit) {
+			return new BoardCount(this.keywordCountLimit, true);
+		}
+		return new BoardCount(count, false);
+	}
+
+	synchronized long getCachedTotalCount() {
+		return this.totalCount;
+	}
+
+	public long getReconcileCorrectionCount() {
+		return this.reconcileCorrectionCount.get();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, this.searchCountCache, CACHE_NAME);
+		Gauge.builder("board.count.total", this, BoardCountCache::getCachedTotalCount)
+			 .description("메모리에 보관하고 있는 전체 게시글 수 (아직 조회하지 않았다면 -1)")
+			 .register(registry);
+		FunctionCounter.builder("board.count.reconcile.corrections", this, BoardCountCache::getReconcileCorrectionCount)
+					   .description("데이터베이스의 수와 달라서 보정한 횟수")
+					   .register(registry);
+	}
+}
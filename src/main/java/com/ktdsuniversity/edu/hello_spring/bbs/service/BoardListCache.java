@@ -0,0 +1,225 @@
+package com.ktdsuniversity.edu.hello_spring.bbs.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktdsuniversity.edu.hello_spring.bbs.event.BoardChangedEvent;
+import com.ktdsuniversity.edu.hello_spring.bbs.vo.BoardListVO;
+import com.ktdsuniversity.edu.hello_spring.bbs.vo.BoardSummaryVO;
+import com.ktdsuniversity.edu.hello_spring.bbs.vo.SearchBoardVO;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 게시글 목록 조회 결과 캐시
+ *
+ * 게시글 목록 화면은 요청마다 게시글의 목록을 조회한다 (selectAllBoard. 게시글 수는 BoardCountCache)
+ * 게시글이 등록/수정/삭제되지 않았다면 결과는 같다 -> 조회 결과(BoardListVO)를 캐시한다
+ * - 캐시 Key: 페이지 번호, 페이지당 게시글 수, 검색 유형, 검색어, 이전 페이지의 마지막 게시글 번호(Keyset Pagination)
+ * - 앞쪽 페이지(max-page-no 이하)만 캐시한다. 가장 많이 조회되는 페이지이다
+ * - 캐시 크기는 게시글 목록의 대략적인 메모리 크기(byte)로 제한한다 (제목이 긴 목록은 더 크게 계산한다)
+ *   목록은 내용(CONTENT)을 조회하지 않는다 (BoardSummaryVO) -> 페이지마다 크기가 비슷하다
+ *
+ * 게시글이 변경되면(BoardChangedEvent) commit 된 이후에 캐시를 삭제한다
+ * - 등록, 삭제: 모든 페이지의 게시글 수와 순서가 바뀐다 -> 모두 삭제한다
+ * - 수정: 수정된 게시글이 포함된 목록과 제목/내용으로 검색한 목록만 삭제한다 (검색 결과가 바뀔 수 있다)
+ * - 조회수(VIEW_CNT)는 조회할 때마다 바뀌므로 삭제하지 않는다 -> 캐시 유효시간(expire-after-write-seconds)만큼 늦게 반영된다
+ * - 작성자 이름(MEMBERS.NAME)의 변경도 캐시 유효시간만큼 늦게 반영된다
+ *
+ * 캐시한 BoardListVO는 여러 요청이 함께 사용한다 -> 조회한 쪽에서 값을 변경하면 안된다 (JSP에서 출력만 한다)
+ * 엑셀 다운로드(검색 조건 없음)는 전체 목록이므로 캐시하지 않는다
+ *
+ * 캐시 적중률, 삭제 횟수는 /actuator/metrics/cache.* 로 확인할 수 있다 (cache=boardList)
+ */
+public class BoardListCache implements MeterBinder {
+
+	private static final String CACHE_NAME = "boardList";
+
+	/**
+	 * 제목/내용으로 검색하는 검색 유형 (게시글이 수정되면 검색 결과가 바뀔 수 있다)
+	 */
+	private static final Set<String> TEXT_SEARCH_TYPES = Set.of("subject", "content", "subject+content");
+
+	/**
+	 * 캐시 Key
+	 * 검색어가 없다면 검색 유형과 관계 없이 같은 목록이다 -> 검색 유형을 null로 만든다
+	 */
+	record Key(int pageNo, int listSize, String searchType, String searchKeyword, Integer lastSeenId, String lastSeenCrtDt) {
+
+		static Key of(SearchBoardVO searchBoardVO) {
+			String searchKeyword = searchBoardVO.getSearchKeyword();
+			if(searchKeyword == null || searchKeyword.isEmpty()) {
+				return new Key(searchBoardVO.getPageNo(), searchBoardVO.getListSize(), null, null
+						 , searchBoardVO.getLastSeenId(), searchBoardVO.getLastSeenCrtDt());
+			}
+			return new Key(searchBoardVO.getPageNo(), searchBoardVO.getListSize()
+						 , searchBoardVO.getSearchType(), searchKeyword
+						 , searchBoardVO.getLastSeenId(), searchBoardVO.getLastSeenCrtDt());
+		}
+
+		boolean isTextSearch() {
+			return this.searchKeyword != null && TEXT_SEARCH_TYPES.contains(this.searchType);
+		}
+	}
+
+	private final Cache<Key, BoardListVO> boardListCache;
+
+	/**
+	 * 캐시할 최대 페이지 번호 (0부터 시작)
+	 */
+	private final int maxPageNo;
+
+	/**
+	 * 게시글이 변경될 때마다 증가한다
+	 * 조회하는 중에 게시글이 변경되었다면 조회한 결과를 캐시에 남기지 않는다 (변경 전의 결과일 수 있다)
+	 */
+	private final AtomicLong version = new AtomicLong();
+
+	private final AtomicLong createdCount = new AtomicLong();
+	private final AtomicLong updatedCount = new AtomicLong();
+	private final AtomicLong deletedCount = new AtomicLong();
+
+	/**
+	 * @param maximumWeightBytes 캐시할 게시글 목록의 최대 크기 (byte. 대략적인 크기)
+	 * @param expireAfterWrite 캐시 유효시간
+	 * @param maxPageNo 캐시할 최대 페이지 번호 (0부터 시작)
+	 */
+	public BoardListCache(long maximumWeightBytes, Duration expireAfterWrite, int maxPageNo) {
+		this.maxPageNo = maxPageNo;
+		this.boardListCache = Caffeine.newBuilder()
+									  .maximumWeight(maximumWeightBytes)
+									  .weigher((Key key, BoardListVO boardListVO) -> weigh(boardListVO))
+									  .expireAfterWrite(expireAfterWrite)
+									  .recordStats()
+									  .build();
+	}
+
+	/**
+	 * 캐시한 게시글 목록을 반환한다
+	 * 캐시에 없다면 loader로 조회하고 캐시한다
+	 *
+	 * @param searchBoardVO 검색 조건 (null이라면 캐시하지 않는다)
+	 * @param loader 게시글 목록을 조회하는 함수
+	 * @return 게시글 목록 (변경하면 안된다)
+	 */
+	public BoardListVO get(SearchBoardVO searchBoardVO, Function<SearchBoardVO, BoardListVO> loader) {
+		if(searchBoardVO == null || searchBoardVO.getPageNo() < 0 || searchBoardVO.getPageNo() > this.maxPageNo) {
+			return loader.apply(searchBoardVO);
+		}
+
+		Key key = Key.of(searchBoardVO);
+		long loadVersion = this.version.get();
+		BoardListVO boardListVO = this.boardListCache.get(key, k -> loader.apply(searchBoardVO));
+		if(loadVersion != this.version.get()) {
+			// 조회하는 중에 게시글이 변경되었다 -> 변경 전의 결과일 수 있으므로 캐시에 남기지 않는다
+			this.boardListCache.asMap().remove(key, boardListVO);
+		}
+		return boardListVO;
+	}
+
+	/**
+	 * 게시글이 변경되면 캐시를 삭제한다
+	 * 트랜잭션 안에서 발생한 이벤트라면 commit 된 이후에 삭제한다
+	 * (commit 전에 삭제하면 다른 요청이 변경 전의 목록을 다시 캐시할 수 있기 때문)
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void evictBoardList(BoardChangedEvent boardChangedEvent) {
+		this.version.incrementAndGet();
+
+		switch(boardChangedEvent.getChangeType()) {
+			case CREATED -> {
+				this.createdCount.incrementAndGet();
+				this.boardListCache.invalidateAll();
+			}
+			case DELETED -> {
+				this.deletedCount.incrementAndGet();
+				this.boardListCache.invalidateAll();
+			}
+			case UPDATED -> {
+				this.updatedCount.incrementAndGet();
+				int boardId = boardChangedEvent.getBoardId();
+				this.boardListCache.asMap()
+								   .entrySet()
+								   .removeIf(entry -> entry.getKey().isTextSearch() || contains(entry.getValue(), boardId));
+			}
+		}
+	}
+
+	/**
+	 * 캐시한 목록의 수
+	 */
+	public long size() {
+		this.boardListCache.cleanUp();
+		return this.boardListCache.estimatedSize();
+	}
+
+	private static boolean contains(BoardListVO boardListVO, int boardId) {
+		List<BoardSummaryVO> boardList = boardListVO.getBoardList();
+		if(boardList == null) {
+			return false;
+		}
+		for(BoardSummaryVO boardSummaryVO : boardList) {
+			if(boardSummaryVO.getId() == boardId) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 게시글 목록의 대략적인 메모리 크기 (byte)
+	 * 게시글 하나: 객체 크기(약 100byte) + 문자열 길이 * 2
+	 */
+	static int weigh(BoardListVO boardListVO) {
+		long weight = 64;
+		List<BoardSummaryVO> boardList = boardListVO.getBoardList();
+		if(boardList != null) {
+			for(BoardSummaryVO boardSummaryVO : boardList) {
+				weight += 100;
+				weight += 2L * (length(boardSummaryVO.getSubject())
+							  + length(boardSummaryVO.getEmail())
+							  + length(boardSummaryVO.getFileName()));
+				if(boardSummaryVO.getMemberVO() != null) {
+					weight += 2L * length(boardSummaryVO.getMemberVO().getName());
+				}
+			}
+		}
+		return (int) Math.min(weight, Integer.MAX_VALUE);
+	}
+
+	private static int length(String value) {
+		return value == null ? 0 : value.length();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, this.boardListCache, CACHE_NAME);
+		Gauge.builder("cache.hit.ratio", this.boardListCache, cache -> cache.stats().hitRate())
+			 .tag("cache", CACHE_NAME)
+			 .description("캐시 적중률")
+			 .register(registry);
+		FunctionCounter.builder("board.list.cache.invalidations", this.createdCount, AtomicLong::get)
+					   .tag("change", "created")
+					   .description("게시글 변경으로 캐시를 삭제한 횟수")
+					   .register(registry);
+		FunctionCounter.builder("board.list.cache.invalidations", this.updatedCount, AtomicLong::get)
+					   .tag("change", "updated")
+					   .description("게시글 변경으로 캐시를 삭제한 횟수")
+					   .register(registry);
+		FunctionCounter.builder("board.list.cache.invalidations", this.deletedCount, AtomicLong::get)
+					   .tag("change", "deleted")
+					   .description("게시글 변경으로 캐시를 삭제한 횟수")
+					   .register(registry);
+	}
+}
@@ -4,13 +4,20 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.ktdsuniversity.edu.hello_spring.bbs.dao.BoardDao;
+import com.ktdsuniversity.edu.hello_spring.bbs.event.BoardChangedEvent;
+import com.ktdsuniversity.edu.hello_spring.bbs.event.BoardChangedEvent.ChangeType;
+import com.ktdsuniversity.edu.hello_spring.bbs.service.BoardCountCache;
+import com.ktdsuniversity.edu.hello_spring.bbs.service.BoardCountCache.BoardCount;
+import com.ktdsuniversity.edu.hello_spring.bbs.service.BoardListCache;
 import com.ktdsuniversity.edu.hello_spring.bbs.service.BoardService;
 import com.ktdsuniversity.edu.hello_spring.bbs.vo.BoardListVO;
+import com.ktdsuniversity.edu.hello_spring.bbs.vo.BoardSummaryVO;
 import com.ktdsuniversity.edu.hello_spring.bbs.vo.BoardVO;
 import com.ktdsuniversity.edu.hello_spring.bbs.vo.DeleteBoardVO;
 import com.ktdsuniversity.edu.hello_spring.bbs.vo.ModifyBoardVO;
@@ -35,13 +42,82 @@ public class BoardServiceImpl implements BoardService {
 	@Autowired
 	private BoardDao boardDao;
 	
+	/**
+	 * 게시글 목록 조회 결과 캐시
+	 * 게시글이 변경되면(BoardChangedEvent) 캐시를 삭제한다
+	 */
+	@Autowired
+	private BoardListCache boardListCache;
+	
+	/**
+	 * 전체 게시글 수와 검색 결과 수 캐시
+	 * 게시글이 등록/삭제되면(BoardChangedEvent) 전체 게시글 수를 바꾼다
+	 */
+	@Autowired
+	private BoardCountCache boardCountCache;
+	
+	@Autowired
+	private ApplicationEventPublisher applicationEventPublisher;
+	
 	@Override
 	public BoardListVO getAllBoard(SearchBoardVO searchBoardVO) {
 		// 게시글 목록 화면에 데이터를 전송해주기 위해서 게시글의 건수와 게시글의 목록을 조회해 반환시킨다
+		// 캐시한 목록이 있다면 조회하지 않는다 (엑셀 다운로드는 캐시하지 않는다)
+		BoardListVO boardListVO = this.boardListCache.get(searchBoardVO, this::selectBoardList);
+		
+		if(searchBoardVO != null && boardListVO.getBoardCnt() > 0) {
+			// 총 페이지 개수를 구한다 (캐시한 목록이어도 요청마다 계산한다)
+			searchBoardVO.setPageCount(boardListVO.getBoardCnt());
+		}
+		return boardListVO;
+	}
+	
+	/**
+	 * 게시글의 목록과 검색 결과의 총 개수를 한 번에 조회할 수 있는가? (selectAllBoardWithCount)
+	 * - Keyset Pagination은 이전 페이지 이후의 게시글만 읽으므로 총 개수를 셀 수 없다
+	 * - 총 개수를 세는 범위(BoardCountCache.getCountLimit) 밖의 페이지는 조회할 수 없다
+	 */
+	private boolean canSelectWithCount(SearchBoardVO searchBoardVO) {
+		return !searchBoardVO.isKeyset()
+				&& (long) (searchBoardVO.getPageNo() + 1) * searchBoardVO.getListSize() <= this.boardCountCache.getCountLimit();
+	}
+	
+	private BoardListVO selectBoardList(SearchBoardVO searchBoardVO) {
+		// 엑셀 다운로드를 위한 게시글 조회
+		// 게시글의 건수는 조회한 목록의 크기와 같다 -> 따로 세지 않는다
+		if(searchBoardVO == null) {
+			List<BoardSummaryVO> boardList = this.boardDao.selectAllBoard();
+			
+			BoardListVO boardListVO = new BoardListVO();
+			boardListVO.setBoardCnt(boardList.size());
+			boardListVO.setBoardList(boardList);
+			return boardListVO;
+		}
 		
 		// 1. 게시글의 건수를 조회한다.
-		int boardCount = this.boardDao.selectBoardAllCount(searchBoardVO);
-		if (boardCount == 0) {
+		// 전체 게시글의 수는 메모리에 보관한 값을, 검색 결과의 수는 캐시한 값을 사용한다 (BoardCountCache)
+		BoardCount boardCount = this.boardCountCache.getIfPresent(searchBoardVO);
+		if(boardCount == null && this.canSelectWithCount(searchBoardVO)) {
+			// 검색 결과의 수를 모른다 -> 게시글의 목록과 검색 결과의 총 개수를 한 번에 조회한다
+			// 총 개수는 검색 결과의 수와 같은 개수까지만 센다 (BoardCountCache.getCountLimit)
+			searchBoardVO.setCountLimit(this.boardCountCache.getCountLimit());
+			List<BoardSummaryVO> boardList = this.boardDao.selectAllBoardWithCount(searchBoardVO);
+			if(!boardList.isEmpty()) {
+				boardCount = this.boardCountCache.putCount(searchBoardVO, boardList.get(0).getTotalCnt());
+				
+				BoardListVO boardListVO = new BoardListVO();
+				boardListVO.setBoardCnt(boardCount.count());
+				boardListVO.setBoardCntApproximate(boardCount.approximate());
+				boardListVO.setBoardList(boardList);
+				return boardListVO;
+			}
+			// 조회할 페이지에 게시글이 없다 -> 총 개수는 따로 센다
+		}
+		if(boardCount == null) {
+			boardCount = this.boardCountCache.getCount(searchBoardVO);
+		}
+		
+		if (boardCount.count() == 0) {
 			// 3. BoardListVO를 만들어서 게시글의 건수와 목록을 할당한다.
 			BoardListVO boardListVO = new BoardListVO();
 			boardListVO.setBoardCnt(0);
@@ -51,22 +127,14 @@ public class BoardServiceImpl implements BoardService {
 			return boardListVO;
 		}
 		
-		// 2. 게시글의 목록을 조회한다.
-		List<BoardVO> boardList = null;
-		// 엑셀 다운로드를 위한 게시글 조회
-		if(searchBoardVO == null) {
-			boardList = this.boardDao.selectAllBoard();
-		}
-		// 페이지네이션을 위한 게시글 조회
-		else {
-			boardList = this.boardDao.selectAllBoard(searchBoardVO);
-			// 총 페이지 개수를 구한다
-			searchBoardVO.setPageCount(boardCount);
-		}
+		// 2. 페이지네이션을 위한 게시글의 목록을 조회한다.
+		List<BoardSummaryVO> boardList = this.boardDao.selectAllBoard(searchBoardVO);
 		
 		// 3. BoardListVO를 만들어서 게시글의 건수와 목록을 할당한다.
 		BoardListVO boardListVO = new BoardListVO();
-		boardListVO.setBoardCnt(boardCount);
+		boardListVO.setBoardCnt(boardCount.count());
+		// 검색어 검색은 일정 개수까지만 센다 -> 화면에 "N건 이상"으로 보여준다
+		boardListVO.setBoardCntApproximate(boardCount.approximate());
 		boardListVO.setBoardList(boardList);
 		
 		// 4. BoardListVO 인스턴스를 반환한다.
@@ -92,6 +160,11 @@ public class BoardServiceImpl implements BoardService {
 		// @Transactional이 적용되어 있지 않았을 때, Rollback이 되지 않아야 한다
 		// Integer.parseInt("safsafasffsa");
 		
+		if(numberCreation > 0) {
+			// commit 된 이후에 게시글 목록 캐시를 삭제한다
+			this.applicationEventPublisher.publishEvent(new BoardChangedEvent(writeBoardVO.getId(), ChangeType.CREATED));
+		}
+		
 		return numberCreation > 0;
 	}
 
@@ -131,6 +204,7 @@ public class BoardServiceImpl implements BoardService {
 		
 		if(updateCount > 0) {
 			this.fileHandler.deleteFile(boardVO.getFileName());
+			this.applicationEventPublisher.publishEvent(new BoardChangedEvent(modifyBoardVO.getId(), ChangeType.UPDATED));
 		}
 		
 		return updateCount > 0;
@@ -146,6 +220,7 @@ public class BoardServiceImpl implements BoardService {
 		
 		if(deleteCount > 0) {
 			this.fileHandler.deleteFile(boardVO.getFileName());
+			this.applicationEventPublisher.publishEvent(new BoardChangedEvent(deleteBoardVO.getId(), ChangeType.DELETED));
 		}
 		return deleteCount > 0;
 	}
@@ -12,7 +12,12 @@ public class BoardListVO {
 	/**
 	 * 조회된 게시글의 목록
 	 */
-	private List<BoardVO> boardList;
+	private List<BoardSummaryVO> boardList;
+	
+	/**
+	 * true: 조회된 게시글의 수를 모두 세지 않았다 (boardCnt건 이상)
+	 */
+	private boolean boardCntApproximate;
 
 	public int getBoardCnt() {
 		return boardCnt;
@@ -22,11 +27,43 @@ public class BoardListVO {
 		this.boardCnt = boardCnt;
 	}
 
-	public List<BoardVO> getBoardList() {
+	public boolean isBoardCntApproximate() {
+		return boardCntApproximate;
+	}
+
+	public void setBoardCntApproximate(boolean boardCntApproximate) {
+		this.boardCntApproximate = boardCntApproximate;
+	}
+
+	public List<BoardSummaryVO> getBoardList() {
 		return boardList;
 	}
 
-	public void setBoardList(List<BoardVO> boardList) {
+	public void setBoardList(List<BoardSummaryVO> boardList) {
 		this.boardList = boardList;
 	}
+
+	/**
+	 * 목록의 마지막 게시글 번호
+	 * 다음 페이지를 Keyset Pagination으로 조회할 때 사용한다 (SearchBoardVO.lastSeenId)
+	 * @return 목록이 비어있다면 null
+	 */
+	public Integer getLastBoardId() {
+		if(boardList == null || boardList.isEmpty()) {
+			return null;
+		}
+		return boardList.get(boardList.size() - 1).getId();
+	}
+
+	/**
+	 * 목록의 마지막 게시글의 작성 시간 (YYYYMMDDHH24MISS)
+	 * 다음 페이지를 Keyset Pagination으로 조회할 때 사용한다 (SearchBoardVO.lastSeenCrtDt)
+	 * @return 목록이 비어있다면 null
+	 */
+	public String getLastBoardCrtDt() {
+		if(boardList == null || boardList.isEmpty()) {
+			return null;
+		}
+		return boardList.get(boardList.size() - 1).getCrtDtKey();
+	}
 }
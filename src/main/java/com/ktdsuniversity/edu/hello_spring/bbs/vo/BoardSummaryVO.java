@@ -0,0 +1,115 @@
+package com.ktdsuniversity.edu.hello_spring.bbs.vo;
+
+import com.ktdsuniversity.edu.hello_spring.member.vo.MemberVO;
+
+/**
+ * 게시글 목록의 한 행 (게시글 목록 화면, 엑셀 다운로드)
+ *
+ * 목록에서는 내용(CONTENT)을 보여주지 않는다 -> 조회하지 않는다
+ * 내용은 게시글마다 수천 글자가 될 수 있고, 조회한 만큼 데이터베이스에서 전송되고 문자열로 만들어진다
+ * (캐시한 목록이라면 유효시간 동안 메모리에 남는다)
+ * 내용이 필요하다면 selectOneBoard로 BoardVO를 조회한다
+ */
+public class BoardSummaryVO {
+
+	private int id;
+	private String subject;
+	private String email;
+	private int viewCnt;
+	private String crtDt;
+	private String mdfyDt;
+
+	/**
+	 * 작성 시간 (YYYYMMDDHH24MISS. 목록의 정렬 기준)
+	 * 다음 페이지를 Keyset Pagination으로 조회할 때 사용한다 (SearchBoardVO.lastSeenCrtDt)
+	 */
+	private String crtDtKey;
+
+	/**
+	 * 첨부파일명 (엑셀 다운로드, 목록의 첨부 표시에서 사용한다. 첨부파일이 없다면 null)
+	 */
+	private String fileName;
+
+	/**
+	 * 검색 결과의 총 개수 (COUNT(1) OVER ())
+	 * 게시글 목록과 총 개수를 한 번에 조회할 때만(selectAllBoardWithCount) 할당된다
+	 */
+	private int totalCnt;
+
+	/**
+	 * 게시글을 작성한 회원의 정보 (이메일, 이름)
+	 */
+	private MemberVO memberVO;
+
+	public int getId() {
+		return id;
+	}
+	public void setId(int id) {
+		this.id = id;
+	}
+	public String getSubject() {
+		return subject;
+	}
+	public void setSubject(String subject) {
+		this.subject = subject;
+	}
+	public String getEmail() {
+		return email;
+	}
+	public void setEmail(String email) {
+		this.email = email;
+	}
+	public int getViewCnt() {
+		return viewCnt;
+	}
+	public void setViewCnt(int viewCnt) {
+		this.viewCnt = viewCnt;
+	}
+	public String getCrtDt() {
+		return crtDt;
+	}
+	public void setCrtDt(String crtDt) {
+		this.crtDt = crtDt;
+	}
+	public String getMdfyDt() {
+		return mdfyDt;
+	}
+	public void setMdfyDt(String mdfyDt) {
+		this.mdfyDt = mdfyDt;
+	}
+	public String getCrtDtKey() {
+		return crtDtKey;
+	}
+	public void setCrtDtKey(String crtDtKey) {
+		this.crtDtKey = crtDtKey;
+	}
+	public String getFileName() {
+		return fileName;
+	}
+	public void setFileName(String fileName) {
+		this.fileName = fileName;
+	}
+
+	/**
+	 * 게시글 목록에서 첨부파일이 있는 게시글을 표시한다 (boardlist.jsp)
+	 * @return true: 첨부파일이 있는 게시글
+	 */
+	public boolean isFileAttached() {
+		return fileName != null && !fileName.isEmpty();
+	}
+
+	public int getTotalCnt() {
+		return totalCnt;
+	}
+	public void setTotalCnt(int totalCnt) {
+		this.totalCnt = totalCnt;
+	}
+
+	public MemberVO getMemberVO() {
+		return memberVO;
+	}
+
+	public void setMemberVO(MemberVO memberVO) {
+		this.memberVO = memberVO;
+	}
+}
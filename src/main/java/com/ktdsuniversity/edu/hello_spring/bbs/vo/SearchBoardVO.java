@@ -6,6 +6,12 @@ public class SearchBoardVO extends PaginationVO{
 
 	private String searchType;
 	private String searchKeyword;
+	
+	/**
+	 * 검색 결과를 이 개수까지만 센다 (selectBoardCountWithLimit, selectAllBoardWithCount)
+	 * BoardCountCache가 정한 개수를 지정한다 (BoardCountCache.getCountLimit)
+	 */
+	private int countLimit;
 
 	public String getSearchType() {
 		return searchType;
@@ -22,4 +28,12 @@ public class SearchBoardVO extends PaginationVO{
 	public void setSearchKeyword(String searchKeyword) {
 		this.searchKeyword = searchKeyword;
 	}
+
+	public int getCountLimit() {
+		return countLimit;
+	}
+
+	public void setCountLimit(int countLimit) {
+		this.countLimit = countLimit;
+	}
 }
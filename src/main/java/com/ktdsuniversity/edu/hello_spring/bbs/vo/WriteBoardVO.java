@@ -7,6 +7,11 @@ import jakarta.validation.constraints.Size;
 
 public class WriteBoardVO {
 
+	/**
+	 * INSERT 할 때 DAO가 만든다 (INSERT 이후에 조회할 수 있다)
+	 */
+	private int id;
+	
 	@NotBlank(message = "제목은 필수 입력값입니다")
 	// 빗금이 없는거 import. 빗금이 있는거는 조만간 depricate 됨
 	@Size(min = 5, message = "제목은 5자리 이상 입력해주세요")
@@ -39,6 +44,12 @@ public class WriteBoardVO {
 	public void setFile(MultipartFile file) {
 		this.file = file;
 	}
+	public int getId() {
+		return id;
+	}
+	public void setId(int id) {
+		this.id = id;
+	}
 	public String getSubject() {
 		return subject;
 	}
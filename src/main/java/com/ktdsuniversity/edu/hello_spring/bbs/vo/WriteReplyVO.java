@@ -6,6 +6,11 @@ import jakarta.validation.constraints.NotBlank;
 
 public class WriteReplyVO {
 	
+	/**
+	 * INSERT 할 때 DAO가 만든다 (INSERT 이후에 조회할 수 있다)
+	 */
+	private int replyId;
+	
 	private int boardId;
 
 	private String email;
@@ -16,6 +21,12 @@ public class WriteReplyVO {
 	
 	private int parentReplyId;
 	
+	public int getReplyId() {
+		return replyId;
+	}
+	public void setReplyId(int replyId) {
+		this.replyId = replyId;
+	}
 	public int getBoardId() {
 		return boardId;
 	}
@@ -12,6 +12,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -19,12 +20,12 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.bind.annotation.SessionAttribute;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import com.ktdsuniversity.edu.hello_spring.bbs.service.BoardService;
 import com.ktdsuniversity.edu.hello_spring.bbs.vo.BoardListVO;
+import com.ktdsuniversity.edu.hello_spring.bbs.vo.BoardSummaryVO;
 import com.ktdsuniversity.edu.hello_spring.bbs.vo.BoardVO;
 import com.ktdsuniversity.edu.hello_spring.bbs.vo.DeleteBoardVO;
 import com.ktdsuniversity.edu.hello_spring.bbs.vo.ModifyBoardVO;
@@ -32,7 +33,7 @@ import com.ktdsuniversity.edu.hello_spring.bbs.vo.SearchBoardVO;
 import com.ktdsuniversity.edu.hello_spring.bbs.vo.WriteBoardVO;
 import com.ktdsuniversity.edu.hello_spring.common.beans.FileHandler;
 import com.ktdsuniversity.edu.hello_spring.common.exceptions.PageNotFoundException;
-import com.ktdsuniversity.edu.hello_spring.member.vo.MemberVO;
+import com.ktdsuniversity.edu.hello_spring.member.vo.LoginUserVO;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -68,8 +69,8 @@ public class BoardController {
 	public String doCreateNewBoard(@Valid WriteBoardVO writeBoardVO // @Valid WriteBoardVO의 Validation Check 수행
 								,BindingResult bindingResult // @Valid의 실패 결과만 할당받는다
 								, Model model
-								, @SessionAttribute(value = "_LOGIN_USER", required = false) MemberVO loginMemberVO
-								// MemberVO memberVO = (MemberVO) session.getAttribute("_LOGIN_USER"); 완벽하게 대체
+								, @AuthenticationPrincipal LoginUserVO loginUserVO
+								// Spring Security의 인증 정보에서 로그인 회원 정보를 가져온다 (로그인하지 않았다면 null)
 								) { 
 		HttpServletRequest request =
 				((ServletRequestAttributes) RequestContextHolder.getRequestAttributes())
@@ -81,17 +82,16 @@ public class BoardController {
 			return "board/boardwrite";
 		}
 		
-		// MemberVO memberVO = (MemberVO) session.getAttribute("_LOGIN_USER");
 		/*
-		 * session에서 가져온 MemberVO 인스턴스는 로그인 여부에 따라 NULL 혹은 인스턴스가 할당되어 있다.
-		 * memberVO NULL이라면, 로그인이 안 되어있는 것으로 로그인을 유도시켜야 한다.
+		 * 인증 정보에서 가져온 LoginUserVO 인스턴스는 로그인 여부에 따라 NULL 혹은 인스턴스가 할당되어 있다.
+		 * loginUserVO가 NULL이라면, 로그인이 안 되어있는 것으로 로그인을 유도시켜야 한다.
 		 */
 		
-		if(loginMemberVO == null) {
+		if(loginUserVO == null) {
 			return "redirect:/member/login";
 		}
 		
-		writeBoardVO.setEmail(loginMemberVO.getEmail());
+		writeBoardVO.setEmail(loginUserVO.getEmail());
 		
 		boolean isCreate = this.boardService.createNewBoard(writeBoardVO);
 		if(logger.isDebugEnabled()) {
@@ -112,11 +112,11 @@ public class BoardController {
 	}
 	
 	@GetMapping("/board/modify/{id}")
-	public String viewBoardModifyPage(Model model, @PathVariable int id, @SessionAttribute("_LOGIN_USER") MemberVO memberVO) {
+	public String viewBoardModifyPage(Model model, @PathVariable int id, @AuthenticationPrincipal LoginUserVO loginUserVO) {
 		
 		BoardVO boardVO = this.boardService.selectOneBoard(id, false);
 		
-		if(!boardVO.getEmail().equals(memberVO.getEmail())) {
+		if(!boardVO.getEmail().equals(loginUserVO.getEmail())) {
 			throw new PageNotFoundException("잘못된 접근입니다");
 		}
 		
@@ -126,7 +126,7 @@ public class BoardController {
 	}
 	
 	@PostMapping("/board/modify/{id}")
-	public String doModifyOneBoard(@Valid ModifyBoardVO modifyBoardVO, BindingResult bindingResult, @PathVariable int id, Model model, @SessionAttribute(value = "_LOGIN_USER", required = false) MemberVO loginMemberVO ) {
+	public String doModifyOneBoard(@Valid ModifyBoardVO modifyBoardVO, BindingResult bindingResult, @PathVariable int id, Model model, @AuthenticationPrincipal LoginUserVO loginUserVO ) {
 		// ModifyBoardVO에는 id가 없어서 따로 전달
 		
 		
@@ -135,11 +135,11 @@ public class BoardController {
 			return "board/boardmodify";
 		}
 		
-		if(loginMemberVO == null) {
+		if(loginUserVO == null) {
 			return "redirect:/member/login";
 		}
 		
-		modifyBoardVO.setEmail(loginMemberVO.getEmail());
+		modifyBoardVO.setEmail(loginUserVO.getEmail());
 		
 		// set ID
 		modifyBoardVO.setId(id);
@@ -159,11 +159,11 @@ public class BoardController {
 
 	
 	@GetMapping("/board/delete/{id}") //PostMapping form을 이용해서 전송할 때만 쓴다. GetMapping url이 바뀔 때 사용
-	public String doDeleteOneBoard(@PathVariable int id, @SessionAttribute("_LOGIN_USER") MemberVO memberVO) {
+	public String doDeleteOneBoard(@PathVariable int id, @AuthenticationPrincipal LoginUserVO loginUserVO) {
 		
 		DeleteBoardVO deleteBoardVO = new DeleteBoardVO();
 		deleteBoardVO.setId(id);
-		deleteBoardVO.setEmail(memberVO.getEmail());
+		deleteBoardVO.setEmail(loginUserVO.getEmail());
 		
 		boolean isDeleted = this.boardService.deleteOneBoard(deleteBoardVO);
 		
@@ -219,34 +219,34 @@ public class BoardController {
 		cell.setCellValue("수정일");
 		
 		BoardListVO boardListVO = this.boardService.getAllBoard(null);
-		List<BoardVO> boardList = boardListVO.getBoardList();
+		List<BoardSummaryVO> boardList = boardListVO.getBoardList();
 		
 		int rowIndex = 1;
-		for(BoardVO boardVO : boardList) {
+		for(BoardSummaryVO boardSummaryVO : boardList) {
 			// Sheet에 Row만들기
 			row = sheet.createRow(rowIndex++);
 			
 			// Row에 Cell 만들기
 			cell = row.createCell(0);
-			cell.setCellValue(boardVO.getId() + ""); // id: 112 ==> "112"
+			cell.setCellValue(boardSummaryVO.getId() + ""); // id: 112 ==> "112"
 			
 			cell = row.createCell(1);
-			cell.setCellValue(boardVO.getSubject());
+			cell.setCellValue(boardSummaryVO.getSubject());
 			
 			cell = row.createCell(2);
-			cell.setCellValue(boardVO.getFileName());
+			cell.setCellValue(boardSummaryVO.getFileName());
 			
 			cell = row.createCell(3);
-			cell.setCellValue(boardVO.getEmail());
+			cell.setCellValue(boardSummaryVO.getEmail());
 			
 			cell = row.createCell(4);
-			cell.setCellValue(boardVO.getViewCnt() + "");
+			cell.setCellValue(boardSummaryVO.getViewCnt() + "");
 			
 			cell = row.createCell(5);
-			cell.setCellValue(boardVO.getCrtDt());
+			cell.setCellValue(boardSummaryVO.getCrtDt());
 			
 			cell = row.createCell(6);
-			cell.setCellValue(boardVO.getMdfyDt());
+			cell.setCellValue(boardSummaryVO.getMdfyDt());
 		}
 		
 		// 5. Workbook을 File로 생성
@@ -7,12 +7,12 @@ import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.bind.annotation.SessionAttribute;
 
 import com.ktdsuniversity.edu.hello_spring.bbs.service.ReplyService;
 import com.ktdsuniversity.edu.hello_spring.bbs.vo.DeleteReplyVO;
@@ -20,7 +20,7 @@ import com.ktdsuniversity.edu.hello_spring.bbs.vo.ModifyReplyVO;
 import com.ktdsuniversity.edu.hello_spring.bbs.vo.ReplyVO;
 import com.ktdsuniversity.edu.hello_spring.bbs.vo.WriteReplyVO;
 import com.ktdsuniversity.edu.hello_spring.common.utils.ErrorMapUtil;
-import com.ktdsuniversity.edu.hello_spring.member.vo.MemberVO;
+import com.ktdsuniversity.edu.hello_spring.member.vo.LoginUserVO;
 
 import jakarta.validation.Valid;
 
@@ -44,14 +44,14 @@ public class ReplyController {
 	}
 	
 	@PostMapping("/board/reply/{boardId}")
-	public Map<String, Object> doInsertNewReplies(@PathVariable int boardId, @Valid WriteReplyVO writeReplyVO, BindingResult bindingResult, @SessionAttribute("_LOGIN_USER") MemberVO memberVO) {
+	public Map<String, Object> doInsertNewReplies(@PathVariable int boardId, @Valid WriteReplyVO writeReplyVO, BindingResult bindingResult, @AuthenticationPrincipal LoginUserVO loginUserVO) {
 		
 		if(bindingResult.hasErrors()) {
 			return ErrorMapUtil.getErrorMap(bindingResult);
 		}
 		
 		writeReplyVO.setBoardId(boardId);
-		writeReplyVO.setEmail(memberVO.getEmail());
+		writeReplyVO.setEmail(loginUserVO.getEmail());
 		
 		boolean isSuccess = replyService.insertNewReply(writeReplyVO);
 		Map<String, Object> resultMap = new HashMap<>();
@@ -60,10 +60,10 @@ public class ReplyController {
 	}
 	
 	@GetMapping("/board/reply/delete/{replyId}")
-	public Map<String, Object> doDeleteReplies(@PathVariable int replyId, DeleteReplyVO deleteReplyVO, @SessionAttribute("_LOGIN_USER") MemberVO memberVO) {
+	public Map<String, Object> doDeleteReplies(@PathVariable int replyId, DeleteReplyVO deleteReplyVO, @AuthenticationPrincipal LoginUserVO loginUserVO) {
 		
 		deleteReplyVO.setReplyId(replyId);
-		deleteReplyVO.setEmail(memberVO.getEmail());
+		deleteReplyVO.setEmail(loginUserVO.getEmail());
 		
 		boolean isSuccess = replyService.deleteOneReply(deleteReplyVO);
 		
@@ -73,10 +73,10 @@ public class ReplyController {
 	}
 	
 	@PostMapping("/board/reply/modify/{replyId}")
-	public Map<String, Object> doUpdateReplies(@PathVariable int replyId, ModifyReplyVO modifyReplyVO, @SessionAttribute("_LOGIN_USER") MemberVO memberVO) {
+	public Map<String, Object> doUpdateReplies(@PathVariable int replyId, ModifyReplyVO modifyReplyVO, @AuthenticationPrincipal LoginUserVO loginUserVO) {
 		
 		modifyReplyVO.setReplyId(replyId);
-		modifyReplyVO.setEmail(memberVO.getEmail());
+		modifyReplyVO.setEmail(loginUserVO.getEmail());
 		
 		boolean isSuccess = replyService.updateOneReply(modifyReplyVO);
 		
@@ -86,9 +86,9 @@ public class ReplyController {
 	}
 	
 	@GetMapping("/board/reply/recommend/{replyId}")
-	public Map<String, Object> doRecommendReplies(@PathVariable int replyId, @SessionAttribute("_LOGIN_USER") MemberVO memberVO) {
+	public Map<String, Object> doRecommendReplies(@PathVariable int replyId, @AuthenticationPrincipal LoginUserVO loginUserVO) {
 		
-		boolean isSuccess = replyService.recommendOneReply(replyId, memberVO.getEmail());
+		boolean isSuccess = replyService.recommendOneReply(replyId, loginUserVO.getEmail());
 		
 		Map<String, Object> resultMap = new HashMap<>();
 		resultMap.put("result", isSuccess);
@@ -0,0 +1,161 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.ktdsuniversity.edu.hello_spring.access.dao.AccessLogDao;
+import com.ktdsuniversity.edu.hello_spring.access.vo.AccessLogPurgeVO;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 지난 접근 기록(ACCESS_LOG)을 시간별로 집계하고 보관 기간이 지난 기록을 삭제하는 작업
+ *
+ * 접근 기록은 요청마다 한 행씩 쌓인다 -> 삭제하지 않으면 테이블이 계속 커진다
+ * (ACCESS_LOG는 하루 단위 Partition으로 나뉘어 있다. sql/partition_access_log.sql)
+ *
+ * 매일 한 번(cron) 실행한다
+ * 1. 집계: 마지막으로 집계한 날부터 어제까지 하루씩 ACCESS_LOG_HOURLY에 반영한다
+ *    - 마지막으로 집계한 날은 다시 집계한다 (집계 이후에 INSERT 된 기록. AccessLogWriter는 모아서 INSERT 한다)
+ *    - 같은 날을 다시 집계해도 결과는 같다 (MERGE)
+ * 2. 삭제: 보관 기간(retention-days)이 지난 기록을 chunk-size개씩 나눠서 삭제한다
+ *    - 한 번에 삭제하면 Undo와 Lock이 커지고 다른 요청의 INSERT가 느려진다 -> chunk마다 commit 하고 pause-millis 동안 쉰다
+ *    - 집계하지 않은 날의 기록은 삭제하지 않는다
+ *
+ * 애플리케이션이 종료되면 진행 중인 chunk까지만 실행하고 멈춘다 (다음 실행에서 이어서 한다)
+ */
+public class AccessLogRetentionJob {
+
+	private static final Logger logger = LoggerFactory.getLogger(AccessLogRetentionJob.class);
+
+	private final AccessLogDao accessLogDao;
+
+	private final int retentionDays;
+
+	private final int chunkSize;
+
+	private final long pauseMillis;
+
+	private final Clock clock;
+
+	private volatile boolean stopping;
+
+	/**
+	 * @param accessLogDao 집계, 삭제할 DAO
+	 * @param retentionDays 원본 기록의 보관 기간 (일)
+	 * @param chunkSize 한 번에 삭제할 최대 개수
+	 * @param pauseMillis 삭제 사이에 쉬는 시간 (ms)
+	 */
+	public AccessLogRetentionJob(AccessLogDao accessLogDao, int retentionDays, int chunkSize, long pauseMillis) {
+		this(accessLogDao, retentionDays, chunkSize, pauseMillis, Clock.systemDefaultZone());
+	}
+
+	AccessLogRetentionJob(AccessLogDao accessLogDao, int retentionDays, int chunkSize, long pauseMillis, Clock clock) {
+		if(retentionDays < 1 || chunkSize < 1) {
+			throw new IllegalArgumentException("retentionDays, chunkSize는 1 이상이어야 합니다.");
+		}
+		this.accessLogDao = accessLogDao;
+		this.retentionDays = retentionDays;
+		this.chunkSize = chunkSize;
+		this.pauseMillis = pauseMillis;
+		this.clock = clock;
+	}
+
+	@Scheduled(cron = "${app.access-log.retention.cron}")
+	public synchronized void run() {
+		try {
+			this.rollup();
+			this.purge();
+		} catch (RuntimeException re) {
+			// 다음 실행에서 이어서 한다
+			logger.error("접근 기록 집계/삭제 실패. {}", re.getMessage());
+		}
+	}
+
+	/**
+	 * 마지막으로 집계한 날부터 어제까지 하루씩 집계한다
+	 * @return 집계한 날의 수
+	 */
+	int rollup() {
+		String lastRollupDay = this.accessLogDao.selectLastRollupDay();
+		if(lastRollupDay == null) {
+			// 처음 실행 -> 가장 오래된 기록부터
+			lastRollupDay = this.accessLogDao.selectOldestAccessDay();
+			if(lastRollupDay == null) {
+				return 0;
+			}
+		}
+
+		LocalDate today = LocalDate.now(this.clock);
+		int dayCount = 0;
+		for(LocalDate day = LocalDate.parse(lastRollupDay); day.isBefore(today) && !this.stopping; day = day.plusDays(1)) {
+			int rowCount = this.accessLogDao.mergeAccessLogHourly(day.toString());
+			logger.debug("접근 기록 집계: {}, {}건", day, rowCount);
+			dayCount++;
+		}
+		return dayCount;
+	}
+
+	/**
+	 * 보관 기간이 지났고 집계가 끝난 기록을 나눠서 삭제한다
+	 * @return 삭제한 기록의 수
+	 */
+	long purge() {
+		String lastRollupDay = this.accessLogDao.selectLastRollupDay();
+		if(lastRollupDay == null) {
+			return 0;
+		}
+
+		// 마지막으로 집계한 날은 다음 실행에서 다시 집계하므로 그 이전까지만 삭제한다
+		LocalDate beforeDay = LocalDate.now(this.clock).minusDays(this.retentionDays);
+		LocalDate rollupDay = LocalDate.parse(lastRollupDay);
+		if(rollupDay.isBefore(beforeDay)) {
+			beforeDay = rollupDay;
+		}
+
+		AccessLogPurgeVO accessLogPurgeVO = new AccessLogPurgeVO();
+		accessLogPurgeVO.setBeforeDay(beforeDay.toString());
+		accessLogPurgeVO.setChunkSize(this.chunkSize);
+
+		long deletedCount = 0;
+		while(!this.stopping) {
+			int count = this.accessLogDao.deleteAccessLogBefore(accessLogPurgeVO);
+			deletedCount += count;
+			if(count < this.chunkSize) {
+				break;
+			}
+			if(!this.pause()) {
+				break;
+			}
+		}
+		if(deletedCount > 0) {
+			logger.info("보관 기간이 지난 접근 기록 삭제: {} 이전, {}건", beforeDay, deletedCount);
+		}
+		return deletedCount;
+	}
+
+	private boolean pause() {
+		if(this.pauseMillis <= 0) {
+			return true;
+		}
+		try {
+			Thread.sleep(this.pauseMillis);
+			return true;
+		} catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	/**
+	 * 애플리케이션이 종료될 때 진행 중인 작업을 멈춘다
+	 */
+	@PreDestroy
+	public void stop() {
+		this.stopping = true;
+	}
+}
@@ -0,0 +1,405 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ktdsuniversity.edu.hello_spring.access.dao.AccessLogDao;
+import com.ktdsuniversity.edu.hello_spring.access.vo.AccessLogVO;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 접근 기록(ACCESS_LOG)을 대기열에 모아서 별도의 Thread에서 한 번에 INSERT 하는 클래스
+ *
+ * 이전에는 AddAccessLogHistoryInterceptor가 요청마다 바로 INSERT 했다
+ * -> 모든 화면 요청이 controller를 실행하기 전에 데이터베이스를 한 번 왕복해야 했다 (SEQ_ACCESS_LOG_PK.NEXTVAL 포함)
+ *
+ * -> 요청 Thread는 대기열에 넣기만 한다
+ * - 대기열의 크기는 정해져 있다 (queue-capacity)
+ * - 기록 Thread(access-log-writer)가 batch-size만큼 모이거나 flush-interval-millis가 지나면 JDBC Batch로 INSERT 한다
+ * - 대기열이 가득 찼을 때의 처리는 설정한다 (overflow-policy)
+ *   - BLOCK: 자리가 생길 때까지 요청 Thread가 기다린다 (block-timeout-millis가 지나면 버린다)
+ *   - DROP: 바로 버린다
+ *   - SAMPLE: 대기열이 절반 이상 차면 sample-rate개 중 하나만 넣고, 가득 차면 버린다
+ *   - 로그인 기록은 버리지 않는다 (writeOrInsert. 대기열이 가득 차면 요청 Thread에서 바로 INSERT 한다)
+ * - INSERT에 실패하면 대기열에 다시 넣고 flush-interval-millis 이후에 다시 시도한다 (대기열이 가득 차면 남는 기록은 버린다)
+ * - 애플리케이션이 종료될 때 남아있는 기록을 모두 INSERT 한다 (shutdown-timeout-millis까지 기다린다)
+ *   종료 이후에 들어온 기록은 넣은 Thread에서 INSERT 한다
+ *
+ * 모든 접근 기록(ACCESS_LOG)은 이 클래스로만 INSERT 한다 (화면 요청: AddAccessLogHistoryInterceptor, 로그인: LoginSuccessHandler)
+ *
+ * 대기열의 크기와 버린 기록의 수는 /actuator/metrics/access.log.* 로 확인할 수 있다
+ */
+public class AccessLogWriter implements MeterBinder {
+
+	private static final Logger logger = LoggerFactory.getLogger(AccessLogWriter.class);
+
+	/**
+	 * 데이터베이스의 날짜 형식 (TO_DATE(..., 'YYYY-MM-DD HH24:MI:SS'))
+	 */
+	private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+	/**
+	 * 기다리고 있는 기록 Thread를 종료할 때 깨우기 위한 값 (INSERT 하지 않는다)
+	 */
+	private static final AccessLogVO SHUTDOWN_SIGNAL = new AccessLogVO();
+
+	/**
+	 * 대기열이 가득 찼을 때의 처리
+	 */
+	public enum OverflowPolicy {
+		BLOCK, DROP, SAMPLE
+	}
+
+	private final AccessLogDao accessLogDao;
+
+	private final BlockingQueue<AccessLogVO> queue;
+
+	private final int batchSize;
+
+	private final long flushIntervalNanos;
+
+	private final OverflowPolicy overflowPolicy;
+
+	private final long blockTimeoutMillis;
+
+	private final int sampleRate;
+
+	private final long shutdownTimeoutMillis;
+
+	/**
+	 * SAMPLE을 시작할 대기열의 크기 (절반)
+	 */
+	private final int sampleThreshold;
+
+	private final Thread writerThread;
+
+	private volatile boolean running;
+
+	/**
+	 * SAMPLE일 때 대기열에 넣을 기록을 고르기 위한 순번
+	 */
+	private final AtomicLong sampleSequence = new AtomicLong();
+
+	/**
+	 * 대기열이 가득 차서 버린 기록의 수
+	 */
+	private final AtomicLong droppedCount = new AtomicLong();
+
+	/**
+	 * SAMPLE로 넣지 않은 기록의 수
+	 */
+	private final AtomicLong sampledOutCount = new AtomicLong();
+
+	/**
+	 * INSERT에 실패해서 버린 기록의 수
+	 */
+	private final AtomicLong failedCount = new AtomicLong();
+
+	private final AtomicLong writtenCount = new AtomicLong();
+
+	/**
+	 * 대기열이 가득 차서 요청 Thread에서 바로 INSERT 한 기록의 수 (writeOrInsert)
+	 */
+	private final AtomicLong overflowInsertCount = new AtomicLong();
+
+	/**
+	 * @param accessLogDao 접근 기록을 INSERT 할 DAO
+	 * @param queueCapacity 대기열의 최대 크기
+	 * @param batchSize 한 번에 INSERT 할 최대 개수
+	 * @param flushIntervalMillis 첫 기록이 들어온 이후 batchSize만큼 모이지 않아도 INSERT 할 때까지의 시간 (ms)
+	 * @param overflowPolicy 대기열이 가득 찼을 때의 처리
+	 * @param blockTimeoutMillis BLOCK일 때 요청 Thread가 기다릴 최대 시간 (ms)
+	 * @param sampleRate SAMPLE일 때 몇 개 중 하나를 넣을지
+	 * @param shutdownTimeoutMillis 종료할 때 남은 기록의 INSERT를 기다릴 최대 시간 (ms)
+	 */
+	public AccessLogWriter(AccessLogDao accessLogDao
+						 , int queueCapacity
+						 , int batchSize
+						 , long flushIntervalMillis
+						 , OverflowPolicy overflowPolicy
+						 , long blockTimeoutMillis
+						 , int sampleRate
+						 , long shutdownTimeoutMillis) {
+		if(queueCapacity < 1 || batchSize < 1 || sampleRate < 1) {
+			throw new IllegalArgumentException("queueCapacity, batchSize, sampleRate는 1 이상이어야 합니다.");
+		}
+		this.accessLogDao = accessLogDao;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.batchSize = batchSize;
+		this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+		this.overflowPolicy = overflowPolicy;
+		this.blockTimeoutMillis = blockTimeoutMillis;
+		this.sampleRate = sampleRate;
+		this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+		this.sampleThreshold = Math.max(1, queueCapacity / 2);
+
+		this.writerThread = new Thread(this::writeLoop, "access-log-writer");
+		this.writerThread.setDaemon(true);
+	}
+
+	/**
+	 * 기록 Thread를 시작한다
+	 */
+	@PostConstruct
+	public void start() {
+		this.running = true;
+		this.writerThread.start();
+		logger.info("접근 기록 Thread 시작. queueCapacity: {}, batchSize: {}, overflowPolicy: {}"
+				  , this.queue.remainingCapacity(), this.batchSize, this.overflowPolicy);
+	}
+
+	/**
+	 * 접근 기록을 대기열에 넣는다 (요청 Thread에서 호출한다)
+	 * @param accessLogVO 접근 기록. accessTime이 없다면 현재 시간으로 기록한다 (INSERT 한 시간이 아니다)
+	 * @return 대기열에 넣었다면 true. 버렸다면 false
+	 */
+	public boolean write(AccessLogVO accessLogVO) {
+		this.setAccessTime(accessLogVO);
+
+		if(this.overflowPolicy == OverflowPolicy.SAMPLE
+				&& this.queue.size() >= this.sampleThreshold
+				&& this.sampleSequence.getAndIncrement() % this.sampleRate != 0) {
+			this.sampledOutCount.incrementAndGet();
+			return false;
+		}
+
+		if(this.offer(accessLogVO)) {
+			return true;
+		}
+
+		if(this.overflowPolicy == OverflowPolicy.BLOCK) {
+			try {
+				if(this.queue.offer(accessLogVO, this.blockTimeoutMillis, TimeUnit.MILLISECONDS)) {
+					return true;
+				}
+			} catch (InterruptedException ie) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		this.droppedCount.incrementAndGet();
+		return false;
+	}
+
+	/**
+	 * 버리면 안되는 접근 기록(로그인)을 대기열에 넣는다
+	 * overflow-policy와 관계 없이 대기열이 가득 찼다면 요청 Thread에서 바로 INSERT 한다
+	 * @param accessLogVO 접근 기록. accessTime이 없다면 현재 시간으로 기록한다
+	 * @return INSERT에 실패했다면 false
+	 */
+	public boolean writeOrInsert(AccessLogVO accessLogVO) {
+		this.setAccessTime(accessLogVO);
+
+		if(this.offer(accessLogVO)) {
+			return true;
+		}
+		this.overflowInsertCount.incrementAndGet();
+		return this.insertDirectly(accessLogVO);
+	}
+
+	private void setAccessTime(AccessLogVO accessLogVO) {
+		if(accessLogVO.getAccessTime() == null) {
+			accessLogVO.setAccessTime(LocalDateTime.now().format(DATE_FORMATTER));
+		}
+	}
+
+	/**
+	 * 대기열에 넣는다
+	 * 넣은 이후에 종료 중인지 확인한다 (확인한 이후에 넣으면 기록 Thread가 끝난 뒤에 넣을 수 있다)
+	 * -> 종료 중이라면 기록 Thread를 기다리지 않고 남아있는 기록을 직접 INSERT 한다
+	 */
+	private boolean offer(AccessLogVO accessLogVO) {
+		if(!this.queue.offer(accessLogVO)) {
+			return false;
+		}
+		if(!this.running) {
+			this.drainRemaining();
+		}
+		return true;
+	}
+
+	/**
+	 * 기록 Thread
+	 * 첫 기록을 꺼낸 뒤 batchSize만큼 모이거나 flushInterval이 지나면 INSERT 한다
+	 * 종료 요청 이후에도 대기열이 빌 때까지 INSERT 한다
+	 */
+	private void writeLoop() {
+		List<AccessLogVO> batch = new ArrayList<>(this.batchSize);
+		while(this.running || !this.queue.isEmpty()) {
+			try {
+				AccessLogVO first = this.queue.poll(this.flushIntervalNanos, TimeUnit.NANOSECONDS);
+				if(first == null || first == SHUTDOWN_SIGNAL) {
+					continue;
+				}
+				batch.add(first);
+
+				long deadline = System.nanoTime() + this.flushIntervalNanos;
+				while(batch.size() < this.batchSize) {
+					this.queue.drainTo(batch, this.batchSize - batch.size());
+					long remainingNanos = deadline - System.nanoTime();
+					if(batch.size() >= this.batchSize || remainingNanos <= 0 || !this.running) {
+						break;
+					}
+					AccessLogVO next = this.queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+					if(next == null || next == SHUTDOWN_SIGNAL) {
+						break;
+					}
+					batch.add(next);
+				}
+			} catch (InterruptedException ie) {
+				// 꺼낸 기록은 INSERT 하고 running을 다시 확인한다
+			}
+
+			batch.removeIf(accessLogVO -> accessLogVO == SHUTDOWN_SIGNAL);
+			if(!batch.isEmpty()) {
+				boolean inserted = this.insertBatch(batch);
+				batch.clear();
+				if(!inserted && this.running) {
+					// 데이터베이스가 복구될 시간을 두고 다시 시도한다
+					try {
+						TimeUnit.NANOSECONDS.sleep(this.flushIntervalNanos);
+					} catch (InterruptedException ie) {
+						// running을 다시 확인한다
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return INSERT에 실패했다면 false
+	 */
+	private boolean insertBatch(List<AccessLogVO> batch) {
+		try {
+			this.writtenCount.addAndGet(this.accessLogDao.insertNewAccessLogBatch(batch));
+			return true;
+		} catch (RuntimeException re) {
+			logger.error("접근 기록을 INSERT 하지 못함: {}건. {}", batch.size(), re.getMessage());
+			// 종료 중이 아니라면 대기열에 다시 넣어서 다시 시도한다 (대기열이 가득 찼다면 남는 기록은 버린다)
+			long failedCount = this.running
+					? batch.stream().filter(accessLogVO -> !this.queue.offer(accessLogVO)).count()
+					: batch.size();
+			if(failedCount > 0) {
+				this.failedCount.addAndGet(failedCount);
+				logger.error("INSERT 하지 못한 접근 기록을 버림: {}건", failedCount);
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * 대기열에 남아있는 기록을 호출한 Thread에서 INSERT 한다 (종료할 때, 종료 이후에 기록이 들어왔을 때)
+	 */
+	private synchronized void drainRemaining() {
+		List<AccessLogVO> remaining = new ArrayList<>(this.queue.size());
+		this.queue.drainTo(remaining);
+		remaining.removeIf(accessLogVO -> accessLogVO == SHUTDOWN_SIGNAL);
+		for(int from = 0; from < remaining.size(); from += this.batchSize) {
+			int to = Math.min(from + this.batchSize, remaining.size());
+			this.insertBatch(new ArrayList<>(remaining.subList(from, to)));
+		}
+	}
+
+	private boolean insertDirectly(AccessLogVO accessLogVO) {
+		try {
+			this.accessLogDao.insertNewAccessLog(accessLogVO);
+			this.writtenCount.incrementAndGet();
+			return true;
+		} catch (RuntimeException re) {
+			this.failedCount.incrementAndGet();
+			logger.error("접근 기록을 INSERT 하지 못함. {}", re.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * 애플리케이션이 종료될 때 남아있는 기록을 INSERT 하고 기록 Thread를 종료한다
+	 */
+	@PreDestroy
+	public void shutdown() {
+		if(!this.running) {
+			return;
+		}
+		// INSERT 중인 JDBC 연결이 끊기지 않도록 interrupt 대신 종료 신호를 넣어서 깨운다
+		// (대기열이 가득 찼다면 기록 Thread는 기다리고 있지 않다)
+		this.running = false;
+		this.queue.offer(SHUTDOWN_SIGNAL);
+		try {
+			this.writerThread.join(this.shutdownTimeoutMillis);
+		} catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+		}
+		if(this.writerThread.isAlive()) {
+			logger.error("종료 시간이 지나서 접근 기록을 버림: {}건", this.queue.size());
+			return;
+		}
+		// 기록 Thread가 끝나기 직전에 들어온 기록을 INSERT 한다
+		this.drainRemaining();
+		logger.info("접근 기록 Thread 종료. 기록: {}건, 버림: {}건", this.getWrittenCount(), this.getDroppedCount() + this.getSampledOutCount() + this.getFailedCount());
+	}
+
+	public int getQueueDepth() {
+		return this.queue.size();
+	}
+
+	public long getDroppedCount() {
+		return this.droppedCount.get();
+	}
+
+	public long getSampledOutCount() {
+		return this.sampledOutCount.get();
+	}
+
+	public long getFailedCount() {
+		return this.failedCount.get();
+	}
+
+	public long getWrittenCount() {
+		return this.writtenCount.get();
+	}
+
+	public long getOverflowInsertCount() {
+		return this.overflowInsertCount.get();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("access.log.queue.depth", this, AccessLogWriter::getQueueDepth)
+			 .description("INSERT를 기다리는 접근 기록의 수")
+			 .register(registry);
+		FunctionCounter.builder("access.log.dropped", this, AccessLogWriter::getDroppedCount)
+					   .tag("reason", "overflow")
+					   .description("버린 접근 기록의 수 (overflow: 대기열이 가득 참, sampled: SAMPLE, error: INSERT 실패)")
+					   .register(registry);
+		FunctionCounter.builder("access.log.dropped", this, AccessLogWriter::getSampledOutCount)
+					   .tag("reason", "sampled")
+					   .description("버린 접근 기록의 수 (overflow: 대기열이 가득 참, sampled: SAMPLE, error: INSERT 실패)")
+					   .register(registry);
+		FunctionCounter.builder("access.log.dropped", this, AccessLogWriter::getFailedCount)
+					   .tag("reason", "error")
+					   .description("버린 접근 기록의 수 (overflow: 대기열이 가득 참, sampled: SAMPLE, error: INSERT 실패)")
+					   .register(registry);
+		FunctionCounter.builder("access.log.written", this, AccessLogWriter::getWrittenCount)
+					   .description("INSERT 한 접근 기록의 수")
+					   .register(registry);
+		FunctionCounter.builder("access.log.overflow.insert", this, AccessLogWriter::getOverflowInsertCount)
+					   .description("대기열이 가득 차서 요청 Thread에서 바로 INSERT 한 로그인 기록의 수")
+					   .register(registry);
+	}
+}
@@ -1,44 +1,49 @@
 package com.ktdsuniversity.edu.hello_spring.common.beans;
 
-import org.springframework.web.servlet.HandlerInterceptor;
-
-import com.ktdsuniversity.edu.hello_spring.access.dao.AccessLogDao;
 import com.ktdsuniversity.edu.hello_spring.access.vo.AccessLogVO;
-import com.ktdsuniversity.edu.hello_spring.member.vo.MemberVO;
+import com.ktdsuniversity.edu.hello_spring.common.beans.HandlerMetadataCache.HandlerMetadata;
+import com.ktdsuniversity.edu.hello_spring.member.vo.LoginUserVO;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.servlet.http.HttpSession;
 
-public class AddAccessLogHistoryInterceptor implements HandlerInterceptor{
+/**
+ * 요청마다 접근 기록(ACCESS_LOG)을 남기는 interceptor
+ * RequestPipelineInterceptor의 Stage로 실행된다
+ *
+ * 접근 유형(BBS, MEMBER ...)은 HandlerMetadataCache가 시작할 때 만들어 둔 값을 사용한다
+ * INSERT는 AccessLogWriter가 별도의 Thread에서 모아서 한다 (요청은 기다리지 않는다)
+ */
+public class AddAccessLogHistoryInterceptor implements RequestPipelineInterceptor.Stage {
 
-	private AccessLogDao accessLogDao;
+	private AccessLogWriter accessLogWriter;
+	
+	private HandlerMetadataCache handlerMetadataCache;
 	
-	public AddAccessLogHistoryInterceptor(AccessLogDao accessLogDao) {
-		this.accessLogDao = accessLogDao;
+	public AddAccessLogHistoryInterceptor(AccessLogWriter accessLogWriter, HandlerMetadataCache handlerMetadataCache) {
+		this.accessLogWriter = accessLogWriter;
+		this.handlerMetadataCache = handlerMetadataCache;
 	}
 	
 	@Override
-	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler, LoginUserVO loginUserVO)
 			throws Exception {
 		
-		HttpSession session = request.getSession();
-		MemberVO memberVO = (MemberVO) session.getAttribute("_LOGIN_USER");
-		String email = memberVO == null ? null : memberVO.getEmail();
+		// 로그인 정보는 RequestPipelineInterceptor가 Spring Security의 인증 정보에서 한 번만 가져온다
+		String email = loginUserVO == null ? null : loginUserVO.getEmail();
 		
-		String controller = handler.toString();
-		String packageName = controller.replace("com.ktdsuniversity.edu.hello_spring.", "");
-		packageName = packageName.substring(0, packageName.indexOf(".")).toUpperCase();
+		HandlerMetadata handlerMetadata = this.handlerMetadataCache.get(handler);
 		
 		AccessLogVO accessLogVO = new AccessLogVO();
-		accessLogVO.setAccessType(packageName);
+		accessLogVO.setAccessType(handlerMetadata == null ? null : handlerMetadata.accessType());
 		accessLogVO.setAccessEmail(email);
 		accessLogVO.setAccessUrl(request.getRequestURI());
-		accessLogVO.setAccessMethod(request.getMethod().toUpperCase());
+		// Servlet Container가 전달하는 HTTP Method는 대문자다 (GET, POST)
+		accessLogVO.setAccessMethod(request.getMethod());
 		accessLogVO.setAccessIp(request.getRemoteAddr());
-		accessLogVO.setLoginSuccessYn(memberVO == null ? "N" : "Y");
+		accessLogVO.setLoginSuccessYn(loginUserVO == null ? "N" : "Y");
 		
-		this.accessLogDao.insertNewAccessLog(accessLogVO);
+		this.accessLogWriter.write(accessLogVO);
 		
 		return true;
 	}
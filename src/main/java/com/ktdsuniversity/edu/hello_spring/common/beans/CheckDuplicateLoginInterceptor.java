@@ -1,27 +1,22 @@
 package com.ktdsuniversity.edu.hello_spring.common.beans;
 
-import org.springframework.web.servlet.HandlerInterceptor;
+import com.ktdsuniversity.edu.hello_spring.member.vo.LoginUserVO;
 
-import com.ktdsuniversity.edu.hello_spring.member.vo.MemberVO;
-
-import jakarta.servlet.RequestDispatcher;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.servlet.http.HttpSession;
 
 /**
  * 로그인 되어있는 상태에서 로그인 페이지에 접근하면 /board/list로 이동시키는 interceptor
+ * RequestPipelineInterceptor의 Stage로 실행된다
  */
-public class CheckDuplicateLoginInterceptor implements HandlerInterceptor{
+public class CheckDuplicateLoginInterceptor implements RequestPipelineInterceptor.Stage {
 
 	@Override
-	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler, LoginUserVO loginUserVO)
 			throws Exception {
 		
-		HttpSession session = request.getSession();
-		
-		MemberVO memberVO = (MemberVO) session.getAttribute("_LOGIN_USER");
-		if(memberVO != null) {
+		// 로그인 정보는 RequestPipelineInterceptor가 Spring Security의 인증 정보에서 한 번만 가져온다
+		if(loginUserVO != null) {
 			response.sendRedirect("/board/list");
 			return false;
 		}
@@ -0,0 +1,127 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfoHandlerMapping;
+
+/**
+ * controller(handler) 별 접근 기록 정보 캐시
+ *
+ * 이전에는 AddAccessLogHistoryInterceptor가 요청마다 handler.toString()을 잘라서 접근 유형(BBS, MEMBER ...)을 만들었다
+ * -> 요청마다 문자열을 여러 개 만들었다 (toString, replace, substring, toUpperCase)
+ *
+ * -> 애플리케이션이 시작될 때(ContextRefreshedEvent) 등록된 모든 controller 메소드의 정보를 한 번만 만든다
+ *    - 접근 유형: 패키지 이름 (com.ktdsuniversity.edu.hello_spring.bbs.web.BoardController -> BBS)
+ *    - URL 템플릿: @GetMapping 등에 작성한 경로 (/board/view/{id})
+ *    - HTTP Method: @GetMapping 등에 작성한 Method (GET, POST ...)
+ * -> 요청마다 Map에서 꺼내기만 한다
+ *
+ * 요청마다 만들어지는 HandlerMethod 객체는 매번 다르므로 controller 메소드(java.lang.reflect.Method)로 캐시한다
+ * 등록되지 않은 handler(Static Resource 등)는 처음 요청될 때 만들어서 캐시한다 (handler의 클래스 기준)
+ */
+public class HandlerMetadataCache implements ApplicationListener<ContextRefreshedEvent> {
+
+	private static final Logger logger = LoggerFactory.getLogger(HandlerMetadataCache.class);
+
+	private static final String BASE_PACKAGE = "com.ktdsuniversity.edu.hello_spring.";
+
+	/**
+	 * controller 메소드 하나의 접근 기록 정보
+	 * @param accessType 접근 유형 (BBS, MEMBER ...)
+	 * @param urlTemplate 요청 경로 템플릿 (등록되지 않은 handler는 null)
+	 * @param methods 처리하는 HTTP Method (작성하지 않았다면 모든 Method. 빈 Set)
+	 */
+	public record HandlerMetadata(String accessType, String urlTemplate, Set<String> methods) {
+	}
+
+	/**
+	 * Method(controller 메소드) 또는 Class(그 외 handler) -> 접근 기록 정보
+	 */
+	private final Map<Object, HandlerMetadata> metadataMap = new ConcurrentHashMap<>();
+
+	/**
+	 * 등록된 모든 handler mapping(controller, actuator)의 메소드 정보를 만든다
+	 */
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		for(RequestMappingInfoHandlerMapping handlerMapping : event.getApplicationContext()
+																   .getBeansOfType(RequestMappingInfoHandlerMapping.class)
+																   .values()) {
+			this.registerHandlerMethods(handlerMapping.getHandlerMethods());
+		}
+		logger.debug("controller 메소드 정보 캐시: {}건", this.metadataMap.size());
+	}
+
+	/**
+	 * @param handlerMethods 요청 매핑 정보 -> controller 메소드
+	 */
+	public void registerHandlerMethods(Map<RequestMappingInfo, HandlerMethod> handlerMethods) {
+		for(Map.Entry<RequestMappingInfo, HandlerMethod> entry : handlerMethods.entrySet()) {
+			RequestMappingInfo requestMappingInfo = entry.getKey();
+			HandlerMethod handlerMethod = entry.getValue();
+
+			Set<String> patterns = requestMappingInfo.getPatternValues();
+			String urlTemplate = patterns.isEmpty() ? null : String.join(", ", patterns);
+			Set<String> methods = requestMappingInfo.getMethodsCondition()
+													.getMethods()
+													.stream()
+													.map(Enum::name)
+													.collect(Collectors.toUnmodifiableSet());
+
+			this.metadataMap.put(handlerMethod.getMethod()
+							   , new HandlerMetadata(resolveAccessType(handlerMethod.getBeanType().getName()), urlTemplate, methods));
+		}
+	}
+
+	/**
+	 * @param handler 요청을 처리할 handler (HandlerMethod, ResourceHttpRequestHandler ...)
+	 * @return 접근 기록 정보 (handler가 null이라면 null)
+	 */
+	public HandlerMetadata get(Object handler) {
+		if(handler instanceof HandlerMethod handlerMethod) {
+			Method method = handlerMethod.getMethod();
+			HandlerMetadata handlerMetadata = this.metadataMap.get(method);
+			if(handlerMetadata != null) {
+				return handlerMetadata;
+			}
+			return this.metadataMap.computeIfAbsent(method, key -> new HandlerMetadata(
+					resolveAccessType(handlerMethod.getBeanType().getName()), null, Set.of()));
+		}
+		else if(handler != null) {
+			return this.metadataMap.computeIfAbsent(handler.getClass(), key -> new HandlerMetadata(
+					resolveAccessType(handler.getClass().getName()), null, Set.of()));
+		}
+		return null;
+	}
+
+	/**
+	 * 캐시한 handler의 수
+	 */
+	public int size() {
+		return this.metadataMap.size();
+	}
+
+	/**
+	 * 클래스 이름에서 접근 유형을 만든다 (이전에 요청마다 하던 방식과 같다)
+	 * com.ktdsuniversity.edu.hello_spring.bbs.web.BoardController -> BBS
+	 */
+	static String resolveAccessType(String className) {
+		String packageName = className.replace(BASE_PACKAGE, "");
+		int index = packageName.indexOf(".");
+		if(index > 0) {
+			packageName = packageName.substring(0, index);
+		}
+		return packageName.toUpperCase(Locale.ROOT);
+	}
+}
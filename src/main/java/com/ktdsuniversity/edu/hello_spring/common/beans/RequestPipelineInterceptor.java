@@ -0,0 +1,121 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.ktdsuniversity.edu.hello_spring.common.utils.AuthenticationUtil;
+import com.ktdsuniversity.edu.hello_spring.member.vo.LoginUserVO;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 여러 interceptor의 작업(Stage)을 하나의 interceptor로 실행하는 클래스
+ *
+ * 이전에는 interceptor를 각각 등록했다
+ * -> 요청마다 interceptor 수만큼 경로 목록(app.interceptors.*)을 비교하고
+ *    interceptor마다 로그인 정보를 따로 조회했다
+ *
+ * - 경로 목록은 시작할 때 한 번만 PathPattern으로 변환한다
+ * - 요청 경로는 DispatcherServlet이 이미 분석한 값을 사용한다 (다시 분석하지 않는다)
+ * - 로그인 정보는 경로가 일치하는 Stage가 있을 때 한 번만 조회하고 모든 Stage가 함께 사용한다
+ *   (Spring Security의 인증 정보에서 가져온다. HttpSession을 만들지 않는다)
+ * - Stage는 등록한 순서대로 실행하고, false를 반환하면 이후의 Stage와 controller를 실행하지 않는다
+ */
+public class RequestPipelineInterceptor implements HandlerInterceptor {
+
+	/**
+	 * 파이프라인에서 실행할 작업
+	 */
+	public interface Stage {
+
+		/**
+		 * @param handler 실행할 controller
+		 * @param loginUserVO 로그인한 회원 (로그인하지 않았다면 null)
+		 * @return false라면 이후의 Stage와 controller를 실행하지 않는다
+		 */
+		boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler, LoginUserVO loginUserVO) throws Exception;
+	}
+
+	/**
+	 * 경로 목록을 PathPattern으로 변환한 Stage
+	 */
+	private record CompiledStage(PathPattern[] includePatterns, PathPattern[] excludePatterns, Stage stage) {
+
+		boolean matches(PathContainer path) {
+			for(PathPattern excludePattern : this.excludePatterns) {
+				if(excludePattern.matches(path)) {
+					return false;
+				}
+			}
+			for(PathPattern includePattern : this.includePatterns) {
+				if(includePattern.matches(path)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private final PathPatternParser pathPatternParser = PathPatternParser.defaultInstance;
+
+	private final List<CompiledStage> stages = new ArrayList<>();
+
+	/**
+	 * Stage를 추가한다 (추가한 순서대로 실행한다)
+	 * @param includePathPatterns Stage를 실행할 경로 (/board/**)
+	 * @param excludePathPatterns Stage를 실행하지 않을 경로
+	 */
+	public RequestPipelineInterceptor addStage(List<String> includePathPatterns, List<String> excludePathPatterns, Stage stage) {
+		this.stages.add(new CompiledStage(this.compile(includePathPatterns), this.compile(excludePathPatterns), stage));
+		return this;
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+		PathContainer path = this.getPath(request);
+
+		boolean isLoginUserLoaded = false;
+		LoginUserVO loginUserVO = null;
+		for(CompiledStage compiledStage : this.stages) {
+			if(!compiledStage.matches(path)) {
+				continue;
+			}
+			if(!isLoginUserLoaded) {
+				loginUserVO = AuthenticationUtil.getLoginUserVO();
+				isLoginUserLoaded = true;
+			}
+			if(!compiledStage.stage().preHandle(request, response, handler, loginUserVO)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * contextPath를 제외한 요청 경로
+	 */
+	private PathContainer getPath(HttpServletRequest request) {
+		if(ServletRequestPathUtils.hasParsedRequestPath(request)) {
+			return ServletRequestPathUtils.getParsedRequestPath(request).pathWithinApplication();
+		}
+		return ServletRequestPathUtils.parseAndCache(request).pathWithinApplication();
+	}
+
+	private PathPattern[] compile(List<String> pathPatterns) {
+		if(pathPatterns == null) {
+			return new PathPattern[0];
+		}
+		return pathPatterns.stream()
+						   .map(String::trim)
+						   .filter(pathPattern -> !pathPattern.isEmpty())
+						   .map(this.pathPatternParser::parse)
+						   .toArray(PathPattern[]::new);
+	}
+}
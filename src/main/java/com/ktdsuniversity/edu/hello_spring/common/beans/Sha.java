@@ -1,16 +1,56 @@
 package com.ktdsuniversity.edu.hello_spring.common.beans;
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.Random;
+import java.security.SecureRandom;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 
+/**
+ * SHA-256 암호화 및 SALT 발급
+ *
+ * 회원가입, 로그인 시도마다 호출되므로 호출할 때마다 객체를 만들지 않도록 한다
+ * - MessageDigest와 결과 버퍼는 Thread마다 하나씩 만들어서 재사용한다
+ * - 16진수 변환은 변환표(HEX_TABLE)를 이용해 미리 만들어둔 char 배열에 바로 쓴다
+ * - SALT는 미리 만들어둔 SecureRandom pool에서 꺼내서 만든다
+ *
+ * 멤버변수로 요청마다 달라지는 값을 갖지 않으므로 singleton으로 사용해도 안전하다
+ */
 public class Sha {
 
 	public static final Logger logger = LoggerFactory.getLogger(Sha.class);
 
+	private static final String ALGORITHM = "SHA-256";
+
+	/**
+	 * SHA-256 결과의 byte 길이
+	 */
+	private static final int DIGEST_LENGTH = 32;
+
+	/**
+	 * SALT의 byte 길이 (16진수 문자열로 바꾸면 16자리)
+	 */
+	private static final int SALT_LENGTH = 8;
+
+	/**
+	 * byte -> 16진수 문자 변환표
+	 */
+	private static final char[] HEX_TABLE = "0123456789abcdef".toCharArray();
+
+	/**
+	 * Thread마다 재사용할 MessageDigest와 버퍼
+	 */
+	private static final ThreadLocal<DigestContext> DIGEST_CONTEXT = ThreadLocal.withInitial(DigestContext::new);
+
+	/**
+	 * SALT 발급에 사용할 SecureRandom pool
+	 * SecureRandom은 thread-safe 하지만 하나만 사용하면 동시에 발급할 때 경합이 생기므로
+	 * CPU 개수만큼 만들어두고 Thread마다 나눠서 사용한다
+	 */
+	private static final SecureRandom[] SECURE_RANDOM_POOL = createSecureRandomPool();
+
 	/**
 	 * SHA-256 암호화 함
 	 * @param source 원본
@@ -20,7 +60,7 @@ public class Sha {
 	public String getEncrypt(String source, String salt) {
 		return getEncrypt(source, salt.getBytes());
 	}
-	
+
 	/**
 	 * SHA-256 암호화 함
 	 * @param source 원본
@@ -28,66 +68,93 @@ public class Sha {
 	 * @return
 	 */
 	public String getEncrypt(String source, byte[] salt) {
-		
-		String result = "";
-		
-		byte[] a = source.getBytes();
-		byte[] bytes = new byte[a.length + salt.length];
-		
-		System.arraycopy(a, 0, bytes, 0, a.length);
-		System.arraycopy(salt, 0, bytes, a.length, salt.length);
-		
+
+		DigestContext context = DIGEST_CONTEXT.get();
+
 		try {
-			MessageDigest md = MessageDigest.getInstance("SHA-256");
-			md.update(bytes);
-			
-			byte[] byteData = md.digest();
-			
-			StringBuffer sb = new StringBuffer();
-			for (int i = 0; i < byteData.length; i++) {
-				sb.append(Integer.toString((byteData[i] & 0xFF) + 256, 16).substring(1));
-			}
-			
-			result = sb.toString();
-		} catch (NoSuchAlgorithmException e) {
+			// 원본과 SALT를 새로운 배열로 합치지 않고 순서대로 넣는다 (결과는 동일)
+			context.messageDigest.update(source.getBytes());
+			context.messageDigest.update(salt);
+			context.messageDigest.digest(context.digestBuffer, 0, DIGEST_LENGTH);
+		} catch (DigestException e) {
 			// e.printStackTrace();
 			logger.error(e.getMessage(), e);
+			context.messageDigest.reset();
+			return "";
 		}
-		
-		return result;
+
+		return toHex(context.digestBuffer, DIGEST_LENGTH, context.hexBuffer);
 	}
-	
+
 	/**
 	 * SALT를 얻어온다.
 	 * @return
 	 */
 	public String generateSalt() {
-		Random random = new Random();
-		
-		byte[] salt = new byte[8];
-		random.nextBytes(salt);
-		
-		StringBuffer sb = new StringBuffer();
-		for (int i = 0; i < salt.length; i++) {
-			// byte 값을 Hex 값으로 바꾸기.
-			sb.append(String.format("%02x",salt[i]));
+		byte[] salt = new byte[SALT_LENGTH];
+
+		int poolIndex = (int) (Thread.currentThread().getId() % SECURE_RANDOM_POOL.length);
+		SECURE_RANDOM_POOL[poolIndex].nextBytes(salt);
+
+		// byte 값을 Hex 값으로 바꾸기.
+		return toHex(salt, SALT_LENGTH, new char[SALT_LENGTH * 2]);
+	}
+
+	/**
+	 * byte 배열을 16진수 문자열로 바꾼다
+	 * @param bytes 변환할 byte 배열
+	 * @param length 변환할 길이
+	 * @param hexBuffer 변환 결과를 쓸 배열 (length * 2 이상)
+	 * @return 16진수 문자열
+	 */
+	private static String toHex(byte[] bytes, int length, char[] hexBuffer) {
+		for (int i = 0; i < length; i++) {
+			int value = bytes[i] & 0xFF;
+			hexBuffer[i * 2] = HEX_TABLE[value >>> 4];
+			hexBuffer[i * 2 + 1] = HEX_TABLE[value & 0x0F];
+		}
+		return new String(hexBuffer, 0, length * 2);
+	}
+
+	private static SecureRandom[] createSecureRandomPool() {
+		SecureRandom[] pool = new SecureRandom[Runtime.getRuntime().availableProcessors()];
+		for (int i = 0; i < pool.length; i++) {
+			pool[i] = new SecureRandom();
 		}
-		
-		return sb.toString();
+		return pool;
 	}
-	
+
+	/**
+	 * Thread 하나가 사용할 MessageDigest와 결과 버퍼
+	 */
+	private static class DigestContext {
+
+		private final MessageDigest messageDigest;
+		private final byte[] digestBuffer = new byte[DIGEST_LENGTH];
+		private final char[] hexBuffer = new char[DIGEST_LENGTH * 2];
+
+		private DigestContext() {
+			try {
+				this.messageDigest = MessageDigest.getInstance(ALGORITHM);
+			} catch (NoSuchAlgorithmException e) {
+				// SHA-256은 모든 JVM이 지원해야 하는 알고리즘이므로 발생하지 않는다
+				throw new IllegalStateException(e.getMessage(), e);
+			}
+		}
+	}
+
 //	public static void main(String[] args) {
 //		Sha sha = new Sha();
-//		
+//
 //		// 1. salt 생성
 //		String salt = "71b4866d548d1456";
-//		
+//
 //		// 2. 평문을 암호화
 //		String password = "password1234";
-//		
+//
 //		String encryptedPassword = sha.getEncrypt(password, salt);
 //		System.out.println(encryptedPassword);
 //		System.out.println(salt);
 //	}
-	
+
 }
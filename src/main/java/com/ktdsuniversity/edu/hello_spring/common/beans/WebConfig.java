@@ -1,19 +1,26 @@
 package com.ktdsuniversity.edu.hello_spring.common.beans;
 
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.ViewResolverRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
 
 import com.ktdsuniversity.edu.hello_spring.access.dao.AccessLogDao;
+import com.ktdsuniversity.edu.hello_spring.bbs.dao.BoardDao;
+import com.ktdsuniversity.edu.hello_spring.bbs.service.BoardCountCache;
+import com.ktdsuniversity.edu.hello_spring.bbs.service.BoardListCache;
 
 // application.yml에서 설정하지 못하는 디테일한 설정을 위한 annotation
 // String Bean을 수동으로 생성하는 기능
@@ -28,10 +35,8 @@ public class WebConfig implements WebMvcConfigurer{
 	@Autowired
 	private AccessLogDao accessLogDao;
 	
-	@Value("${app.interceptors.check-session.path-patterns}")
-	private List<String> checkSessionPathPatterns;
-	@Value("${app.interceptors.check-session.exclude-path-patterns}")
-	private List<String> checkSessionExcludePathPatterns;
+	@Autowired
+	private BoardDao boardDao;
 	
 	@Value("${app.interceptors.check-dup-login.path-patterns}")
 	private List<String> checkDupLoginPathPatterns;
@@ -42,6 +47,45 @@ public class WebConfig implements WebMvcConfigurer{
 	private List<String> addAccessLogPathPatterns;
 	@Value("${app.interceptors.add-access-log.exclude-path-patterns}")
 	private List<String> addAccessLogExcludePathPatterns;
+	
+	@Value("${app.access-log.queue-capacity}")
+	private int accessLogQueueCapacity;
+	@Value("${app.access-log.batch-size}")
+	private int accessLogBatchSize;
+	@Value("${app.access-log.flush-interval-millis}")
+	private long accessLogFlushIntervalMillis;
+	@Value("${app.access-log.overflow-policy}")
+	private AccessLogWriter.OverflowPolicy accessLogOverflowPolicy;
+	@Value("${app.access-log.block-timeout-millis}")
+	private long accessLogBlockTimeoutMillis;
+	@Value("${app.access-log.sample-rate}")
+	private int accessLogSampleRate;
+	@Value("${app.access-log.shutdown-timeout-millis}")
+	private long accessLogShutdownTimeoutMillis;
+	
+	@Value("${app.access-log.retention.retention-days}")
+	private int accessLogRetentionDays;
+	@Value("${app.access-log.retention.delete-chunk-size}")
+	private int accessLogDeleteChunkSize;
+	@Value("${app.access-log.retention.delete-pause-millis}")
+	private long accessLogDeletePauseMillis;
+	
+	@Value("${app.board.list-cache.maximum-size-mb}")
+	private long boardListCacheMaximumSizeMb;
+	@Value("${app.board.list-cache.expire-after-write-seconds}")
+	private long boardListCacheExpireAfterWriteSeconds;
+	@Value("${app.board.list-cache.max-page-no}")
+	private int boardListCacheMaxPageNo;
+	
+	@Value("${app.board.count.search-cache-maximum-size}")
+	private long boardCountSearchCacheMaximumSize;
+	@Value("${app.board.count.search-cache-expire-after-write-seconds}")
+	private long boardCountSearchCacheExpireAfterWriteSeconds;
+	@Value("${app.board.count.keyword-count-limit}")
+	private int boardCountKeywordCountLimit;
+	
+	@Value("${app.static-resources.cache-max-age-days}")
+	private long staticResourcesCacheMaxAgeDays;
 
 	/**
 	 * Auto DI: @Component
@@ -55,6 +99,65 @@ public class WebConfig implements WebMvcConfigurer{
 		return sha;
 	}
 	
+	/**
+	 * controller 메소드 별 접근 기록 정보 캐시
+	 * 애플리케이션이 시작될 때(ContextRefreshedEvent) 등록된 모든 controller 메소드의 정보를 만든다
+	 */
+	@Bean
+	HandlerMetadataCache handlerMetadataCache() {
+		return new HandlerMetadataCache();
+	}
+	
+	/**
+	 * 접근 기록을 모아서 별도의 Thread에서 INSERT 하는 bean 등록
+	 * 시작할 때(@PostConstruct) 기록 Thread를 시작하고 종료할 때(@PreDestroy) 남은 기록을 INSERT 한다
+	 */
+	@Bean
+	AccessLogWriter accessLogWriter() {
+		return new AccessLogWriter(this.accessLogDao
+								 , this.accessLogQueueCapacity
+								 , this.accessLogBatchSize
+								 , this.accessLogFlushIntervalMillis
+								 , this.accessLogOverflowPolicy
+								 , this.accessLogBlockTimeoutMillis
+								 , this.accessLogSampleRate
+								 , this.accessLogShutdownTimeoutMillis);
+	}
+	
+	/**
+	 * 지난 접근 기록을 시간별로 집계하고 보관 기간이 지난 기록을 삭제하는 작업 등록 (@Scheduled)
+	 */
+	@Bean
+	AccessLogRetentionJob accessLogRetentionJob() {
+		return new AccessLogRetentionJob(this.accessLogDao
+									   , this.accessLogRetentionDays
+									   , this.accessLogDeleteChunkSize
+									   , this.accessLogDeletePauseMillis);
+	}
+	
+	/**
+	 * 게시글 목록 조회 결과 캐시 bean 등록
+	 * 게시글이 변경되면(BoardChangedEvent) commit 된 이후에 캐시를 삭제한다
+	 */
+	@Bean
+	BoardListCache boardListCache() {
+		return new BoardListCache(this.boardListCacheMaximumSizeMb * 1024 * 1024
+								, Duration.ofSeconds(this.boardListCacheExpireAfterWriteSeconds)
+								, this.boardListCacheMaxPageNo);
+	}
+	
+	/**
+	 * 게시글 수 캐시 bean 등록
+	 * 전체 게시글 수는 메모리에 보관하고 주기적으로(@Scheduled) 데이터베이스의 수와 비교한다
+	 */
+	@Bean
+	BoardCountCache boardCountCache() {
+		return new BoardCountCache(this.boardDao
+								 , this.boardCountSearchCacheMaximumSize
+								 , Duration.ofSeconds(this.boardCountSearchCacheExpireAfterWriteSeconds)
+								 , this.boardCountKeywordCountLimit);
+	}
+	
 	/**
 	 * JSP View Resolver 설정
 	 */
@@ -65,37 +168,61 @@ public class WebConfig implements WebMvcConfigurer{
 	
 	/**
 	 * Static Resource 설정
+	 * 
+	 * 파일 내용의 Hash를 URL에 붙이고(/js/jquery-3.7.1.min-{hash}.js) 브라우저가 오랫동안 캐시하도록 한다
+	 * - 파일이 바뀌면 Hash가 바뀌어서 URL이 달라지므로 오래 캐시해도 변경된 파일을 받을 수 있다
+	 * - 캐시 기간 동안은 브라우저가 서버에 요청하지 않는다
+	 * - JSP에서는 <c:url value="/js/..." />로 경로를 작성해야 Hash가 붙은 URL로 바뀐다 (ResourceUrlEncodingFilter)
 	 */
 	@Override
 	public void addResourceHandlers(ResourceHandlerRegistry registry) {
+		CacheControl cacheControl = CacheControl.maxAge(this.staticResourcesCacheMaxAgeDays, TimeUnit.DAYS)
+												.cachePublic()
+												.immutable();
+		
 		registry.addResourceHandler("/css/**") // http://localhost:8080/css/common/common.css - css 밑의 모든 경로
-				.addResourceLocations("classpath:/static/css/");
+				.addResourceLocations("classpath:/static/css/")
+				.setCacheControl(cacheControl)
+				.resourceChain(true) // 조회한 파일의 위치를 캐시한다
+				.addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
 		registry.addResourceHandler("/js/**") // http://localhost:8080/js/jquery/jquery-3.1.7.min.js
-				.addResourceLocations("classpath:/static/js/");
+				.addResourceLocations("classpath:/static/js/")
+				.setCacheControl(cacheControl)
+				.resourceChain(true)
+				.addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+		registry.addResourceHandler("/image/**")
+				.addResourceLocations("classpath:/static/image/")
+				.setCacheControl(cacheControl)
+				.resourceChain(true)
+				.addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+	}
+	
+	/**
+	 * JSP에서 response.encodeURL(<c:url />)로 만든 Static Resource 경로에 Hash를 붙여주는 Filter
+	 */
+	@Bean
+	ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+		return new ResourceUrlEncodingFilter();
 	}
 	
+	/**
+	 * interceptor는 RequestPipelineInterceptor 하나만 등록하고 각 작업(Stage)은 등록한 순서대로 실행한다
+	 * 경로 목록(app.interceptors.*)은 시작할 때 한 번만 변환한다
+	 */
 	@Override
 	public void addInterceptors(InterceptorRegistry registry) {
-		List<String> excludeCheckSessionInterceptorsURL = new ArrayList<>();
-		excludeCheckSessionInterceptorsURL.add("/js/**");
-		excludeCheckSessionInterceptorsURL.add("/css/**");
-		excludeCheckSessionInterceptorsURL.add("/image/**");
-		excludeCheckSessionInterceptorsURL.add("/member/login");
-		excludeCheckSessionInterceptorsURL.add("/member/regist/**");
-		
-		// First Interceptor
-		registry.addInterceptor(new CheckSessionInterceptor())
-				.addPathPatterns(this.checkSessionPathPatterns)
-				.excludePathPatterns(this.checkSessionExcludePathPatterns);
+		// 로그인 여부, 권한 검사는 Spring Security가 한다 (SecurityConfig.routeAuthorizationManager)
 		
-		// Second Interceptor
-		registry.addInterceptor(new CheckDuplicateLoginInterceptor())
-				.addPathPatterns(this.checkDupLoginPathPatterns)
-				.excludePathPatterns(this.checkDupLoginExcludePathPatterns);
+		RequestPipelineInterceptor requestPipelineInterceptor = new RequestPipelineInterceptor();
+		// First Stage
+		requestPipelineInterceptor.addStage(this.checkDupLoginPathPatterns
+										  , this.checkDupLoginExcludePathPatterns
+										  , new CheckDuplicateLoginInterceptor());
+		// Second Stage
+		requestPipelineInterceptor.addStage(this.addAccessLogPathPatterns
+										  , this.addAccessLogExcludePathPatterns
+										  , new AddAccessLogHistoryInterceptor(this.accessLogWriter(), this.handlerMetadataCache()));
 		
-		// Third Interceptor
-		registry.addInterceptor(new AddAccessLogHistoryInterceptor(this.accessLogDao))
-				.addPathPatterns(this.addAccessLogPathPatterns)
-				.excludePathPatterns(this.addAccessLogExcludePathPatterns);
+		registry.addInterceptor(requestPipelineInterceptor);
 	}
 }
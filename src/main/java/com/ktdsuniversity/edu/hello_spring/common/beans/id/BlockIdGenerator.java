@@ -0,0 +1,70 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Sequence 한 번으로 여러 개의 ID를 받아서 나눠주는 클래스 (Block 할당, hi/lo)
+ *
+ * Sequence의 증가값(INCREMENT BY)을 Block의 크기로 사용한다
+ * 예) INCREMENT BY 50 -> NEXTVAL이 1001이라면 1001 ~ 1050을 이 서버가 사용한다
+ * - 다른 서버는 다른 NEXTVAL을 받으므로 겹치지 않는다
+ * - Block을 다 사용하면 다음 NEXTVAL을 조회한다 (Sequence 조회가 Block 크기만큼 줄어든다)
+ * - 서버가 종료되면 사용하지 않은 ID는 버려진다 (ID 사이에 빈 번호가 생긴다)
+ *
+ * Block 안의 ID는 CAS(AtomicLong)로 나눠주고, 새로운 Block을 받을 때만 synchronized로 기다린다
+ */
+public class BlockIdGenerator implements IdGenerator {
+
+	/**
+	 * 사용할 수 있는 ID의 범위 [next, end)
+	 */
+	private record Block(AtomicLong next, long end) {
+	}
+
+	private final LongSupplier nextBlockStart;
+
+	private final IntSupplier blockSizeSupplier;
+
+	/**
+	 * 처음 Block을 받을 때 조회한다 (애플리케이션이 시작될 때 데이터베이스를 사용하지 않도록)
+	 */
+	private int blockSize;
+
+	private volatile Block block = new Block(new AtomicLong(), 0);
+
+	/**
+	 * @param nextBlockStart 새로운 Block의 시작 ID (Sequence.NEXTVAL)
+	 * @param blockSizeSupplier Block의 크기 (Sequence의 INCREMENT BY)
+	 */
+	public BlockIdGenerator(LongSupplier nextBlockStart, IntSupplier blockSizeSupplier) {
+		this.nextBlockStart = nextBlockStart;
+		this.blockSizeSupplier = blockSizeSupplier;
+	}
+
+	@Override
+	public long nextId() {
+		while(true) {
+			Block current = this.block;
+			long id = current.next().getAndIncrement();
+			if(id < current.end()) {
+				return id;
+			}
+			// 다른 Thread가 이미 새로운 Block을 받았다면 다시 시도한다
+			synchronized(this) {
+				if(this.block == current) {
+					this.block = this.allocateBlock();
+				}
+			}
+		}
+	}
+
+	private Block allocateBlock() {
+		if(this.blockSize < 1) {
+			this.blockSize = Math.max(1, this.blockSizeSupplier.getAsInt());
+		}
+		long start = this.nextBlockStart.getAsLong();
+		return new Block(new AtomicLong(start), start + this.blockSize);
+	}
+}
@@ -0,0 +1,21 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.id;
+
+/**
+ * INSERT 하기 전에 애플리케이션에서 PK를 만드는 interface
+ *
+ * 이전에는 INSERT 문 안에서 Sequence(SEQ_BOARD_PK.NEXTVAL 등)로 PK를 만들었다
+ * -> 한 행을 INSERT 할 때마다 Sequence를 한 번씩 사용하고, INSERT 하기 전에는 PK를 알 수 없었다
+ *
+ * -> DAO가 INSERT 하기 전에 PK를 만들어서 VO에 넣는다 (JDBC Batch로 여러 행을 한 번에 INSERT 할 수 있다)
+ * - TimeOrderedIdGenerator: 시간 순서대로 증가하는 ID. 데이터베이스를 사용하지 않는다 (ACCESS_LOG)
+ * - BlockIdGenerator: Sequence 한 번으로 여러 개의 ID를 미리 받아둔다 (BOARD, REPLIES)
+ *
+ * 여러 Thread가 동시에 호출해도 같은 ID를 만들지 않아야 한다
+ */
+public interface IdGenerator {
+
+	/**
+	 * @return 새로운 ID (이전에 만든 ID와 겹치지 않는다)
+	 */
+	public long nextId();
+}
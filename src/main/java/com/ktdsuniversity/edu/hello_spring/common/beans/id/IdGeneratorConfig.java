@@ -0,0 +1,54 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.id;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.ktdsuniversity.edu.hello_spring.common.dao.SequenceDao;
+
+/**
+ * 테이블별 ID 생성기 bean 등록
+ * DAO는 @Qualifier로 bean 이름을 지정해서 사용한다 (생성 방식은 여기서만 바꾼다)
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+	@Value("${app.id.node-id}")
+	private int nodeId;
+
+	@Autowired
+	private SequenceDao sequenceDao;
+
+	/**
+	 * ACCESS_LOG.ACCESS_LOG_ID
+	 * 가장 많이 INSERT 되므로 데이터베이스를 사용하지 않는 시간 순서 ID를 사용한다
+	 */
+	@Bean
+	IdGenerator accessLogIdGenerator() {
+		return new TimeOrderedIdGenerator(this.nodeId);
+	}
+
+	/**
+	 * BOARD.ID (화면과 URL에서 int로 사용하므로 Sequence 범위의 ID를 사용한다)
+	 * 서버마다 다른 범위에서 발급한다 -> 중복되지 않지만 작성 순서는 아니다
+	 * (A 서버의 1003번이 B 서버의 1051번보다 나중에 작성될 수 있다. 목록은 CRT_DT, ID 순서로 정렬한다)
+	 */
+	@Bean
+	IdGenerator boardIdGenerator() {
+		return this.createBlockIdGenerator("SEQ_BOARD_PK");
+	}
+
+	/**
+	 * REPLIES.REPLY_ID (BOARD.ID와 같이 중복되지 않지만 작성 순서는 아니다)
+	 */
+	@Bean
+	IdGenerator replyIdGenerator() {
+		return this.createBlockIdGenerator("SEQ_REPLIES_PK");
+	}
+
+	private IdGenerator createBlockIdGenerator(String sequenceName) {
+		return new BlockIdGenerator(() -> this.sequenceDao.selectNextValue(sequenceName)
+								  , () -> this.sequenceDao.selectIncrement(sequenceName));
+	}
+}
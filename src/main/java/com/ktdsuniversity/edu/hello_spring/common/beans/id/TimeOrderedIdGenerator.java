@@ -0,0 +1,106 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.id;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순서대로 증가하는 64bit ID를 만드는 클래스 (데이터베이스를 사용하지 않는다)
+ *
+ * | 사용하지 않음 (1bit) | 시간 (41bit, EPOCH 이후 ms) | 서버 번호 (10bit) | 순번 (12bit) |
+ *
+ * - 서버 번호(node-id)가 다르면 같은 시간에 만들어도 겹치지 않는다 (서버마다 다른 번호를 설정해야 한다)
+ * - 한 서버에서 1ms 동안 4096개까지 만들 수 있다. 넘으면 다음 ms의 값을 미리 사용한다 (기다리지 않는다)
+ *   (초당 약 409만 개를 넘게 계속 만들면 ID의 시간이 실제 시간보다 앞서 나간다. 접근 기록은 이보다 훨씬 적다)
+ * - 서버의 시계가 뒤로 가더라도 마지막으로 만든 ID보다 큰 값을 만든다
+ * - lock 대신 CAS(AtomicLong)로 마지막 값을 바꾼다
+ */
+public class TimeOrderedIdGenerator implements IdGenerator {
+
+	/**
+	 * 시간의 기준 (2024-01-01T00:00:00Z). 약 69년 동안 사용할 수 있다
+	 */
+	static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+	private static final int NODE_ID_BITS = 10;
+
+	private static final int SEQUENCE_BITS = 12;
+
+	public static final int MAX_NODE_ID = (1 << NODE_ID_BITS) - 1;
+
+	private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+	/**
+	 * 문자열로 바꾼 ID의 길이 (36진수. 63bit는 최대 13자리)
+	 */
+	private static final int STRING_LENGTH = 13;
+
+	private final long nodeId;
+
+	private final LongSupplier currentTimeMillis;
+
+	/**
+	 * 마지막으로 만든 (시간 << SEQUENCE_BITS | 순번)
+	 * 순번이 넘치면 시간으로 올림 된다
+	 */
+	private final AtomicLong lastTimestampSequence = new AtomicLong();
+
+	/**
+	 * @param nodeId 서버 번호 (0 ~ 1023). 서버마다 달라야 한다
+	 */
+	public TimeOrderedIdGenerator(int nodeId) {
+		this(nodeId, System::currentTimeMillis);
+	}
+
+	TimeOrderedIdGenerator(int nodeId, LongSupplier currentTimeMillis) {
+		if(nodeId < 0 || nodeId > MAX_NODE_ID) {
+			throw new IllegalArgumentException("node-id는 0 ~ " + MAX_NODE_ID + " 사이의 값이어야 합니다: " + nodeId);
+		}
+		this.nodeId = nodeId;
+		this.currentTimeMillis = currentTimeMillis;
+	}
+
+	@Override
+	public long nextId() {
+		long now = (this.currentTimeMillis.getAsLong() - EPOCH) << SEQUENCE_BITS;
+		long last;
+		long next;
+		do {
+			last = this.lastTimestampSequence.get();
+			// 새로운 ms라면 순번 0부터, 같은 ms(또는 시계가 뒤로 갔다면)라면 마지막 값 다음
+			next = now > last ? now : last + 1;
+		} while(!this.lastTimestampSequence.compareAndSet(last, next));
+
+		long timestamp = next >>> SEQUENCE_BITS;
+		long sequence = next & SEQUENCE_MASK;
+		return (timestamp << (NODE_ID_BITS + SEQUENCE_BITS))
+			 | (this.nodeId << SEQUENCE_BITS)
+			 | sequence;
+	}
+
+	/**
+	 * ID를 고정 길이(13자리)의 36진수 대문자로 바꾼다
+	 * 길이가 같으므로 문자열 순서와 ID(시간) 순서가 같다
+	 */
+	public static String toSortableString(long id) {
+		String value = Long.toString(id, 36).toUpperCase();
+		if(value.length() >= STRING_LENGTH) {
+			return value;
+		}
+		return "0".repeat(STRING_LENGTH - value.length()) + value;
+	}
+
+	/**
+	 * ID를 만든 시간 (epoch ms)
+	 */
+	public static long timestampOf(long id) {
+		return (id >>> (NODE_ID_BITS + SEQUENCE_BITS)) + EPOCH;
+	}
+
+	/**
+	 * ID를 만든 서버 번호
+	 */
+	public static int nodeIdOf(long id) {
+		return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+	}
+}
@@ -0,0 +1,91 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.security;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import com.ktdsuniversity.edu.hello_spring.common.exceptions.PasswordHashRejectedException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 로그인 단계별 걸린 시간 (Micrometer Timer)
+ *
+ * 로그인이 느릴 때 어느 단계가 느린지 확인한다
+ * - user_lookup: 회원 조회 (SecurityUserDetailsService.loadUserByUsername)
+ * - password_hash: 비밀번호 비교 (SaltedPasswordEncoder.matches. 암호화 Thread Pool의 대기 시간은 제외)
+ * - success_handler: 로그인 성공 처리 (LoginSuccessHandler)
+ * - failure_handler: 로그인 실패 처리 (LoginFailureHandler. 화면 출력은 제외)
+ * - authenticate: 인증 전체 (SecurityAuthenticationProvider.authenticate)
+ *
+ * 결과(outcome) 별로 나눠서 기록한다: success, bad_credentials, unknown_user, blocked, rejected, error
+ *
+ * /actuator/metrics/login.stage?tag=stage:password_hash&tag=outcome:success 로 확인할 수 있다
+ * 히스토그램은 application.yml의 management.metrics.distribution에서 설정한다
+ * (분위수는 모니터링 시스템이 히스토그램 구간으로 계산한다)
+ *
+ * Timer는 시작할 때 모두 만들어 둔다 -> 기록할 때는 배열에서 꺼내서 시간과 히스토그램 구간의 개수만 더한다
+ */
+public class AuthenticationMetrics {
+
+	public static final String METRIC_NAME = "login.stage";
+
+	public enum Stage {
+		USER_LOOKUP, PASSWORD_HASH, SUCCESS_HANDLER, FAILURE_HANDLER, AUTHENTICATE
+	}
+
+	public enum Outcome {
+		SUCCESS, BAD_CREDENTIALS, UNKNOWN_USER, BLOCKED, REJECTED, ERROR
+	}
+
+	/**
+	 * [단계][결과] 별 Timer
+	 */
+	private final Timer[][] timers = new Timer[Stage.values().length][Outcome.values().length];
+
+	public AuthenticationMetrics(MeterRegistry registry) {
+		for(Stage stage : Stage.values()) {
+			for(Outcome outcome : Outcome.values()) {
+				this.timers[stage.ordinal()][outcome.ordinal()] =
+						Timer.builder(METRIC_NAME)
+							 .tag("stage", stage.name().toLowerCase(Locale.ROOT))
+							 .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+							 .description("로그인 단계별 걸린 시간")
+							 .register(registry);
+			}
+		}
+	}
+
+	/**
+	 * @param stage 로그인 단계
+	 * @param outcome 결과
+	 * @param startNanos 단계를 시작한 시간 (System.nanoTime())
+	 */
+	public void record(Stage stage, Outcome outcome, long startNanos) {
+		this.timers[stage.ordinal()][outcome.ordinal()].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * 인증 예외를 결과로 바꾼다
+	 */
+	public static Outcome outcomeOf(AuthenticationException exception) {
+		if(exception instanceof LockedException) {
+			return Outcome.BLOCKED;
+		}
+		else if(exception instanceof UsernameNotFoundException) {
+			return Outcome.UNKNOWN_USER;
+		}
+		else if(exception instanceof BadCredentialsException) {
+			return Outcome.BAD_CREDENTIALS;
+		}
+		else if(exception instanceof PasswordHashRejectedException) {
+			return Outcome.REJECTED;
+		}
+		return Outcome.ERROR;
+	}
+}
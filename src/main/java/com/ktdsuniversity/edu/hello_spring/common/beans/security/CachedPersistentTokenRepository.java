@@ -0,0 +1,273 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.security;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.web.authentication.rememberme.PersistentRememberMeToken;
+import org.springframework.security.web.authentication.rememberme.PersistentTokenRepository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktdsuniversity.edu.hello_spring.member.dao.RememberMeTokenDao;
+import com.ktdsuniversity.edu.hello_spring.member.vo.RememberMeTokenVO;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 로그인 유지(Remember-Me) 토큰 저장소 (REMEMBER_ME_TOKENS)
+ * PersistentTokenBasedRememberMeServices가 자동 로그인할 때 사용한다
+ *
+ * 자동 로그인은 session이 만료된 뒤 첫 요청마다 일어난다 (아침에 처음 접속할 때 등)
+ * 1. 토큰 조회(series) -> 2. 값 비교 -> 3. 새로운 값으로 변경(UPDATE)
+ *
+ * -> 확인한 토큰은 메모리에 캐시해서 다시 방문할 때 데이터베이스를 조회하지 않는다
+ *    - 캐시할 토큰의 수와 유효시간은 제한된다
+ *    - 캐시 적중률은 /actuator/metrics/cache.* 로 확인할 수 있다 (cache=rememberMeTokens)
+ * -> 토큰의 새로운 값은 데이터베이스에 바로 반영한다
+ *    - 브라우저는 새로운 값을 보낸다. 데이터베이스에 이전 값이 남아있으면 (서버 종료, 다른 서버에서 조회)
+ *      도난으로 판단해서 회원의 모든 토큰을 삭제한다
+ * -> 마지막 사용 시간만 캐시에 바로 반영하고 데이터베이스에는 모아서 반영한다 (Write-Behind)
+ *    - 일정 시간마다(flush-interval-millis) JDBC Batch로 한 번에 UPDATE 한다
+ *    - 반영되기 전에는 데이터베이스보다 대기 중인 값을 우선한다
+ *    - 애플리케이션이 종료될 때 남아있는 값을 모두 반영한다 (반영하지 못해도 토큰의 유효기간이 조금 빨리 끝날 뿐이다)
+ *
+ * 토큰 생성(로그인), 삭제(로그아웃, 도난 감지)는 바로 반영한다
+ *
+ * 여러 서버가 같은 테이블을 사용한다면 다른 서버가 바꾼 값이 캐시에 늦게 반영될 수 있다
+ * 이전 값으로 비교하면 도난으로 판단해서 회원의 토큰을 삭제하므로 (다시 로그인해야 한다) 캐시 유효시간을 짧게 설정한다
+ */
+public class CachedPersistentTokenRepository implements PersistentTokenRepository, MeterBinder {
+
+	private static final Logger logger = LoggerFactory.getLogger(CachedPersistentTokenRepository.class);
+
+	private static final String CACHE_NAME = "rememberMeTokens";
+
+	/**
+	 * 데이터베이스의 날짜 형식 (TO_DATE(..., 'YYYY-MM-DD HH24:MI:SS'))
+	 */
+	private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+	private final RememberMeTokenDao rememberMeTokenDao;
+
+	/**
+	 * series로 조회한 토큰 캐시
+	 */
+	private final Cache<String, PersistentRememberMeToken> tokenCache;
+
+	/**
+	 * 마지막 사용 시간을 아직 데이터베이스에 반영하지 않은 series별 토큰 (마지막 값만 남긴다)
+	 */
+	private final Map<String, PersistentRememberMeToken> pendingTokens = new ConcurrentHashMap<>();
+
+	/**
+	 * flush가 동시에 실행되지 않도록 한다 (@Scheduled, 종료 시 flush)
+	 * 토큰 변경/삭제는 this로 동기화한다 (데이터베이스 반영을 기다리지 않도록 다른 lock을 사용한다)
+	 */
+	private final Object flushLock = new Object();
+
+	/**
+	 * 토큰을 삭제(removeUserTokens)할 때마다 증가한다 (this로 동기화한다)
+	 * 데이터베이스를 조회/변경하는 중에 토큰이 삭제되었다면 그 결과를 캐시하지 않는다 (삭제 전의 값일 수 있다)
+	 */
+	private long removeGeneration;
+
+	/**
+	 * @param rememberMeTokenDao 토큰을 저장할 DAO
+	 * @param maximumSize 캐시할 토큰의 최대 수
+	 * @param expireAfterAccess 캐시 유효시간 (마지막으로 사용한 이후)
+	 */
+	public CachedPersistentTokenRepository(RememberMeTokenDao rememberMeTokenDao, long maximumSize, Duration expireAfterAccess) {
+		this.rememberMeTokenDao = rememberMeTokenDao;
+		this.tokenCache = Caffeine.newBuilder()
+								  .maximumSize(maximumSize)
+								  .expireAfterAccess(expireAfterAccess)
+								  .recordStats()
+								  .build();
+	}
+
+	/**
+	 * 로그인 유지를 선택하고 로그인했을 때 새로운 토큰을 저장한다
+	 */
+	@Override
+	public void createNewToken(PersistentRememberMeToken token) {
+		this.rememberMeTokenDao.insertNewToken(this.toRememberMeTokenVO(token));
+		this.tokenCache.put(token.getSeries(), token);
+	}
+
+	/**
+	 * 자동 로그인에 성공했을 때 토큰의 값과 마지막 사용 시간을 변경한다
+	 * 토큰의 값은 데이터베이스에 바로 반영하고, 마지막 사용 시간은 flush에서 반영한다
+	 */
+	@Override
+	public void updateToken(String series, String tokenValue, Date lastUsed) {
+		long generation = this.getRemoveGeneration();
+		PersistentRememberMeToken token = this.getTokenForSeries(series);
+		if(token == null) {
+			// 그 사이 삭제된 토큰 (로그아웃)
+			return;
+		}
+
+		PersistentRememberMeToken updatedToken = new PersistentRememberMeToken(token.getUsername(), series, tokenValue, lastUsed);
+		int updateCount = this.rememberMeTokenDao.updateToken(this.toRememberMeTokenVO(updatedToken));
+
+		synchronized(this) {
+			if(updateCount == 0 || generation != this.removeGeneration) {
+				// 변경하는 중에 삭제되었다 -> 삭제한 토큰이 캐시에 다시 살아나지 않도록 한다
+				this.tokenCache.invalidate(series);
+				this.pendingTokens.remove(series);
+				return;
+			}
+			this.pendingTokens.put(series, updatedToken);
+			this.tokenCache.put(series, updatedToken);
+		}
+	}
+
+	/**
+	 * 반영을 기다리는 값 -> 캐시 -> 데이터베이스 순서로 조회한다
+	 * @return 없다면 null (캐시하지 않는다)
+	 */
+	@Override
+	public PersistentRememberMeToken getTokenForSeries(String seriesId) {
+		PersistentRememberMeToken pendingToken = this.pendingTokens.get(seriesId);
+		if(pendingToken != null) {
+			return pendingToken;
+		}
+		PersistentRememberMeToken cachedToken = this.tokenCache.getIfPresent(seriesId);
+		if(cachedToken != null) {
+			return cachedToken;
+		}
+
+		long generation = this.getRemoveGeneration();
+		RememberMeTokenVO rememberMeTokenVO = this.rememberMeTokenDao.selectTokenBySeries(seriesId);
+		if(rememberMeTokenVO == null) {
+			return null;
+		}
+
+		PersistentRememberMeToken token = this.toPersistentRememberMeToken(rememberMeTokenVO);
+		synchronized(this) {
+			if(generation == this.removeGeneration) {
+				// 조회하는 중에 변경(updateToken)되었다면 변경된 값을 유지한다
+				PersistentRememberMeToken existingToken = this.tokenCache.asMap().putIfAbsent(seriesId, token);
+				return existingToken == null ? token : existingToken;
+			}
+		}
+		// 조회하는 중에 삭제되었다 -> 삭제 전에 조회한 값일 수 있으므로 캐시하지 않는다
+		return token;
+	}
+
+	/**
+	 * 회원의 모든 토큰을 삭제한다 (로그아웃, 토큰 도난 감지)
+	 * 캐시와 대기 중인 값도 함께 삭제한다
+	 */
+	@Override
+	public synchronized void removeUserTokens(String username) {
+		// 삭제하기 전에 조회/변경을 시작한 토큰이 캐시에 다시 들어오지 않도록 한다
+		this.removeGeneration++;
+		this.rememberMeTokenDao.deleteTokensByEmail(username);
+		this.tokenCache.asMap().values().removeIf(token -> token.getUsername().equals(username));
+		this.pendingTokens.values().removeIf(token -> token.getUsername().equals(username));
+	}
+
+	private synchronized long getRemoveGeneration() {
+		return this.removeGeneration;
+	}
+
+	/**
+	 * 대기 중인 토큰의 마지막 사용 시간을 데이터베이스에 반영한다
+	 * 반영에 실패하면 다음 flush에서 다시 시도한다
+	 */
+	@Scheduled(fixedDelayString = "${app.security.remember-me.flush-interval-millis}")
+	public void flush() {
+		synchronized(this.flushLock) {
+			if(this.pendingTokens.isEmpty()) {
+				return;
+			}
+
+			// series 단위로 꺼내서(remove) 꺼낸 이후의 변경은 다음 flush에서 반영되도록 한다
+			List<PersistentRememberMeToken> tokenList = new ArrayList<>();
+			for(String series : this.pendingTokens.keySet()) {
+				PersistentRememberMeToken token = this.pendingTokens.remove(series);
+				if(token != null) {
+					tokenList.add(token);
+				}
+			}
+
+			try {
+				this.rememberMeTokenDao.updateLastUsedBatch(tokenList.stream().map(this::toRememberMeTokenVO).toList());
+			} catch (RuntimeException re) {
+				logger.error("로그인 유지 토큰의 마지막 사용 시간을 반영하지 못함: {}건. {}", tokenList.size(), re.getMessage());
+				this.restore(tokenList);
+				return;
+			}
+			logger.debug("로그인 유지 토큰의 마지막 사용 시간 반영: {}건", tokenList.size());
+		}
+	}
+
+	/**
+	 * 반영하지 못한 토큰을 다음 flush에서 다시 시도한다
+	 * - 그 사이 더 새로운 값이 들어왔다면 새로운 값을 유지한다
+	 * - 그 사이 삭제된 토큰(캐시에 없는 토큰)은 되살리지 않는다
+	 */
+	private synchronized void restore(List<PersistentRememberMeToken> tokenList) {
+		for(PersistentRememberMeToken token : tokenList) {
+			if(this.tokenCache.getIfPresent(token.getSeries()) != null) {
+				this.pendingTokens.putIfAbsent(token.getSeries(), token);
+			}
+		}
+	}
+
+	/**
+	 * 애플리케이션이 종료될 때 남아있는 토큰을 반영한다
+	 */
+	@PreDestroy
+	public void flushOnShutdown() {
+		this.flush();
+	}
+
+	public int getPendingTokenCount() {
+		return this.pendingTokens.size();
+	}
+
+	private RememberMeTokenVO toRememberMeTokenVO(PersistentRememberMeToken token) {
+		RememberMeTokenVO rememberMeTokenVO = new RememberMeTokenVO();
+		rememberMeTokenVO.setSeries(token.getSeries());
+		rememberMeTokenVO.setEmail(token.getUsername());
+		rememberMeTokenVO.setToken(token.getTokenValue());
+		rememberMeTokenVO.setLastUsed(LocalDateTime.ofInstant(token.getDate().toInstant(), ZoneId.systemDefault())
+												   .format(DATE_FORMATTER));
+		return rememberMeTokenVO;
+	}
+
+	private PersistentRememberMeToken toPersistentRememberMeToken(RememberMeTokenVO rememberMeTokenVO) {
+		Date lastUsed = Date.from(LocalDateTime.parse(rememberMeTokenVO.getLastUsed(), DATE_FORMATTER)
+											   .atZone(ZoneId.systemDefault())
+											   .toInstant());
+		return new PersistentRememberMeToken(rememberMeTokenVO.getEmail()
+										   , rememberMeTokenVO.getSeries()
+										   , rememberMeTokenVO.getToken()
+										   , lastUsed);
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, this.tokenCache, CACHE_NAME);
+		Gauge.builder("remember.me.token.pending", this, CachedPersistentTokenRepository::getPendingTokenCount)
+			 .description("데이터베이스에 반영을 기다리는 로그인 유지 토큰의 수")
+			 .register(registry);
+	}
+}
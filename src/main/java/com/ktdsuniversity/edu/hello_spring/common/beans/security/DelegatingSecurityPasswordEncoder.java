@@ -0,0 +1,241 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.spec.InvalidKeySpecException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ktdsuniversity.edu.hello_spring.common.beans.Sha;
+
+/**
+ * 비밀번호 암호화 방식을 선택하는 SaltedPasswordEncoder
+ *
+ * 데이터베이스의 비밀번호 형식을 보고 검증 방식을 결정한다
+ * - "{pbkdf2}반복횟수$해시" 형식: PBKDF2WithHmacSHA256 으로 검증
+ * - 그 외 (64자리 16진수): 이전 방식(SecurityPasswordEncoder, SHA-256 1회)으로 검증
+ *
+ * 새로 암호화하는 비밀번호는 항상 PBKDF2 형식으로 만든다
+ * 이전 방식의 비밀번호는 로그인에 성공했을 때 새로운 형식으로 다시 암호화한다 (upgradeEncoding)
+ *
+ * PBKDF2 반복횟수는 애플리케이션이 시작될 때 이 서버에서 측정해서 정한다
+ * -> 모든 CPU 코어가 동시에 암호화를 수행할 때 한 번의 암호화가 목표 시간(target-latency-millis) 정도 걸리도록
+ * -> 서버 성능이 달라져도 로그인 한 번에 드는 CPU 비용이 일정하게 유지된다
+ *
+ * 측정한 반복횟수는 서버마다, 시작할 때마다 조금씩 다르다
+ * -> 현재 반복횟수보다 적다고 다시 암호화하면 서버끼리 서로의 비밀번호를 계속 다시 암호화한다
+ * -> 최소 반복횟수(min-iterations)보다 적은 비밀번호만 다시 암호화한다
+ *    (반복횟수를 올리고 싶다면 min-iterations를 올린다)
+ */
+public class DelegatingSecurityPasswordEncoder implements SaltedPasswordEncoder {
+
+	private static final Logger logger = LoggerFactory.getLogger(DelegatingSecurityPasswordEncoder.class);
+
+	public static final String PBKDF2_PREFIX = "{pbkdf2}";
+
+	private static final String PBKDF2_ALGORITHM = "PBKDF2WithHmacSHA256";
+
+	/**
+	 * PBKDF2 결과의 bit 길이
+	 */
+	private static final int KEY_LENGTH = 256;
+
+	/**
+	 * 반복횟수 측정에 사용할 반복횟수
+	 */
+	private static final int PROBE_ITERATIONS = 10000;
+
+	/**
+	 * 이전 방식의 비밀번호 검증
+	 */
+	private final SecurityPasswordEncoder legacyPasswordEncoder;
+
+	/**
+	 * SALT 발급
+	 */
+	private final Sha sha;
+
+	/**
+	 * 새로 암호화할 때 사용할 PBKDF2 반복횟수
+	 */
+	private final int iterations;
+
+	/**
+	 * 이 값보다 적은 반복횟수로 암호화된 비밀번호는 다시 암호화한다
+	 */
+	private final int minIterations;
+
+	/**
+	 * @param legacyPasswordEncoder 이전 방식의 비밀번호 검증
+	 * @param sha SALT 발급
+	 * @param iterations PBKDF2 반복횟수
+	 * @param minIterations 다시 암호화하지 않을 최소 반복횟수
+	 */
+	public DelegatingSecurityPasswordEncoder(SecurityPasswordEncoder legacyPasswordEncoder, Sha sha, int iterations, int minIterations) {
+		this.legacyPasswordEncoder = legacyPasswordEncoder;
+		this.sha = sha;
+		this.iterations = iterations;
+		this.minIterations = minIterations;
+	}
+
+	/**
+	 * 새로운 형식(PBKDF2)으로 암호화한다
+	 */
+	@Override
+	public String encode(CharSequence rawPassword, String salt) {
+		return PBKDF2_PREFIX + this.iterations + "$" + pbkdf2(rawPassword, salt, this.iterations);
+	}
+
+	/**
+	 * 데이터베이스의 비밀번호 형식에 맞는 방식으로 검증한다
+	 */
+	@Override
+	public boolean matches(CharSequence rawPassword, String salt, String encodedPassword) {
+		if(salt == null || encodedPassword == null) {
+			return false;
+		}
+
+		if(!encodedPassword.startsWith(PBKDF2_PREFIX)) {
+			return this.legacyPasswordEncoder.matches(rawPassword, salt, encodedPassword);
+		}
+
+		int separatorIndex = encodedPassword.indexOf('$', PBKDF2_PREFIX.length());
+		if(separatorIndex < 0) {
+			return false;
+		}
+
+		int storedIterations = 0;
+		try {
+			storedIterations = Integer.parseInt(encodedPassword.substring(PBKDF2_PREFIX.length(), separatorIndex));
+		} catch (NumberFormatException nfe) {
+			return false;
+		}
+
+		String storedHash = encodedPassword.substring(separatorIndex + 1);
+		String password = pbkdf2(rawPassword, salt, storedIterations);
+
+		return MessageDigest.isEqual(password.getBytes(StandardCharsets.UTF_8)
+								   , storedHash.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 다시 암호화해야 하는 비밀번호인가?
+	 * - 이전 방식(SHA-256 1회)의 비밀번호
+	 * - 최소 반복횟수(minIterations)보다 적은 반복횟수로 암호화된 비밀번호
+	 *   (현재 반복횟수와 비교하지 않는다. 다른 서버가 측정한 반복횟수로 암호화된 비밀번호는 그대로 사용한다)
+	 * @param encodedPassword 데이터베이스의 암호화된 비밀번호
+	 */
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		if(encodedPassword == null || !encodedPassword.startsWith(PBKDF2_PREFIX)) {
+			return true;
+		}
+
+		int separatorIndex = encodedPassword.indexOf('$', PBKDF2_PREFIX.length());
+		if(separatorIndex < 0) {
+			return true;
+		}
+
+		try {
+			return Integer.parseInt(encodedPassword.substring(PBKDF2_PREFIX.length(), separatorIndex)) < this.minIterations;
+		} catch (NumberFormatException nfe) {
+			return true;
+		}
+	}
+
+	/**
+	 * 다시 암호화할 때 사용할 새로운 SALT를 발급한다
+	 */
+	public String generateSalt() {
+		return this.sha.generateSalt();
+	}
+
+	public int getIterations() {
+		return this.iterations;
+	}
+
+	private static String pbkdf2(CharSequence rawPassword, String salt, int iterations) {
+		PBEKeySpec keySpec = new PBEKeySpec(String.valueOf(rawPassword).toCharArray()
+										  , salt.getBytes(StandardCharsets.UTF_8)
+										  , iterations
+										  , KEY_LENGTH);
+		try {
+			SecretKeyFactory secretKeyFactory = SecretKeyFactory.getInstance(PBKDF2_ALGORITHM);
+			return HexFormat.of().formatHex(secretKeyFactory.generateSecret(keySpec).getEncoded());
+		} catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
+			throw new IllegalStateException(e.getMessage(), e);
+		} finally {
+			keySpec.clearPassword();
+		}
+	}
+
+	/**
+	 * 이 서버에서 한 번의 암호화가 목표 시간 정도 걸리는 반복횟수를 구한다
+	 *
+	 * 실제 로그인과 같은 조건을 만들기 위해 암호화 Thread 개수(parallelism)만큼 동시에 측정한다
+	 * (모든 코어가 사용 중일 때는 코어 하나만 사용할 때보다 느려지기 때문)
+	 *
+	 * @param targetLatencyMillis 한 번의 암호화에 걸릴 목표 시간 (ms)
+	 * @param parallelism 동시에 암호화를 수행할 Thread의 개수
+	 * @param minIterations 최소 반복횟수 (서버가 느려도 이 값보다 작아지지 않는다)
+	 * @param maxIterations 최대 반복횟수 (서버가 빨라도 이 값보다 커지지 않는다)
+	 * @return 반복횟수
+	 */
+	public static int calibrateIterations(long targetLatencyMillis, int parallelism, int minIterations, int maxIterations) {
+		// JIT 컴파일이 끝난 상태에서 측정하기 위해 먼저 몇 번 실행한다
+		for(int i = 0; i < 3; i++) {
+			pbkdf2("calibration", "calibration", PROBE_ITERATIONS);
+		}
+
+		ExecutorService executorService = Executors.newFixedThreadPool(parallelism);
+		List<Long> elapsedNanos = new ArrayList<>();
+		try {
+			List<Callable<Long>> probes = new ArrayList<>();
+			for(int i = 0; i < parallelism * 3; i++) {
+				probes.add(() -> {
+					long startTime = System.nanoTime();
+					pbkdf2("calibration", "calibration", PROBE_ITERATIONS);
+					return System.nanoTime() - startTime;
+				});
+			}
+
+			for(Future<Long> future : executorService.invokeAll(probes)) {
+				elapsedNanos.add(future.get());
+			}
+		} catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+			return minIterations;
+		} catch (ExecutionException ee) {
+			throw new IllegalStateException(ee.getCause());
+		} finally {
+			executorService.shutdown();
+		}
+
+		// 중앙값 사용 (GC 등으로 튀는 값 제외)
+		Collections.sort(elapsedNanos);
+		long medianNanos = Math.max(1, elapsedNanos.get(elapsedNanos.size() / 2));
+
+		long iterations = PROBE_ITERATIONS * (targetLatencyMillis * 1_000_000L) / medianNanos;
+		// 1000 단위로 맞춘다
+		iterations = iterations / 1000 * 1000;
+		int result = (int) Math.max(minIterations, Math.min(maxIterations, iterations));
+
+		logger.info("PBKDF2 반복횟수 측정. 목표 시간: {}ms, 동시 실행: {}, {}회 소요 시간: {}us -> 반복횟수: {}"
+				, targetLatencyMillis, parallelism, PROBE_ITERATIONS, medianNanos / 1000, result);
+		return result;
+	}
+}
@@ -2,9 +2,12 @@ package com.ktdsuniversity.edu.hello_spring.common.beans.security;
 
 import java.io.IOException;
 
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.AuthenticationFailureHandler;
 
+import com.ktdsuniversity.edu.hello_spring.common.beans.security.AuthenticationMetrics.Stage;
 import com.ktdsuniversity.edu.hello_spring.member.dao.MemberDao;
 import com.ktdsuniversity.edu.hello_spring.member.vo.LoginMemberVO;
 
@@ -20,21 +23,44 @@ public class LoginFailureHandler implements AuthenticationFailureHandler {
 	
 	public MemberDao memberDao;
 	
-	public LoginFailureHandler(MemberDao memberDao) {
+	/**
+	 * 로그인 실패 횟수
+	 */
+	private LoginFailureTracker loginFailureTracker;
+	
+	/**
+	 * 로그인 실패 처리에 걸린 시간
+	 */
+	private AuthenticationMetrics authenticationMetrics;
+	
+	public LoginFailureHandler(MemberDao memberDao, LoginFailureTracker loginFailureTracker, AuthenticationMetrics authenticationMetrics) {
 		this.memberDao = memberDao;
+		this.loginFailureTracker = loginFailureTracker;
+		this.authenticationMetrics = authenticationMetrics;
 	}
 
 	@Override
 	public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response,
 			AuthenticationException exception) throws IOException, ServletException {
 		
+		long startNanos = System.nanoTime();
+		
 		// 예외 메시지(UsernameNotFoundException, BadCredentialsException)
 		String exceptionMessage = exception.getMessage();
 		
 		// 인증을 요청한 이메일
 		String email = request.getParameter("email");
 		
-		// TODO 로그인 실패 횟수 증가
+		// 로그인 실패 횟수 증가
+		// - 비밀번호 불일치: IP, 이메일의 실패 횟수 증가 (LOGIN_FAIL_COUNT는 모아서 반영)
+		// - 가입하지 않은 이메일: IP의 실패 횟수만 증가
+		// - 이미 차단된 요청(LockedException), 암호화 대기열 초과(PasswordHashRejectedException)는 세지 않는다
+		if(exception instanceof BadCredentialsException) {
+			this.loginFailureTracker.recordFailure(email, request.getRemoteAddr());
+		}
+		else if(exception instanceof UsernameNotFoundException) {
+			this.loginFailureTracker.recordFailure(null, request.getRemoteAddr());
+		}
 		
 		// Model 전송
 		request.setAttribute("message", exceptionMessage);
@@ -43,6 +69,9 @@ public class LoginFailureHandler implements AuthenticationFailureHandler {
 		loginMemberVO.setEmail(email);
 		request.setAttribute("loginMemberVO", loginMemberVO);
 		
+		// 화면 출력(JSP) 시간은 제외한다
+		this.authenticationMetrics.record(Stage.FAILURE_HANDLER, AuthenticationMetrics.outcomeOf(exception), startNanos);
+		
 		// view 전송
 		RequestDispatcher rd = request.getRequestDispatcher("/WEB-INF/views/member/memberlogin.jsp");
 		rd.forward(request, response);
@@ -0,0 +1,243 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.security;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.ktdsuniversity.edu.hello_spring.member.vo.MemberVO;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 로그인 실패 횟수를 메모리에서 관리하는 클래스
+ *
+ * 이전에는 로그인을 시도할 때마다 ACCESS_LOG 테이블에서 최근 1시간 동안의 실패 횟수를 COUNT 했다
+ * -> 대량의 로그인 시도(Credential Stuffing)가 들어오면 ACCESS_LOG가 커지면서 모든 로그인 요청이 느려진다
+ *
+ * -> IP별, 이메일별로 최근 1시간 동안의 실패 횟수를 메모리에서 센다 (Sliding Window)
+ * - 1시간을 5분짜리 구간(bucket) 12개로 나누고, 현재 시간의 구간에 실패 횟수를 더한다
+ * - 차단 여부는 12개 구간의 합으로 판단한다 -> 요청이 많아져도 항상 같은 시간이 걸린다
+ * - 구간 하나는 (구간 번호, 실패 횟수)를 long 하나에 담아 CAS로 변경한다 -> lock을 사용하지 않는다
+ * - IP/이메일별 카운터는 ConcurrentHashMap에 보관한다 (key마다 나뉘어 있어서 서로 다른 사용자끼리 경쟁하지 않는다)
+ *
+ * 데이터베이스(MEMBERS.LOGIN_FAIL_COUNT)에는 LoginStateWriter가 모아서 한 번에 반영한다
+ */
+public class LoginFailureTracker implements MeterBinder {
+
+	/**
+	 * 실패 횟수를 세는 기간 (1시간)
+	 */
+	private static final long WINDOW_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+	/**
+	 * 기간을 나눌 구간의 개수 (5분 * 12)
+	 */
+	private static final int BUCKET_COUNT = 12;
+
+	private static final long BUCKET_MILLIS = WINDOW_MILLIS / BUCKET_COUNT;
+
+	/**
+	 * 구간 하나에 담을 수 있는 실패 횟수의 bit 수
+	 * long 하나의 하위 20bit는 실패 횟수, 나머지는 구간 번호
+	 */
+	private static final int COUNT_BITS = 20;
+
+	private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+	/**
+	 * 데이터베이스의 날짜 형식 (TO_CHAR(..., 'YYYY-MM-DD HH24:MI:SS'))
+	 */
+	private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+	/**
+	 * 이 횟수 이상 실패하면 로그인을 차단한다
+	 */
+	private final int threshold;
+
+	/**
+	 * IP별 실패 횟수
+	 */
+	private final Map<String, SlidingWindowCounter> ipCounters = new ConcurrentHashMap<>();
+
+	/**
+	 * 이메일별 실패 횟수
+	 */
+	private final Map<String, SlidingWindowCounter> emailCounters = new ConcurrentHashMap<>();
+
+	/**
+	 * 로그인 성공/실패를 데이터베이스에 반영
+	 */
+	private final LoginStateWriter loginStateWriter;
+
+	/**
+	 * 현재 시간 (ms). 테스트에서 시간을 바꿀 수 있도록 분리
+	 */
+	private final LongSupplier currentTimeMillis;
+
+	/**
+	 * @param threshold 이 횟수 이상 실패하면 로그인을 차단한다
+	 * @param loginStateWriter 로그인 성공/실패를 데이터베이스에 반영
+	 */
+	public LoginFailureTracker(int threshold, LoginStateWriter loginStateWriter) {
+		this(threshold, loginStateWriter, System::currentTimeMillis);
+	}
+
+	LoginFailureTracker(int threshold, LoginStateWriter loginStateWriter, LongSupplier currentTimeMillis) {
+		this.threshold = threshold;
+		this.loginStateWriter = loginStateWriter;
+		this.currentTimeMillis = currentTimeMillis;
+	}
+
+	/**
+	 * 로그인을 차단해야 하는가?
+	 * IP 또는 이메일의 최근 1시간 동안의 실패 횟수가 기준 이상이라면 차단한다
+	 * @param email 로그인을 요청한 이메일 (null이면 검사하지 않는다)
+	 * @param ip 로그인을 요청한 IP (null이면 검사하지 않는다)
+	 */
+	public boolean isBlocked(String email, String ip) {
+		long bucket = this.currentBucket();
+		return this.getCount(this.ipCounters, ip, bucket) >= this.threshold
+				|| this.getCount(this.emailCounters, email, bucket) >= this.threshold;
+	}
+
+	/**
+	 * 데이터베이스에 저장된 실패 정보로 차단 여부를 확인한다
+	 * 메모리의 실패 횟수는 애플리케이션을 재시작하면 사라지므로
+	 * 이미 조회한 회원 정보(LOGIN_FAIL_COUNT, LATEST_LOGIN_FAIL_DATE)로 한 번 더 확인한다 (추가 조회 없음)
+	 * @param memberVO 데이터베이스에서 조회한 회원 정보
+	 */
+	public boolean isBlocked(MemberVO memberVO) {
+		if(memberVO.getLoginFailCount() < this.threshold || memberVO.getLatestLoginFailDate() == null) {
+			return false;
+		}
+
+		try {
+			long latestLoginFailMillis = LocalDateTime.parse(memberVO.getLatestLoginFailDate(), DATE_FORMATTER)
+													  .atZone(ZoneId.systemDefault())
+													  .toInstant()
+													  .toEpochMilli();
+			return this.currentTimeMillis.getAsLong() - latestLoginFailMillis < WINDOW_MILLIS;
+		} catch (DateTimeParseException dtpe) {
+			return false;
+		}
+	}
+
+	/**
+	 * 로그인 실패를 기록한다
+	 * @param email 로그인을 요청한 이메일. 가입하지 않은 이메일이라면 null (IP의 실패 횟수만 증가)
+	 * @param ip 로그인을 요청한 IP
+	 */
+	public void recordFailure(String email, String ip) {
+		long bucket = this.currentBucket();
+		if(ip != null) {
+			this.ipCounters.computeIfAbsent(ip, key -> new SlidingWindowCounter()).increment(bucket);
+		}
+
+		if(email != null) {
+			this.emailCounters.computeIfAbsent(email, key -> new SlidingWindowCounter()).increment(bucket);
+
+			// LOGIN_FAIL_COUNT, LATEST_LOGIN_FAIL_DATE, LATEST_LOGIN_IP는 모아서 한 번에 반영한다
+			this.loginStateWriter.recordFailure(email, ip);
+		}
+	}
+
+	/**
+	 * 로그인 성공을 기록하고 이메일의 실패 횟수를 초기화한다
+	 * (IP의 실패 횟수는 초기화하지 않는다. 하나의 IP로 여러 계정을 시도하는 공격을 막기 위해)
+	 * @param email 로그인에 성공한 이메일
+	 * @param ip 로그인을 요청한 IP
+	 */
+	public void recordSuccess(String email, String ip) {
+		this.emailCounters.remove(email);
+		// LOGIN_FAIL_COUNT 초기화, LATEST_LOGIN_SUCCESS_DATE, LATEST_LOGIN_IP는 모아서 한 번에 반영한다
+		this.loginStateWriter.recordSuccess(email, ip);
+	}
+
+	/**
+	 * 최근 1시간 동안 실패가 없는 카운터를 메모리에서 삭제한다
+	 * (삭제하는 순간에 같은 key로 실패가 기록되면 그 한 번은 사라질 수 있지만 차단 판단에 영향이 거의 없다)
+	 */
+	@Scheduled(fixedDelay = 60000)
+	public void evictExpiredCounters() {
+		long bucket = this.currentBucket();
+		this.ipCounters.values().removeIf(counter -> counter.sum(bucket) == 0);
+		this.emailCounters.values().removeIf(counter -> counter.sum(bucket) == 0);
+	}
+
+	private int getCount(Map<String, SlidingWindowCounter> counters, String key, long bucket) {
+		if(key == null) {
+			return 0;
+		}
+		SlidingWindowCounter counter = counters.get(key);
+		return counter == null ? 0 : counter.sum(bucket);
+	}
+
+	private long currentBucket() {
+		return this.currentTimeMillis.getAsLong() / BUCKET_MILLIS;
+	}
+
+	public int getTrackedIpCount() {
+		return this.ipCounters.size();
+	}
+
+	public int getTrackedEmailCount() {
+		return this.emailCounters.size();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("login.fail.tracked.ip", this, LoginFailureTracker::getTrackedIpCount)
+			 .description("실패 횟수를 세고 있는 IP의 수")
+			 .register(registry);
+		Gauge.builder("login.fail.tracked.email", this, LoginFailureTracker::getTrackedEmailCount)
+			 .description("실패 횟수를 세고 있는 이메일의 수")
+			 .register(registry);
+	}
+
+	/**
+	 * 최근 1시간 동안의 실패 횟수를 세는 카운터
+	 * 구간마다 (구간 번호 << 20 | 실패 횟수)를 저장한다
+	 * 구간 번호가 현재 구간과 다르면 이전 시간의 값이므로 0부터 다시 센다
+	 */
+	static class SlidingWindowCounter {
+
+		private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+		void increment(long bucket) {
+			int index = (int) (bucket % BUCKET_COUNT);
+			while(true) {
+				long current = this.buckets.get(index);
+				long count = (current >>> COUNT_BITS) == bucket ? current & COUNT_MASK : 0;
+				if(count == COUNT_MASK) {
+					return;
+				}
+				long next = (bucket << COUNT_BITS) | (count + 1);
+				if(this.buckets.compareAndSet(index, current, next)) {
+					return;
+				}
+			}
+		}
+
+		int sum(long currentBucket) {
+			int sum = 0;
+			for(int i = 0; i < BUCKET_COUNT; i++) {
+				long value = this.buckets.get(i);
+				// 최근 12개 구간에 해당하는 값만 더한다
+				if(currentBucket - (value >>> COUNT_BITS) < BUCKET_COUNT) {
+					sum += (int) (value & COUNT_MASK);
+				}
+			}
+			return sum;
+		}
+	}
+}
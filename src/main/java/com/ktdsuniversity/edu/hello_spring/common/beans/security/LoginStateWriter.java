@@ -0,0 +1,206 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.security;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.ktdsuniversity.edu.hello_spring.member.dao.MemberDao;
+import com.ktdsuniversity.edu.hello_spring.member.event.MemberChangedEvent;
+import com.ktdsuniversity.edu.hello_spring.member.vo.LoginStateVO;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 로그인 성공/실패 기록을 모아서 데이터베이스에 한 번에 반영하는 클래스 (Write-Behind)
+ *
+ * 이전에는 로그인에 성공하면 응답(redirect)을 보내기 전에
+ * MEMBERS UPDATE(updateLoginSuccessState)와 ACCESS_LOG INSERT를 차례대로 실행했다
+ * -> 로그인 요청마다 데이터베이스를 두 번 왕복해야 응답을 보낼 수 있다
+ *
+ * -> 로그인 요청에서는 기록할 내용을 메모리에 넣기만 하고 바로 응답한다
+ * - 회원별 로그인 상태(실패 횟수, 마지막 성공/실패 시간, IP)는 이메일별로 합친다
+ *   (짧은 시간 동안 같은 회원이 여러 번 로그인해도 UPDATE는 한 번만 실행된다)
+ * - 일정 시간마다(flush-interval-millis) JDBC Batch로 한 번에 반영한다
+ * - 애플리케이션이 종료될 때 남아있는 기록을 모두 반영한다
+ * 접근 기록(ACCESS_LOG)은 AccessLogWriter가 INSERT 한다
+ * -> 로그인 상태 UPDATE와 로그인 접근 기록 INSERT는 서로 다른 Thread, 다른 트랜잭션에서 commit 된다
+ *    한쪽만 반영될 수 있다 (예: 로그인 상태는 반영되고 접근 기록은 INSERT 실패 후 재시도 중)
+ *    모든 접근 기록을 한 곳(AccessLogWriter)에서 INSERT 하기 위해 함께 commit 하지 않는다
+ *
+ * 대기 중인 기록의 수는 /actuator/metrics/login.state.* 로 확인할 수 있다
+ */
+public class LoginStateWriter implements MeterBinder {
+
+	private static final Logger logger = LoggerFactory.getLogger(LoginStateWriter.class);
+
+	/**
+	 * 데이터베이스의 날짜 형식 (TO_DATE(..., 'YYYY-MM-DD HH24:MI:SS'))
+	 */
+	private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+	private final MemberDao memberDao;
+
+	private final ApplicationEventPublisher applicationEventPublisher;
+
+	/**
+	 * 로그인 상태 UPDATE를 하나의 트랜잭션으로 실행한다 (commit 한 번)
+	 */
+	private final TransactionOperations transactionOperations;
+
+	/**
+	 * 아직 데이터베이스에 반영하지 않은 이메일별 로그인 상태
+	 */
+	private final Map<String, LoginStateVO> pendingLoginStates = new ConcurrentHashMap<>();
+
+	/**
+	 * @param memberDao 로그인 상태를 반영할 DAO
+	 * @param applicationEventPublisher 회원 정보 변경 이벤트 발행 (회원 정보 캐시 삭제)
+	 * @param transactionOperations 반영을 하나의 트랜잭션으로 실행 (TransactionTemplate)
+	 */
+	public LoginStateWriter(MemberDao memberDao
+						  , ApplicationEventPublisher applicationEventPublisher
+						  , TransactionOperations transactionOperations) {
+		this.memberDao = memberDao;
+		this.applicationEventPublisher = applicationEventPublisher;
+		this.transactionOperations = transactionOperations;
+	}
+
+	/**
+	 * 로그인 성공을 기록한다
+	 * LOGIN_FAIL_COUNT를 0으로, LATEST_LOGIN_FAIL_DATE를 NULL로 초기화하고
+	 * LATEST_LOGIN_SUCCESS_DATE, LATEST_LOGIN_IP를 갱신한다
+	 * @param email 로그인에 성공한 이메일
+	 * @param ip 로그인을 요청한 IP
+	 */
+	public void recordSuccess(String email, String ip) {
+		String now = LocalDateTime.now().format(DATE_FORMATTER);
+		this.pendingLoginStates.compute(email, (key, loginStateVO) -> {
+			if(loginStateVO == null) {
+				loginStateVO = this.createLoginState(email);
+			}
+			// 성공 이전의 실패는 반영할 필요가 없다
+			loginStateVO.setLoginFailCountReset(true);
+			loginStateVO.setLoginFailCount(0);
+			loginStateVO.setLatestLoginFailDate(null);
+			loginStateVO.setLatestLoginSuccessDate(now);
+			loginStateVO.setLatestLoginIp(ip);
+			return loginStateVO;
+		});
+	}
+
+	/**
+	 * 로그인 실패를 기록한다
+	 * LOGIN_FAIL_COUNT를 하나 증가시키고 LATEST_LOGIN_FAIL_DATE, LATEST_LOGIN_IP를 갱신한다
+	 * @param email 로그인에 실패한 (가입된) 이메일
+	 * @param ip 로그인을 요청한 IP
+	 */
+	public void recordFailure(String email, String ip) {
+		String now = LocalDateTime.now().format(DATE_FORMATTER);
+		// compute는 key 단위로 원자적으로 실행되므로 flush와 겹쳐도 기록이 사라지지 않는다
+		this.pendingLoginStates.compute(email, (key, loginStateVO) -> {
+			if(loginStateVO == null) {
+				loginStateVO = this.createLoginState(email);
+			}
+			loginStateVO.setLoginFailCount(loginStateVO.getLoginFailCount() + 1);
+			loginStateVO.setLatestLoginFailDate(now);
+			loginStateVO.setLatestLoginIp(ip);
+			return loginStateVO;
+		});
+	}
+
+	/**
+	 * 모아둔 로그인 상태를 데이터베이스에 한 번에 반영한다
+	 * 로그인 상태 UPDATE는 하나의 트랜잭션(commit 한 번)으로 실행한다
+	 * 스케줄러와 애플리케이션 종료가 겹쳐도 한 번에 하나씩 실행되도록 synchronized
+	 */
+	@Scheduled(fixedDelayString = "${app.security.login-state.flush-interval-millis}")
+	public synchronized void flush() {
+		if(this.pendingLoginStates.isEmpty()) {
+			return;
+		}
+
+		// key 단위로 꺼내서(remove) 꺼낸 이후의 기록은 다음 flush에서 반영되도록 한다
+		List<LoginStateVO> loginStateList = new ArrayList<>();
+		for(String email : this.pendingLoginStates.keySet()) {
+			LoginStateVO loginStateVO = this.pendingLoginStates.remove(email);
+			if(loginStateVO != null) {
+				loginStateList.add(loginStateVO);
+			}
+		}
+
+		try {
+			this.transactionOperations.executeWithoutResult(status -> this.memberDao.updateLoginStateBatch(loginStateList));
+		} catch (RuntimeException re) {
+			// 반영하지 못했다면(rollback) 다음 flush에서 다시 시도한다
+			logger.error("로그인 상태를 반영하지 못함: {}건. {}", loginStateList.size(), re.getMessage());
+			loginStateList.forEach(this::restoreLoginState);
+			return;
+		}
+
+		// commit 이후에 캐시된 회원 정보를 삭제한다
+		for(LoginStateVO loginStateVO : loginStateList) {
+			this.applicationEventPublisher.publishEvent(new MemberChangedEvent(loginStateVO.getEmail()));
+		}
+		logger.debug("로그인 상태 반영: {}건", loginStateList.size());
+	}
+
+	/**
+	 * 애플리케이션이 종료될 때 남아있는 기록을 반영한다
+	 */
+	@PreDestroy
+	public void shutdown() {
+		this.flush();
+	}
+
+	/**
+	 * 반영하지 못한 로그인 상태를 그 이후에 쌓인 로그인 상태와 합친다
+	 * (반영하지 못한 상태가 더 이전의 기록)
+	 */
+	private void restoreLoginState(LoginStateVO failedLoginStateVO) {
+		this.pendingLoginStates.merge(failedLoginStateVO.getEmail(), failedLoginStateVO, (newerVO, olderVO) -> {
+			// 이후에 로그인에 성공했다면 이전의 실패 기록은 필요 없다
+			if(newerVO.isLoginFailCountReset()) {
+				return newerVO;
+			}
+			newerVO.setLoginFailCountReset(olderVO.isLoginFailCountReset());
+			newerVO.setLoginFailCount(olderVO.getLoginFailCount() + newerVO.getLoginFailCount());
+			if(newerVO.getLatestLoginFailDate() == null) {
+				newerVO.setLatestLoginFailDate(olderVO.getLatestLoginFailDate());
+			}
+			if(newerVO.getLatestLoginSuccessDate() == null) {
+				newerVO.setLatestLoginSuccessDate(olderVO.getLatestLoginSuccessDate());
+			}
+			return newerVO;
+		});
+	}
+
+	private LoginStateVO createLoginState(String email) {
+		LoginStateVO loginStateVO = new LoginStateVO();
+		loginStateVO.setEmail(email);
+		return loginStateVO;
+	}
+
+	public int getPendingLoginStateCount() {
+		return this.pendingLoginStates.size();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("login.state.pending", this, LoginStateWriter::getPendingLoginStateCount)
+			 .description("데이터베이스에 반영을 기다리는 회원 로그인 상태의 수")
+			 .register(registry);
+	}
+}
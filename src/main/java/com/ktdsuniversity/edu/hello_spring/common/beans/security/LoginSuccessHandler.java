@@ -4,11 +4,19 @@ import java.io.IOException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.annotation.Bean;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 
+import com.ktdsuniversity.edu.hello_spring.access.vo.AccessLogVO;
+import com.ktdsuniversity.edu.hello_spring.common.beans.AccessLogWriter;
+import com.ktdsuniversity.edu.hello_spring.common.beans.security.AuthenticationMetrics.Outcome;
+import com.ktdsuniversity.edu.hello_spring.common.beans.security.AuthenticationMetrics.Stage;
 import com.ktdsuniversity.edu.hello_spring.member.dao.MemberDao;
+import com.ktdsuniversity.edu.hello_spring.member.event.MemberChangedEvent;
+import com.ktdsuniversity.edu.hello_spring.member.vo.LoginUserVO;
 import com.ktdsuniversity.edu.hello_spring.member.vo.MemberVO;
 
 import jakarta.servlet.ServletException;
@@ -22,10 +30,57 @@ public class LoginSuccessHandler implements AuthenticationSuccessHandler{
 
 	private static final Logger logger = LoggerFactory.getLogger(LoginSuccessHandler.class);
 	
-	public MemberDao memberDao;
+	private MemberDao memberDao;
 	
-	public LoginSuccessHandler(MemberDao memberDao) {
+	/**
+	 * 암호화된 비밀번호 조회 (인증 정보에는 비밀번호가 없기 때문)
+	 * 인증할 때 조회한 회원 정보가 캐시되어 있으므로 데이터베이스를 다시 조회하지 않는다
+	 */
+	private UserDetailsService userDetailsService;
+	
+	/**
+	 * 이전 방식으로 암호화된 비밀번호를 새로운 방식으로 다시 암호화
+	 */
+	private DelegatingSecurityPasswordEncoder passwordEncoder;
+	
+	private PasswordHashExecutor passwordHashExecutor;
+	
+	/**
+	 * 회원 정보 변경 이벤트 발행 (회원 정보 캐시 삭제)
+	 */
+	private ApplicationEventPublisher applicationEventPublisher;
+	
+	/**
+	 * 로그인 실패 횟수 (로그인에 성공하면 초기화)
+	 */
+	private LoginFailureTracker loginFailureTracker;
+	
+	/**
+	 * 로그인 접근 기록을 모아서 INSERT
+	 */
+	private AccessLogWriter accessLogWriter;
+	
+	/**
+	 * 로그인 성공 처리에 걸린 시간
+	 */
+	private AuthenticationMetrics authenticationMetrics;
+	
+	public LoginSuccessHandler(MemberDao memberDao
+							 , UserDetailsService userDetailsService
+							 , DelegatingSecurityPasswordEncoder passwordEncoder
+							 , PasswordHashExecutor passwordHashExecutor
+							 , ApplicationEventPublisher applicationEventPublisher
+							 , LoginFailureTracker loginFailureTracker
+							 , AccessLogWriter accessLogWriter
+							 , AuthenticationMetrics authenticationMetrics) {
 		this.memberDao = memberDao;
+		this.userDetailsService = userDetailsService;
+		this.passwordEncoder = passwordEncoder;
+		this.passwordHashExecutor = passwordHashExecutor;
+		this.applicationEventPublisher = applicationEventPublisher;
+		this.loginFailureTracker = loginFailureTracker;
+		this.accessLogWriter = accessLogWriter;
+		this.authenticationMetrics = authenticationMetrics;
 	}
 	
 	/**
@@ -38,19 +93,104 @@ public class LoginSuccessHandler implements AuthenticationSuccessHandler{
 			HttpServletResponse response,
 			Authentication authentication) throws IOException, ServletException {
 		
-		String authenticatedEmail = authentication.getName();
+		long startNanos = System.nanoTime();
+		try {
+			this.handleAuthenticationSuccess(request, response, authentication);
+		} finally {
+			this.authenticationMetrics.record(Stage.SUCCESS_HANDLER, Outcome.SUCCESS, startNanos);
+		}
+	}
+	
+	private void handleAuthenticationSuccess(
+			HttpServletRequest request,
+			HttpServletResponse response,
+			Authentication authentication) throws IOException {
+		
+		// 인증객체에서 로그인 회원 정보(이메일, 이름, 권한) 추출함
+		LoginUserVO loginUserVO = (LoginUserVO) authentication.getPrincipal();
+		String authenticatedEmail = loginUserVO.getEmail();
 		logger.debug("{} 회원이 인증 성공함!", authenticatedEmail);
 		
-		// TODO 로그인 날짜를 현재 시간으로 변경함
+		// 이메일의 로그인 실패 횟수를 초기화하고 로그인 날짜를 현재 시간으로 변경함
+		// (데이터베이스의 LOGIN_FAIL_COUNT가 남아있으면 다음 실패 한 번으로 다시 차단되기 때문)
+		// 로그인 상태와 접근 기록은 redirect를 기다리게 하지 않도록 모아서 한 번에 반영함 (LoginStateWriter, AccessLogWriter)
+		this.loginFailureTracker.recordSuccess(authenticatedEmail, request.getRemoteAddr());
+		
+		AccessLogVO accessLogVO = new AccessLogVO();
+		accessLogVO.setAccessType("LOGIN");
+		accessLogVO.setAccessEmail(authenticatedEmail);
+		accessLogVO.setAccessUrl(request.getRequestURI());
+		accessLogVO.setAccessMethod(request.getMethod().toUpperCase());
+		accessLogVO.setAccessIp(request.getRemoteAddr());
+		accessLogVO.setLoginSuccessYn("Y");
+		// 로그인 기록은 버리지 않는다 (대기열이 가득 찼다면 바로 INSERT)
+		this.accessLogWriter.writeOrInsert(accessLogVO);
 		
-		// 인증객체에서 MemberVO 추출함
-		MemberVO memberVO = (MemberVO) authentication.getPrincipal();
-		logger.debug("{} / {}", memberVO.getEmail(), memberVO.getName());
+		logger.debug("{} / {}", loginUserVO.getEmail(), loginUserVO.getName());
 		
+		// 이전 방식(SHA-256 1회)으로 암호화된 비밀번호라면 새로운 방식으로 다시 암호화해서 저장한다
+		// 평문 비밀번호는 로그인 요청에만 있으므로 로그인에 성공한 지금 꺼내둔다
+		// 암호화와 저장은 암호화 Thread Pool에서 수행한다 (redirect를 기다리게 하지 않는다)
+		MemberVO memberVO = this.getMemberVO(authenticatedEmail);
+		if(memberVO != null && this.passwordEncoder.upgradeEncoding(memberVO.getPassword())) {
+			this.upgradePassword(memberVO, request.getParameter("password"));
+		}
+		
+		// 로그인 이후 이동할 URL (로그인 페이지의 memberlogin.js가 채워준다)
+		// 다른 사이트로 이동시키지 않도록 이 애플리케이션의 경로(/...)만 허용한다
 		String nextUrl = request.getParameter("nextUrl");
+		if(nextUrl == null || !nextUrl.startsWith("/") || nextUrl.startsWith("//")) {
+			nextUrl = "/board/list";
+		}
 		
 		response.sendRedirect(nextUrl);
 	}
-
+	
+	/**
+	 * 암호화된 비밀번호를 확인하기 위해 회원 정보를 조회한다
+	 * @return 그 사이에 탈퇴한 회원이라면 null
+	 */
+	private MemberVO getMemberVO(String email) {
+		try {
+			return ((SecurityUser) this.userDetailsService.loadUserByUsername(email)).getMemberVO();
+		} catch (UsernameNotFoundException unfe) {
+			return null;
+		}
+	}
+	
+	/**
+	 * 비밀번호를 새로운 방식으로 다시 암호화해서 저장한다
+	 * 암호화 Thread Pool에 맡기고 기다리지 않는다
+	 * 실패하더라도 로그인은 성공시킨다 (다음 로그인 때 다시 시도)
+	 * @param memberVO 인증에 성공한 회원
+	 * @param rawPassword 사용자가 입력한 비밀번호
+	 */
+	private void upgradePassword(MemberVO memberVO, String rawPassword) {
+		if(rawPassword == null) {
+			return;
+		}
+		
+		String email = memberVO.getEmail();
+		boolean submitted = this.passwordHashExecutor.submit(() -> {
+			try {
+				String salt = this.passwordEncoder.generateSalt();
+				String password = this.passwordEncoder.encode(rawPassword, salt);
+				
+				MemberVO upgradeMemberVO = new MemberVO();
+				upgradeMemberVO.setEmail(email);
+				upgradeMemberVO.setPassword(password);
+				upgradeMemberVO.setSalt(salt);
+				this.memberDao.updatePassword(upgradeMemberVO);
+				this.applicationEventPublisher.publishEvent(new MemberChangedEvent(email));
+				
+				logger.debug("{} 회원의 비밀번호를 새로운 방식으로 다시 암호화함", email);
+			} catch (RuntimeException re) {
+				logger.warn("{} 회원의 비밀번호를 다시 암호화하지 못함: {}", email, re.getMessage());
+			}
+		});
+		if(!submitted) {
+			logger.warn("{} 회원의 비밀번호를 다시 암호화하지 못함: 암호화 대기열이 가득 참", email);
+		}
+	}
 	
 }
@@ -0,0 +1,37 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.security;
+
+import org.springframework.security.authentication.RememberMeAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.web.authentication.rememberme.PersistentTokenBasedRememberMeServices;
+import org.springframework.security.web.authentication.rememberme.PersistentTokenRepository;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 로그인 유지(Remember-Me) Cookie로 자동 로그인하는 클래스
+ *
+ * 로그인할 때 "로그인 유지(remember-me)"를 선택하면 series, token을 Cookie와 REMEMBER_ME_TOKENS에 저장하고
+ * session이 만료된 이후의 요청에서 Cookie로 다시 로그인한다
+ * -> 비밀번호 암호화(SecurityAuthenticationProvider)를 다시 실행하지 않는다
+ *
+ * PersistentTokenBasedRememberMeServices는 principal로 SecurityUser(MemberVO 전체)를 저장한다
+ * -> 비밀번호로 로그인했을 때처럼 LoginUserVO를 저장하도록 변경한다
+ */
+public class LoginUserRememberMeServices extends PersistentTokenBasedRememberMeServices {
+
+	public LoginUserRememberMeServices(String key, UserDetailsService userDetailsService, PersistentTokenRepository tokenRepository) {
+		super(key, userDetailsService, tokenRepository);
+	}
+
+	@Override
+	protected Authentication createSuccessfulAuthentication(HttpServletRequest request, UserDetails user) {
+		Authentication authentication = super.createSuccessfulAuthentication(request, user);
+
+		RememberMeAuthenticationToken loginUserAuthentication =
+				new RememberMeAuthenticationToken(this.getKey(), ((SecurityUser) user).toLoginUserVO(), authentication.getAuthorities());
+		loginUserAuthentication.setDetails(authentication.getDetails());
+		return loginUserAuthentication;
+	}
+}
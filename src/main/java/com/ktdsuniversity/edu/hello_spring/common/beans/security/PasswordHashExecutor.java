@@ -0,0 +1,177 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ktdsuniversity.edu.hello_spring.common.exceptions.PasswordHashRejectedException;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 비밀번호 암호화 전용 Thread Pool
+ *
+ * 로그인 요청마다 Tomcat의 요청 처리 Thread에서 암호화를 수행하면
+ * 대량의 로그인 시도(Credential Stuffing)가 들어왔을 때 모든 Thread가 암호화에 사용되어
+ * 게시판 조회 같은 다른 요청까지 처리하지 못하게 된다
+ *
+ * -> 정해진 개수의 Thread에서만 암호화를 수행하고, 대기열이 가득 차면 바로 로그인을 실패시킨다
+ *
+ * 대기열 크기, 거절 횟수는 /actuator/metrics/password.hash.* 로 확인할 수 있다
+ */
+public class PasswordHashExecutor implements MeterBinder {
+
+	private static final Logger logger = LoggerFactory.getLogger(PasswordHashExecutor.class);
+
+	public static final String REJECT_MESSAGE = "로그인 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.";
+
+	private final ThreadPoolExecutor threadPoolExecutor;
+
+	/**
+	 * 암호화 결과를 기다릴 최대 시간 (ms)
+	 */
+	private final long timeoutMillis;
+
+	/**
+	 * 대기열이 가득 차거나 시간이 초과되어 거절된 요청의 수
+	 */
+	private final AtomicLong rejectedCount = new AtomicLong();
+
+	/**
+	 * @param poolSize 암호화를 수행할 Thread의 개수 (CPU 코어 수 기준으로 설정)
+	 * @param queueCapacity 암호화를 기다릴 수 있는 요청의 최대 개수
+	 * @param timeoutMillis 암호화 결과를 기다릴 최대 시간 (ms)
+	 */
+	public PasswordHashExecutor(int poolSize, int queueCapacity, long timeoutMillis) {
+		this.timeoutMillis = timeoutMillis;
+		this.threadPoolExecutor = new ThreadPoolExecutor(poolSize, poolSize
+														, 0L, TimeUnit.MILLISECONDS
+														, new ArrayBlockingQueue<>(queueCapacity)
+														, new PasswordHashThreadFactory()
+														, new ThreadPoolExecutor.AbortPolicy());
+		logger.info("비밀번호 암호화 Thread Pool 생성. poolSize: {}, queueCapacity: {}", poolSize, queueCapacity);
+	}
+
+	/**
+	 * 암호화 작업을 전용 Thread Pool에서 실행하고 결과를 기다린다
+	 * @param hashTask 암호화 작업
+	 * @return 암호화 작업의 결과
+	 * @throws PasswordHashRejectedException 대기열이 가득 찼거나 결과를 기다리는 시간이 초과되었을 때
+	 */
+	public <T> T execute(Supplier<T> hashTask) {
+		Future<T> future = null;
+		try {
+			future = this.threadPoolExecutor.submit(hashTask::get);
+		} catch (RejectedExecutionException ree) {
+			this.rejectedCount.incrementAndGet();
+			throw new PasswordHashRejectedException(REJECT_MESSAGE, ree);
+		}
+
+		try {
+			return future.get(this.timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException te) {
+			future.cancel(true);
+			this.rejectedCount.incrementAndGet();
+			throw new PasswordHashRejectedException(REJECT_MESSAGE, te);
+		} catch (InterruptedException ie) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new PasswordHashRejectedException(REJECT_MESSAGE, ie);
+		} catch (ExecutionException ee) {
+			// 암호화 작업에서 발생한 예외를 그대로 던진다
+			if(ee.getCause() instanceof RuntimeException re) {
+				throw re;
+			}
+			throw new IllegalStateException(ee.getCause());
+		}
+	}
+
+	/**
+	 * 암호화 작업을 전용 Thread Pool에서 실행하고 결과를 기다리지 않는다
+	 * 응답과 관계 없는 작업(로그인에 성공한 비밀번호를 다시 암호화)에 사용한다
+	 * 대기열이 가득 찼다면 실행하지 않는다 (로그인 요청의 거절 횟수에는 더하지 않는다)
+	 * @param hashTask 암호화 작업
+	 * @return false: 대기열이 가득 차서 실행하지 못했다
+	 */
+	public boolean submit(Runnable hashTask) {
+		try {
+			this.threadPoolExecutor.execute(hashTask);
+			return true;
+		} catch (RejectedExecutionException ree) {
+			return false;
+		}
+	}
+
+	/**
+	 * 암호화를 기다리고 있는 요청의 수
+	 */
+	public int getQueueSize() {
+		return this.threadPoolExecutor.getQueue().size();
+	}
+
+	/**
+	 * 현재 암호화를 수행하고 있는 Thread의 수
+	 */
+	public int getActiveCount() {
+		return this.threadPoolExecutor.getActiveCount();
+	}
+
+	/**
+	 * 거절된 요청의 수
+	 */
+	public long getRejectedCount() {
+		return this.rejectedCount.get();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("password.hash.queue.size", this, PasswordHashExecutor::getQueueSize)
+			 .description("암호화를 기다리고 있는 요청의 수")
+			 .register(registry);
+		Gauge.builder("password.hash.queue.remaining", this.threadPoolExecutor, executor -> executor.getQueue().remainingCapacity())
+			 .description("암호화 대기열의 남은 자리")
+			 .register(registry);
+		Gauge.builder("password.hash.active", this, PasswordHashExecutor::getActiveCount)
+			 .description("암호화를 수행하고 있는 Thread의 수")
+			 .register(registry);
+		Gauge.builder("password.hash.pool.size", this.threadPoolExecutor, ThreadPoolExecutor::getMaximumPoolSize)
+			 .description("암호화 Thread Pool의 크기")
+			 .register(registry);
+		FunctionCounter.builder("password.hash.rejected", this, PasswordHashExecutor::getRejectedCount)
+					   .description("대기열이 가득 차서 거절된 로그인 요청의 수")
+					   .register(registry);
+	}
+
+	/**
+	 * 애플리케이션이 종료될 때 Thread Pool을 종료한다
+	 */
+	public void shutdown() {
+		this.threadPoolExecutor.shutdown();
+	}
+
+	private static class PasswordHashThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "password-hash-" + this.threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,433 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.security;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.web.util.UrlPathHelper;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * URL(HTTP Method + 경로)별 접근 권한을 검사하는 AuthorizationManager
+ * SecurityConfig의 authorizeHttpRequests에서 사용한다
+ *
+ * Spring Security의 requestMatchers(...).hasAuthority(...)는 규칙을 선언한 순서대로 하나씩 비교한다
+ * -> 규칙이 많아질수록 요청마다 비교하는 횟수가 늘어난다
+ *
+ * 1. 시작할 때 규칙을 경로의 "/" 단위로 나눈 트리(Trie)로 만든다
+ *    요청 경로의 단계 수만큼만 비교한다 (규칙의 개수와 관계 없다)
+ *    - 같은 위치에서는 고정 경로(list) > 일부만 변수인 경로({result}-delete-me, *.js) > 경로 변수({id}, *) > 나머지 전체(**) 순서로 찾는다
+ *    - 같은 경로라면 HTTP Method가 지정된 규칙이 우선한다
+ *    - 어떤 규칙과도 맞지 않으면 로그인한 사용자만 접근할 수 있다
+ * 2. 권한 검사 결과를 (권한 목록, 규칙) 별로 기억한다
+ *    같은 권한(CREATE, READ, UPDATE, DELETE)을 가진 사용자는 같은 결과를 받으므로 한 번만 계산한다
+ *    - 요청 경로는 URL Decode 하고 ;로 시작하는 부분(;jsessionid=...)을 제외한 뒤 비교한다
+ *      (/board/%77rite, /board/write;a=b 도 /board/write의 규칙을 적용한다)
+ * 3. 누구나 접근할 수 있는 규칙(permitAll)은 인증 정보를 조회하지 않는다 (HttpSession, 토큰 Cookie를 읽지 않는다)
+ *
+ * 작성자 확인(본인이 쓴 게시글만 수정)처럼 데이터를 조회해야 알 수 있는 검사는 여기서 하지 않는다
+ */
+public class RouteAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+	private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+	private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+	/**
+	 * 검사 결과를 기억할 권한 목록의 최대 개수
+	 * 권한 목록의 종류는 몇 개 되지 않는다 (비로그인, 일반 회원 ...). 초과하면 기억하지 않고 매번 계산한다
+	 */
+	private static final int MAX_CACHED_AUTHORITY_SETS = 256;
+
+	private static final String ANY_METHOD = "*";
+
+	/**
+	 * 경로 변수 하나로만 이루어진 한 단계 ({id})
+	 */
+	private static final Pattern WHOLE_VARIABLE = Pattern.compile("\\{[^{}]*\\}");
+
+	/**
+	 * contextPath를 제외하고 URL Decode 한 요청 경로를 구한다 (requestMatchers와 같은 방식)
+	 */
+	private static final UrlPathHelper URL_PATH_HELPER = UrlPathHelper.defaultInstance;
+
+	private final AuthenticationTrustResolver trustResolver = new AuthenticationTrustResolverImpl();
+
+	private final Node root;
+
+	/**
+	 * 어떤 규칙과도 맞지 않을 때 사용하는 규칙 (로그인한 사용자만 접근 가능)
+	 */
+	private final Route defaultRoute;
+
+	private final int routeCount;
+
+	/**
+	 * (권한 목록 -> 규칙 번호별 검사 결과)
+	 * 배열의 값은 처음 검사할 때 채운다. 여러 Thread가 동시에 채워도 같은 결과이므로 동기화하지 않는다
+	 */
+	private final Map<AuthorityKey, AuthorizationDecision[]> decisionCache = new ConcurrentHashMap<>();
+
+	private RouteAuthorizationManager(Node root, Route defaultRoute, int routeCount) {
+		this.root = root;
+		this.defaultRoute = defaultRoute;
+		this.routeCount = routeCount;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	@Override
+	public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+		HttpServletRequest request = context.getRequest();
+		String path = URL_PATH_HELPER.getPathWithinApplication(request);
+		return this.check(authentication, request.getMethod(), path);
+	}
+
+	/**
+	 * @param authentication 인증 정보 (필요할 때만 조회한다)
+	 * @param method 요청의 HTTP Method
+	 * @param path contextPath를 제외한 요청 경로 (/board/view)
+	 */
+	AuthorizationDecision check(Supplier<Authentication> authentication, String method, String path) {
+		Route route = this.findRoute(method, path);
+		if(route.access == Access.PERMIT_ALL) {
+			return GRANTED;
+		}
+
+		AuthorityKey authorityKey = this.createAuthorityKey(authentication.get());
+		AuthorizationDecision[] decisions = this.decisionCache.get(authorityKey);
+		if(decisions == null) {
+			if(this.decisionCache.size() >= MAX_CACHED_AUTHORITY_SETS) {
+				return route.decide(authorityKey);
+			}
+			decisions = this.decisionCache.computeIfAbsent(authorityKey, key -> new AuthorizationDecision[this.routeCount]);
+		}
+
+		AuthorizationDecision decision = decisions[route.id];
+		if(decision == null) {
+			decision = route.decide(authorityKey);
+			decisions[route.id] = decision;
+		}
+		return decision;
+	}
+
+	/**
+	 * 요청과 가장 구체적으로 일치하는 규칙을 찾는다
+	 */
+	Route findRoute(String method, String path) {
+		int start = path.startsWith("/") ? 1 : 0;
+		Route route = this.match(this.root, method, path, start);
+		return route != null ? route : this.defaultRoute;
+	}
+
+	int getCachedAuthoritySetCount() {
+		return this.decisionCache.size();
+	}
+
+	private Route match(Node node, String method, String path, int start) {
+		if(start >= path.length()) {
+			Route route = node.getRoute(method);
+			if(route == null && node.rest != null) {
+				// /board/** 는 /board 도 포함한다
+				route = node.rest.getRoute(method);
+			}
+			return route;
+		}
+
+		int end = path.indexOf('/', start);
+		if(end < 0) {
+			end = path.length();
+		}
+
+		String segment = path.substring(start, end);
+		Route route = null;
+		Node child = node.children.get(segment);
+		if(child != null) {
+			route = this.match(child, method, path, end + 1);
+		}
+		for(int i = 0; route == null && i < node.patterns.size(); i++) {
+			SegmentPattern segmentPattern = node.patterns.get(i);
+			if(segmentPattern.regex().matcher(segment).matches()) {
+				route = this.match(segmentPattern.node(), method, path, end + 1);
+			}
+		}
+		if(route == null && node.variable != null && end > start) {
+			route = this.match(node.variable, method, path, end + 1);
+		}
+		if(route == null && node.rest != null) {
+			route = node.rest.getRoute(method);
+		}
+		return route;
+	}
+
+	private AuthorityKey createAuthorityKey(Authentication authentication) {
+		if(authentication == null) {
+			return AuthorityKey.UNAUTHENTICATED;
+		}
+		return new AuthorityKey(this.trustResolver.isAuthenticated(authentication), authentication.getAuthorities());
+	}
+
+	/**
+	 * 검사 결과를 기억하는 기준
+	 * 같은 권한 목록을 가진 사용자는 같은 결과를 받는다
+	 */
+	private record AuthorityKey(boolean authenticated, Collection<? extends GrantedAuthority> authorities) {
+
+		static final AuthorityKey UNAUTHENTICATED = new AuthorityKey(false, List.of());
+
+		boolean hasAuthority(String authority) {
+			for(GrantedAuthority grantedAuthority : this.authorities) {
+				if(authority.equals(grantedAuthority.getAuthority())) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private enum Access {
+		PERMIT_ALL, AUTHENTICATED, AUTHORITY
+	}
+
+	/**
+	 * 하나의 규칙 (HTTP Method + 경로 -> 접근 조건)
+	 */
+	static final class Route {
+
+		private final int id;
+		private final String pattern;
+		private final Access access;
+		private final String authority;
+
+		private Route(int id, String pattern, Access access, String authority) {
+			this.id = id;
+			this.pattern = pattern;
+			this.access = access;
+			this.authority = authority;
+		}
+
+		private AuthorizationDecision decide(AuthorityKey authorityKey) {
+			return switch(this.access) {
+				case PERMIT_ALL -> GRANTED;
+				case AUTHENTICATED -> authorityKey.authenticated() ? GRANTED : DENIED;
+				case AUTHORITY -> authorityKey.authenticated() && authorityKey.hasAuthority(this.authority) ? GRANTED : DENIED;
+			};
+		}
+
+		String getPattern() {
+			return this.pattern;
+		}
+
+		@Override
+		public String toString() {
+			return this.pattern + " -> " + (this.access == Access.AUTHORITY ? this.authority : this.access);
+		}
+	}
+
+	/**
+	 * 일부만 변수인 한 단계 ({result}-delete-me -> 정규식 .*\Q-delete-me\E)
+	 */
+	private record SegmentPattern(String segment, Pattern regex, Node node) {
+
+		private static SegmentPattern of(String segment) {
+			StringBuilder regex = new StringBuilder();
+			StringBuilder literal = new StringBuilder();
+			for(int i = 0; i < segment.length(); i++) {
+				char ch = segment.charAt(i);
+				if(ch == '{' || ch == '*' || ch == '?') {
+					if(!literal.isEmpty()) {
+						regex.append(Pattern.quote(literal.toString()));
+						literal.setLength(0);
+					}
+					if(ch == '{') {
+						int close = segment.indexOf('}', i);
+						if(close < 0) {
+							throw new IllegalArgumentException("경로 변수가 닫히지 않았습니다: " + segment);
+						}
+						i = close;
+					}
+					regex.append(ch == '?' ? "." : ".*");
+				}
+				else {
+					literal.append(ch);
+				}
+			}
+			if(!literal.isEmpty()) {
+				regex.append(Pattern.quote(literal.toString()));
+			}
+			return new SegmentPattern(segment, Pattern.compile(regex.toString()), new Node());
+		}
+	}
+
+	/**
+	 * Trie의 한 단계 (경로의 "/" 사이의 한 부분)
+	 */
+	private static final class Node {
+
+		private Map<String, Node> children = new HashMap<>();
+
+		/**
+		 * {result}-delete-me 처럼 일부만 변수인 한 단계 (선언한 순서대로 비교한다)
+		 */
+		private List<SegmentPattern> patterns = new ArrayList<>();
+
+		/**
+		 * {id}, * 처럼 아무 값이나 올 수 있는 한 단계
+		 */
+		private Node variable;
+
+		/**
+		 * ** (나머지 경로 전체)
+		 */
+		private Node rest;
+
+		/**
+		 * 이 단계에서 끝나는 경로의 규칙 (HTTP Method -> 규칙)
+		 */
+		private Map<String, Route> routes = new HashMap<>();
+
+		private Route getRoute(String method) {
+			Route route = this.routes.get(method);
+			return route != null ? route : this.routes.get(ANY_METHOD);
+		}
+
+		/**
+		 * 규칙을 모두 추가한 뒤 변경할 수 없는 Map으로 바꾼다
+		 */
+		private void compile() {
+			this.children.values().forEach(Node::compile);
+			this.patterns.forEach(segmentPattern -> segmentPattern.node().compile());
+			if(this.variable != null) {
+				this.variable.compile();
+			}
+			if(this.rest != null) {
+				this.rest.compile();
+			}
+			this.children = Map.copyOf(this.children);
+			this.patterns = List.copyOf(this.patterns);
+			this.routes = Map.copyOf(this.routes);
+		}
+	}
+
+	/**
+	 * 규칙을 선언하는 Builder
+	 *
+	 * RouteAuthorizationManager.builder()
+	 *                          .permitAll(HttpMethod.GET, "/member/login")
+	 *                          .hasAuthority(HttpMethod.GET, "READ", "/board/list", "/board/view")
+	 *                          .build();
+	 */
+	public static class Builder {
+
+		private final Node root = new Node();
+		private final List<Route> routes = new ArrayList<>();
+
+		private Builder() {
+		}
+
+		/**
+		 * 로그인하지 않아도 접근할 수 있는 경로
+		 * @param method HTTP Method (null이면 모든 Method)
+		 */
+		public Builder permitAll(HttpMethod method, String... patterns) {
+			return this.add(method, Access.PERMIT_ALL, null, patterns);
+		}
+
+		/**
+		 * 로그인한 사용자만 접근할 수 있는 경로
+		 * @param method HTTP Method (null이면 모든 Method)
+		 */
+		public Builder authenticated(HttpMethod method, String... patterns) {
+			return this.add(method, Access.AUTHENTICATED, null, patterns);
+		}
+
+		/**
+		 * 권한(CREATE, READ, UPDATE, DELETE)을 가진 사용자만 접근할 수 있는 경로
+		 * @param method HTTP Method (null이면 모든 Method)
+		 */
+		public Builder hasAuthority(HttpMethod method, String authority, String... patterns) {
+			return this.add(method, Access.AUTHORITY, authority, patterns);
+		}
+
+		public RouteAuthorizationManager build() {
+			Route defaultRoute = new Route(this.routes.size(), "/**", Access.AUTHENTICATED, null);
+			this.root.compile();
+			return new RouteAuthorizationManager(this.root, defaultRoute, this.routes.size() + 1);
+		}
+
+		private Builder add(HttpMethod method, Access access, String authority, String... patterns) {
+			String methodName = method == null ? ANY_METHOD : method.name();
+			for(String pattern : patterns) {
+				Node node = this.findOrCreateNode(pattern);
+				Route route = new Route(this.routes.size(), pattern, access, authority);
+				if(node.routes.putIfAbsent(methodName, route) != null) {
+					throw new IllegalArgumentException("중복된 규칙입니다: " + methodName + " " + pattern);
+				}
+				this.routes.add(route);
+			}
+			return this;
+		}
+
+		private Node findOrCreateNode(String pattern) {
+			if(!pattern.startsWith("/")) {
+				throw new IllegalArgumentException("경로는 /로 시작해야 합니다: " + pattern);
+			}
+
+			Node node = this.root;
+			String[] segments = pattern.substring(1).split("/");
+			for(int i = 0; i < segments.length; i++) {
+				String segment = segments[i];
+				if(segment.equals("**")) {
+					if(i != segments.length - 1) {
+						throw new IllegalArgumentException("**는 경로의 마지막에만 사용할 수 있습니다: " + pattern);
+					}
+					if(node.rest == null) {
+						node.rest = new Node();
+					}
+					return node.rest;
+				}
+				else if(segment.equals("*") || WHOLE_VARIABLE.matcher(segment).matches()) {
+					// {id}, * 는 한 단계 전체와 일치시킨다
+					if(node.variable == null) {
+						node.variable = new Node();
+					}
+					node = node.variable;
+				}
+				else if(segment.contains("*") || segment.contains("{") || segment.contains("?")) {
+					// {result}-delete-me 는 고정된 부분(-delete-me)까지 일치해야 한다
+					node = this.findOrCreatePattern(node, segment);
+				}
+				else if(!segment.isEmpty()) {
+					node = node.children.computeIfAbsent(segment, key -> new Node());
+				}
+			}
+			return node;
+		}
+
+		private Node findOrCreatePattern(Node node, String segment) {
+			for(SegmentPattern segmentPattern : node.patterns) {
+				if(segmentPattern.segment().equals(segment)) {
+					return segmentPattern.node();
+				}
+			}
+			SegmentPattern segmentPattern = SegmentPattern.of(segment);
+			node.patterns.add(segmentPattern);
+			return segmentPattern.node();
+		}
+	}
+}
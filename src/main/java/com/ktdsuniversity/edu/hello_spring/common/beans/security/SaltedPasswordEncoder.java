@@ -0,0 +1,40 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.security;
+
+/**
+ * 회원마다 다른 salt를 사용하는 비밀번호 암호화
+ *
+ * salt를 멤버변수로 보관하지 않고 매 호출마다 파라미터로 전달받는다.
+ * -> 상태가 없으므로 singleton bean으로 여러 요청이 동시에 사용해도 안전하다
+ *
+ * Spring Security의 PasswordEncoder를 구현하지 않는다
+ * -> PasswordEncoder.encode(rawPassword), matches(rawPassword, encodedPassword)는 salt를 전달받지 못한다
+ * -> 비밀번호 검증은 SecurityAuthenticationProvider가 salt와 함께 직접 호출한다
+ */
+public interface SaltedPasswordEncoder {
+
+	/**
+	 * 사용자가 입력한 비밀번호를 salt를 이용해 암호화한다
+	 * @param rawPassword 사용자가 입력한 비밀번호
+	 * @param salt 회원의 salt
+	 * @return 암호화된 비밀번호
+	 */
+	public String encode(CharSequence rawPassword, String salt);
+
+	/**
+	 * 사용자가 입력한 비밀번호와 데이터베이스의 암호화된 비밀번호가 일치하는지 확인한다
+	 * @param rawPassword 사용자가 입력한 비밀번호 (암호화 되기 전)
+	 * @param salt 회원의 salt
+	 * @param encodedPassword 데이터베이스의 암호화된 비밀번호
+	 * @return 비밀번호가 일치하는가?
+	 */
+	public boolean matches(CharSequence rawPassword, String salt, String encodedPassword);
+
+	/**
+	 * 로그인에 성공한 비밀번호를 다시 암호화해야 하는가?
+	 * @param encodedPassword 데이터베이스의 암호화된 비밀번호
+	 * @return 기본값은 false (다시 암호화하지 않는다)
+	 */
+	default boolean upgradeEncoding(String encodedPassword) {
+		return false;
+	}
+}
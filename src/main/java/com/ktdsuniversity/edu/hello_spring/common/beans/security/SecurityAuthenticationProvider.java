@@ -4,17 +4,22 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+import com.ktdsuniversity.edu.hello_spring.common.beans.security.AuthenticationMetrics.Outcome;
+import com.ktdsuniversity.edu.hello_spring.common.beans.security.AuthenticationMetrics.Stage;
 
 /**
  * 인증을 수행 -> 아이디로 회원을 찾고, 비밀번호로 검증을 수행
  * 아이디로 회원을 찾는다: UserDetailsService -> SecurityUserDetailsService
- * 비밀번호로 검증을 수행: PasswordEncoder -> SecurityPasswordEncoder
+ * 비밀번호로 검증을 수행: SaltedPasswordEncoder -> DelegatingSecurityPasswordEncoder
  * 수행 결과가 정상이라면 SecurityContext에 인증정보를 저장
  * 
  * AuthorizationFilter -> AuthorizationManager -> 호출
@@ -30,12 +35,36 @@ public class SecurityAuthenticationProvider implements AuthenticationProvider {
 	
 	/**
 	 * 인증 비밀번호 검증
+	 * -> salt를 파라미터로 전달받기 때문에 하나의 instance를 모든 요청이 공유해도 안전하다
+	 */
+	private SaltedPasswordEncoder passwordEncoder;
+	
+	/**
+	 * 비밀번호 암호화를 수행할 전용 Thread Pool
+	 */
+	private PasswordHashExecutor passwordHashExecutor;
+	
+	/**
+	 * 로그인 실패 횟수 (차단 여부 확인)
+	 * 실패 횟수 증가는 LoginFailureHandler에서 처리한다
+	 */
+	private LoginFailureTracker loginFailureTracker;
+	
+	/**
+	 * 로그인 단계별 걸린 시간 (회원 조회, 비밀번호 비교, 인증 전체)
 	 */
-	private PasswordEncoder passwordEncoder;
+	private AuthenticationMetrics authenticationMetrics;
 	
-	public SecurityAuthenticationProvider(UserDetailsService userDetailsService, PasswordEncoder passwordEncoder) {
+	public SecurityAuthenticationProvider(UserDetailsService userDetailsService
+										, SaltedPasswordEncoder passwordEncoder
+										, PasswordHashExecutor passwordHashExecutor
+										, LoginFailureTracker loginFailureTracker
+										, AuthenticationMetrics authenticationMetrics) {
 		this.userDetailsService = userDetailsService;
 		this.passwordEncoder = passwordEncoder;
+		this.passwordHashExecutor = passwordHashExecutor;
+		this.loginFailureTracker = loginFailureTracker;
+		this.authenticationMetrics = authenticationMetrics;
 	}
 	
 	/**
@@ -48,32 +77,80 @@ public class SecurityAuthenticationProvider implements AuthenticationProvider {
 	 */
 	@Override
 	public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+		long startNanos = System.nanoTime();
+		try {
+			Authentication authenticated = this.doAuthenticate(authentication);
+			this.authenticationMetrics.record(Stage.AUTHENTICATE, Outcome.SUCCESS, startNanos);
+			return authenticated;
+		} catch (AuthenticationException ae) {
+			this.authenticationMetrics.record(Stage.AUTHENTICATE, AuthenticationMetrics.outcomeOf(ae), startNanos);
+			throw ae;
+		} catch (RuntimeException re) {
+			// 데이터베이스 오류 등 인증 결과가 아닌 예외도 걸린 시간을 기록한다 (outcome=error)
+			this.authenticationMetrics.record(Stage.AUTHENTICATE, Outcome.ERROR, startNanos);
+			throw re;
+		}
+	}
+	
+	private Authentication doAuthenticate(Authentication authentication) throws AuthenticationException {
 		/*
 		 * 사용자가 전달한 인증 이메일과 비밀번호를 추출. -> Parameter: authentication
 		 * 인증 이메일로 회원 정보를 조회한다. -> UserDetailsService.loadUserByUsername();
-		 * 인증 비밀번호와 회원의 비밀번호를 검증한다. -> PasswordEncoder.matches();
+		 * 인증 비밀번호와 회원의 비밀번호를 검증한다. -> SaltedPasswordEncoder.matches();
 		 * 
 		 * SecurityContext에 인증토큰(UsernamePasswordAuthenticatonToken)을 저장한다
 		 */
 		String requestAuthenticationEmail = authentication.getName(); // username -> email
 		String requestAuthenticationPassword = authentication.getCredentials().toString(); // password
 		
-		UserDetails userDetails = this.userDetailsService.loadUserByUsername(requestAuthenticationEmail);
+		// 최근 1시간 동안 실패 횟수가 많은 IP 또는 이메일이라면 회원 조회와 암호화를 하지 않고 바로 실패시킨다
+		// 차단 여부를 알려주지 않기 위해 다른 실패와 같은 메시지를 사용한다
+		String requestIp = authentication.getDetails() instanceof WebAuthenticationDetails details ? details.getRemoteAddress() : null;
+		if(this.loginFailureTracker.isBlocked(requestAuthenticationEmail, requestIp)) {
+			throw new LockedException("아이디 또는 비밀번호가 일치하지 않습니다");
+		}
+		
+		long lookupStartNanos = System.nanoTime();
+		UserDetails userDetails = null;
+		try {
+			userDetails = this.userDetailsService.loadUserByUsername(requestAuthenticationEmail);
+		} catch (UsernameNotFoundException unfe) {
+			this.authenticationMetrics.record(Stage.USER_LOOKUP, Outcome.UNKNOWN_USER, lookupStartNanos);
+			throw unfe;
+		} catch (RuntimeException re) {
+			this.authenticationMetrics.record(Stage.USER_LOOKUP, Outcome.ERROR, lookupStartNanos);
+			throw re;
+		}
+		this.authenticationMetrics.record(Stage.USER_LOOKUP, Outcome.SUCCESS, lookupStartNanos);
+		
+		// 애플리케이션 재시작 전에 차단된 회원인지 데이터베이스의 실패 정보로 확인한다
+		if(this.loginFailureTracker.isBlocked(((SecurityUser) userDetails).getMemberVO())) {
+			throw new LockedException("아이디 또는 비밀번호가 일치하지 않습니다");
+		}
 		
 		// 데이터베이스에 저장된 암호화된 비밀번호
 		String storedUserPassword = userDetails.getPassword();
 		
 		// SecurityUser storedUserDetails = (SecurityUser) userDetails;
 		String storedUserSalt = ((SecurityUser) userDetails).getSalt();
-		((SecurityPasswordEncoder) this.passwordEncoder).setSalt(storedUserSalt);
 		
-		boolean isMatchPassword = this.passwordEncoder.matches(requestAuthenticationPassword, storedUserPassword);
+		// salt를 encoder에 저장하지 않고 함께 전달한다 (동시 로그인 시 salt가 섞이지 않도록)
+		// 암호화는 전용 Thread Pool에서 수행한다. 대기열이 가득 차면 PasswordHashRejectedException -> LoginFailureHandler
+		// 비밀번호 비교 시간은 Thread Pool의 대기 시간을 제외하고 암호화 Thread에서 측정한다
+		boolean isMatchPassword = this.passwordHashExecutor.execute(() -> {
+			long hashStartNanos = System.nanoTime();
+			boolean isMatch = this.passwordEncoder.matches(requestAuthenticationPassword, storedUserSalt, storedUserPassword);
+			this.authenticationMetrics.record(Stage.PASSWORD_HASH, isMatch ? Outcome.SUCCESS : Outcome.BAD_CREDENTIALS, hashStartNanos);
+			return isMatch;
+		});
 		
 		if(isMatchPassword) {
 			// 인증 컨텍스트에 저장
+			// MemberVO 전체(비밀번호, salt, 실패 정보) 대신 이메일, 이름, 권한만 저장한다 (HttpSession 크기 감소)
+			// 암호화된 비밀번호도 credentials로 남기지 않는다
 			return new UsernamePasswordAuthenticationToken(
-					((SecurityUser) userDetails).getMemberVO(),
-					storedUserPassword,
+					((SecurityUser) userDetails).toLoginUserVO(),
+					null,
 					userDetails.getAuthorities());
 		}else {
 			throw new BadCredentialsException("아이디 또는 비밀번호가 일치하지 않습니다");
@@ -1,67 +1,325 @@
 package com.ktdsuniversity.edu.hello_spring.common.beans.security;
 
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Scope;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.AuthenticationFailureHandler;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
+import org.springframework.security.web.savedrequest.NullRequestCache;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.ktdsuniversity.edu.hello_spring.common.beans.AccessLogWriter;
+import com.ktdsuniversity.edu.hello_spring.common.beans.Sha;
 import com.ktdsuniversity.edu.hello_spring.member.dao.MemberDao;
+import com.ktdsuniversity.edu.hello_spring.member.dao.RememberMeTokenDao;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.servlet.DispatcherType;
 
 @Configuration // Bean 설정을 위한 annotation
 @EnableWebSecurity // Spring Security 활성화 (인증 절차를 위한)
 public class SecurityConfig {
 
+	private static final Logger logger = LoggerFactory.getLogger(SecurityConfig.class);
+
 	@Autowired
 	private MemberDao memberDao;
 	
+	/**
+	 * 접근 기록을 모아서 INSERT (WebConfig)
+	 */
+	@Autowired
+	private AccessLogWriter accessLogWriter;
+	
+	@Autowired
+	private RememberMeTokenDao rememberMeTokenDao;
+	
+	@Autowired
+	private Sha sha;
+	
+	@Autowired
+	private ApplicationEventPublisher applicationEventPublisher;
+	
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	
+	@Autowired
+	private MeterRegistry meterRegistry;
+	
+	@Value("${app.security.user-cache.maximum-size}")
+	private long userCacheMaximumSize;
+	@Value("${app.security.user-cache.expire-after-write-seconds}")
+	private long userCacheExpireAfterWriteSeconds;
+	
+	@Value("${app.security.password-hash.pool-size}")
+	private int passwordHashPoolSize;
+	@Value("${app.security.password-hash.queue-capacity}")
+	private int passwordHashQueueCapacity;
+	@Value("${app.security.password-hash.timeout-millis}")
+	private long passwordHashTimeoutMillis;
+	
+	@Value("${app.security.password-hash.target-latency-millis}")
+	private long passwordHashTargetLatencyMillis;
+	@Value("${app.security.password-hash.min-iterations}")
+	private int passwordHashMinIterations;
+	@Value("${app.security.password-hash.max-iterations}")
+	private int passwordHashMaxIterations;
+	
+	@Value("${app.security.login-fail.threshold}")
+	private int loginFailThreshold;
+	
+	
+	@Value("${app.security.token.enabled}")
+	private boolean tokenEnabled;
+	@Value("${app.security.token.secret}")
+	private String tokenSecret;
+	@Value("${app.security.token.cookie-name}")
+	private String tokenCookieName;
+	@Value("${app.security.token.max-age-minutes}")
+	private long tokenMaxAgeMinutes;
+	@Value("${app.security.token.key-rotation-hours}")
+	private long tokenKeyRotationHours;
+	
+	@Value("${app.security.remember-me.enabled}")
+	private boolean rememberMeEnabled;
+	@Value("${app.security.remember-me.cookie-name}")
+	private String rememberMeCookieName;
+	@Value("${app.security.remember-me.token-validity-days}")
+	private long rememberMeTokenValidityDays;
+	@Value("${app.security.remember-me.cache.maximum-size}")
+	private long rememberMeCacheMaximumSize;
+	@Value("${app.security.remember-me.cache.expire-after-access-minutes}")
+	private long rememberMeCacheExpireAfterAccessMinutes;
+	
 	// 1. SecurityUserDetailsService bean 등록
 	@Bean
 	UserDetailsService securityUserDetailsService() {
-		return new SecurityUserDetailsService(this.memberDao);
+		return new SecurityUserDetailsService(this.memberDao
+											, this.userCacheMaximumSize
+											, Duration.ofSeconds(this.userCacheExpireAfterWriteSeconds));
 	}
 	
 	// 2. SecurityPasswordEncoder bean 등록
-	@Bean
-	@Scope("prototype") // 필요할 때마다 새로운 instance를 생성시키는 annotation ("prototype")
 	/*
-	 * singleton -> 유일한 객체 -> Application (기준이 필요함. 어디에서 유일한가? 우리 application에서 유일한 객체)
-	 * 유일한 객체를 만드는 방법 = singleton pattern
-	 * Spring @Controller, @Service, @Repository, @Component -> 객체 생성 -> Bean Container -주입-> @Autowired : 이미 만들어진 객체를 사용하는 것이 빠름
+	 * salt를 멤버변수로 갖지 않는 (상태가 없는) encoder 이므로 singleton으로 사용한다
+	 * 이전에는 encoder가 salt를 멤버변수로 가지고 있어서 @Scope("prototype")을 사용했지만
+	 * AuthenticationProvider가 하나의 instance만 주입받기 때문에 동시 로그인 시 salt가 덮어써지는 문제가 있었다
+	 * -> salt를 매 호출마다 파라미터로 전달하도록 변경
 	 * 
-	 * prototype: 필요할 때마다 매번 생성 => 소멸(메모리 제거) <-> singleton: 한 번만 생성해서 계속 쓴다 => 유일한 객체
-	 * PasswordEncoder에서 멤버변수로 salt를 줬다
-	 * 만일 PasswordEncoder가 singleton instance였다면 유일한 instance라 Bean Container 자체에 salt가 계속해서 바뀐다.
-	 * 굉장히 치명적인 결함을 갖는다
-	 * 어떤 사용자가 자기 비밀번호를 올바르게 입력했는데도 틀렸다고 한다 (동시성 문제가 생김)
-	 * web application 개발할 때 항상 주의해야 하는 것은 동시성 문제
-	 * a와 입력하고 검증을 하는 중에 b가 들어오면 a는 사라짐 -> a는 올바르게 입력해도 실패함
-	 * 그래서 동시성 문제를 야기할 수 있으면 반드시 prototype으로 바꿔줘야 한다. 동시에 여러 개의 instance가 생겨서 a만 가지고 있고 b만 가지고 있게 해야 한다.
+	 * 이전 방식(SHA-256 1회)의 비밀번호는 SecurityPasswordEncoder로 검증하고
+	 * 새로운 비밀번호는 PBKDF2로 암호화한다. 반복횟수는 애플리케이션 시작 시 이 서버에서 측정해서 정한다
+	 * min-iterations보다 적은 반복횟수의 비밀번호만 로그인할 때 다시 암호화한다
+	 */
+	@Bean
+	DelegatingSecurityPasswordEncoder securityPasswordEncoder() {
+		int iterations = DelegatingSecurityPasswordEncoder.calibrateIterations(this.passwordHashTargetLatencyMillis
+																			 , this.getPasswordHashPoolSize()
+																			 , this.passwordHashMinIterations
+																			 , this.passwordHashMaxIterations);
+		return new DelegatingSecurityPasswordEncoder(new SecurityPasswordEncoder(this.sha), this.sha, iterations, this.passwordHashMinIterations);
+	}
+	
+	// 비밀번호 암호화 전용 Thread Pool bean 등록
+	@Bean
+	PasswordHashExecutor passwordHashExecutor() {
+		return new PasswordHashExecutor(this.getPasswordHashPoolSize(), this.passwordHashQueueCapacity, this.passwordHashTimeoutMillis);
+	}
+	
+	/**
+	 * 비밀번호 암호화 Thread의 개수
+	 * pool-size가 0 이하라면 CPU 코어 수만큼 Thread를 만든다
 	 */
-	PasswordEncoder securityPasswordEncoder() {
-		return new SecurityPasswordEncoder();
+	private int getPasswordHashPoolSize() {
+		return this.passwordHashPoolSize > 0 ? this.passwordHashPoolSize
+											 : Runtime.getRuntime().availableProcessors();
 	}
+	
 	@Bean
 	// 3. SecurityAuthenticationProvider bean 등록
 	AuthenticationProvider securityAuthenticationProvider() {
-		return new SecurityAuthenticationProvider(this.securityUserDetailsService(), this.securityPasswordEncoder());
+		return new SecurityAuthenticationProvider(this.securityUserDetailsService()
+												, this.securityPasswordEncoder()
+												, this.passwordHashExecutor()
+												, this.loginFailureTracker()
+												, this.authenticationMetrics());
+	}
+	
+	/**
+	 * 로그인 단계별 걸린 시간 bean 등록 (/actuator/metrics/login.stage)
+	 */
+	@Bean
+	AuthenticationMetrics authenticationMetrics() {
+		return new AuthenticationMetrics(this.meterRegistry);
+	}
+	
+	/**
+	 * 로그인 실패 횟수 bean 등록
+	 * SecurityAuthenticationProvider(차단 확인), LoginFailureHandler(실패 기록), LoginSuccessHandler(초기화)가 같은 instance를 사용한다
+	 */
+	@Bean
+	LoginFailureTracker loginFailureTracker() {
+		return new LoginFailureTracker(this.loginFailThreshold, this.loginStateWriter());
+	}
+	
+	/**
+	 * 로그인 상태를 모아서 반영하는 bean 등록 (Write-Behind)
+	 */
+	@Bean
+	LoginStateWriter loginStateWriter() {
+		return new LoginStateWriter(this.memberDao
+								  , this.applicationEventPublisher
+								  , new TransactionTemplate(this.transactionManager));
 	}
 	
 	@Bean
 	AuthenticationFailureHandler loginFailureHandler() {
-		return new LoginFailureHandler(this.memberDao);
+		return new LoginFailureHandler(this.memberDao, this.loginFailureTracker(), this.authenticationMetrics());
 	}
 	
 	@Bean
 	AuthenticationSuccessHandler loginSuccessHandler() {
-		return new LoginSuccessHandler(this.memberDao);
+		return new LoginSuccessHandler(this.memberDao
+									 , this.securityUserDetailsService()
+									 , this.securityPasswordEncoder()
+									 , this.passwordHashExecutor()
+									 , this.applicationEventPublisher
+									 , this.loginFailureTracker()
+									 , this.accessLogWriter
+									 , this.authenticationMetrics());
+	}
+	
+	/**
+	 * URL별 접근 권한 규칙 (authorizeHttpRequests에서 사용한다)
+	 * 이전에는 CheckSessionInterceptor가 로그인 여부만 검사했다
+	 * 
+	 * 화면 조회는 READ, 등록은 CREATE, 수정(추천)은 UPDATE, 삭제(탈퇴)는 DELETE 권한이 필요하다 (SecurityUser.getAuthorities)
+	 * 규칙에 없는 경로는 로그인한 사용자만 접근할 수 있다
+	 */
+	@Bean
+	RouteAuthorizationManager routeAuthorizationManager() {
+		return RouteAuthorizationManager.builder()
+				.permitAll(HttpMethod.GET, "/member/login", "/member/regist", "/member/regist/available", "/member/{result}-delete-me")
+				.permitAll(HttpMethod.POST, "/member/regist", "/member/security/login")
+				.permitAll(null, "/error")
+				.hasAuthority(HttpMethod.GET, "READ", "/board/list", "/board/view", "/board/file/download/{id}", "/board/excel/download", "/board/reply/{boardId}")
+				.hasAuthority(HttpMethod.GET, "CREATE", "/board/write")
+				.hasAuthority(HttpMethod.POST, "CREATE", "/board/write", "/board/reply/{boardId}")
+				.hasAuthority(HttpMethod.GET, "UPDATE", "/board/modify/{id}", "/board/reply/recommend/{replyId}")
+				.hasAuthority(HttpMethod.POST, "UPDATE", "/board/modify/{id}", "/board/reply/modify/{replyId}")
+				.hasAuthority(HttpMethod.GET, "DELETE", "/board/delete/{id}", "/board/reply/delete/{replyId}", "/member/delete-me")
+				.build();
+	}
+	
+	/**
+	 * 로그인하지 않은 사용자가 로그인이 필요한 URL에 접근했을 때 로그인 페이지를 보여준다
+	 * redirect 하지 않고 forward 하기 때문에 브라우저의 주소가 유지된다
+	 * -> memberlogin.js가 주소를 nextUrl로 전달해서 로그인 후 원래 페이지로 돌아간다
+	 */
+	private AuthenticationEntryPoint loginPageEntryPoint() {
+		return (request, response, authException) ->
+				request.getRequestDispatcher("/WEB-INF/views/member/memberlogin.jsp").forward(request, response);
+	}
+	
+	/**
+	 * 로그인 유지(Remember-Me) 토큰 저장소 bean 등록
+	 * 확인한 토큰을 캐시하고 토큰 변경은 모아서 반영한다 (@Scheduled flush)
+	 */
+	@Bean
+	CachedPersistentTokenRepository persistentTokenRepository() {
+		return new CachedPersistentTokenRepository(this.rememberMeTokenDao
+												 , this.rememberMeCacheMaximumSize
+												 , Duration.ofMinutes(this.rememberMeCacheExpireAfterAccessMinutes));
+	}
+	
+	/**
+	 * 로그인 유지 Cookie로 자동 로그인하는 RememberMeServices
+	 * app.security.remember-me.enabled가 true일 때만 filterChain에서 사용한다
+	 */
+	private LoginUserRememberMeServices rememberMeServices() {
+		// 토큰은 REMEMBER_ME_TOKENS에서 확인하므로 key는 이 서버 안에서만 사용한다 (시작할 때마다 만든다)
+		byte[] key = new byte[32];
+		new SecureRandom().nextBytes(key);
+		
+		LoginUserRememberMeServices rememberMeServices = new LoginUserRememberMeServices(Base64.getEncoder().encodeToString(key)
+																						, this.securityUserDetailsService()
+																						, this.persistentTokenRepository());
+		rememberMeServices.setCookieName(this.rememberMeCookieName);
+		rememberMeServices.setTokenValiditySeconds((int) Duration.ofDays(this.rememberMeTokenValidityDays).toSeconds());
+		return rememberMeServices;
+	}
+	
+	/**
+	 * 인증 정보를 서명된 Cookie에 저장하는 SecurityContextRepository
+	 * app.security.token.enabled가 true일 때만 filterChain에서 사용한다
+	 */
+	private SecurityContextRepository signedTokenSecurityContextRepository() {
+		byte[] masterSecret = null;
+		if(this.tokenSecret == null || this.tokenSecret.isBlank()) {
+			// 마스터 키가 없다면 임시로 만든다. 재시작하면 모든 토큰이 무효화되고 서버끼리 토큰을 공유할 수 없다
+			masterSecret = new byte[32];
+			new SecureRandom().nextBytes(masterSecret);
+			logger.warn("app.security.token.secret이 설정되지 않아 임시 키를 사용합니다. 재시작하면 모든 사용자가 다시 로그인해야 합니다");
+		}
+		else {
+			masterSecret = Base64.getDecoder().decode(this.tokenSecret);
+		}
+		
+		SecurityTokenSigner securityTokenSigner = new SecurityTokenSigner(masterSecret, Duration.ofHours(this.tokenKeyRotationHours).toMillis());
+		return new SignedTokenSecurityContextRepository(securityTokenSigner
+													  , this.tokenCookieName
+													  , Duration.ofMinutes(this.tokenMaxAgeMinutes));
+	}
+	
+	/**
+	 * Static Resource(/css, /js, /image) 전용 필터 체인
+	 * 가장 먼저 검사해서 Static Resource 요청은 아래의 filterChain을 거치지 않도록 한다
+	 * 
+	 * Static Resource는 로그인 여부와 관계 없이 누구나 받을 수 있는 파일이므로
+	 * - 인증 정보(SecurityContext)를 조회하지 않는다 (HttpSession, 토큰 Cookie를 읽지 않는다)
+	 * - HttpSession을 만들지 않는다
+	 * - CSRF 토큰을 만들거나 검사하지 않는다
+	 * - Cache-Control은 WebConfig.addResourceHandlers에서 설정한 값을 사용하도록 Spring Security의 no-cache 헤더를 끈다
+	 */
+	@Bean
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	SecurityFilterChain staticResourceFilterChain(HttpSecurity http) throws Exception {
+		http.securityMatcher("/css/**", "/js/**", "/image/**")
+			.securityContext(AbstractHttpConfigurer::disable)
+			.sessionManagement(AbstractHttpConfigurer::disable)
+			.csrf(AbstractHttpConfigurer::disable)
+			.requestCache(AbstractHttpConfigurer::disable)
+			.anonymous(AbstractHttpConfigurer::disable)
+			.servletApi(AbstractHttpConfigurer::disable)
+			.exceptionHandling(AbstractHttpConfigurer::disable)
+			.logout(AbstractHttpConfigurer::disable)
+			.headers( headers -> headers.cacheControl( cacheControl -> cacheControl.disable() ) );
+		
+		return http.build();
 	}
 	
 	/**
@@ -85,6 +343,45 @@ public class SecurityConfig {
 							 .successHandler(this.loginSuccessHandler())
 					);
 		
+		// 로그아웃도 Spring Security가 처리한다 (이전의 MemberController.doLogOut 대체)
+		// HttpSession을 삭제하고 SecurityContext를 비운 뒤 게시글 목록으로 이동한다
+		// (토큰 모드에서는 아래에서 토큰 Cookie 삭제를 추가한다)
+		http.logout( logout ->
+					logout.logoutRequestMatcher(new AntPathRequestMatcher("/member/logout", "GET"))
+						  .logoutSuccessUrl("/board/list")
+					);
+		
+		// 로그인 유지: session(토큰 Cookie)이 만료되어도 로그인 유지 Cookie로 자동 로그인한다
+		// 로그인 화면에서 remember-me를 선택했을 때만 만들어지고, 로그아웃하면 회원의 모든 토큰을 삭제한다
+		if(this.rememberMeEnabled) {
+			http.rememberMe( rememberMe -> rememberMe.rememberMeServices(this.rememberMeServices()) );
+		}
+		
+		// URL별 접근 권한 검사
+		// JSP 화면(forward), 오류 페이지(error)로 이동하는 내부 요청은 원래 요청에서 이미 검사했으므로 다시 검사하지 않는다
+		http.authorizeHttpRequests( authorize ->
+					authorize.dispatcherTypeMatchers(DispatcherType.FORWARD, DispatcherType.INCLUDE, DispatcherType.ERROR).permitAll()
+							 .anyRequest().access(this.routeAuthorizationManager())
+					)
+			.exceptionHandling( exceptionHandling ->
+					exceptionHandling.authenticationEntryPoint(this.loginPageEntryPoint())
+					)
+			// 로그인 후 이동할 페이지는 nextUrl 파라미터로 전달하므로 로그인 전 요청을 HttpSession에 저장하지 않는다
+			.requestCache( requestCache -> requestCache.requestCache(new NullRequestCache()) );
+		
+		// 서명된 토큰 모드: 인증 정보를 HttpSession 대신 Cookie에 저장한다
+		// Spring Security가 HttpSession을 만들지 않도록 CSRF 토큰도 session을 사용하지 않는다
+		if(this.tokenEnabled) {
+			http.securityContext( securityContext ->
+						securityContext.securityContextRepository(this.signedTokenSecurityContextRepository())
+				)
+				.sessionManagement( sessionManagement ->
+						sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+				)
+				.csrf( csrf -> csrf.csrfTokenRepository(new CookieCsrfTokenRepository()) )
+				.logout( logout -> logout.deleteCookies(this.tokenCookieName) );
+		}
+		
 		return http.build();
 	}
 }
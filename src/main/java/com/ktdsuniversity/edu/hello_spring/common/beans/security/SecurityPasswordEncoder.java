@@ -1,48 +1,58 @@
 package com.ktdsuniversity.edu.hello_spring.common.beans.security;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 
 import com.ktdsuniversity.edu.hello_spring.common.beans.Sha;
 
 /**
  * SpringSecurity 인증 절차에서 사용자가 입력한 비밀번호와 데이터베이스 내에 존재하는 암호화된 비밀번호를 비교하는 역할 수행
- * 
+ *
+ * salt를 멤버변수로 갖지 않는다. (매 호출마다 파라미터로 전달받음)
+ * -> 여러 사용자가 동시에 로그인해도 서로의 salt를 덮어쓰지 않는다
+ *
  * AuthorizationFilter -> AuthorizationManager -> AuthorizationProvider -> 호출
  */
-public class SecurityPasswordEncoder extends Sha implements PasswordEncoder {
-	
-	private String salt;
-	
+public class SecurityPasswordEncoder implements SaltedPasswordEncoder {
+
 	/**
-	 * 데이터베이스의 salt 값을 할당
-	 * -> 암호화에 필요하기 때문
-	 * -> 같은 salt로 암호화 해야 같은 결과가 나온다
-	 * @param salt 인증을 요청한 사용자의 salt
+	 * SHA-256 암호화를 수행할 객체 (상태 없음)
 	 */
-	public void setSalt(String salt) {
-		this.salt = salt;
+	private final Sha sha;
+
+	public SecurityPasswordEncoder(Sha sha) {
+		this.sha = sha;
 	}
 
 	/**
 	 * 사용자가 인증 요청한 비밀번호를 암호화 한다
 	 * -> 데이터베이스의 암호화된 비밀번호와 일치하는지 확인하기 위해서
 	 * @param rawPassword 사용자가 인증 요청한(입력한) 비밀번호
+	 * @param salt 인증을 요청한 사용자의 salt
 	 * @return 암호화된 사용자가 요청한 비밀번호
 	 */
 	@Override
-	public String encode(CharSequence rawPassword) {
-		return super.getEncrypt(String.valueOf(rawPassword), this.salt);
+	public String encode(CharSequence rawPassword, String salt) {
+		return this.sha.getEncrypt(String.valueOf(rawPassword), salt);
 	}
 
 	/**
 	 * 암호화된 사용자의 비밀번호와 데이터베이스의 암호화된 비밀번호와 일치하는지 확인
 	 * @param rawPassword 사용자가 인증 요청한(입력한) 비밀번호. (암호화 되기 전)
+	 * @param salt 인증을 요청한 사용자의 salt
 	 * @param encodedPassword 데이터베이스의 암호화된 비밀번호
 	 * @return 비밀번호가 일치하는가?
 	 */
 	@Override
-	public boolean matches(CharSequence rawPassword, String encodedPassword) {
-		String password = this.encode(rawPassword); // 사용자가 입력한 비밀번호를 암호화
-		return password.equals(encodedPassword);
+	public boolean matches(CharSequence rawPassword, String salt, String encodedPassword) {
+		if(salt == null || encodedPassword == null) {
+			return false;
+		}
+
+		String password = this.encode(rawPassword, salt); // 사용자가 입력한 비밀번호를 암호화
+
+		// 비교 시간으로 비밀번호를 추측할 수 없도록 고정 시간 비교를 사용한다
+		return MessageDigest.isEqual(password.getBytes(StandardCharsets.UTF_8)
+								   , encodedPassword.getBytes(StandardCharsets.UTF_8));
 	}
 }
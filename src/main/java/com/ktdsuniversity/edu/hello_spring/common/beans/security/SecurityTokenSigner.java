@@ -0,0 +1,170 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * 인증 토큰 서명 (HMAC-SHA256)
+ *
+ * 서명 키는 주기(rotationMillis)마다 바뀐다
+ * - 주기마다 번호(epoch)를 붙이고, 그 번호의 키는 마스터 키로 만든다: HMAC(마스터 키, "token-key:" + epoch)
+ * - 키를 저장하거나 노드끼리 주고받을 필요 없이 같은 마스터 키를 가진 모든 서버가 같은 키를 만든다
+ * - 토큰에 서명한 epoch를 함께 담고, 현재 epoch와 바로 이전 epoch의 키로 서명된 토큰만 인정한다
+ *   (키가 바뀌는 순간에 발급된 토큰도 유효시간 동안은 사용할 수 있도록)
+ *
+ * 토큰 형식: epoch.payload.signature (payload, signature는 Base64 URL)
+ */
+public class SecurityTokenSigner {
+
+	private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+	private static final Base64.Encoder BASE64_ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder BASE64_DECODER = Base64.getUrlDecoder();
+
+	/**
+	 * Thread마다 Mac 인스턴스를 재사용한다 (Mac은 Thread-safe 하지 않다)
+	 * 마지막으로 사용한 키를 기억해서 같은 키라면 다시 초기화(init)하지 않는다
+	 */
+	private static final ThreadLocal<MacHolder> MAC = ThreadLocal.withInitial(MacHolder::new);
+
+	private final SecretKeySpec masterKey;
+
+	/**
+	 * 서명 키가 바뀌는 주기 (ms)
+	 */
+	private final long rotationMillis;
+
+	/**
+	 * epoch별 서명 키. 현재, 이전 epoch의 키만 남겨둔다
+	 */
+	private final Map<Long, SecretKeySpec> signingKeys = new ConcurrentHashMap<>();
+
+	private final LongSupplier currentTimeMillis;
+
+	/**
+	 * @param masterSecret 서명 키를 만들 마스터 키 (32byte 이상)
+	 * @param rotationMillis 서명 키가 바뀌는 주기 (ms)
+	 */
+	public SecurityTokenSigner(byte[] masterSecret, long rotationMillis) {
+		this(masterSecret, rotationMillis, System::currentTimeMillis);
+	}
+
+	SecurityTokenSigner(byte[] masterSecret, long rotationMillis, LongSupplier currentTimeMillis) {
+		if(masterSecret.length < 32) {
+			throw new IllegalArgumentException("토큰 서명 마스터 키는 32byte 이상이어야 합니다");
+		}
+		this.masterKey = new SecretKeySpec(masterSecret, HMAC_ALGORITHM);
+		this.rotationMillis = rotationMillis;
+		this.currentTimeMillis = currentTimeMillis;
+	}
+
+	/**
+	 * 현재 epoch의 키로 서명한 토큰을 만든다
+	 * @param payload 토큰에 담을 내용
+	 * @return epoch.payload.signature
+	 */
+	public String sign(String payload) {
+		long epoch = this.currentEpoch();
+		String encodedPayload = BASE64_ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+		String unsignedToken = epoch + "." + encodedPayload;
+		return unsignedToken + "." + BASE64_ENCODER.encodeToString(this.hmac(this.getSigningKey(epoch), unsignedToken));
+	}
+
+	/**
+	 * 서명을 검증하고 토큰에 담긴 내용을 꺼낸다
+	 * @param token epoch.payload.signature
+	 * @return 토큰에 담긴 내용. 형식이 잘못되었거나, 서명이 다르거나, 만료된 키로 서명되었다면 null
+	 */
+	public String verify(String token) {
+		int firstDot = token.indexOf('.');
+		int lastDot = token.lastIndexOf('.');
+		if(firstDot <= 0 || lastDot <= firstDot) {
+			return null;
+		}
+
+		long epoch = 0;
+		try {
+			epoch = Long.parseLong(token, 0, firstDot, 10);
+		} catch (NumberFormatException nfe) {
+			return null;
+		}
+
+		// 현재, 바로 이전 epoch의 키로 서명된 토큰만 인정한다
+		long currentEpoch = this.currentEpoch();
+		if(epoch != currentEpoch && epoch != currentEpoch - 1) {
+			return null;
+		}
+
+		try {
+			byte[] signature = BASE64_DECODER.decode(token.substring(lastDot + 1));
+			byte[] expected = this.hmac(this.getSigningKey(epoch), token.substring(0, lastDot));
+			// 서명 비교에 걸리는 시간으로 서명을 추측할 수 없도록 한다
+			if(!MessageDigest.isEqual(expected, signature)) {
+				return null;
+			}
+			return new String(BASE64_DECODER.decode(token.substring(firstDot + 1, lastDot)), StandardCharsets.UTF_8);
+		} catch (IllegalArgumentException iae) {
+			// Base64 형식이 아닌 토큰
+			return null;
+		}
+	}
+
+	private long currentEpoch() {
+		return this.currentTimeMillis.getAsLong() / this.rotationMillis;
+	}
+
+	private SecretKeySpec getSigningKey(long epoch) {
+		SecretKeySpec signingKey = this.signingKeys.get(epoch);
+		if(signingKey == null) {
+			signingKey = new SecretKeySpec(this.hmac(this.masterKey, "token-key:" + epoch), HMAC_ALGORITHM);
+			this.signingKeys.put(epoch, signingKey);
+			// 사용하지 않는 오래된 키는 삭제한다
+			long currentEpoch = this.currentEpoch();
+			this.signingKeys.keySet().removeIf(keyEpoch -> keyEpoch < currentEpoch - 1);
+		}
+		return signingKey;
+	}
+
+	private byte[] hmac(SecretKeySpec key, String value) {
+		return MAC.get().getMac(key).doFinal(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static class MacHolder {
+
+		private final Mac mac;
+
+		private SecretKeySpec key;
+
+		MacHolder() {
+			try {
+				this.mac = Mac.getInstance(HMAC_ALGORITHM);
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException(e.getMessage(), e);
+			}
+		}
+
+		/**
+		 * key로 초기화된 Mac을 반환한다 (doFinal 이후에는 같은 키로 초기화된 상태로 돌아간다)
+		 */
+		Mac getMac(SecretKeySpec key) {
+			if(this.key != key) {
+				try {
+					this.mac.init(key);
+				} catch (InvalidKeyException e) {
+					throw new IllegalStateException(e.getMessage(), e);
+				}
+				this.key = key;
+			}
+			return this.mac;
+		}
+	}
+}
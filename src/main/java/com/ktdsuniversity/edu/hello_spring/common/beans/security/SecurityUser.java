@@ -7,6 +7,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import com.ktdsuniversity.edu.hello_spring.member.vo.LoginUserVO;
 import com.ktdsuniversity.edu.hello_spring.member.vo.MemberVO;
 
 /**
@@ -40,6 +41,16 @@ public class SecurityUser implements UserDetails {
 	public MemberVO getMemberVO() {
 		return this.memberVO;
 	}
+	
+	/**
+	 * 인증에 성공한 뒤 SecurityContext, HttpSession에 저장할 로그인 회원 정보
+	 * 비밀번호, salt, 로그인 실패 정보는 제외하고 이메일, 이름, 권한만 담는다
+	 */
+	public LoginUserVO toLoginUserVO() {
+		return new LoginUserVO(this.memberVO.getEmail()
+							 , this.memberVO.getName()
+							 , this.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+	}
 
 	@Override
 	public Collection<? extends GrantedAuthority> getAuthorities() {
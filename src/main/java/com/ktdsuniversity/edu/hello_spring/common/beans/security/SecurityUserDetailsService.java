@@ -1,51 +1,123 @@
 package com.ktdsuniversity.edu.hello_spring.common.beans.security;
 
+import java.time.Duration;
+
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.ktdsuniversity.edu.hello_spring.member.dao.MemberDao;
+import com.ktdsuniversity.edu.hello_spring.member.event.MemberChangedEvent;
 import com.ktdsuniversity.edu.hello_spring.member.vo.MemberVO;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
 /**
  * Spring Security에 인증을 요청한 사용자의 정보를 조회하는 역할
- * 
+ *
  * 아이디(이메일: UserDetails.getUserName())로만 데이트베이스에서 사용자의 정보를 조회한다
  * 비밀번호 확인은 다른 클래스의 역할
  * AuthorizationFilter -> AuthorizationManager -> AuthorizationProvider -> 호출
+ *
+ * 같은 회원이 짧은 시간 안에 여러 번 로그인을 시도하면 매번 데이터베이스를 조회하지 않도록
+ * 조회한 회원 정보를 일정 시간 동안 캐시한다
+ * - 캐시할 회원의 수와 유효시간은 제한된다
+ * - 회원 정보가 변경되면(MemberChangedEvent) 캐시를 삭제한다
+ * - 캐시한 MemberVO는 여러 요청이 함께 사용한다 -> 반환할 때마다 복사한다 (호출한 쪽에서 변경해도 캐시는 바뀌지 않는다)
+ * - 캐시 적중률, 삭제 횟수는 /actuator/metrics/cache.* 로 확인할 수 있다 (cache=securityUserDetails)
  */
-public class SecurityUserDetailsService implements UserDetailsService{
+public class SecurityUserDetailsService implements UserDetailsService, MeterBinder {
+
+	private static final String CACHE_NAME = "securityUserDetails";
 
 	/**
 	 * 사용자 정보를 조회할 DAO
 	 */
 	private MemberDao memberDao;
-	
-	public SecurityUserDetailsService(MemberDao memberDao) {
+
+	/**
+	 * 이메일로 조회한 회원 정보 캐시
+	 */
+	private Cache<String, MemberVO> memberCache;
+
+	/**
+	 * @param memberDao 사용자 정보를 조회할 DAO
+	 * @param maximumSize 캐시할 회원의 최대 수
+	 * @param expireAfterWrite 캐시 유효시간
+	 */
+	public SecurityUserDetailsService(MemberDao memberDao, long maximumSize, Duration expireAfterWrite) {
 		this.memberDao = memberDao;
+		this.memberCache = Caffeine.newBuilder()
+								   .maximumSize(maximumSize)
+								   .expireAfterWrite(expireAfterWrite)
+								   .recordStats()
+								   .build();
 	}
-	
+
 	/**
 	 * 데이터베이스에서 사용자의 정보를 조회
-	 * 
+	 * 캐시에 있다면 데이터베이스를 조회하지 않는다
+	 *
 	 * @param username 인증을 요청한 사용자의 아이디(이메일)
 	 * @return UserDetails interface를 구현한 사용자 정보 객체
 	 * @throws UsernameNotFoundException username으로 조회한 결과가 null일 때 Spring Security에게 던질 예외
 	 */
 	@Override
 	public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-		
-		MemberVO memberVO = this.memberDao.selectMemberByEmail(username);
-		
+
+		// 조회 결과가 null이면 캐시하지 않는다 (가입하지 않은 이메일)
+		MemberVO memberVO = this.memberCache.get(username, this.memberDao::selectMemberByEmail);
+
 		if(memberVO == null) {
 			// UserDetailsService에서 예외가 던져지면
 			// AuthenticationProvider에서 예외를 처리한다
 			throw new UsernameNotFoundException("아이디 또는 비밀번호가 일치하지 않습니다");
 		}
-		
+
 		// UserDetails interface 타입의 class로 계정 정보를 전달한다
 		// SecurityUser is a UserDetails
-		return new SecurityUser(memberVO);
+		// 캐시한 객체 대신 복사본을 전달한다
+		return new SecurityUser(copyOf(memberVO));
+	}
+
+	/**
+	 * 캐시한 회원 정보의 복사본을 만든다
+	 */
+	private static MemberVO copyOf(MemberVO memberVO) {
+		MemberVO copyMemberVO = new MemberVO();
+		copyMemberVO.setEmail(memberVO.getEmail());
+		copyMemberVO.setName(memberVO.getName());
+		copyMemberVO.setPassword(memberVO.getPassword());
+		copyMemberVO.setSalt(memberVO.getSalt());
+		copyMemberVO.setLoginFailCount(memberVO.getLoginFailCount());
+		copyMemberVO.setLatestLoginFailDate(memberVO.getLatestLoginFailDate());
+		copyMemberVO.setLatestLoginIp(memberVO.getLatestLoginIp());
+		copyMemberVO.setLatestLoginSuccessDate(memberVO.getLatestLoginSuccessDate());
+		return copyMemberVO;
 	}
 
+	/**
+	 * 회원 정보가 변경되면 캐시를 삭제한다
+	 * 트랜잭션 안에서 발생한 이벤트라면 commit 된 이후에 삭제한다
+	 * (commit 전에 삭제하면 다른 요청이 변경 전의 정보를 다시 캐시할 수 있기 때문)
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void evictMember(MemberChangedEvent memberChangedEvent) {
+		this.memberCache.invalidate(memberChangedEvent.getEmail());
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, this.memberCache, CACHE_NAME);
+		Gauge.builder("cache.hit.ratio", this.memberCache, cache -> cache.stats().hitRate())
+			 .tag("cache", CACHE_NAME)
+			 .description("캐시 적중률")
+			 .register(registry);
+	}
 }
@@ -0,0 +1,243 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.security;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.DeferredSecurityContext;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.security.web.context.HttpRequestResponseHolder;
+import org.springframework.security.web.context.SecurityContextRepository;
+
+import com.ktdsuniversity.edu.hello_spring.member.vo.LoginUserVO;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 인증 정보를 HttpSession 대신 서명된 Cookie에 저장하는 SecurityContextRepository
+ *
+ * HttpSession에 인증 정보를 저장하면
+ * - 로그인한 사용자 수만큼 서버의 메모리를 사용한다
+ * - 서버가 여러 대라면 같은 사용자의 요청을 항상 같은 서버로 보내야 한다 (Sticky Session)
+ *
+ * -> 로그인에 성공하면 인증 정보(이메일, 이름, 권한, 만료시간)를 서명해서 Cookie로 보내고
+ *    이후 요청에서는 Cookie의 서명만 검증해서 인증 정보를 복원한다 (서버에 저장하는 정보가 없다)
+ *
+ * 주의
+ * - 서버에 상태가 없으므로 만료시간 전에 토큰을 강제로 무효화할 수 없다 (로그아웃은 Cookie 삭제)
+ * - 만료시간이 지나면 다시 로그인해야 한다 (요청마다 만료시간을 연장하지 않는다)
+ * - 토큰에는 서명만 하고 암호화는 하지 않는다. 비밀번호 같은 민감한 정보를 담으면 안 된다
+ */
+public class SignedTokenSecurityContextRepository implements SecurityContextRepository {
+
+	/**
+	 * 토큰 안의 값 구분자 (이메일, 이름에 들어갈 수 없는 문자)
+	 */
+	private static final char FIELD_SEPARATOR = '\u001F';
+
+	private final SecurityTokenSigner securityTokenSigner;
+
+	/**
+	 * 토큰을 저장할 Cookie 이름
+	 */
+	private final String cookieName;
+
+	/**
+	 * 토큰 유효시간
+	 */
+	private final Duration maxAge;
+
+	private final LongSupplier currentTimeMillis;
+
+	private SecurityContextHolderStrategy securityContextHolderStrategy = SecurityContextHolder.getContextHolderStrategy();
+
+	/**
+	 * @param securityTokenSigner 토큰 서명
+	 * @param cookieName 토큰을 저장할 Cookie 이름
+	 * @param maxAge 토큰 유효시간
+	 */
+	public SignedTokenSecurityContextRepository(SecurityTokenSigner securityTokenSigner, String cookieName, Duration maxAge) {
+		this(securityTokenSigner, cookieName, maxAge, System::currentTimeMillis);
+	}
+
+	SignedTokenSecurityContextRepository(SecurityTokenSigner securityTokenSigner
+									   , String cookieName
+									   , Duration maxAge
+									   , LongSupplier currentTimeMillis) {
+		this.securityTokenSigner = securityTokenSigner;
+		this.cookieName = cookieName;
+		this.maxAge = maxAge;
+		this.currentTimeMillis = currentTimeMillis;
+	}
+
+	/**
+	 * 요청의 Cookie에서 인증 정보를 복원한다
+	 * 인증 정보가 필요할 때(get) 서명을 검증한다 -> 인증이 필요 없는 요청은 검증하지 않는다
+	 */
+	@Override
+	public DeferredSecurityContext loadDeferredContext(HttpServletRequest request) {
+		return new DeferredSecurityContext() {
+
+			private SecurityContext securityContext;
+
+			private boolean generated;
+
+			@Override
+			public SecurityContext get() {
+				if(this.securityContext == null) {
+					this.securityContext = readSecurityContext(request);
+					if(this.securityContext == null) {
+						this.securityContext = securityContextHolderStrategy.createEmptyContext();
+						this.generated = true;
+					}
+				}
+				return this.securityContext;
+			}
+
+			@Override
+			public boolean isGenerated() {
+				this.get();
+				return this.generated;
+			}
+		};
+	}
+
+	/**
+	 * Spring Security 5 방식의 조회 (SecurityContextHolderFilter는 loadDeferredContext를 사용한다)
+	 */
+	@Deprecated
+	@Override
+	public SecurityContext loadContext(HttpRequestResponseHolder requestResponseHolder) {
+		return this.loadDeferredContext(requestResponseHolder.getRequest()).get();
+	}
+
+	/**
+	 * 로그인에 성공하면 인증 정보를 서명해서 Cookie로 보낸다
+	 * 인증 정보가 없다면(로그아웃) Cookie를 삭제한다
+	 */
+	@Override
+	public void saveContext(SecurityContext context, HttpServletRequest request, HttpServletResponse response) {
+		Authentication authentication = context.getAuthentication();
+		if(authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+			if(this.containsContext(request)) {
+				this.addCookie(request, response, "", Duration.ZERO);
+			}
+			return;
+		}
+
+		String token = this.createToken(authentication);
+		if(token != null) {
+			this.addCookie(request, response, token, this.maxAge);
+		}
+	}
+
+	@Override
+	public boolean containsContext(HttpServletRequest request) {
+		return this.getTokenCookie(request) != null;
+	}
+
+	public void setSecurityContextHolderStrategy(SecurityContextHolderStrategy securityContextHolderStrategy) {
+		this.securityContextHolderStrategy = securityContextHolderStrategy;
+	}
+
+	/**
+	 * 인증 정보로 토큰을 만든다
+	 * 이메일, 이름, 권한, 만료시간(초)만 담는다
+	 */
+	String createToken(Authentication authentication) {
+		if(!(authentication.getPrincipal() instanceof LoginUserVO loginUserVO)) {
+			return null;
+		}
+
+		long expiresAt = (this.currentTimeMillis.getAsLong() + this.maxAge.toMillis()) / 1000;
+		String authorities = authentication.getAuthorities()
+										   .stream()
+										   .map(GrantedAuthority::getAuthority)
+										   .collect(Collectors.joining(","));
+
+		String payload = loginUserVO.getEmail() + FIELD_SEPARATOR
+					   + (loginUserVO.getName() == null ? "" : loginUserVO.getName()) + FIELD_SEPARATOR
+					   + authorities + FIELD_SEPARATOR
+					   + expiresAt;
+		return this.securityTokenSigner.sign(payload);
+	}
+
+	/**
+	 * Cookie의 토큰을 검증하고 인증 정보를 복원한다
+	 * @return 토큰이 없거나, 서명이 다르거나, 만료되었다면 null
+	 */
+	SecurityContext readSecurityContext(HttpServletRequest request) {
+		String token = this.getTokenCookie(request);
+		if(token == null) {
+			return null;
+		}
+
+		String payload = this.securityTokenSigner.verify(token);
+		if(payload == null) {
+			return null;
+		}
+
+		String[] fields = payload.split(String.valueOf(FIELD_SEPARATOR), -1);
+		if(fields.length != 4) {
+			return null;
+		}
+
+		try {
+			long expiresAt = Long.parseLong(fields[3]);
+			if(expiresAt * 1000 < this.currentTimeMillis.getAsLong()) {
+				return null;
+			}
+		} catch (NumberFormatException nfe) {
+			return null;
+		}
+
+		List<String> authorityNames = fields[2].isEmpty() ? List.of() : List.of(fields[2].split(","));
+		LoginUserVO loginUserVO = new LoginUserVO(fields[0], fields[1], authorityNames);
+
+		List<GrantedAuthority> authorities = new ArrayList<>(authorityNames.size());
+		for(String authority : authorityNames) {
+			authorities.add(new SimpleGrantedAuthority(authority));
+		}
+
+		SecurityContext securityContext = this.securityContextHolderStrategy.createEmptyContext();
+		securityContext.setAuthentication(new UsernamePasswordAuthenticationToken(loginUserVO, null, authorities));
+		return securityContext;
+	}
+
+	private String getTokenCookie(HttpServletRequest request) {
+		Cookie[] cookies = request.getCookies();
+		if(cookies == null) {
+			return null;
+		}
+		for(Cookie cookie : cookies) {
+			if(this.cookieName.equals(cookie.getName()) && !cookie.getValue().isEmpty()) {
+				return cookie.getValue();
+			}
+		}
+		return null;
+	}
+
+	private void addCookie(HttpServletRequest request, HttpServletResponse response, String value, Duration maxAge) {
+		ResponseCookie cookie = ResponseCookie.from(this.cookieName, value)
+											  .path("/")
+											  .maxAge(maxAge)
+											  .httpOnly(true) // JavaScript에서 읽을 수 없도록
+											  .secure(request.isSecure())
+											  .sameSite("Lax")
+											  .build();
+		response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+	}
+}
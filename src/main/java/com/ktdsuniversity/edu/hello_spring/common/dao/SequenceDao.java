@@ -0,0 +1,18 @@
+package com.ktdsuniversity.edu.hello_spring.common.dao;
+
+public interface SequenceDao {
+
+	public String NAMESPACE = "com.ktdsuniversity.edu.hello_spring.common.dao.SequenceDao";
+	
+	/**
+	 * @param sequenceName Sequence 이름 (SEQ_BOARD_PK)
+	 * @return Sequence의 다음 값 (NEXTVAL)
+	 */
+	public long selectNextValue(String sequenceName);
+	
+	/**
+	 * @param sequenceName Sequence 이름 (SEQ_BOARD_PK)
+	 * @return Sequence의 증가값 (INCREMENT BY)
+	 */
+	public int selectIncrement(String sequenceName);
+}
@@ -0,0 +1,43 @@
+package com.ktdsuniversity.edu.hello_spring.common.dao.impl;
+
+import java.util.regex.Pattern;
+
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.support.SqlSessionDaoSupport;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import com.ktdsuniversity.edu.hello_spring.common.dao.SequenceDao;
+
+@Repository
+public class SequenceDaoImpl extends SqlSessionDaoSupport implements SequenceDao {
+
+	/**
+	 * Sequence 이름은 SQL에 그대로 들어가므로(${}) 영문 대문자, 숫자, _ 만 허용한다
+	 */
+	private static final Pattern SEQUENCE_NAME_PATTERN = Pattern.compile("[A-Z][A-Z0-9_]{0,127}");
+	
+	@Autowired
+	@Override
+	public void setSqlSessionTemplate(SqlSessionTemplate sqlSessionTemplate) {
+		super.setSqlSessionTemplate(sqlSessionTemplate);
+	}
+	
+	@Override
+	public long selectNextValue(String sequenceName) {
+		return this.getSqlSession().selectOne(NAMESPACE + ".selectNextValue", this.checkSequenceName(sequenceName));
+	}
+	
+	@Override
+	public int selectIncrement(String sequenceName) {
+		Integer increment = this.getSqlSession().selectOne(NAMESPACE + ".selectIncrement", this.checkSequenceName(sequenceName));
+		return increment == null ? 1 : increment;
+	}
+	
+	private String checkSequenceName(String sequenceName) {
+		if(sequenceName == null || !SEQUENCE_NAME_PATTERN.matcher(sequenceName).matches()) {
+			throw new IllegalArgumentException("잘못된 Sequence 이름입니다: " + sequenceName);
+		}
+		return sequenceName;
+	}
+}
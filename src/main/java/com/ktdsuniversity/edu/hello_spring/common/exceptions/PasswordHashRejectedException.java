@@ -0,0 +1,21 @@
+package com.ktdsuniversity.edu.hello_spring.common.exceptions;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * 비밀번호 암호화 요청이 너무 많아 처리하지 못했을 때 던지는 예외
+ *
+ * Spring Security 인증 절차에서 던져지면 LoginFailureHandler가 로그인 실패 화면을 보여준다
+ */
+public class PasswordHashRejectedException extends AuthenticationServiceException {
+
+	private static final long serialVersionUID = 4710266127531957452L;
+
+	public PasswordHashRejectedException(String message) {
+		super(message);
+	}
+
+	public PasswordHashRejectedException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -15,7 +15,6 @@ import com.ktdsuniversity.edu.hello_spring.common.exceptions.AlreadyUseException
 import com.ktdsuniversity.edu.hello_spring.common.exceptions.FileNotExistsException;
 import com.ktdsuniversity.edu.hello_spring.common.exceptions.MakeXlsxFileException;
 import com.ktdsuniversity.edu.hello_spring.common.exceptions.PageNotFoundException;
-import com.ktdsuniversity.edu.hello_spring.common.exceptions.UserIdentifyNotMatchException;
 
 @ControllerAdvice // Spring Application에서 예외를 일괄처리한다
 public class GlobalExceptionHandler {
@@ -41,18 +40,6 @@ public class GlobalExceptionHandler {
 		return "error/404";
 	}
 	
-	@ExceptionHandler(UserIdentifyNotMatchException.class)
-	public String viewLoginErrorPage(Model model, UserIdentifyNotMatchException uinme) {
-		
-		if(logger.isDebugEnabled()) {
-			logger.debug("아이디 또는 비밀번호가 일치하지 않습니다");
-		}
-		
-		model.addAttribute("message", uinme.getMessage());
-		model.addAttribute("loginMemberVO", uinme.getLoginMemberVO());
-		return "member/memberlogin";
-	}
-	
 	@ExceptionHandler({FileNotExistsException.class, MakeXlsxFileException.class})
 	public String viewFileErrorPage(Model model, RuntimeException re) {
 		if(re instanceof FileNotExistsException) {
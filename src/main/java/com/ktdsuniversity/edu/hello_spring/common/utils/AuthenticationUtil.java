@@ -0,0 +1,22 @@
+package com.ktdsuniversity.edu.hello_spring.common.utils;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.ktdsuniversity.edu.hello_spring.member.vo.LoginUserVO;
+
+public final class AuthenticationUtil {
+
+	/**
+	 * 로그인한 회원의 정보를 가져온다
+	 * Spring Security가 요청마다 복원한 인증 정보(SecurityContext)에서 가져온다 (HttpSession 또는 토큰 Cookie)
+	 * @return 로그인하지 않았다면 null
+	 */
+	public static LoginUserVO getLoginUserVO() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if(authentication != null && authentication.getPrincipal() instanceof LoginUserVO loginUserVO) {
+			return loginUserVO;
+		}
+		return null;
+	}
+}
@@ -12,6 +12,22 @@ public class PaginationVO {
 	 */
 	private int listSize;
 	
+	/**
+	 * 이전 페이지에서 마지막으로 본 게시글의 번호 (Keyset Pagination)
+	 * lastSeenCrtDt와 함께 전달하면 앞의 페이지를 건너뛰지 않고 그 게시글 다음부터 listSize개를 조회한다
+	 * -> 페이지 번호가 커져도 조회 시간이 같다
+	 * 
+	 * 페이지 그룹 계산을 위해 pageNo도 함께 전달해야 한다
+	 */
+	private Integer lastSeenId;
+	
+	/**
+	 * 이전 페이지에서 마지막으로 본 게시글의 작성 시간 (YYYYMMDDHH24MISS, Keyset Pagination)
+	 * 게시글 번호는 서버마다 다른 범위에서 발급되므로(BlockIdGenerator) 작성 순서가 아니다
+	 * -> 작성 시간, 게시글 번호 순서로 정렬하고 두 값으로 시작 위치를 찾는다
+	 */
+	private String lastSeenCrtDt;
+	
 	/**
 	 * 생성될 페이지의 총 개수
 	 * 올림처리(게시글의 총 개수 / 한 페이지에 노출시킬 게시글의 개수)
@@ -96,6 +112,30 @@ public class PaginationVO {
 		this.listSize = listSize;
 	}
 
+	public Integer getLastSeenId() {
+		return lastSeenId;
+	}
+
+	public void setLastSeenId(Integer lastSeenId) {
+		this.lastSeenId = lastSeenId;
+	}
+
+	public String getLastSeenCrtDt() {
+		return lastSeenCrtDt;
+	}
+
+	public void setLastSeenCrtDt(String lastSeenCrtDt) {
+		this.lastSeenCrtDt = lastSeenCrtDt;
+	}
+
+	/**
+	 * Keyset Pagination으로 조회하는가?
+	 * @return true: 이전 페이지의 마지막 게시글(번호, 작성 시간)이 모두 전달되었다
+	 */
+	public boolean isKeyset() {
+		return lastSeenId != null && lastSeenCrtDt != null && !lastSeenCrtDt.isEmpty();
+	}
+
 	public int getPageCount() {
 		return pageCount;
 	}
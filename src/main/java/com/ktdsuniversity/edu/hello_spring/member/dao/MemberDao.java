@@ -1,6 +1,8 @@
 package com.ktdsuniversity.edu.hello_spring.member.dao;
 
-import com.ktdsuniversity.edu.hello_spring.member.vo.LoginMemberVO;
+import java.util.List;
+
+import com.ktdsuniversity.edu.hello_spring.member.vo.LoginStateVO;
 import com.ktdsuniversity.edu.hello_spring.member.vo.MemberRegistVO;
 import com.ktdsuniversity.edu.hello_spring.member.vo.MemberVO;
 
@@ -12,15 +14,14 @@ public interface MemberDao {
 	
 	public int insertNewMember(MemberRegistVO memberRegistVO);
 	
-	public String selectSalt(String email);
-	
-	public MemberVO selectOneMember(LoginMemberVO loginMemberVO);
-	
-	public int updateLoginFailState(LoginMemberVO loginMemberVO);
-	
-	public int selectLoginImpossibleCount(String email);
-	
-	public int updateLoginSuccessState(LoginMemberVO loginMemberVO);
+	/**
+	 * 여러 회원의 로그인 상태(실패 횟수, 마지막 실패/성공 시간, IP)를 한 번에 반영한다 (JDBC Batch)
+	 * 트랜잭션 안에서 호출하면 회원별 UPDATE가 한 번에 commit 된다
+	 * (로그인의 접근 기록 INSERT는 AccessLogWriter가 따로 commit 한다)
+	 * @param loginStateList 회원별로 합쳐진 로그인 상태
+	 * @return DB에 UPDATE 한 회원의 개수
+	 */
+	public int updateLoginStateBatch(List<LoginStateVO> loginStateList);
 	
 	/**
 	 * 회원 DELETE 쿼리를 실행한다
@@ -29,5 +30,20 @@ public interface MemberDao {
 	 */
 	public int deleteMe(String email);
 
+	/**
+	 * 로그인에 필요한 회원 정보를 한 번에 조회한다
+	 * salt, 암호화된 비밀번호, 로그인 실패 횟수, 마지막 실패/성공 시간, IP를 하나의 행으로 조회한다
+	 * (차단 여부는 조회한 값으로 LoginFailureTracker가 판단한다. 추가 조회 없음)
+	 * @param username 로그인을 요청한 이메일
+	 * @return 가입하지 않은 이메일이라면 null
+	 */
 	public MemberVO selectMemberByEmail(String username);
+	
+	/**
+	 * 회원의 비밀번호와 salt를 변경한다
+	 * 이전 방식으로 암호화된 비밀번호를 새로운 방식으로 다시 암호화할 때 사용
+	 * @param memberVO 이메일, 암호화된 비밀번호, salt
+	 * @return DB에 UPDATE 한 회원의 개수
+	 */
+	public int updatePassword(MemberVO memberVO);
 }
@@ -0,0 +1,39 @@
+package com.ktdsuniversity.edu.hello_spring.member.dao;
+
+import java.util.List;
+
+import com.ktdsuniversity.edu.hello_spring.member.vo.RememberMeTokenVO;
+
+public interface RememberMeTokenDao {
+
+	public String NAMESPACE = "com.ktdsuniversity.edu.hello_spring.member.dao.RememberMeTokenDao";
+	
+	public int insertNewToken(RememberMeTokenVO rememberMeTokenVO);
+	
+	/**
+	 * @param series 토큰의 고유 번호 (Cookie에 저장된 값)
+	 * @return 없다면 null
+	 */
+	public RememberMeTokenVO selectTokenBySeries(String series);
+	
+	/**
+	 * 토큰의 값을 변경한다 (자동 로그인할 때마다 바뀐다)
+	 * @param rememberMeTokenVO series, token
+	 * @return DB에 UPDATE 한 토큰의 개수 (그 사이 삭제되었다면 0)
+	 */
+	public int updateToken(RememberMeTokenVO rememberMeTokenVO);
+	
+	/**
+	 * 여러 토큰의 마지막 사용 시간을 한 번에 반영한다 (JDBC Batch)
+	 * @param rememberMeTokenList 토큰별로 마지막 값만 남긴 목록 (series, lastUsed)
+	 * @return DB에 UPDATE 한 토큰의 개수
+	 */
+	public int updateLastUsedBatch(List<RememberMeTokenVO> rememberMeTokenList);
+	
+	/**
+	 * 회원의 모든 토큰을 삭제한다 (로그아웃, 토큰 도난 감지)
+	 * @param email 회원의 이메일
+	 * @return DB에서 DELETE 한 토큰의 개수
+	 */
+	public int deleteTokensByEmail(String email);
+}
@@ -1,12 +1,19 @@
 package com.ktdsuniversity.edu.hello_spring.member.dao.impl;
 
+import java.util.List;
+
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.SqlSessionUtils;
 import org.mybatis.spring.support.SqlSessionDaoSupport;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import com.ktdsuniversity.edu.hello_spring.member.dao.MemberDao;
-import com.ktdsuniversity.edu.hello_spring.member.vo.LoginMemberVO;
+import com.ktdsuniversity.edu.hello_spring.member.vo.LoginStateVO;
 import com.ktdsuniversity.edu.hello_spring.member.vo.MemberRegistVO;
 import com.ktdsuniversity.edu.hello_spring.member.vo.MemberVO;
 
@@ -29,29 +36,42 @@ public class MemberDaoImpl extends SqlSessionDaoSupport implements MemberDao{
 		return getSqlSession().insert(NAMESPACE + ".insertNewMember", memberRegistVO);
 	}
 	
+	/**
+	 * BATCH Executor의 SqlSession으로 UPDATE를 모아 한 번에 전송한다
+	 * (SqlSessionTemplate은 SIMPLE Executor라서 UPDATE 마다 데이터베이스를 왕복한다)
+	 * 
+	 * 트랜잭션 안이라면 트랜잭션에 묶인 BATCH SqlSession을 함께 사용하고 트랜잭션이 끝날 때 commit 된다
+	 * 트랜잭션 밖이라면 SqlSession을 따로 열어서 바로 commit 한다
+	 */
 	@Override
-	public String selectSalt(String email) {
-		return getSqlSession().selectOne(NAMESPACE + ".selectSalt", email);
-	}
-	
-	@Override
-	public MemberVO selectOneMember(LoginMemberVO loginMemberVO) {
-		return getSqlSession().selectOne(NAMESPACE + ".selectOneMember", loginMemberVO);
-	}
-	
-	@Override
-	public int updateLoginFailState(LoginMemberVO loginMemberVO) {
-		return this.getSqlSession().update(NAMESPACE + ".updateLoginFailState", loginMemberVO);
-	}
-	
-	@Override
-	public int selectLoginImpossibleCount(String email) {
-		return this.getSqlSession().selectOne(NAMESPACE + ".selectLoginImpossibleCount", email);
-	}
-	
-	@Override
-	public int updateLoginSuccessState(LoginMemberVO loginMemberVO) {
-		return this.getSqlSession().update(NAMESPACE + ".updateLoginSuccessState", loginMemberVO);
+	public int updateLoginStateBatch(List<LoginStateVO> loginStateList) {
+		if(loginStateList.isEmpty()) {
+			return 0;
+		}
+		
+		SqlSessionFactory sqlSessionFactory = this.getSqlSessionTemplate().getSqlSessionFactory();
+		SqlSession batchSession = SqlSessionUtils.getSqlSession(sqlSessionFactory
+															   , ExecutorType.BATCH
+															   , this.getSqlSessionTemplate().getPersistenceExceptionTranslator());
+		try {
+			for(LoginStateVO loginStateVO : loginStateList) {
+				batchSession.update(NAMESPACE + ".updateLoginStateBatch", loginStateVO);
+			}
+			
+			int updateCount = 0;
+			for(BatchResult batchResult : batchSession.flushStatements()) {
+				for(int count : batchResult.getUpdateCounts()) {
+					// Oracle JDBC는 Batch의 건별 결과 대신 SUCCESS_NO_INFO(-2)를 돌려줄 수 있다
+					updateCount += count > 0 ? count : 1;
+				}
+			}
+			if(!SqlSessionUtils.isSqlSessionTransactional(batchSession, sqlSessionFactory)) {
+				batchSession.commit();
+			}
+			return updateCount;
+		} finally {
+			SqlSessionUtils.closeSqlSession(batchSession, sqlSessionFactory);
+		}
 	}
 	
 	@Override
@@ -63,4 +83,9 @@ public class MemberDaoImpl extends SqlSessionDaoSupport implements MemberDao{
 	public MemberVO selectMemberByEmail(String username) {
 		return this.getSqlSession().selectOne(NAMESPACE + ".selectMemberByEmail", username);
 	}
+	
+	@Override
+	public int updatePassword(MemberVO memberVO) {
+		return this.getSqlSession().update(NAMESPACE + ".updatePassword", memberVO);
+	}
 }
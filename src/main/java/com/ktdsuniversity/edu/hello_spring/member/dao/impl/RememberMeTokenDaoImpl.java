@@ -0,0 +1,80 @@
+package com.ktdsuniversity.edu.hello_spring.member.dao.impl;
+
+import java.util.List;
+
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.SqlSessionUtils;
+import org.mybatis.spring.support.SqlSessionDaoSupport;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import com.ktdsuniversity.edu.hello_spring.member.dao.RememberMeTokenDao;
+import com.ktdsuniversity.edu.hello_spring.member.vo.RememberMeTokenVO;
+
+@Repository
+public class RememberMeTokenDaoImpl extends SqlSessionDaoSupport implements RememberMeTokenDao {
+
+	@Autowired
+	@Override
+	public void setSqlSessionTemplate(SqlSessionTemplate sqlSessionTemplate) {
+		super.setSqlSessionTemplate(sqlSessionTemplate);
+	}
+	
+	@Override
+	public int insertNewToken(RememberMeTokenVO rememberMeTokenVO) {
+		return this.getSqlSession().insert(NAMESPACE + ".insertNewToken", rememberMeTokenVO);
+	}
+	
+	@Override
+	public RememberMeTokenVO selectTokenBySeries(String series) {
+		return this.getSqlSession().selectOne(NAMESPACE + ".selectTokenBySeries", series);
+	}
+	
+	@Override
+	public int updateToken(RememberMeTokenVO rememberMeTokenVO) {
+		return this.getSqlSession().update(NAMESPACE + ".updateToken", rememberMeTokenVO);
+	}
+	
+	/**
+	 * BATCH Executor의 SqlSession으로 UPDATE를 모아 한 번에 전송한다
+	 */
+	@Override
+	public int updateLastUsedBatch(List<RememberMeTokenVO> rememberMeTokenList) {
+		if(rememberMeTokenList.isEmpty()) {
+			return 0;
+		}
+		
+		SqlSessionFactory sqlSessionFactory = this.getSqlSessionTemplate().getSqlSessionFactory();
+		SqlSession batchSession = SqlSessionUtils.getSqlSession(sqlSessionFactory
+															   , ExecutorType.BATCH
+															   , this.getSqlSessionTemplate().getPersistenceExceptionTranslator());
+		try {
+			for(RememberMeTokenVO rememberMeTokenVO : rememberMeTokenList) {
+				batchSession.update(NAMESPACE + ".updateLastUsed", rememberMeTokenVO);
+			}
+			
+			int updateCount = 0;
+			for(BatchResult batchResult : batchSession.flushStatements()) {
+				for(int count : batchResult.getUpdateCounts()) {
+					// Oracle JDBC는 Batch의 건별 결과 대신 SUCCESS_NO_INFO(-2)를 돌려줄 수 있다
+					updateCount += count > 0 ? count : 1;
+				}
+			}
+			if(!SqlSessionUtils.isSqlSessionTransactional(batchSession, sqlSessionFactory)) {
+				batchSession.commit();
+			}
+			return updateCount;
+		} finally {
+			SqlSessionUtils.closeSqlSession(batchSession, sqlSessionFactory);
+		}
+	}
+	
+	@Override
+	public int deleteTokensByEmail(String email) {
+		return this.getSqlSession().delete(NAMESPACE + ".deleteTokensByEmail", email);
+	}
+}
@@ -0,0 +1,25 @@
+package com.ktdsuniversity.edu.hello_spring.member.event;
+
+/**
+ * 회원 정보가 변경되었음을 알리는 이벤트
+ * - 회원 탈퇴
+ * - 로그인 성공/실패 상태 변경
+ * - 비밀번호 변경
+ *
+ * 회원 정보를 캐시하고 있는 곳(SecurityUserDetailsService)에서 받아서 캐시를 삭제한다
+ */
+public class MemberChangedEvent {
+
+	/**
+	 * 변경된 회원의 이메일
+	 */
+	private final String email;
+
+	public MemberChangedEvent(String email) {
+		this.email = email;
+	}
+
+	public String getEmail() {
+		return email;
+	}
+}
@@ -1,34 +1,49 @@
 package com.ktdsuniversity.edu.hello_spring.member.service.impl;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.ktdsuniversity.edu.hello_spring.access.dao.AccessLogDao;
-import com.ktdsuniversity.edu.hello_spring.access.vo.AccessLogVO;
 import com.ktdsuniversity.edu.hello_spring.common.beans.Sha;
+import com.ktdsuniversity.edu.hello_spring.common.beans.security.PasswordHashExecutor;
+import com.ktdsuniversity.edu.hello_spring.common.beans.security.SaltedPasswordEncoder;
 import com.ktdsuniversity.edu.hello_spring.common.exceptions.AlreadyUseException;
-import com.ktdsuniversity.edu.hello_spring.common.exceptions.UserIdentifyNotMatchException;
-import com.ktdsuniversity.edu.hello_spring.common.utils.RequestUtil;
+import com.ktdsuniversity.edu.hello_spring.common.exceptions.PasswordHashRejectedException;
 import com.ktdsuniversity.edu.hello_spring.member.dao.MemberDao;
+import com.ktdsuniversity.edu.hello_spring.member.event.MemberChangedEvent;
 import com.ktdsuniversity.edu.hello_spring.member.service.MemberService;
-import com.ktdsuniversity.edu.hello_spring.member.vo.LoginMemberVO;
 import com.ktdsuniversity.edu.hello_spring.member.vo.MemberRegistVO;
-import com.ktdsuniversity.edu.hello_spring.member.vo.MemberVO;
 
 @Service
 public class MemberServiceImpl implements MemberService{
 	
-	@Autowired
-	private AccessLogDao accessLogDao;
-	
 	@Autowired
 	private MemberDao memberDao;
 
 	@Autowired
 	private Sha sha;
 	
-	@Transactional
+	@Autowired
+	private SaltedPasswordEncoder passwordEncoder;
+	
+	@Autowired
+	private PasswordHashExecutor passwordHashExecutor;
+	
+	/**
+	 * 회원 정보 변경 이벤트 발행 (회원 정보 캐시 삭제)
+	 */
+	@Autowired
+	private ApplicationEventPublisher applicationEventPublisher;
+	
+	/**
+	 * 트랜잭션을 시작하지 않는다
+	 * 비밀번호 암호화는 대기열에서 기다리는 시간을 포함해서 수백 ms가 걸릴 수 있다
+	 * -> 트랜잭션 안에서 암호화하면 그동안 데이터베이스 연결을 사용하지 않으면서 붙잡고 있다
+	 * -> 암호화한 뒤 INSERT 한 번만 실행한다 (이메일 중복 확인은 INSERT와 같은 트랜잭션이어도 동시 가입을 막지 못한다)
+	 * 
+	 * @throws PasswordHashRejectedException 암호화 요청이 너무 많을 때 (MemberController가 다시 시도하라는 화면을 보여준다)
+	 */
 	@Override
 	public boolean insertNewMember(MemberRegistVO memberRegistVO) {
 		int emailCount = memberDao.selectEmailCount(memberRegistVO.getEmail());
@@ -39,9 +54,9 @@ public class MemberServiceImpl implements MemberService{
 		// 1. Salt 발급
 		String salt = sha.generateSalt();
 		
-		// 2. 사용자의 비밀번호 암호화
-		String password = memberRegistVO.getPassword();
-		password = sha.getEncrypt(password, salt);
+		// 2. 사용자의 비밀번호 암호화 (PBKDF2, 전용 Thread Pool에서 수행)
+		String rawPassword = memberRegistVO.getPassword();
+		String password = this.passwordHashExecutor.execute(() -> this.passwordEncoder.encode(rawPassword, salt));
 		
 		memberRegistVO.setPassword(password);
 		memberRegistVO.setSalt(salt);
@@ -55,85 +70,15 @@ public class MemberServiceImpl implements MemberService{
 		return this.memberDao.selectEmailCount(email) == 0;
 	}
 	
-	// 이거는 @Transactional 걸면 안 된다. 로그인을 시도했을 때, 성공했냐 실패했냐 기록을 db에 쌓고 있음
-	// salt가 null 일 때 history를 남기려고 insert하고 있음
-	// @Transactional 걸면 rollback 되버려서 기록을 db에 쌓을 수 없음.
-	// 따라서 의도적으로 절대로 @Transactional 걸면 안 된다
-	// 로그인 쪽에서는 @Transactional 걸면 안 된다.
-	@Override
-	public MemberVO readMember(LoginMemberVO loginMemberVO) {
-		
-		boolean isIpBlock = this.accessLogDao.selectLoginFailCount(RequestUtil.getIp()) >= 5;
-		if(isIpBlock) {
-			throw new UserIdentifyNotMatchException(loginMemberVO, "이메일 또는 비밀번호가 올바르지 않습니다");
-		}
-		
-		// 1. Salt 조회
-		String salt = this.memberDao.selectSalt(loginMemberVO.getEmail());
-		if(salt == null) {
-			
-			AccessLogVO accessLogVO = new AccessLogVO();
-			accessLogVO.setAccessType("LOGIN");
-			accessLogVO.setAccessUrl(RequestUtil.getRequest().getRequestURI());
-			accessLogVO.setAccessMethod(RequestUtil.getRequest().getMethod().toUpperCase());
-			accessLogVO.setAccessIp(RequestUtil.getIp());
-			
-			this.accessLogDao.insertNewAccessLog(accessLogVO);
-			
-			throw new UserIdentifyNotMatchException(loginMemberVO, "이메일 또는 비밀번호가 올바르지 않습니다");
-		}
-		
-		// 2. 사용자가 입력한 비밀번호를 salt를 이용해 암호화
-		String password = loginMemberVO.getPassword();
-		password = this.sha.getEncrypt(password, salt);
-		loginMemberVO.setPassword(password);
-		
-		// 3. 이메일과 암호화된 비밀번호로 데이터베이스에서 회원 정보 조회
-		MemberVO memberVO = this.memberDao.selectOneMember(loginMemberVO);
-		if(memberVO == null) { // 이메일이 있지만 비밀번호가 일치하지 않음
-			
-			// LOGIN_FAIL_COUNT 하나 증가시킨다.
-			// LATEST_LOGIN_FAIL_DATE 현재 날짜로 갱신한다.
-			// LATEST_LOGIN_IP 요청자의 IP로 갱신한다.
-			loginMemberVO.setIp(RequestUtil.getIp());
-			this.memberDao.updateLoginFailState(loginMemberVO);
-			throw new UserIdentifyNotMatchException(loginMemberVO, "이메일 또는 비밀번호가 올바르지 않습니다");
-		}
-		
-		// LOGIN_FAIL_COUNT가 5 이상 && 마지막 로그인 실패시간이 1시간이 지나지 않았다면,
-		// 정상적인 로그인 시도라고 하더라도 로그인은 실패시켜야 한다
-		boolean isBlockState = this.memberDao.selectLoginImpossibleCount(loginMemberVO.getEmail()) > 0;
-		if(isBlockState) {
-			throw new UserIdentifyNotMatchException(loginMemberVO, "이메일 또는 비밀번호가 올바르지 않습니다");
-		}
-		
-		// LOGIN_FAIL_COUNT가 5 이상 && 마지막 로그인 실패시간이 1시간이 지났다면,
-		// 혹은 LOGIN_FAIL_COUNT가 5 미만일 경우
-		// 정상적인 로그인 시도일 경우 로그인을 성공시킨다.
-		// 이 때, LOGIN_FAIL_COUNT는 0으로 초기화시키고 LATEST_LOGIN_FAIL_DATE는 NULL로 초기화.
-		// LATEST_LOGIN_IP 요청자의 IP로 갱신. LATEST_LOGIN_SUCCESS_DATE는 현재 날짜로 갱신.
-		
-		loginMemberVO.setIp(RequestUtil.getIp());
-		this.memberDao.updateLoginSuccessState(loginMemberVO);
-		
-		AccessLogVO accessLogVO = new AccessLogVO();
-		accessLogVO.setAccessType("LOGIN");
-		accessLogVO.setAccessEmail(loginMemberVO.getEmail());
-		accessLogVO.setAccessUrl(RequestUtil.getRequest().getRequestURI());
-		accessLogVO.setAccessMethod(RequestUtil.getRequest().getMethod().toUpperCase());
-		accessLogVO.setAccessIp(RequestUtil.getIp());
-		accessLogVO.setLoginSuccessYn("Y");
-		this.accessLogDao.insertNewAccessLog(accessLogVO);
-		
-		return memberVO;
-	}
-	
 	// 탈퇴를 할 때 회원이 작성한 게시글과 댓글을 다 지워주겠다는 코드가 있다면
 	// rollback이 없으면 회원만 탈퇴하는 경우가 생김
 	@Transactional
 	@Override
 	public boolean deleteMe(String email) {
 		int deleteCount = memberDao.deleteMe(email);
+		
+		// 캐시된 회원 정보 삭제 (commit 이후)
+		this.applicationEventPublisher.publishEvent(new MemberChangedEvent(email));
 		return deleteCount > 0;
 	}
 }
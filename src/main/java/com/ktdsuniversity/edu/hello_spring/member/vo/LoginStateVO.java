@@ -0,0 +1,81 @@
+package com.ktdsuniversity.edu.hello_spring.member.vo;
+
+/**
+ * 데이터베이스에 한 번에 반영할 회원별 로그인 상태
+ * LoginStateWriter가 이메일별로 로그인 성공/실패를 합쳐서 모아둔다
+ */
+public class LoginStateVO {
+
+	private String email;
+
+	/**
+	 * 마지막 반영 이후 로그인에 성공했는가?
+	 * true라면 LOGIN_FAIL_COUNT를 0으로 초기화한 뒤 loginFailCount를 더한다
+	 */
+	private boolean loginFailCountReset;
+
+	/**
+	 * 마지막 반영 이후 (로그인 성공 이후) 증가한 실패 횟수
+	 */
+	private int loginFailCount;
+
+	/**
+	 * 마지막으로 실패한 시간 (yyyy-MM-dd HH:mm:ss)
+	 */
+	private String latestLoginFailDate;
+
+	/**
+	 * 마지막으로 성공한 시간 (yyyy-MM-dd HH:mm:ss)
+	 */
+	private String latestLoginSuccessDate;
+
+	private String latestLoginIp;
+
+	public String getEmail() {
+		return email;
+	}
+
+	public void setEmail(String email) {
+		this.email = email;
+	}
+
+	public boolean isLoginFailCountReset() {
+		return loginFailCountReset;
+	}
+
+	public void setLoginFailCountReset(boolean loginFailCountReset) {
+		this.loginFailCountReset = loginFailCountReset;
+	}
+
+	public int getLoginFailCount() {
+		return loginFailCount;
+	}
+
+	public void setLoginFailCount(int loginFailCount) {
+		this.loginFailCount = loginFailCount;
+	}
+
+	public String getLatestLoginFailDate() {
+		return latestLoginFailDate;
+	}
+
+	public void setLatestLoginFailDate(String latestLoginFailDate) {
+		this.latestLoginFailDate = latestLoginFailDate;
+	}
+
+	public String getLatestLoginSuccessDate() {
+		return latestLoginSuccessDate;
+	}
+
+	public void setLatestLoginSuccessDate(String latestLoginSuccessDate) {
+		this.latestLoginSuccessDate = latestLoginSuccessDate;
+	}
+
+	public String getLatestLoginIp() {
+		return latestLoginIp;
+	}
+
+	public void setLatestLoginIp(String latestLoginIp) {
+		this.latestLoginIp = latestLoginIp;
+	}
+}
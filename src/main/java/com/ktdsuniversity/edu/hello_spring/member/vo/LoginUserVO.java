@@ -0,0 +1,73 @@
+package com.ktdsuniversity.edu.hello_spring.member.vo;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 로그인한 회원의 정보 (Spring Security 인증 토큰의 principal. HttpSession 또는 토큰 Cookie에 저장된다)
+ *
+ * 이전에는 데이터베이스에서 조회한 MemberVO를 그대로 저장했다
+ * -> 비밀번호, salt, 로그인 실패 정보까지 로그인한 사용자 수만큼 메모리에 남고
+ *    MemberVO는 Serializable이 아니라서 session을 파일/다른 서버에 저장(복제)할 수 없었다
+ *
+ * -> 화면과 권한 확인에 필요한 이메일, 이름, 권한만 담는다
+ * - 로그인 이후에 바뀌지 않도록 불변(final)으로 만든다 (여러 요청이 동시에 읽어도 안전하다)
+ * - 비밀번호, salt 같은 민감한 정보는 담지 않는다
+ */
+public final class LoginUserVO implements Serializable {
+
+	private static final long serialVersionUID = -3141571285633602813L;
+
+	private final String email;
+
+	private final String name;
+
+	/**
+	 * 부여된 권한 (CREATE, READ, UPDATE, DELETE ...)
+	 */
+	private final List<String> authorities;
+
+	/**
+	 * @param email 로그인한 회원의 이메일
+	 * @param name 로그인한 회원의 이름
+	 * @param authorities 부여된 권한
+	 */
+	public LoginUserVO(String email, String name, Collection<String> authorities) {
+		this.email = Objects.requireNonNull(email);
+		this.name = name;
+		this.authorities = List.copyOf(authorities);
+	}
+
+	public String getEmail() {
+		return email;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public List<String> getAuthorities() {
+		return authorities;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof LoginUserVO loginUserVO && this.email.equals(loginUserVO.email);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.email.hashCode();
+	}
+
+	/**
+	 * Spring Security의 Authentication.getName()은 principal의 toString()을 사용한다
+	 * -> 로그인한 회원의 이메일을 반환한다
+	 */
+	@Override
+	public String toString() {
+		return this.email;
+	}
+}
@@ -0,0 +1,57 @@
+package com.ktdsuniversity.edu.hello_spring.member.vo;
+
+/**
+ * 로그인 유지(Remember-Me) 토큰 (REMEMBER_ME_TOKENS)
+ */
+public class RememberMeTokenVO {
+
+	/**
+	 * 브라우저마다 만들어지는 토큰의 고유 번호. 로그인 유지를 선택한 로그인마다 하나씩 만들어진다
+	 */
+	private String series;
+
+	private String email;
+
+	/**
+	 * 자동 로그인할 때마다 바뀌는 값
+	 * 이전 값으로 자동 로그인을 시도하면 토큰을 도난당한 것으로 보고 회원의 모든 토큰을 삭제한다
+	 */
+	private String token;
+
+	/**
+	 * 마지막으로 자동 로그인한 시간 (yyyy-MM-dd HH:mm:ss)
+	 */
+	private String lastUsed;
+
+	public String getSeries() {
+		return series;
+	}
+
+	public void setSeries(String series) {
+		this.series = series;
+	}
+
+	public String getEmail() {
+		return email;
+	}
+
+	public void setEmail(String email) {
+		this.email = email;
+	}
+
+	public String getToken() {
+		return token;
+	}
+
+	public void setToken(String token) {
+		this.token = token;
+	}
+
+	public String getLastUsed() {
+		return lastUsed;
+	}
+
+	public void setLastUsed(String lastUsed) {
+		this.lastUsed = lastUsed;
+	}
+}
@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -12,14 +13,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
-import org.springframework.web.bind.annotation.SessionAttribute;
 
+import com.ktdsuniversity.edu.hello_spring.common.exceptions.PasswordHashRejectedException;
 import com.ktdsuniversity.edu.hello_spring.member.service.MemberService;
-import com.ktdsuniversity.edu.hello_spring.member.vo.LoginMemberVO;
 import com.ktdsuniversity.edu.hello_spring.member.vo.MemberRegistVO;
-import com.ktdsuniversity.edu.hello_spring.member.vo.MemberVO;
+import com.ktdsuniversity.edu.hello_spring.member.vo.LoginUserVO;
 
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 @Controller
@@ -40,7 +41,15 @@ public class MemberController {
 			return "member/memberregist";
 		}
 		
-		boolean isSuccess = memberService.insertNewMember(memberRegistVO);
+		boolean isSuccess = false;
+		try {
+			isSuccess = memberService.insertNewMember(memberRegistVO);
+		} catch (PasswordHashRejectedException phre) {
+			// 비밀번호 암호화 요청이 너무 많다 -> 입력한 내용을 유지하고 다시 시도하도록 안내한다 (로그인과 같다. LoginFailureHandler)
+			model.addAttribute("message", "가입 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+			model.addAttribute("memberRegistVO", memberRegistVO);
+			return "member/memberregist";
+		}
 		
 		if(isSuccess) {
 			return "redirect:/member/login";
@@ -67,40 +76,22 @@ public class MemberController {
 		return "member/memberlogin";
 	}
 	
-	@PostMapping("/member/login")
-	public String doLogin(@Valid LoginMemberVO loginMemberVO
-						, BindingResult bindingResult
-						, HttpSession session
-						, Model model) {
-		
-		if(bindingResult.hasErrors()) {
-			model.addAttribute("loginMemberVO", loginMemberVO);
-			return "member/memberlogin";
-		}
-		
-		MemberVO memberVO = this.memberService.readMember(loginMemberVO);
-		// 로그인 상태를 서버에 저장시킨다
-		session.setAttribute("_LOGIN_USER", memberVO);
-		
-		return "redirect:" + loginMemberVO.getNextUrl();
-	}
-	
-	@GetMapping("/member/logout")
-	public String doLogOut(HttpSession session) {
-		session.invalidate();
-		return "redirect:/board/list";
-	}
+	/*
+	 * 로그인(POST /member/security/login), 로그아웃(GET /member/logout)은 Spring Security가 처리한다 (SecurityConfig.filterChain)
+	 * 이전의 POST /member/login은 같은 인증을 다른 방식으로 한 번 더 구현하고 있어서 삭제했다
+	 */
 	
 	@GetMapping("/member/delete-me")
-	public String doDeleteMe(@SessionAttribute("_LOGIN_USER") MemberVO memberVO, HttpSession session) {
+	public String doDeleteMe(@AuthenticationPrincipal LoginUserVO loginUserVO, HttpServletRequest request) throws ServletException {
 		
-		boolean isSuccess = memberService.deleteMe(memberVO.getEmail());
+		boolean isSuccess = memberService.deleteMe(loginUserVO.getEmail());
 		
 		if(!isSuccess) {
 			return "redirect:/member/fail-delete-me";
 		}
 		
-		session.invalidate();
+		// Spring Security의 로그아웃 처리를 실행한다 (HttpSession 삭제 또는 토큰 Cookie 삭제)
+		request.logout();
 		return "redirect:/member/success-delete-me";
 	}
 	
@@ -0,0 +1,10 @@
+-- BOARD, REPLIES의 ID는 애플리케이션(BlockIdGenerator)이 Sequence 한 번으로 여러 개를 받아서 사용한다
+-- NEXTVAL로 받은 값부터 INCREMENT BY 만큼이 한 서버가 사용할 범위가 된다
+-- (변경하지 않아도 동작하지만 ID 하나마다 Sequence를 조회한다)
+-- 변경 이후의 NEXTVAL은 지금까지 사용한 값보다 크므로 기존 데이터와 겹치지 않는다
+ALTER SEQUENCE SEQ_BOARD_PK INCREMENT BY 50;
+ALTER SEQUENCE SEQ_REPLIES_PK INCREMENT BY 50;
+
+-- ACCESS_LOG_ID는 애플리케이션(TimeOrderedIdGenerator)이 만든다: 'AL-' || 36진수 13자리 (시간 순서)
+-- SEQ_ACCESS_LOG_PK는 더 이상 사용하지 않는다
+-- DROP SEQUENCE SEQ_ACCESS_LOG_PK;
@@ -0,0 +1,3 @@
+-- PBKDF2 형식의 비밀번호({pbkdf2}반복횟수$해시 64자리)를 저장할 수 있도록 PASSWORD 컬럼의 길이를 늘린다
+-- 이전 방식(SHA-256 16진수 64자리)의 비밀번호는 로그인에 성공할 때 새로운 형식으로 바뀐다
+ALTER TABLE MEMBERS MODIFY (PASSWORD VARCHAR2(200));
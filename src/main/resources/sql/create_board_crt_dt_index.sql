@@ -0,0 +1,4 @@
+-- 게시글 목록은 작성 시간(CRT_DT), 게시글 번호(ID) 순서로 정렬한다 (BoardDaoMapper.xml selectAllBoardOrder)
+-- BOARD.ID는 서버마다 다른 범위에서 발급되므로(BlockIdGenerator) 작성 순서가 아니다
+-- Index를 거꾸로 읽으면서 listSize개를 읽으면 멈춘다 (Keyset Pagination, COUNT STOPKEY)
+CREATE INDEX IDX_BOARD_CRT_DT_ID ON BOARD (CRT_DT, ID);
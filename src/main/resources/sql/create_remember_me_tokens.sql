@@ -0,0 +1,15 @@
+-- 로그인 유지(Remember-Me) 토큰을 저장하는 테이블
+-- 로그인할 때 "로그인 유지"를 선택하면 브라우저마다 하나의 행(SERIES)이 만들어진다
+-- 자동 로그인할 때마다 TOKEN이 바뀌고 LAST_USED가 갱신된다 (모아서 반영한다. CachedPersistentTokenRepository)
+CREATE TABLE REMEMBER_ME_TOKENS (
+	SERIES VARCHAR2(64) NOT NULL
+  , EMAIL VARCHAR2(100) NOT NULL
+  , TOKEN VARCHAR2(64) NOT NULL
+  , LAST_USED DATE DEFAULT SYSDATE NOT NULL
+  , CONSTRAINT PK_REMEMBER_ME_TOKENS PRIMARY KEY (SERIES)
+  -- 회원이 탈퇴하면 토큰도 함께 삭제한다
+  , CONSTRAINT FK_REMEMBER_ME_TOKENS_EMAIL FOREIGN KEY (EMAIL) REFERENCES MEMBERS (EMAIL) ON DELETE CASCADE
+);
+
+-- 로그아웃할 때 회원의 모든 토큰을 삭제한다
+CREATE INDEX IDX_REMEMBER_ME_TOKENS_EMAIL ON REMEMBER_ME_TOKENS (EMAIL);
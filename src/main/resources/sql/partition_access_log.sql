@@ -0,0 +1,33 @@
+-- ACCESS_LOG를 하루 단위로 나눠서(Interval Partition) 저장한다
+-- - 날짜 조건(ACCESS_TIME)이 있는 조회는 해당 날짜의 Partition만 읽는다 (전체 데이터가 늘어나도 같은 시간)
+-- - 새로운 날짜의 Partition은 INSERT 할 때 자동으로 만들어진다
+-- - 지난 기록은 AccessLogRetentionJob이 시간별 집계(ACCESS_LOG_HOURLY)로 옮기고 보관 기간이 지나면 나눠서 삭제한다
+--
+-- 기존 테이블을 서비스 중에 변경한다 (Oracle 12.2 이상. ONLINE)
+-- 기존 인덱스(PK)는 전체 Partition을 대상으로 하는 Global 인덱스로 유지된다
+ALTER TABLE ACCESS_LOG MODIFY
+	PARTITION BY RANGE (ACCESS_TIME) INTERVAL (NUMTODSINTERVAL(1, 'DAY'))
+	(PARTITION P_ACCESS_LOG_INITIAL VALUES LESS THAN (DATE '2024-01-01'))
+	ONLINE
+	UPDATE INDEXES;
+
+-- IP별 최근 로그인 실패 조회 (ACCESS_IP, ACCESS_TYPE, 최근 1시간)
+-- Partition별 인덱스(LOCAL)이므로 1시간 범위는 최대 2개의 Partition 인덱스만 읽는다
+-- (로그인할 때의 실패 횟수 확인은 LoginFailureTracker가 메모리에서 한다. 관리 화면, 분석용)
+CREATE INDEX IDX_ACCESS_LOG_IP_TYPE_TIME ON ACCESS_LOG (ACCESS_IP, ACCESS_TYPE, ACCESS_TIME) LOCAL;
+
+-- 시간별 접근 기록 집계
+-- 원본 기록(ACCESS_LOG)은 보관 기간(app.access-log.retention.retention-days)이 지나면 삭제되고 집계만 남는다
+CREATE TABLE ACCESS_LOG_HOURLY (
+	ACCESS_HOUR DATE NOT NULL
+  , ACCESS_TYPE VARCHAR2(100) NOT NULL
+  , ACCESS_METHOD VARCHAR2(10) NOT NULL
+  , LOGIN_SUCCESS_YN CHAR(1) NOT NULL
+  -- 요청 수
+  , ACCESS_COUNT NUMBER NOT NULL
+  -- 요청한 IP의 수 (중복 제외)
+  , IP_COUNT NUMBER NOT NULL
+  -- 요청한 회원의 수 (중복 제외)
+  , EMAIL_COUNT NUMBER NOT NULL
+  , CONSTRAINT PK_ACCESS_LOG_HOURLY PRIMARY KEY (ACCESS_HOUR, ACCESS_TYPE, ACCESS_METHOD, LOGIN_SUCCESS_YN)
+);
@@ -37,6 +37,25 @@ $().ready(function () {
 
 function movePage(pageNo) {
   $(".page-no").val(pageNo);
+  // 페이지 번호로 조회한다
+  $(".last-seen-id").val("").prop("disabled", true);
+  $(".last-seen-crt-dt").val("").prop("disabled", true);
+  $(".search-form")
+    .attr({
+      method: "GET",
+      action: "/board/list",
+    })
+    .submit();
+}
+
+/**
+ * 현재 페이지의 마지막 게시글 다음부터 조회한다 (Keyset Pagination)
+ * 페이지 번호는 페이지 그룹을 보여주기 위해 함께 전달한다
+ */
+function moveNextPage(pageNo, lastSeenId, lastSeenCrtDt) {
+  $(".page-no").val(pageNo);
+  $(".last-seen-id").val(lastSeenId).prop("disabled", false);
+  $(".last-seen-crt-dt").val(lastSeenCrtDt).prop("disabled", false);
   $(".search-form")
     .attr({
       method: "GET",
@@ -7,9 +7,9 @@ pageEncoding="UTF-8"%>
   <head>
     <meta charset="UTF-8" />
     <title>게시글 상황판</title>
-    <link rel="stylesheet" type="text/css" href="/css/common.css" />
-    <script type="text/javascript" src="/js/jquery-3.7.1.min.js"></script>
-    <script type="text/javascript" src="/js/board/boardlist.js"></script>
+    <link rel="stylesheet" type="text/css" href="<c:url value="/css/common.css" />" />
+    <script type="text/javascript" src="<c:url value="/js/jquery-3.7.1.min.js" />"></script>
+    <script type="text/javascript" src="<c:url value="/js/board/boardlist.js" />"></script>
   </head>
   <body>
     <div>
@@ -17,7 +17,14 @@ pageEncoding="UTF-8"%>
         <jsp:include page="../member/membermenu.jsp"></jsp:include>
       </div>
       <div class="right-align">
-        총 ${boardListVO.boardCnt}건의 게시글이 검색되었습니다
+        <c:choose>
+          <c:when test="${boardListVO.boardCntApproximate}">
+            ${boardListVO.boardCnt}건 이상의 게시글이 검색되었습니다
+          </c:when>
+          <c:otherwise>
+            총 ${boardListVO.boardCnt}건의 게시글이 검색되었습니다
+          </c:otherwise>
+        </c:choose>
       </div>
       <div class="table-box">
         <table class="table">
@@ -51,6 +58,8 @@ pageEncoding="UTF-8"%>
                     <td>${board.id}</td>
                     <td>
                       <a href="/board/view?id=${board.id}">${board.subject}</a>
+                      <!-- 첨부파일이 있는 게시글 -->
+                      <c:if test="${board.fileAttached}">(첨부)</c:if>
                     </td>
                     <td>${board.memberVO.name} (${board.memberVO.email})</td>
                     <td>${board.viewCnt}</td>
@@ -76,6 +85,21 @@ pageEncoding="UTF-8"%>
             class="page-no"
             value="${searchBoardVO.pageNo}"
           />
+          <!-- 다음 페이지를 이전 페이지의 마지막 게시글(작성 시간, 번호)로 조회한다 (Keyset Pagination) -->
+          <input
+            type="hidden"
+            name="lastSeenId"
+            class="last-seen-id"
+            value="${searchBoardVO.lastSeenId}"
+            disabled
+          />
+          <input
+            type="hidden"
+            name="lastSeenCrtDt"
+            class="last-seen-crt-dt"
+            value="${searchBoardVO.lastSeenCrtDt}"
+            disabled
+          />
 
           <select name="listSize" class="list-size">
             <option value="10" ${"10" eq searchBoardVO.listSize ? "selected" : ""}>10개</option>
@@ -121,6 +145,20 @@ pageEncoding="UTF-8"%>
             </li>
           </c:forEach>
 
+          <!-- 
+          다음 페이지는 앞의 페이지를 건너뛰지 않고 현재 페이지의 마지막 게시글 다음부터 조회한다
+          페이지 번호가 커져도 조회 시간이 같다
+          -->
+          <!-- 게시글의 수를 모두 세지 않았다면(N건 이상) 마지막 페이지 이후에도 다음 페이지를 조회할 수 있다 -->
+          <c:if test="${(searchBoardVO.pageNo + 1 lt searchBoardVO.pageCount or boardListVO.boardCntApproximate) and not empty boardListVO.lastBoardId}">
+            <li>
+              <a
+                href="javascript:moveNextPage(${searchBoardVO.pageNo + 1}, ${boardListVO.lastBoardId}, '${boardListVO.lastBoardCrtDt}');"
+                >다음 페이지</a
+              >
+            </li>
+          </c:if>
+
           <c:if test="${searchBoardVO.hasNextGroup}">
             <li>
               <a
@@ -136,7 +174,7 @@ pageEncoding="UTF-8"%>
           </c:if>
         </ul>
       </div>
-      <c:if test="${not empty sessionScope._LOGIN_USER}">
+      <c:if test="${not empty pageContext.request.userPrincipal.principal}">
         <div class="right-align">
           <a href="/board/excel/download">엑셀 다운로드</a>
           <a href="/board/write">게시글 등록</a>
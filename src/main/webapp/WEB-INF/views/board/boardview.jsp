@@ -5,9 +5,9 @@ pageEncoding="UTF-8"%> <%@ taglib prefix="c" uri="jakarta.tags.core" %>
   <head>
     <meta charset="UTF-8" />
     <title>게시글 내용 조회</title>
-    <link rel="stylesheet" type="text/css" href="/css/common.css" />
-    <script type="text/javascript" src="/js/jquery-3.7.1.min.js"></script>
-    <script type="text/javascript" src="/js/board/reply/reply.js"></script>
+    <link rel="stylesheet" type="text/css" href="<c:url value="/css/common.css" />" />
+    <script type="text/javascript" src="<c:url value="/js/jquery-3.7.1.min.js" />"></script>
+    <script type="text/javascript" src="<c:url value="/js/board/reply/reply.js" />"></script>
   </head>
   <body>
     <div class="membermenu">
@@ -52,7 +52,7 @@ pageEncoding="UTF-8"%> <%@ taglib prefix="c" uri="jakarta.tags.core" %>
     </div>
 
     <div class="btn-group">
-      <c:if test="${sessionScope._LOGIN_USER.email eq boardVO.email}">
+      <c:if test="${pageContext.request.userPrincipal.principal.email eq boardVO.email}">
         <div class="right-align">
           <a href="/board/modify/${boardVO.id}">수정</a>
           <a href="/board/delete/${boardVO.id}">삭제</a>
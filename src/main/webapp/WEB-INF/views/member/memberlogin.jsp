@@ -7,9 +7,9 @@ uri="http://www.springframework.org/tags/form" %>
   <head>
     <meta charset="UTF-8" />
     <title>로그인</title>
-    <link rel="stylesheet" type="text/css" href="/css/common.css" />
-    <script type="text/javascript" src="/js/jquery-3.7.1.min.js"></script>
-    <script type="text/javascript" src="/js/member/memberlogin.js"></script>
+    <link rel="stylesheet" type="text/css" href="<c:url value="/css/common.css" />" />
+    <script type="text/javascript" src="<c:url value="/js/jquery-3.7.1.min.js" />"></script>
+    <script type="text/javascript" src="<c:url value="/js/member/memberlogin.js" />"></script>
   </head>
   <body>
     <h1>로그인</h1>
@@ -40,6 +40,10 @@ uri="http://www.springframework.org/tags/form" %>
                 value="${loginMemberVO.password}"
               />
             </div>
+            <label for="remember-me">로그인 유지</label>
+            <div>
+              <input type="checkbox" id="remember-me" name="remember-me" />
+            </div>
             <div class="btn-group">
                 <div class="right-align">
                   <input type="submit" value="로그인" />
@@ -7,13 +7,15 @@ pageEncoding="UTF-8"%> <%@ taglib prefix="c" uri="jakarta.tags.core" %>
     <title>Insert title here</title>
   </head>
   <body>
+    <%-- 로그인 정보는 Spring Security의 인증 정보에서 가져온다 (로그인하지 않았다면 비어있다) --%>
+    <c:set var="loginUser" value="${pageContext.request.userPrincipal.principal}" />
     <div class="right-align">
       <ul
         class="horizontal-list member-menu"
-        data-email="${sessionScope._LOGIN_USER.email}"
+        data-email="${loginUser.email}"
       >
         <c:choose>
-          <c:when test="${empty sessionScope._LOGIN_USER}">
+          <c:when test="${empty loginUser}">
             <li>
               <a href="/member/regist">회원가입</a>
             </li>
@@ -23,8 +25,8 @@ pageEncoding="UTF-8"%> <%@ taglib prefix="c" uri="jakarta.tags.core" %>
           </c:when>
           <c:otherwise>
             <li>
-              ${sessionScope._LOGIN_USER.name}
-              (${sessionScope._LOGIN_USER.email})
+              ${loginUser.name}
+              (${loginUser.email})
             </li>
             <li>
               <a href="/member/logout">로그아웃</a>
@@ -1,17 +1,21 @@
 <%@ page language="java" contentType="text/html; charset=UTF-8"
 pageEncoding="UTF-8"%> <%@ taglib prefix="form"
 uri="http://www.springframework.org/tags/form" %>
+<%@ taglib prefix="c" uri="jakarta.tags.core" %>
 <!DOCTYPE html>
 <html>
   <head>
     <meta charset="UTF-8" />
     <title>회원가입</title>
-    <link rel="stylesheet" type="text/css" href="/css/common.css" />
-    <script type="text/javascript" src="/js/jquery-3.7.1.min.js"></script>
-    <script type="text/javascript" src="/js/member/memberregist.js"></script>
+    <link rel="stylesheet" type="text/css" href="<c:url value="/css/common.css" />" />
+    <script type="text/javascript" src="<c:url value="/js/jquery-3.7.1.min.js" />"></script>
+    <script type="text/javascript" src="<c:url value="/js/member/memberregist.js" />"></script>
   </head>
   <body>
     <h1>회원가입</h1>
+    <c:if test="${not empty message}">
+      <div class="errors">${message}</div>
+    </c:if>
     <form:form modelAttribute="memberRegistVO" method="post" action="/member/regist">
       <div class="grid">
         <label for="email">이메일</label>
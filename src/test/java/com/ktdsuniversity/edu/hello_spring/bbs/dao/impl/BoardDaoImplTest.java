@@ -11,10 +11,12 @@ import org.springframework.context.annotation.Import;
 
 import com.ktdsuniversity.edu.hello_spring.bbs.dao.BoardDao;
 import com.ktdsuniversity.edu.hello_spring.bbs.vo.WriteBoardVO;
+import com.ktdsuniversity.edu.hello_spring.common.beans.id.IdGeneratorConfig;
+import com.ktdsuniversity.edu.hello_spring.common.dao.impl.SequenceDaoImpl;
 
 @MybatisTest
 @AutoConfigureTestDatabase(replace = Replace.NONE)
-@Import(BoardDaoImpl.class)
+@Import({BoardDaoImpl.class, SequenceDaoImpl.class, IdGeneratorConfig.class})
 public class BoardDaoImplTest {
 	
 	@Autowired
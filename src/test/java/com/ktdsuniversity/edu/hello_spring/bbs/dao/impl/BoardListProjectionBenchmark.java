@@ -0,0 +1,330 @@
+package com.ktdsuniversity.edu.hello_spring.bbs.dao.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.session.Configuration;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+
+import com.ktdsuniversity.edu.hello_spring.bbs.dao.BoardDao;
+import com.ktdsuniversity.edu.hello_spring.bbs.vo.BoardSummaryVO;
+import com.ktdsuniversity.edu.hello_spring.bbs.vo.BoardVO;
+import com.ktdsuniversity.edu.hello_spring.bbs.vo.SearchBoardVO;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+
+/**
+ * 게시글 목록 한 페이지(10건)를 조회할 때 할당되는 byte 비교 (JMH)
+ *
+ * - fullRow: 이전 방식. 내용(CONTENT)까지 조회해서 BoardVO(boardVOMap)로 만든다 (이전 selectAllBoard. PREVIOUS_MAPPER)
+ * - summaryRow: 현재 방식. 목록의 컬럼만 조회해서 BoardSummaryVO(boardSummaryVOMap)로 만든다 (selectAllBoard)
+ *
+ * 실제 Mapper와 MyBatis의 결과 맵핑을 사용하고 데이터베이스 대신 메모리의 JDBC 구현(InMemoryBoardTable)으로 조회한다
+ * -> 데이터베이스 없이 실행할 수 있다
+ * - SQL의 SELECT 절에 있는 컬럼만 반환한다 (SQL에 컬럼명이 있는지로 판단한다. 검색어 검색은 하지 않는다)
+ * - 문자열 컬럼은 조회할 때마다 UTF-8 byte에서 문자열을 만든다 (JDBC 드라이버가 전송받은 값을 문자열로 만드는 것과 같다)
+ * -> 페이지당 할당 byte(gc.alloc.rate.norm)로 비교한다. 데이터베이스의 전송량과 읽는 시간은 BoardPaginationBenchmark를 -prof gc로 실행해서 확인한다
+ *
+ * 실행: main 메소드 실행 (IDE) 또는 아래 명령어
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test "-Dexec.args=-cp %classpath org.openjdk.jmh.Main BoardListProjectionBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardListProjectionBenchmark {
+
+	/**
+	 * 비교를 위해 남겨둔 이전 selectAllBoard (SELECT 절과 resultMap만 다르다)
+	 */
+	private static final String PREVIOUS_MAPPER = """
+			<?xml version="1.0" encoding="UTF-8" ?>
+			<!DOCTYPE mapper PUBLIC "-//mybatis.org//DTD Mapper 3.0//EN" "https://mybatis.org/dtd/mybatis-3-mapper.dtd">
+			<mapper namespace="BoardListProjectionBenchmark">
+				<select id="selectAllBoard" parameterType="com.ktdsuniversity.edu.hello_spring.bbs.vo.SearchBoardVO"
+						resultMap="com.ktdsuniversity.edu.hello_spring.bbs.dao.BoardDao.boardVOMap">
+					<include refid="Common.pagination_header" />
+					SELECT B.ID
+						 , B.SUBJECT
+						 , B.CONTENT
+						 , B.EMAIL
+						 , B.VIEW_CNT
+						 , TO_CHAR(B.CRT_DT, 'YYYY-MM-DD') CRT_DT
+						 , TO_CHAR(B.MDFY_DT, 'YYYY-MM-DD') MDFY_DT
+						 , B.FILE_NAME
+						 , B.ORIGIN_FILE_NAME
+						 , M.NAME
+					  FROM BOARD B
+					 INNER JOIN MEMBERS M
+						ON B.EMAIL = M.EMAIL
+					<include refid="com.ktdsuniversity.edu.hello_spring.bbs.dao.BoardDao.selectAllBoardCondition" />
+					<include refid="com.ktdsuniversity.edu.hello_spring.bbs.dao.BoardDao.selectAllBoardOrder" />
+					<include refid="Common.pagination_footer" />
+				</select>
+			</mapper>
+			""";
+
+	/**
+	 * 한 페이지의 게시글 수 (PaginationVO.listSize의 기본값)
+	 */
+	private static final int LIST_SIZE = 10;
+
+	/**
+	 * 게시글 내용의 글자 수
+	 */
+	@Param({"0", "1000", "4000"})
+	private int contentLength;
+
+	private SqlSessionTemplate sqlSessionTemplate;
+
+	private BoardDao boardDao;
+
+	private SearchBoardVO searchBoardVO;
+
+	@Setup
+	public void setUp() throws IOException, URISyntaxException {
+		((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.INFO);
+
+		InMemoryBoardTable boardTable = new InMemoryBoardTable(LIST_SIZE, this.contentLength);
+		this.sqlSessionTemplate = new SqlSessionTemplate(BoardPaginationBenchmark.createSqlSessionFactory(boardTable.dataSource()));
+
+		Configuration configuration = this.sqlSessionTemplate.getConfiguration();
+		try(InputStream inputStream = new ByteArrayInputStream(PREVIOUS_MAPPER.getBytes(StandardCharsets.UTF_8))) {
+			new XMLMapperBuilder(inputStream, configuration, "BoardListProjectionBenchmark", configuration.getSqlFragments()).parse();
+		}
+
+		BoardDaoImpl boardDaoImpl = new BoardDaoImpl();
+		boardDaoImpl.setSqlSessionTemplate(this.sqlSessionTemplate);
+		this.boardDao = boardDaoImpl;
+
+		this.searchBoardVO = new SearchBoardVO();
+		this.searchBoardVO.setPageNo(0);
+
+		// 두 방식이 같은 게시글을 조회하는지 확인한다
+		List<Integer> fullRowIds = this.fullRow().stream().map(BoardVO::getId).toList();
+		List<Integer> summaryRowIds = this.summaryRow().stream().map(BoardSummaryVO::getId).toList();
+		if(fullRowIds.size() != LIST_SIZE || !fullRowIds.equals(summaryRowIds)) {
+			throw new IllegalStateException("조회 결과가 다릅니다. fullRow: " + fullRowIds + ", summaryRow: " + summaryRowIds);
+		}
+	}
+
+	@Benchmark
+	public List<BoardVO> fullRow() {
+		return this.sqlSessionTemplate.selectList("BoardListProjectionBenchmark.selectAllBoard", this.searchBoardVO);
+	}
+
+	@Benchmark
+	public List<BoardSummaryVO> summaryRow() {
+		return this.boardDao.selectAllBoard(this.searchBoardVO);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(BoardListProjectionBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+
+	/**
+	 * 게시글 rowCount건을 반환하는 메모리의 JDBC 구현 (DataSource -> Connection -> PreparedStatement -> ResultSet)
+	 * MyBatis가 사용하는 메소드만 구현하고 나머지는 기본값(null, 0, false)을 반환한다
+	 */
+	static class InMemoryBoardTable {
+
+		/**
+		 * 컬럼명, SQL에서 컬럼을 찾을 문자열
+		 */
+		private static final String[][] COLUMNS = {
+				{"ID", "B.ID"},
+				{"SUBJECT", "B.SUBJECT"},
+				{"CONTENT", "B.CONTENT"},
+				{"EMAIL", "B.EMAIL"},
+				{"VIEW_CNT", "B.VIEW_CNT"},
+				{"CRT_DT", "B.CRT_DT"},
+				{"MDFY_DT", "B.MDFY_DT"},
+				{"FILE_NAME", "B.FILE_NAME"},
+				{"ORIGIN_FILE_NAME", "B.ORIGIN_FILE_NAME"},
+				{"NAME", "M.NAME"}};
+
+		private static final String CONTENT_SAMPLE = "게시글 내용입니다. Spring Boot와 MyBatis로 게시판을 만듭니다. ";
+
+		/**
+		 * 행마다 컬럼명: 값 (숫자는 Integer, 문자열은 UTF-8 byte[], null은 값이 없다)
+		 */
+		private final List<Map<String, Object>> rows = new ArrayList<>();
+
+		InMemoryBoardTable(int rowCount, int contentLength) {
+			String content = CONTENT_SAMPLE.repeat(contentLength / CONTENT_SAMPLE.length() + 1).substring(0, contentLength);
+			for(int i = 0; i < rowCount; i++) {
+				int id = 100000 - i;
+				Map<String, Object> row = new HashMap<>();
+				row.put("ID", id);
+				row.put("SUBJECT", bytes("게시글 제목입니다 " + id));
+				row.put("CONTENT", bytes(content));
+				row.put("EMAIL", bytes("user" + i + "@ktdsuniversity.com"));
+				row.put("VIEW_CNT", i * 7);
+				row.put("CRT_DT", bytes("2026-10-17"));
+				row.put("MDFY_DT", bytes("2026-10-17"));
+				if(i % 2 == 0) {
+					row.put("FILE_NAME", bytes("0f8fad5b-d9cb-469f-a165-70867728950e"));
+					row.put("ORIGIN_FILE_NAME", bytes("첨부파일 " + id + ".xlsx"));
+				}
+				row.put("NAME", bytes("홍길동" + i));
+				this.rows.add(row);
+			}
+		}
+
+		DataSource dataSource() {
+			return proxy(DataSource.class, (proxy, method, args) -> switch(method.getName()) {
+				case "getConnection" -> this.connection();
+				default -> defaultValue(proxy, method, args);
+			});
+		}
+
+		private Connection connection() {
+			DatabaseMetaData databaseMetaData = proxy(DatabaseMetaData.class, InMemoryBoardTable::defaultValue);
+			return proxy(Connection.class, (proxy, method, args) -> switch(method.getName()) {
+				case "prepareStatement" -> this.preparedStatement((Connection) proxy, selectedColumns((String) args[0]));
+				case "getMetaData" -> databaseMetaData;
+				default -> defaultValue(proxy, method, args);
+			});
+		}
+
+		private PreparedStatement preparedStatement(Connection connection, String[] columns) {
+			return proxy(PreparedStatement.class, (proxy, method, args) -> switch(method.getName()) {
+				case "execute" -> true;
+				case "getResultSet" -> this.resultSet((PreparedStatement) proxy, columns);
+				case "getUpdateCount" -> -1;
+				case "getConnection" -> connection;
+				default -> defaultValue(proxy, method, args);
+			});
+		}
+
+		private ResultSet resultSet(PreparedStatement statement, String[] columns) {
+			ResultSetMetaData resultSetMetaData = proxy(ResultSetMetaData.class, (proxy, method, args) -> switch(method.getName()) {
+				case "getColumnCount" -> columns.length;
+				case "getColumnLabel", "getColumnName" -> columns[(int) args[0] - 1];
+				case "getColumnType" -> isNumber(columns[(int) args[0] - 1]) ? Types.NUMERIC : Types.VARCHAR;
+				case "getColumnClassName" -> isNumber(columns[(int) args[0] - 1]) ? "java.math.BigDecimal" : "java.lang.String";
+				default -> defaultValue(proxy, method, args);
+			});
+
+			int[] rowIndex = {-1};
+			boolean[] wasNull = {false};
+			return proxy(ResultSet.class, (proxy, method, args) -> {
+				switch(method.getName()) {
+					case "next":
+						return ++rowIndex[0] < this.rows.size();
+					case "getType":
+						return ResultSet.TYPE_FORWARD_ONLY;
+					case "getMetaData":
+						return resultSetMetaData;
+					case "getStatement":
+						return statement;
+					case "wasNull":
+						return wasNull[0];
+					case "getString": {
+						Object value = this.rows.get(rowIndex[0]).get((String) args[0]);
+						wasNull[0] = value == null;
+						// JDBC 드라이버처럼 조회할 때마다 문자열을 만든다
+						return value == null ? null : new String((byte[]) value, StandardCharsets.UTF_8);
+					}
+					case "getInt": {
+						Object value = this.rows.get(rowIndex[0]).get((String) args[0]);
+						wasNull[0] = value == null;
+						return value == null ? 0 : (int) (Integer) value;
+					}
+					default:
+						return defaultValue(proxy, method, args);
+				}
+			});
+		}
+
+		/**
+		 * SQL에 있는 컬럼만 조회한다
+		 */
+		private static String[] selectedColumns(String sql) {
+			List<String> columns = new ArrayList<>();
+			for(String[] column : COLUMNS) {
+				if(sql.contains(column[1])) {
+					columns.add(column[0]);
+				}
+			}
+			return columns.toArray(String[]::new);
+		}
+
+		private static boolean isNumber(String column) {
+			return "ID".equals(column) || "VIEW_CNT".equals(column);
+		}
+
+		private static byte[] bytes(String value) {
+			return value.getBytes(StandardCharsets.UTF_8);
+		}
+
+		@SuppressWarnings("unchecked")
+		private static <T> T proxy(Class<T> type, InvocationHandler invocationHandler) {
+			return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, invocationHandler);
+		}
+
+		/**
+		 * 구현하지 않은 메소드의 반환값 (void, 객체는 null. 기본형은 0, false)
+		 */
+		private static Object defaultValue(Object proxy, Method method, Object[] args) {
+			switch(method.getName()) {
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "toString":
+					return method.getDeclaringClass().getSimpleName() + "@InMemoryBoardTable";
+			}
+			Class<?> returnType = method.getReturnType();
+			if(!returnType.isPrimitive() || returnType == void.class) {
+				return null;
+			}
+			return Array.get(Array.newInstance(returnType, 1), 0);
+		}
+	}
+}
@@ -0,0 +1,177 @@
+package com.ktdsuniversity.edu.hello_spring.bbs.dao.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.builder.xml.XMLConfigBuilder;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+
+import com.ktdsuniversity.edu.hello_spring.bbs.dao.BoardDao;
+import com.ktdsuniversity.edu.hello_spring.bbs.vo.BoardSummaryVO;
+import com.ktdsuniversity.edu.hello_spring.bbs.vo.SearchBoardVO;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+
+/**
+ * 게시글 목록 한 페이지의 조회 시간 비교 (JMH)
+ *
+ * - offset: 이전 방식. ROWNUM으로 앞의 페이지(pageNo * listSize개)를 읽고 버린다 -> 페이지 번호가 커질수록 느려진다
+ * - keyset: 이전 페이지의 마지막 게시글(lastSeenCrtDt, lastSeenId) 다음 게시글부터 listSize개만 읽는다 -> 페이지 번호와 관계 없이 같아야 한다
+ *
+ * 측정 결과: 아직 측정하지 않았다 (데이터베이스가 있는 환경에서 실행하지 않았다)
+ * -> "keyset은 1 ~ 10,000 페이지의 조회 시간이 같다"는 확인하지 않은 목표이다
+ * -> 아래 테스트 데이터로 실행한 뒤 pageNo별 offset/keyset 결과(us/op)와 데이터베이스 환경을 여기에 기록한다
+ *
+ * 실제 Mapper(BoardDaoMapper.xml, CommonMapper.xml)와 BoardDaoImpl로 데이터베이스를 조회한다
+ * -> 데이터베이스가 실행 중이어야 하고, 게시글이 (가장 큰 pageNo + 1) * 10개 이상 있어야 한다
+ *
+ * 테스트 데이터 (약 20만건. 회원이 한 명 이상 있어야 한다)
+ * INSERT INTO BOARD (ID, SUBJECT, CONTENT, EMAIL, VIEW_CNT, CRT_DT, MDFY_DT, IP)
+ * SELECT SEQ_BOARD_PK.NEXTVAL, '제목 ' || LEVEL, '내용 ' || LEVEL, (SELECT MIN(EMAIL) FROM MEMBERS), 0, SYSDATE, SYSDATE, '127.0.0.1'
+ *   FROM DUAL
+ * CONNECT BY LEVEL <= 200000;
+ *
+ * 접속 정보는 application.yml의 spring.datasource와 같다. 다른 데이터베이스는 -Dbenchmark.db.url, -Dbenchmark.db.username, -Dbenchmark.db.password 로 지정한다
+ *
+ * 실행: main 메소드 실행 (IDE) 또는 아래 명령어
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test "-Dexec.args=-cp %classpath org.openjdk.jmh.Main BoardPaginationBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoardPaginationBenchmark {
+
+	/**
+	 * 조회할 페이지 번호 (0부터 시작. 화면의 1 ~ 10,000 페이지)
+	 */
+	@Param({"0", "9", "99", "999", "9999"})
+	private int pageNo;
+
+	private PooledDataSource dataSource;
+
+	private BoardDao boardDao;
+
+	private SearchBoardVO offsetSearchBoardVO;
+
+	private SearchBoardVO keysetSearchBoardVO;
+
+	@Setup
+	public void setUp() throws IOException, URISyntaxException {
+		((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.INFO);
+
+		this.dataSource = new PooledDataSource("oracle.jdbc.driver.OracleDriver"
+											 , System.getProperty("benchmark.db.url", "jdbc:oracle:thin:@localhost:1521:XE")
+											 , System.getProperty("benchmark.db.username", "SPRING_BOOT")
+											 , System.getProperty("benchmark.db.password", "1234"));
+
+		BoardDaoImpl boardDaoImpl = new BoardDaoImpl();
+		boardDaoImpl.setSqlSessionTemplate(new SqlSessionTemplate(createSqlSessionFactory(this.dataSource)));
+		this.boardDao = boardDaoImpl;
+
+		this.offsetSearchBoardVO = new SearchBoardVO();
+		this.offsetSearchBoardVO.setPageNo(this.pageNo);
+
+		// 이전 페이지의 마지막 게시글 번호를 미리 구한다 (화면에서는 이전 페이지를 조회할 때 구한 값이다)
+		this.keysetSearchBoardVO = new SearchBoardVO();
+		this.keysetSearchBoardVO.setPageNo(this.pageNo);
+		this.keysetSearchBoardVO.setLastSeenId(Integer.MAX_VALUE);
+		this.keysetSearchBoardVO.setLastSeenCrtDt("99991231235959");
+		if(this.pageNo > 0) {
+			SearchBoardVO previousPage = new SearchBoardVO();
+			previousPage.setPageNo(this.pageNo - 1);
+			List<BoardSummaryVO> previousBoardList = this.boardDao.selectAllBoard(previousPage);
+			if(previousBoardList.isEmpty()) {
+				throw new IllegalStateException("게시글이 부족합니다. " + this.pageNo + " 페이지를 조회할 수 없습니다.");
+			}
+			BoardSummaryVO lastSeenBoard = previousBoardList.get(previousBoardList.size() - 1);
+			this.keysetSearchBoardVO.setLastSeenId(lastSeenBoard.getId());
+			this.keysetSearchBoardVO.setLastSeenCrtDt(lastSeenBoard.getCrtDtKey());
+		}
+
+		// 두 방식의 결과가 같은지 확인한다
+		List<Integer> offsetIds = this.offset().stream().map(BoardSummaryVO::getId).toList();
+		List<Integer> keysetIds = this.keyset().stream().map(BoardSummaryVO::getId).toList();
+		if(!offsetIds.equals(keysetIds)) {
+			throw new IllegalStateException("조회 결과가 다릅니다. offset: " + offsetIds + ", keyset: " + keysetIds);
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.dataSource.forceCloseAll();
+	}
+
+	@Benchmark
+	public List<BoardSummaryVO> offset() {
+		return this.boardDao.selectAllBoard(this.offsetSearchBoardVO);
+	}
+
+	@Benchmark
+	public List<BoardSummaryVO> keyset() {
+		return this.boardDao.selectAllBoard(this.keysetSearchBoardVO);
+	}
+
+	/**
+	 * mybatis-config.xml과 Mapper로 SqlSessionFactory를 만든다
+	 * 테스트 Resource에도 같은 경로의 Mapper가 있으므로 Mapper는 애플리케이션의 classes 디렉토리에서 읽는다
+	 */
+	static SqlSessionFactory createSqlSessionFactory(DataSource dataSource) throws IOException, URISyntaxException {
+		Configuration configuration;
+		try(InputStream inputStream = Resources.getResourceAsStream("mybatis/mybatis-config.xml")) {
+			configuration = new XMLConfigBuilder(inputStream).parse();
+		}
+		configuration.setEnvironment(new Environment("benchmark", new JdbcTransactionFactory(), dataSource));
+
+		Path classes = Path.of(BoardDao.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+		for(String mapper : List.of("com/ktdsuniversity/edu/hello_spring/common/dao/mapper/CommonMapper.xml"
+								  , "com/ktdsuniversity/edu/hello_spring/bbs/dao/mapper/BoardDaoMapper.xml")) {
+			try(InputStream inputStream = Files.newInputStream(classes.resolve(mapper))) {
+				new XMLMapperBuilder(inputStream, configuration, mapper, configuration.getSqlFragments()).parse();
+			}
+		}
+		return new SqlSessionFactoryBuilder().build(configuration);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(BoardPaginationBenchmark.class.getSimpleName())
+				.build();
+		new Runner(options).run();
+	}
+}
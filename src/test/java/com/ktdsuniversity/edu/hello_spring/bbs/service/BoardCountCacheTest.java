@@ -0,0 +1,154 @@
+package com.ktdsuniversity.edu.hello_spring.bbs.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.ktdsuniversity.edu.hello_spring.bbs.dao.BoardDao;
+import com.ktdsuniversity.edu.hello_spring.bbs.event.BoardChangedEvent;
+import com.ktdsuniversity.edu.hello_spring.bbs.event.BoardChangedEvent.ChangeType;
+import com.ktdsuniversity.edu.hello_spring.bbs.service.BoardCountCache.BoardCount;
+import com.ktdsuniversity.edu.hello_spring.bbs.vo.SearchBoardVO;
+
+public class BoardCountCacheTest {
+
+	private BoardDao boardDao;
+
+	private BoardCountCache boardCountCache;
+
+	@BeforeEach
+	public void setUp() {
+		this.boardDao = mock(BoardDao.class);
+		this.boardCountCache = new BoardCountCache(this.boardDao, 100, Duration.ofMinutes(1), 1000);
+	}
+
+	/**
+	 * 전체 게시글 수는 처음 한 번만 세고 등록/삭제될 때 더하고 뺀다
+	 */
+	@Test
+	public void testTotalCount() {
+		when(this.boardDao.selectBoardAllCount(any())).thenReturn(100);
+
+		assertEquals(new BoardCount(100, false), this.boardCountCache.getCount(search(null, null)));
+		assertEquals(100, this.boardCountCache.getTotalCount());
+
+		this.boardCountCache.applyBoardChange(new BoardChangedEvent(1, ChangeType.CREATED));
+		this.boardCountCache.applyBoardChange(new BoardChangedEvent(2, ChangeType.CREATED));
+		this.boardCountCache.applyBoardChange(new BoardChangedEvent(1, ChangeType.DELETED));
+		this.boardCountCache.applyBoardChange(new BoardChangedEvent(2, ChangeType.UPDATED));
+		assertEquals(101, this.boardCountCache.getTotalCount());
+
+		verify(this.boardDao, times(1)).selectBoardAllCount(any());
+	}
+
+	/**
+	 * 데이터베이스의 수와 다르면 데이터베이스의 수로 바꾼다
+	 */
+	@Test
+	public void testReconcile() {
+		when(this.boardDao.selectBoardAllCount(any())).thenReturn(100, 95);
+		this.boardCountCache.getTotalCount();
+
+		this.boardCountCache.reconcile();
+		assertEquals(95, this.boardCountCache.getTotalCount());
+		assertEquals(1, this.boardCountCache.getReconcileCorrectionCount());
+	}
+
+	/**
+	 * 세는 중에 게시글이 등록되었다면 센 결과로 바꾸지 않는다
+	 */
+	@Test
+	public void testReconcileSkippedWhenChanged() {
+		when(this.boardDao.selectBoardAllCount(any())).thenReturn(100).thenAnswer(invocation -> {
+			this.boardCountCache.applyBoardChange(new BoardChangedEvent(1, ChangeType.CREATED));
+			return 100;
+		});
+		this.boardCountCache.getTotalCount();
+
+		this.boardCountCache.reconcile();
+		assertEquals(101, this.boardCountCache.getTotalCount());
+		assertEquals(0, this.boardCountCache.getReconcileCorrectionCount());
+	}
+
+	/**
+	 * 검색어 검색은 keyword-count-limit + 1개까지만 세고 캐시한다
+	 */
+	@Test
+	public void testSearchCount() {
+		when(this.boardDao.selectBoardCountWithLimit(any())).thenReturn(1001, 1000, 3);
+		when(this.boardDao.selectBoardAllCount(any())).thenReturn(1);
+
+		assertEquals(new BoardCount(1000, true), this.boardCountCache.getCount(search("subject", "hello")));
+		assertEquals(new BoardCount(1000, true), this.boardCountCache.getCount(search("subject", "hello")));
+		// 정확히 keyword-count-limit건이라면 "이상"으로 보여주지 않는다
+		assertEquals(new BoardCount(1000, false), this.boardCountCache.getCount(search("content", "hello")));
+		assertEquals(new BoardCount(3, false), this.boardCountCache.getCount(search("email", "test")));
+		// 글번호 검색은 정확한 수를 센다
+		assertEquals(new BoardCount(1, false), this.boardCountCache.getCount(search("boardId", "10")));
+
+		ArgumentCaptor<SearchBoardVO> captor = ArgumentCaptor.forClass(SearchBoardVO.class);
+		verify(this.boardDao, times(3)).selectBoardCountWithLimit(captor.capture());
+		assertEquals(1001, captor.getValue().getCountLimit());
+	}
+
+	/**
+	 * 수정되면 제목/내용 검색 결과의 수만 삭제한다. 등록/삭제되면 모두 삭제한다
+	 */
+	@Test
+	public void testEvictSearchCount() {
+		when(this.boardDao.selectBoardCountWithLimit(any())).thenReturn(3);
+
+		this.boardCountCache.getCount(search("subject", "hello"));
+		this.boardCountCache.getCount(search("email", "test"));
+		verify(this.boardDao, times(2)).selectBoardCountWithLimit(any());
+
+		this.boardCountCache.applyBoardChange(new BoardChangedEvent(1, ChangeType.UPDATED));
+		this.boardCountCache.getCount(search("subject", "hello"));
+		this.boardCountCache.getCount(search("email", "test"));
+		verify(this.boardDao, times(3)).selectBoardCountWithLimit(any());
+
+		this.boardCountCache.applyBoardChange(new BoardChangedEvent(2, ChangeType.CREATED));
+		this.boardCountCache.getCount(search("email", "test"));
+		verify(this.boardDao, times(4)).selectBoardCountWithLimit(any());
+
+		// 게시글 수를 조회하지 않았다면 등록/삭제되어도 세지 않는다
+		assertEquals(-1, this.boardCountCache.getCachedTotalCount());
+	}
+
+	/**
+	 * 게시글 목록과 함께 센 검색 결과의 수는 다시 세지 않고 캐시한다
+	 * keyword-count-limit를 넘으면 "N건 이상"으로 캐시한다
+	 */
+	@Test
+	public void testPutCount() {
+		assertNull(this.boardCountCache.getIfPresent(search("subject", "hello")));
+		assertEquals(1001, this.boardCountCache.getCountLimit());
+
+		this.boardCountCache.putCount(search("subject", "hello"), 1000);
+		assertEquals(new BoardCount(1000, false), this.boardCountCache.getIfPresent(search("subject", "hello")));
+		assertEquals(new BoardCount(1000, false), this.boardCountCache.getCount(search("subject", "hello")));
+
+		this.boardCountCache.putCount(search("content", "hello"), 1001);
+		assertEquals(new BoardCount(1000, true), this.boardCountCache.getIfPresent(search("content", "hello")));
+
+		verify(this.boardDao, never()).selectBoardCountWithLimit(any());
+	}
+
+	private static SearchBoardVO search(String searchType, String searchKeyword) {
+		SearchBoardVO searchBoardVO = new SearchBoardVO();
+		searchBoardVO.setSearchType(searchType);
+		searchBoardVO.setSearchKeyword(searchKeyword);
+		return searchBoardVO;
+	}
+}
@@ -0,0 +1,185 @@
+package com.ktdsuniversity.edu.hello_spring.bbs.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ktdsuniversity.edu.hello_spring.bbs.event.BoardChangedEvent;
+import com.ktdsuniversity.edu.hello_spring.bbs.event.BoardChangedEvent.ChangeType;
+import com.ktdsuniversity.edu.hello_spring.bbs.vo.BoardListVO;
+import com.ktdsuniversity.edu.hello_spring.bbs.vo.BoardSummaryVO;
+import com.ktdsuniversity.edu.hello_spring.bbs.vo.SearchBoardVO;
+
+public class BoardListCacheTest {
+
+	private BoardListCache boardListCache;
+
+	/**
+	 * 조회 횟수
+	 */
+	private AtomicInteger loadCount;
+
+	/**
+	 * 페이지 번호 * 10 + 1 부터 게시글 두 개를 조회한다 (0 페이지: 1, 2번 게시글)
+	 */
+	private Function<SearchBoardVO, BoardListVO> loader;
+
+	@BeforeEach
+	public void setUp() {
+		this.boardListCache = new BoardListCache(1024 * 1024, Duration.ofMinutes(1), 2);
+		this.loadCount = new AtomicInteger();
+		this.loader = searchBoardVO -> {
+			this.loadCount.incrementAndGet();
+			int pageNo = searchBoardVO == null ? 0 : searchBoardVO.getPageNo();
+			return boardList(pageNo * 10 + 1, pageNo * 10 + 2);
+		};
+	}
+
+	@Test
+	public void testCacheHit() {
+		BoardListVO first = this.boardListCache.get(search(0, null, null), this.loader);
+		// 검색어가 없다면 검색 유형과 관계 없이 같은 목록이다
+		BoardListVO second = this.boardListCache.get(search(0, "subject", ""), this.loader);
+
+		assertSame(first, second);
+		assertEquals(1, this.loadCount.get());
+
+		this.boardListCache.get(search(1, null, null), this.loader);
+		this.boardListCache.get(search(0, "subject", "hello"), this.loader);
+		assertEquals(3, this.loadCount.get());
+		assertEquals(3, this.boardListCache.size());
+	}
+
+	/**
+	 * 같은 페이지 번호라도 이전 페이지의 마지막 게시글(Keyset Pagination)이 다르면 다른 목록이다
+	 */
+	@Test
+	public void testKeysetPage() {
+		SearchBoardVO offsetPage = search(1, null, null);
+		SearchBoardVO keysetPage = search(1, null, null);
+		keysetPage.setLastSeenId(3);
+		keysetPage.setLastSeenCrtDt("20260101000000");
+
+		BoardListVO offsetBoardList = this.boardListCache.get(offsetPage, this.loader);
+		BoardListVO keysetBoardList = this.boardListCache.get(keysetPage, this.loader);
+		assertNotSame(offsetBoardList, keysetBoardList);
+		assertSame(keysetBoardList, this.boardListCache.get(keysetPage, this.loader));
+		assertEquals(2, this.loadCount.get());
+
+		// 게시글 번호가 같아도 작성 시간이 다르면 다른 위치다
+		SearchBoardVO otherKeysetPage = search(1, null, null);
+		otherKeysetPage.setLastSeenId(3);
+		otherKeysetPage.setLastSeenCrtDt("20260102000000");
+		assertNotSame(keysetBoardList, this.boardListCache.get(otherKeysetPage, this.loader));
+		assertEquals(3, this.loadCount.get());
+
+		// 다음 페이지는 목록의 마지막 게시글 다음부터 조회한다
+		assertEquals(12, keysetBoardList.getLastBoardId());
+		assertEquals("20260101000000", keysetBoardList.getLastBoardCrtDt());
+	}
+
+	/**
+	 * 엑셀 다운로드(null)와 max-page-no 이후의 페이지는 캐시하지 않는다
+	 */
+	@Test
+	public void testNotCached() {
+		this.boardListCache.get(null, this.loader);
+		this.boardListCache.get(null, this.loader);
+		this.boardListCache.get(search(3, null, null), this.loader);
+		this.boardListCache.get(search(3, null, null), this.loader);
+
+		assertEquals(4, this.loadCount.get());
+		assertEquals(0, this.boardListCache.size());
+	}
+
+	@Test
+	public void testEvictAllWhenCreatedOrDeleted() {
+		this.boardListCache.get(search(0, null, null), this.loader);
+		this.boardListCache.get(search(1, "email", "test"), this.loader);
+
+		this.boardListCache.evictBoardList(new BoardChangedEvent(100, ChangeType.CREATED));
+		assertEquals(0, this.boardListCache.size());
+
+		this.boardListCache.get(search(0, null, null), this.loader);
+		this.boardListCache.evictBoardList(new BoardChangedEvent(1, ChangeType.DELETED));
+		assertEquals(0, this.boardListCache.size());
+	}
+
+	/**
+	 * 수정된 게시글이 포함된 목록과 제목/내용으로 검색한 목록만 삭제한다
+	 */
+	@Test
+	public void testEvictWhenUpdated() {
+		BoardListVO page0 = this.boardListCache.get(search(0, null, null), this.loader);
+		BoardListVO page1 = this.boardListCache.get(search(1, null, null), this.loader);
+		BoardListVO emailSearch = this.boardListCache.get(search(2, "email", "test"), this.loader);
+		this.boardListCache.get(search(2, "subject+content", "hello"), this.loader);
+
+		// 0 페이지의 2번 게시글 수정
+		this.boardListCache.evictBoardList(new BoardChangedEvent(2, ChangeType.UPDATED));
+		assertEquals(2, this.boardListCache.size());
+
+		assertNotSame(page0, this.boardListCache.get(search(0, null, null), this.loader));
+		assertSame(page1, this.boardListCache.get(search(1, null, null), this.loader));
+		assertSame(emailSearch, this.boardListCache.get(search(2, "email", "test"), this.loader));
+	}
+
+	/**
+	 * 조회하는 중에 게시글이 변경되었다면 조회한 결과를 캐시에 남기지 않는다
+	 */
+	@Test
+	public void testChangedWhileLoading() {
+		this.boardListCache.get(search(0, null, null), searchBoardVO -> {
+			BoardListVO boardListVO = this.loader.apply(searchBoardVO);
+			this.boardListCache.evictBoardList(new BoardChangedEvent(100, ChangeType.CREATED));
+			return boardListVO;
+		});
+		assertEquals(0, this.boardListCache.size());
+
+		this.boardListCache.get(search(0, null, null), this.loader);
+		assertEquals(2, this.loadCount.get());
+	}
+
+	@Test
+	public void testWeigh() {
+		BoardListVO boardListVO = boardList(1);
+		BoardSummaryVO boardSummaryVO = boardListVO.getBoardList().get(0);
+		boardSummaryVO.setSubject("12345");
+		boardSummaryVO.setFileName("1234567890");
+
+		// 64 + 100 + (5 + 10) * 2
+		assertEquals(194, BoardListCache.weigh(boardListVO));
+	}
+
+	private static SearchBoardVO search(int pageNo, String searchType, String searchKeyword) {
+		SearchBoardVO searchBoardVO = new SearchBoardVO();
+		searchBoardVO.setPageNo(pageNo);
+		searchBoardVO.setListSize(10);
+		searchBoardVO.setSearchType(searchType);
+		searchBoardVO.setSearchKeyword(searchKeyword);
+		return searchBoardVO;
+	}
+
+	private static BoardListVO boardList(int... ids) {
+		List<BoardSummaryVO> boardList = new ArrayList<>();
+		for(int id : ids) {
+			BoardSummaryVO boardSummaryVO = new BoardSummaryVO();
+			boardSummaryVO.setId(id);
+			boardSummaryVO.setCrtDtKey("20260101000000");
+			boardList.add(boardSummaryVO);
+		}
+		BoardListVO boardListVO = new BoardListVO();
+		boardListVO.setBoardCnt(100);
+		boardListVO.setBoardList(boardList);
+		return boardListVO;
+	}
+}
@@ -0,0 +1,155 @@
+package com.ktdsuniversity.edu.hello_spring.bbs.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.ktdsuniversity.edu.hello_spring.bbs.dao.BoardDao;
+import com.ktdsuniversity.edu.hello_spring.bbs.service.BoardCountCache;
+import com.ktdsuniversity.edu.hello_spring.bbs.service.BoardListCache;
+import com.ktdsuniversity.edu.hello_spring.bbs.vo.BoardListVO;
+import com.ktdsuniversity.edu.hello_spring.bbs.vo.BoardSummaryVO;
+import com.ktdsuniversity.edu.hello_spring.bbs.vo.SearchBoardVO;
+
+/**
+ * 게시글 목록 조회 (BoardServiceImpl.getAllBoard)
+ * 검색 결과의 수를 언제 목록과 함께 세는지(selectAllBoardWithCount), 언제 따로 세는지(selectBoardCountWithLimit) 확인한다
+ * BoardServiceImplTest와 달리 데이터베이스 없이 실행한다
+ */
+public class BoardServiceImplListTest {
+
+	private BoardDao boardDao;
+
+	private BoardServiceImpl boardService;
+
+	@BeforeEach
+	public void setUp() {
+		this.boardDao = mock(BoardDao.class);
+
+		this.boardService = new BoardServiceImpl();
+		ReflectionTestUtils.setField(this.boardService, "boardDao", this.boardDao);
+		// 목록은 캐시하지 않는다 (max-page-no: -1) -> 요청마다 조회한다
+		ReflectionTestUtils.setField(this.boardService, "boardListCache", new BoardListCache(1024 * 1024, Duration.ofMinutes(1), -1));
+		ReflectionTestUtils.setField(this.boardService, "boardCountCache", new BoardCountCache(this.boardDao, 100, Duration.ofMinutes(1), 1000));
+	}
+
+	/**
+	 * 검색 결과의 수를 모른다 -> 목록과 함께 센다 (countLimit개까지)
+	 * 다음 조회는 캐시한 수를 사용한다
+	 */
+	@Test
+	public void testSelectWithCountThenCacheHit() {
+		when(this.boardDao.selectAllBoardWithCount(any())).thenReturn(boardList(10, 25));
+		when(this.boardDao.selectAllBoard(any())).thenReturn(boardList(10, 0));
+
+		BoardListVO first = this.boardService.getAllBoard(search(0, null));
+		assertEquals(25, first.getBoardCnt());
+		assertFalse(first.isBoardCntApproximate());
+
+		ArgumentCaptor<SearchBoardVO> searchCaptor = ArgumentCaptor.forClass(SearchBoardVO.class);
+		verify(this.boardDao).selectAllBoardWithCount(searchCaptor.capture());
+		assertEquals(1001, searchCaptor.getValue().getCountLimit());
+
+		// 캐시한 수를 사용한다 -> 목록만 조회한다
+		BoardListVO second = this.boardService.getAllBoard(search(1, null));
+		assertEquals(25, second.getBoardCnt());
+		verify(this.boardDao, times(1)).selectAllBoardWithCount(any());
+		verify(this.boardDao, times(1)).selectAllBoard(any());
+		verify(this.boardDao, never()).selectBoardCountWithLimit(any());
+	}
+
+	/**
+	 * 목록과 함께 센 수가 keyword-count-limit를 넘으면 "N건 이상"으로 보여준다
+	 */
+	@Test
+	public void testSelectWithCountApproximate() {
+		when(this.boardDao.selectAllBoardWithCount(any())).thenReturn(boardList(10, 1001));
+
+		BoardListVO boardListVO = this.boardService.getAllBoard(search(0, null));
+		assertEquals(1000, boardListVO.getBoardCnt());
+		assertTrue(boardListVO.isBoardCntApproximate());
+	}
+
+	/**
+	 * Keyset Pagination은 총 개수를 셀 수 없다 -> 따로 센다
+	 */
+	@Test
+	public void testKeysetFallback() {
+		when(this.boardDao.selectBoardCountWithLimit(any())).thenReturn(25);
+		when(this.boardDao.selectAllBoard(any())).thenReturn(boardList(10, 0));
+
+		BoardListVO boardListVO = this.boardService.getAllBoard(search(1, 100));
+		assertEquals(25, boardListVO.getBoardCnt());
+		verify(this.boardDao, never()).selectAllBoardWithCount(any());
+		verify(this.boardDao).selectAllBoard(any());
+	}
+
+	/**
+	 * 총 개수를 세는 범위 밖의 페이지는 목록과 함께 셀 수 없다 -> 따로 센다
+	 */
+	@Test
+	public void testPageBeyondCountLimitFallback() {
+		when(this.boardDao.selectBoardCountWithLimit(any())).thenReturn(1001);
+		when(this.boardDao.selectAllBoard(any())).thenReturn(boardList(10, 0));
+
+		BoardListVO boardListVO = this.boardService.getAllBoard(search(100, null));
+		assertEquals(1000, boardListVO.getBoardCnt());
+		assertTrue(boardListVO.isBoardCntApproximate());
+		verify(this.boardDao, never()).selectAllBoardWithCount(any());
+	}
+
+	/**
+	 * 조회할 페이지에 게시글이 없다 -> 총 개수를 알 수 없으므로 따로 센다
+	 */
+	@Test
+	public void testEmptyPageFallback() {
+		when(this.boardDao.selectAllBoardWithCount(any())).thenReturn(new ArrayList<>());
+		when(this.boardDao.selectBoardCountWithLimit(any())).thenReturn(0);
+
+		BoardListVO boardListVO = this.boardService.getAllBoard(search(0, null));
+		assertEquals(0, boardListVO.getBoardCnt());
+		assertTrue(boardListVO.getBoardList().isEmpty());
+		verify(this.boardDao).selectBoardCountWithLimit(any());
+		// 검색 결과가 없다 -> 목록은 조회하지 않는다
+		verify(this.boardDao, never()).selectAllBoard(any());
+	}
+
+	private static SearchBoardVO search(int pageNo, Integer lastSeenId) {
+		SearchBoardVO searchBoardVO = new SearchBoardVO();
+		searchBoardVO.setSearchType("subject");
+		searchBoardVO.setSearchKeyword("keyword");
+		searchBoardVO.setPageNo(pageNo);
+		searchBoardVO.setListSize(10);
+		searchBoardVO.setLastSeenId(lastSeenId);
+		if(lastSeenId != null) {
+			searchBoardVO.setLastSeenCrtDt("20260101000000");
+		}
+		return searchBoardVO;
+	}
+
+	private static List<BoardSummaryVO> boardList(int size, int totalCnt) {
+		List<BoardSummaryVO> boardList = new ArrayList<>();
+		for(int i = 0; i < size; i++) {
+			BoardSummaryVO boardSummaryVO = new BoardSummaryVO();
+			boardSummaryVO.setId(size - i);
+			boardSummaryVO.setTotalCnt(totalCnt);
+			boardList.add(boardSummaryVO);
+		}
+		return boardList;
+	}
+}
@@ -0,0 +1,121 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import com.ktdsuniversity.edu.hello_spring.access.dao.AccessLogDao;
+import com.ktdsuniversity.edu.hello_spring.access.vo.AccessLogPurgeVO;
+
+public class AccessLogRetentionJobTest {
+
+	private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+	/**
+	 * 오늘: 2026-10-17
+	 */
+	private static final Clock CLOCK = Clock.fixed(LocalDate.of(2026, 10, 17).atStartOfDay(ZONE).plusHours(3).toInstant(), ZONE);
+
+	private AccessLogDao accessLogDao;
+
+	private AccessLogRetentionJob accessLogRetentionJob;
+
+	@BeforeEach
+	public void setUp() {
+		this.accessLogDao = mock(AccessLogDao.class);
+		this.accessLogRetentionJob = new AccessLogRetentionJob(this.accessLogDao, 30, 100, 0, CLOCK);
+	}
+
+	/**
+	 * 마지막으로 집계한 날(다시 집계)부터 어제까지 하루씩 집계한다
+	 */
+	@Test
+	public void testRollupFromLastDay() {
+		when(this.accessLogDao.selectLastRollupDay()).thenReturn("2026-10-14");
+
+		assertEquals(3, this.accessLogRetentionJob.rollup());
+
+		InOrder inOrder = Mockito.inOrder(this.accessLogDao);
+		inOrder.verify(this.accessLogDao).mergeAccessLogHourly("2026-10-14");
+		inOrder.verify(this.accessLogDao).mergeAccessLogHourly("2026-10-15");
+		inOrder.verify(this.accessLogDao).mergeAccessLogHourly("2026-10-16");
+		// 오늘은 아직 끝나지 않았으므로 집계하지 않는다
+		verify(this.accessLogDao, never()).mergeAccessLogHourly("2026-10-17");
+	}
+
+	@Test
+	public void testFirstRollup() {
+		when(this.accessLogDao.selectOldestAccessDay()).thenReturn("2026-10-16");
+		assertEquals(1, this.accessLogRetentionJob.rollup());
+		verify(this.accessLogDao).mergeAccessLogHourly("2026-10-16");
+
+		// 기록이 없다면 아무것도 하지 않는다
+		when(this.accessLogDao.selectOldestAccessDay()).thenReturn(null);
+		assertEquals(0, this.accessLogRetentionJob.rollup());
+	}
+
+	/**
+	 * chunkSize보다 적게 삭제될 때까지 나눠서 삭제한다
+	 */
+	@Test
+	public void testPurgeInChunks() {
+		when(this.accessLogDao.selectLastRollupDay()).thenReturn("2026-10-16");
+		when(this.accessLogDao.deleteAccessLogBefore(any())).thenReturn(100, 100, 40);
+
+		assertEquals(240, this.accessLogRetentionJob.purge());
+
+		ArgumentCaptor<AccessLogPurgeVO> captor = ArgumentCaptor.forClass(AccessLogPurgeVO.class);
+		verify(this.accessLogDao, times(3)).deleteAccessLogBefore(captor.capture());
+		// 보관 기간 30일
+		assertEquals("2026-09-17", captor.getValue().getBeforeDay());
+		assertEquals(100, captor.getValue().getChunkSize());
+	}
+
+	/**
+	 * 집계하지 않은 날의 기록은 보관 기간이 지나도 삭제하지 않는다
+	 */
+	@Test
+	public void testPurgeOnlyRolledUpDays() {
+		when(this.accessLogDao.selectLastRollupDay()).thenReturn("2026-09-01");
+		when(this.accessLogDao.deleteAccessLogBefore(any())).thenReturn(0);
+
+		this.accessLogRetentionJob.purge();
+
+		ArgumentCaptor<AccessLogPurgeVO> captor = ArgumentCaptor.forClass(AccessLogPurgeVO.class);
+		verify(this.accessLogDao).deleteAccessLogBefore(captor.capture());
+		assertEquals("2026-09-01", captor.getValue().getBeforeDay());
+
+		// 집계한 적이 없다면 삭제하지 않는다
+		Mockito.reset(this.accessLogDao);
+		this.accessLogRetentionJob.purge();
+		verify(this.accessLogDao, never()).deleteAccessLogBefore(any());
+	}
+
+	/**
+	 * 종료 요청 이후에는 다음 chunk를 삭제하지 않는다
+	 */
+	@Test
+	public void testStop() {
+		when(this.accessLogDao.selectLastRollupDay()).thenReturn("2026-10-16");
+		this.accessLogRetentionJob.stop();
+
+		this.accessLogRetentionJob.run();
+		verify(this.accessLogDao, never()).mergeAccessLogHourly(anyString());
+		verify(this.accessLogDao, never()).deleteAccessLogBefore(any());
+	}
+}
@@ -0,0 +1,299 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ktdsuniversity.edu.hello_spring.access.dao.AccessLogDao;
+import com.ktdsuniversity.edu.hello_spring.access.vo.AccessLogVO;
+
+public class AccessLogWriterTest {
+
+	private AccessLogDao accessLogDao;
+
+	/**
+	 * INSERT 한 Batch
+	 */
+	private final List<List<AccessLogVO>> batches = new CopyOnWriteArrayList<>();
+
+	/**
+	 * 있다면 열릴 때까지 INSERT를 멈춘다 (데이터베이스가 느린 상황)
+	 */
+	private volatile CountDownLatch blockLatch;
+
+	/**
+	 * 남아있다면 INSERT에 실패한다 (데이터베이스 장애)
+	 */
+	private final AtomicInteger failures = new AtomicInteger();
+
+	private AccessLogWriter accessLogWriter;
+
+	@BeforeEach
+	public void setUp() {
+		this.accessLogDao = mock(AccessLogDao.class);
+		when(this.accessLogDao.insertNewAccessLogBatch(anyList())).thenAnswer(invocation -> this.insert(invocation.getArgument(0)));
+		when(this.accessLogDao.insertNewAccessLog(any())).thenAnswer(invocation -> this.insert(List.of(invocation.getArgument(0, AccessLogVO.class))));
+	}
+
+	@AfterEach
+	public void tearDown() {
+		if(this.blockLatch != null) {
+			this.blockLatch.countDown();
+		}
+		this.accessLogWriter.shutdown();
+	}
+
+	/**
+	 * batchSize만큼 모이면 flushInterval을 기다리지 않고 INSERT 한다
+	 */
+	@Test
+	public void testBatchBySize() throws InterruptedException {
+		this.accessLogWriter = new AccessLogWriter(this.accessLogDao, 100, 5, 60_000, AccessLogWriter.OverflowPolicy.DROP, 0, 1, 5000);
+		this.accessLogWriter.start();
+
+		for(int i = 0; i < 10; i++) {
+			assertTrue(this.accessLogWriter.write(this.createAccessLog(i)));
+		}
+
+		this.waitUntilInserted(10);
+		assertEquals(2, this.batches.size());
+		assertEquals(5, this.batches.get(0).size());
+		// 요청 시간이 기록된다
+		assertNotNull(this.batches.get(0).get(0).getAccessTime());
+		assertEquals(10, this.accessLogWriter.getWrittenCount());
+	}
+
+	/**
+	 * batchSize만큼 모이지 않아도 flushInterval이 지나면 INSERT 한다
+	 */
+	@Test
+	public void testBatchByTime() throws InterruptedException {
+		this.accessLogWriter = new AccessLogWriter(this.accessLogDao, 100, 500, 50, AccessLogWriter.OverflowPolicy.DROP, 0, 1, 5000);
+		this.accessLogWriter.start();
+
+		this.accessLogWriter.write(this.createAccessLog(1));
+		this.accessLogWriter.write(this.createAccessLog(2));
+
+		this.waitUntilInserted(2);
+		assertEquals(0, this.accessLogWriter.getQueueDepth());
+	}
+
+	/**
+	 * DROP: 대기열이 가득 차면 버리고 개수를 센다
+	 */
+	@Test
+	public void testDropOnOverflow() throws InterruptedException {
+		this.blockLatch = new CountDownLatch(1);
+		this.accessLogWriter = new AccessLogWriter(this.accessLogDao, 2, 1, 60_000, AccessLogWriter.OverflowPolicy.DROP, 0, 1, 5000);
+		this.accessLogWriter.start();
+
+		// 첫 기록은 기록 Thread가 꺼내서 INSERT 하는 중 (멈춰 있다)
+		this.accessLogWriter.write(this.createAccessLog(0));
+		this.waitUntilQueueDepth(0);
+
+		assertTrue(this.accessLogWriter.write(this.createAccessLog(1)));
+		assertTrue(this.accessLogWriter.write(this.createAccessLog(2)));
+		assertFalse(this.accessLogWriter.write(this.createAccessLog(3)));
+		assertEquals(2, this.accessLogWriter.getQueueDepth());
+		assertEquals(1, this.accessLogWriter.getDroppedCount());
+
+		this.blockLatch.countDown();
+		this.waitUntilInserted(3);
+	}
+
+	/**
+	 * BLOCK: 자리가 생기지 않으면 blockTimeout 이후에 버린다
+	 */
+	@Test
+	public void testBlockTimeout() throws InterruptedException {
+		this.blockLatch = new CountDownLatch(1);
+		this.accessLogWriter = new AccessLogWriter(this.accessLogDao, 1, 1, 60_000, AccessLogWriter.OverflowPolicy.BLOCK, 20, 1, 5000);
+		this.accessLogWriter.start();
+
+		this.accessLogWriter.write(this.createAccessLog(0));
+		this.waitUntilQueueDepth(0);
+		assertTrue(this.accessLogWriter.write(this.createAccessLog(1)));
+
+		long start = System.nanoTime();
+		assertFalse(this.accessLogWriter.write(this.createAccessLog(2)));
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+		assertEquals(1, this.accessLogWriter.getDroppedCount());
+	}
+
+	/**
+	 * SAMPLE: 대기열이 절반 이상 차면 sampleRate개 중 하나만 넣는다
+	 */
+	@Test
+	public void testSample() throws InterruptedException {
+		this.blockLatch = new CountDownLatch(1);
+		this.accessLogWriter = new AccessLogWriter(this.accessLogDao, 100, 1, 60_000, AccessLogWriter.OverflowPolicy.SAMPLE, 0, 10, 5000);
+		this.accessLogWriter.start();
+
+		this.accessLogWriter.write(this.createAccessLog(0));
+		this.waitUntilQueueDepth(0);
+
+		// 절반(50)까지는 모두 넣는다
+		for(int i = 0; i < 50; i++) {
+			assertTrue(this.accessLogWriter.write(this.createAccessLog(i)));
+		}
+		// 이후 100건 중 10건만 넣는다
+		int accepted = 0;
+		for(int i = 0; i < 100; i++) {
+			if(this.accessLogWriter.write(this.createAccessLog(i))) {
+				accepted++;
+			}
+		}
+		assertEquals(10, accepted);
+		assertEquals(90, this.accessLogWriter.getSampledOutCount());
+		assertEquals(0, this.accessLogWriter.getDroppedCount());
+	}
+
+	/**
+	 * 종료할 때 남아있는 기록을 모두 INSERT 한다
+	 */
+	@Test
+	public void testFlushOnShutdown() {
+		this.accessLogWriter = new AccessLogWriter(this.accessLogDao, 1000, 500, 60_000, AccessLogWriter.OverflowPolicy.DROP, 0, 1, 5000);
+		this.accessLogWriter.start();
+
+		for(int i = 0; i < 700; i++) {
+			this.accessLogWriter.write(this.createAccessLog(i));
+		}
+		this.accessLogWriter.shutdown();
+
+		assertEquals(700, this.getInsertedCount());
+		assertEquals(0, this.accessLogWriter.getQueueDepth());
+
+		// 종료된 뒤의 기록은 바로 INSERT 한다
+		assertTrue(this.accessLogWriter.write(this.createAccessLog(700)));
+		assertEquals(701, this.getInsertedCount());
+	}
+
+	/**
+	 * INSERT에 실패한 기록은 버리지 않고 다시 시도한다
+	 */
+	@Test
+	public void testRetryAfterFailure() throws InterruptedException {
+		this.failures.set(1);
+		this.accessLogWriter = new AccessLogWriter(this.accessLogDao, 100, 5, 20, AccessLogWriter.OverflowPolicy.DROP, 0, 1, 5000);
+		this.accessLogWriter.start();
+
+		for(int i = 0; i < 5; i++) {
+			this.accessLogWriter.write(this.createAccessLog(i));
+		}
+
+		this.waitUntilInserted(5);
+		assertEquals(0, this.accessLogWriter.getFailedCount());
+	}
+
+	/**
+	 * 로그인 기록은 overflow-policy와 관계 없이 버리지 않는다
+	 * 대기열이 가득 찼다면 요청 Thread에서 바로 INSERT 한다
+	 */
+	@Test
+	public void testWriteOrInsertOnOverflow() throws InterruptedException {
+		this.blockLatch = new CountDownLatch(1);
+		this.accessLogWriter = new AccessLogWriter(this.accessLogDao, 1, 1, 60_000, AccessLogWriter.OverflowPolicy.DROP, 0, 1, 5000);
+		this.accessLogWriter.start();
+
+		// 첫 기록은 기록 Thread가 꺼내서 INSERT 하는 중 (멈춰 있다)
+		this.accessLogWriter.writeOrInsert(this.createAccessLog(0));
+		this.waitUntilQueueDepth(0);
+		assertTrue(this.accessLogWriter.writeOrInsert(this.createAccessLog(1)));
+
+		// 대기열이 가득 찼다 -> 요청 Thread에서 INSERT 한다
+		CountDownLatch blockLatch = this.blockLatch;
+		this.blockLatch = null;
+		assertTrue(this.accessLogWriter.writeOrInsert(this.createAccessLog(2)));
+		assertEquals(1, this.getInsertedCount());
+		assertEquals(1, this.accessLogWriter.getOverflowInsertCount());
+		assertEquals(0, this.accessLogWriter.getDroppedCount());
+
+		blockLatch.countDown();
+		this.waitUntilInserted(3);
+	}
+
+	/**
+	 * 종료 신호 이후 기록 Thread가 끝나기 전에 넣은 기록도 INSERT 한다
+	 * (기록 Thread가 대기열을 마지막으로 확인한 이후에 넣은 기록)
+	 */
+	@Test
+	public void testWriteDuringShutdown() throws InterruptedException {
+		this.blockLatch = new CountDownLatch(1);
+		this.accessLogWriter = new AccessLogWriter(this.accessLogDao, 100, 1, 60_000, AccessLogWriter.OverflowPolicy.DROP, 0, 1, 5000);
+		this.accessLogWriter.start();
+
+		// 기록 Thread가 INSERT 하는 중에 (멈춰 있다) 종료를 요청한다
+		this.accessLogWriter.write(this.createAccessLog(0));
+		this.waitUntilQueueDepth(0);
+		Thread shutdownThread = new Thread(this.accessLogWriter::shutdown);
+		shutdownThread.start();
+		while(shutdownThread.getState() != Thread.State.TIMED_WAITING) {
+			Thread.sleep(5);
+		}
+
+		// 종료 중에 들어온 기록
+		this.blockLatch.countDown();
+		assertTrue(this.accessLogWriter.write(this.createAccessLog(1)));
+
+		shutdownThread.join(5000);
+		assertEquals(2, this.getInsertedCount());
+		assertEquals(0, this.accessLogWriter.getQueueDepth());
+	}
+
+	private int insert(List<AccessLogVO> accessLogList) throws InterruptedException {
+		CountDownLatch latch = this.blockLatch;
+		if(latch != null) {
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		if(this.failures.getAndUpdate(failures -> Math.max(0, failures - 1)) > 0) {
+			throw new IllegalStateException("DB 연결 실패");
+		}
+		this.batches.add(new ArrayList<>(accessLogList));
+		return accessLogList.size();
+	}
+
+	private int getInsertedCount() {
+		return this.batches.stream().mapToInt(List::size).sum();
+	}
+
+	private AccessLogVO createAccessLog(int index) {
+		AccessLogVO accessLogVO = new AccessLogVO();
+		accessLogVO.setAccessType("BBS");
+		accessLogVO.setAccessUrl("/board/view?id=" + index);
+		accessLogVO.setAccessMethod("GET");
+		return accessLogVO;
+	}
+
+	private void waitUntilInserted(int count) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while(this.getInsertedCount() < count && System.currentTimeMillis() < deadline) {
+			Thread.sleep(5);
+		}
+		assertEquals(count, this.getInsertedCount());
+	}
+
+	private void waitUntilQueueDepth(int depth) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while(this.accessLogWriter.getQueueDepth() != depth && System.currentTimeMillis() < deadline) {
+			Thread.sleep(5);
+		}
+		assertEquals(depth, this.accessLogWriter.getQueueDepth());
+	}
+}
@@ -0,0 +1,71 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+import com.ktdsuniversity.edu.hello_spring.bbs.vo.SearchBoardVO;
+import com.ktdsuniversity.edu.hello_spring.bbs.web.BoardController;
+import com.ktdsuniversity.edu.hello_spring.common.beans.HandlerMetadataCache.HandlerMetadata;
+
+/**
+ * controller 메소드 정보는 시작할 때 한 번만 만들고 요청마다 같은 객체를 사용한다
+ */
+public class HandlerMetadataCacheTest {
+
+	@Test
+	public void testRegisteredHandlerMethod() throws NoSuchMethodException {
+		Method viewBoardList = BoardController.class.getMethod("viewBoardList", Model.class, SearchBoardVO.class);
+
+		HandlerMetadataCache handlerMetadataCache = new HandlerMetadataCache();
+		// 시작할 때 등록되는 HandlerMethod (bean 이름을 가지고 있다)
+		handlerMetadataCache.registerHandlerMethods(Map.of(
+				RequestMappingInfo.paths("/board/list").methods(RequestMethod.GET).build(),
+				new HandlerMethod("boardController", new StaticListableBeanFactory(
+						Map.of("boardController", new BoardController())), viewBoardList)));
+
+		// 요청마다 만들어지는 HandlerMethod (bean 객체를 가지고 있다)
+		HandlerMetadata handlerMetadata = handlerMetadataCache.get(new HandlerMethod(new BoardController(), viewBoardList));
+		assertEquals("BBS", handlerMetadata.accessType());
+		assertEquals("/board/list", handlerMetadata.urlTemplate());
+		assertEquals(Set.of("GET"), handlerMetadata.methods());
+
+		assertSame(handlerMetadata, handlerMetadataCache.get(new HandlerMethod(new BoardController(), viewBoardList)));
+		assertEquals(1, handlerMetadataCache.size());
+	}
+
+	@Test
+	public void testUnregisteredHandler() throws NoSuchMethodException {
+		HandlerMetadataCache handlerMetadataCache = new HandlerMetadataCache();
+
+		Method viewBoardList = BoardController.class.getMethod("viewBoardList", Model.class, SearchBoardVO.class);
+		HandlerMetadata handlerMetadata = handlerMetadataCache.get(new HandlerMethod(new BoardController(), viewBoardList));
+		assertEquals("BBS", handlerMetadata.accessType());
+		assertNull(handlerMetadata.urlTemplate());
+
+		// controller 메소드가 아닌 handler는 클래스 기준으로 캐시한다
+		HandlerMetadata resourceMetadata = handlerMetadataCache.get(new ResourceHttpRequestHandler());
+		assertSame(resourceMetadata, handlerMetadataCache.get(new ResourceHttpRequestHandler()));
+		assertEquals(2, handlerMetadataCache.size());
+
+		assertNull(handlerMetadataCache.get(null));
+	}
+
+	@Test
+	public void testResolveAccessType() {
+		assertEquals("MEMBER", HandlerMetadataCache.resolveAccessType("com.ktdsuniversity.edu.hello_spring.member.web.MemberController"));
+		assertEquals("BBS", HandlerMetadataCache.resolveAccessType("com.ktdsuniversity.edu.hello_spring.bbs.web.BoardController"));
+	}
+}
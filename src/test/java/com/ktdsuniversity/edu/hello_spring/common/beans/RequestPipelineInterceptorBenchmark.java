@@ -0,0 +1,187 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.ui.Model;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.handler.MappedInterceptor;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.ktdsuniversity.edu.hello_spring.access.dao.AccessLogDao;
+import com.ktdsuniversity.edu.hello_spring.bbs.vo.SearchBoardVO;
+import com.ktdsuniversity.edu.hello_spring.bbs.web.BoardController;
+import com.ktdsuniversity.edu.hello_spring.common.utils.AuthenticationUtil;
+import com.ktdsuniversity.edu.hello_spring.member.vo.LoginUserVO;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 요청 1건의 interceptor 실행 시간 비교 (JMH)
+ *
+ * - separate: 이전 방식. interceptor를 각각 등록 (MappedInterceptor마다 경로 목록 비교, 로그인 정보 조회)
+ * - pipeline: RequestPipelineInterceptor 하나로 등록
+ *
+ * 경로 목록은 application.yml의 app.interceptors.* 와 같다
+ * 접근 기록 INSERT는 interceptor 자체의 비용만 측정하기 위해 아무것도 하지 않는 DAO(mock)를 사용한다 (AccessLogWriter의 대기열에 넣는 비용까지 측정)
+ * -> 측정 중에 호출 기록이 쌓이지 않도록 stubOnly로 만든다
+ *
+ * 실행: main 메소드 실행 (IDE) 또는 아래 명령어
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test "-Dexec.args=-cp %classpath org.openjdk.jmh.Main RequestPipelineInterceptorBenchmark -prof gc"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestPipelineInterceptorBenchmark {
+
+	private static final List<String> CHECK_DUP_LOGIN_PATH_PATTERNS = List.of("/member/login", "/member/regist/**");
+	private static final List<String> CHECK_DUP_LOGIN_EXCLUDE_PATH_PATTERNS = List.of();
+	private static final List<String> ADD_ACCESS_LOG_PATH_PATTERNS = List.of("/**");
+	private static final List<String> ADD_ACCESS_LOG_EXCLUDE_PATH_PATTERNS = List.of("/js/**", "/css/**", "/image/**");
+
+	/**
+	 * 로그인한 사용자의 요청 (로그인 페이지는 redirect 되므로 제외)
+	 */
+	private static final String[] PATHS = {
+			"/board/list",
+			"/board/view",
+			"/board/reply/1024",
+			"/board/modify/1024",
+			"/js/board/boardview.js",
+			"/css/common.css",
+	};
+
+	private AccessLogWriter accessLogWriter;
+
+	private MappedInterceptor[] separateInterceptors;
+	private RequestPipelineInterceptor requestPipelineInterceptor;
+
+	private HttpServletRequest[] requests;
+	private MockHttpServletResponse response;
+	private Object handler;
+
+	private int index;
+
+	@Setup
+	public void setUp() throws NoSuchMethodException {
+		// logback.xml의 DEBUG 로그가 측정에 섞이지 않도록 한다
+		((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.INFO);
+
+		SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+		LoginUserVO loginUserVO = new LoginUserVO("user@test.com", "사용자", List.of("READ"));
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(loginUserVO, null, AuthorityUtils.createAuthorityList("READ")));
+
+		// 기록 Thread가 아무것도 하지 않는 DAO로 대기열을 비운다
+		this.accessLogWriter = new AccessLogWriter(mock(AccessLogDao.class, withSettings().stubOnly()), 10000, 500, 1000, AccessLogWriter.OverflowPolicy.DROP, 0, 1, 1000);
+		this.accessLogWriter.start();
+		HandlerMetadataCache handlerMetadataCache = new HandlerMetadataCache();
+
+		// 이전 방식: interceptor마다 로그인 정보를 조회한다
+		this.separateInterceptors = new MappedInterceptor[] {
+				mappedInterceptor(CHECK_DUP_LOGIN_PATH_PATTERNS, CHECK_DUP_LOGIN_EXCLUDE_PATH_PATTERNS, new CheckDuplicateLoginInterceptor()),
+				mappedInterceptor(ADD_ACCESS_LOG_PATH_PATTERNS, ADD_ACCESS_LOG_EXCLUDE_PATH_PATTERNS, new AddAccessLogHistoryInterceptor(this.accessLogWriter, handlerMetadataCache)),
+		};
+
+		this.requestPipelineInterceptor = new RequestPipelineInterceptor()
+				.addStage(CHECK_DUP_LOGIN_PATH_PATTERNS, CHECK_DUP_LOGIN_EXCLUDE_PATH_PATTERNS, new CheckDuplicateLoginInterceptor())
+				.addStage(ADD_ACCESS_LOG_PATH_PATTERNS, ADD_ACCESS_LOG_EXCLUDE_PATH_PATTERNS, new AddAccessLogHistoryInterceptor(this.accessLogWriter, handlerMetadataCache));
+
+		this.requests = new HttpServletRequest[PATHS.length];
+		for(int i = 0; i < PATHS.length; i++) {
+			MockHttpServletRequest request = new MockHttpServletRequest("GET", PATHS[i]);
+			// DispatcherServlet이 요청마다 한 번 분석하는 경로 (두 방식 모두 사용한다)
+			ServletRequestPathUtils.parseAndCache(request);
+			this.requests[i] = request;
+		}
+		this.response = new MockHttpServletResponse();
+		this.handler = new HandlerMethod(new BoardController()
+									   , BoardController.class.getMethod("viewBoardList", Model.class, SearchBoardVO.class));
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.accessLogWriter.shutdown();
+	}
+
+	@Benchmark
+	public boolean separate() throws Exception {
+		HttpServletRequest request = this.requests[this.nextIndex()];
+		for(MappedInterceptor mappedInterceptor : this.separateInterceptors) {
+			if(mappedInterceptor.matches(request) && !mappedInterceptor.preHandle(request, this.response, this.handler)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Benchmark
+	public boolean pipeline() throws Exception {
+		HttpServletRequest request = this.requests[this.nextIndex()];
+		return this.requestPipelineInterceptor.preHandle(request, this.response, this.handler);
+	}
+
+	private int nextIndex() {
+		int current = this.index;
+		this.index = current + 1 == PATHS.length ? 0 : current + 1;
+		return current;
+	}
+
+	private static MappedInterceptor mappedInterceptor(List<String> includePathPatterns, List<String> excludePathPatterns, RequestPipelineInterceptor.Stage stage) {
+		HandlerInterceptor interceptor = new HandlerInterceptor() {
+			@Override
+			public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+				return stage.preHandle(request, response, handler, AuthenticationUtil.getLoginUserVO());
+			}
+		};
+		return new MappedInterceptor(includePathPatterns.toArray(String[]::new)
+								   , excludePathPatterns.toArray(String[]::new)
+								   , interceptor
+								   , PathPatternParser.defaultInstance);
+	}
+
+	/**
+	 * 아무것도 하지 않는 DAO (데이터베이스 시간 제외)
+	 */
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(RequestPipelineInterceptorBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,87 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.ktdsuniversity.edu.hello_spring.member.vo.LoginUserVO;
+
+/**
+ * interceptor 파이프라인은 경로가 일치하는 Stage만 순서대로 실행하고
+ * 로그인 정보는 HttpSession(_LOGIN_USER)이 아닌 Spring Security의 인증 정보에서 한 번만 가져온다
+ */
+public class RequestPipelineInterceptorTest {
+
+	private List<String> executedStages;
+
+	private RequestPipelineInterceptor requestPipelineInterceptor;
+
+	@BeforeEach
+	public void setUp() {
+		this.executedStages = new ArrayList<>();
+		this.requestPipelineInterceptor = new RequestPipelineInterceptor()
+				.addStage(List.of("/member/login", "/member/regist/**"), List.of(""), new CheckDuplicateLoginInterceptor())
+				.addStage(List.of("/**"), List.of("/js/**", "/css/**", "/image/**"), (request, response, handler, loginUserVO) -> {
+					this.executedStages.add("accessLog:" + (loginUserVO == null ? null : loginUserVO.getEmail()));
+					return true;
+				});
+	}
+
+	@AfterEach
+	public void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	public void testLoggedIn() throws Exception {
+		LoginUserVO loginUserVO = new LoginUserVO("user@test.com", "사용자", List.of("READ"));
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(loginUserVO, null, AuthorityUtils.createAuthorityList("READ")));
+
+		// 중복 로그인 -> 이후의 Stage는 실행하지 않는다
+		MockHttpServletRequest loginPageRequest = new MockHttpServletRequest("GET", "/member/login");
+		MockHttpServletResponse loginPageResponse = new MockHttpServletResponse();
+		assertFalse(this.requestPipelineInterceptor.preHandle(loginPageRequest, loginPageResponse, null));
+		assertEquals("/board/list", loginPageResponse.getRedirectedUrl());
+		assertTrue(this.executedStages.isEmpty());
+		// 로그인 여부를 확인하기 위해 HttpSession을 만들지 않는다
+		assertNull(loginPageRequest.getSession(false));
+
+		MockHttpServletRequest boardRequest = new MockHttpServletRequest("GET", "/board/list");
+		assertTrue(this.requestPipelineInterceptor.preHandle(boardRequest, new MockHttpServletResponse(), null));
+		assertEquals(List.of("accessLog:user@test.com"), this.executedStages);
+		assertNull(boardRequest.getSession(false));
+	}
+
+	@Test
+	public void testAnonymous() throws Exception {
+		SecurityContextHolder.getContext().setAuthentication(
+				new AnonymousAuthenticationToken("key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+
+		MockHttpServletRequest loginPageRequest = new MockHttpServletRequest("GET", "/member/login");
+		assertTrue(this.requestPipelineInterceptor.preHandle(loginPageRequest, new MockHttpServletResponse(), null));
+		assertEquals(List.of("accessLog:null"), this.executedStages);
+	}
+
+	@Test
+	public void testExcludedPath() throws Exception {
+		MockHttpServletRequest staticRequest = new MockHttpServletRequest("GET", "/js/jquery-3.7.1.min.js");
+		assertTrue(this.requestPipelineInterceptor.preHandle(staticRequest, new MockHttpServletResponse(), null));
+		assertTrue(this.executedStages.isEmpty());
+		assertNull(staticRequest.getSession(false));
+	}
+}
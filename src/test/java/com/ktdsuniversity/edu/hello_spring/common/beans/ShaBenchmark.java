@@ -0,0 +1,125 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Sha 암호화 성능 측정 (JMH)
+ *
+ * 이전 구현(LegacySha)과 현재 구현(Sha)을 ns/op, 호출당 할당 byte(gc.alloc.rate.norm)로 비교한다
+ * 실행: main 메소드 실행 (IDE) 또는 아래 명령어
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test "-Dexec.args=-cp %classpath org.openjdk.jmh.Main ShaBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ShaBenchmark {
+
+	private static final String PASSWORD = "password1234";
+	private static final String SALT = "71b4866d548d1456";
+
+	private final Sha sha = new Sha();
+	private final LegacySha legacySha = new LegacySha();
+
+	@Benchmark
+	public String legacyGetEncrypt() {
+		return this.legacySha.getEncrypt(PASSWORD, SALT);
+	}
+
+	@Benchmark
+	public String getEncrypt() {
+		return this.sha.getEncrypt(PASSWORD, SALT);
+	}
+
+	@Benchmark
+	public String legacyGenerateSalt() {
+		return this.legacySha.generateSalt();
+	}
+
+	@Benchmark
+	public String generateSalt() {
+		return this.sha.generateSalt();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(ShaBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+
+	/**
+	 * 비교를 위해 남겨둔 이전 Sha 구현
+	 */
+	static class LegacySha {
+
+		public String getEncrypt(String source, String salt) {
+			return getEncrypt(source, salt.getBytes());
+		}
+
+		public String getEncrypt(String source, byte[] salt) {
+			String result = "";
+
+			byte[] a = source.getBytes();
+			byte[] bytes = new byte[a.length + salt.length];
+
+			System.arraycopy(a, 0, bytes, 0, a.length);
+			System.arraycopy(salt, 0, bytes, a.length, salt.length);
+
+			try {
+				MessageDigest md = MessageDigest.getInstance("SHA-256");
+				md.update(bytes);
+
+				byte[] byteData = md.digest();
+
+				StringBuffer sb = new StringBuffer();
+				for (int i = 0; i < byteData.length; i++) {
+					sb.append(Integer.toString((byteData[i] & 0xFF) + 256, 16).substring(1));
+				}
+
+				result = sb.toString();
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException(e);
+			}
+
+			return result;
+		}
+
+		public String generateSalt() {
+			Random random = new Random();
+
+			byte[] salt = new byte[8];
+			random.nextBytes(salt);
+
+			StringBuffer sb = new StringBuffer();
+			for (int i = 0; i < salt.length; i++) {
+				sb.append(String.format("%02x", salt[i]));
+			}
+
+			return sb.toString();
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class ShaTest {
+
+	private Sha sha = new Sha();
+
+	/**
+	 * 이미 데이터베이스에 저장된 비밀번호로 로그인할 수 있도록
+	 * 이전 구현과 같은 결과를 만들어야 한다
+	 */
+	@Test
+	public void testGetEncryptSameAsLegacy() {
+		ShaBenchmark.LegacySha legacySha = new ShaBenchmark.LegacySha();
+
+		for(int i = 0; i < 100; i++) {
+			String salt = this.sha.generateSalt();
+			String password = "password" + i;
+			assertEquals(legacySha.getEncrypt(password, salt), this.sha.getEncrypt(password, salt));
+		}
+	}
+
+	@Test
+	public void testGenerateSalt() {
+		String salt = this.sha.generateSalt();
+
+		assertEquals(16, salt.length());
+		assertTrue(salt.matches("[0-9a-f]{16}"));
+		assertNotEquals(salt, this.sha.generateSalt());
+	}
+}
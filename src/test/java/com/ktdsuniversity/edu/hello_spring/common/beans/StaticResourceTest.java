@@ -0,0 +1,65 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.context.SecurityContextHolderFilter;
+import org.springframework.security.web.csrf.CsrfFilter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+import jakarta.servlet.Filter;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class StaticResourceTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private FilterChainProxy filterChainProxy;
+
+	@Autowired
+	private ResourceUrlProvider resourceUrlProvider;
+
+	@Test
+	public void staticResourceChainSkipsSecurityContextAndCsrf() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/js/jquery-3.7.1.min.js");
+		List<Filter> filters = this.filterChainProxy.getFilters(request.getRequestURI());
+
+		assertTrue(filters.stream().noneMatch(filter -> filter instanceof SecurityContextHolderFilter));
+		assertTrue(filters.stream().noneMatch(filter -> filter instanceof CsrfFilter));
+	}
+
+	@Test
+	public void versionedUrlIsServedWithLongCacheAndNoSession() throws Exception {
+		String versionedUrl = this.resourceUrlProvider.getForLookupPath("/js/jquery-3.7.1.min.js");
+		assertNotNull(versionedUrl);
+		assertNotEquals("/js/jquery-3.7.1.min.js", versionedUrl);
+
+		MvcResult result = this.mockMvc.perform(get(versionedUrl))
+									   .andExpect(status().isOk())
+									   .andExpect(header().doesNotExist(HttpHeaders.SET_COOKIE))
+									   .andReturn();
+
+		assertEquals("max-age=31536000, public, immutable", result.getResponse().getHeader(HttpHeaders.CACHE_CONTROL));
+		assertNull(result.getRequest().getSession(false));
+	}
+}
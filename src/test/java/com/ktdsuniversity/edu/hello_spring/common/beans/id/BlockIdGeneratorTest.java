@@ -0,0 +1,92 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+public class BlockIdGeneratorTest {
+
+	/**
+	 * INCREMENT BY 50인 Sequence
+	 */
+	private final AtomicLong sequence = new AtomicLong(1001 - 50);
+
+	private final AtomicInteger sequenceCallCount = new AtomicInteger();
+
+	private BlockIdGenerator createIdGenerator() {
+		return new BlockIdGenerator(() -> {
+			this.sequenceCallCount.incrementAndGet();
+			return this.sequence.addAndGet(50);
+		}, () -> 50);
+	}
+
+	@Test
+	public void testBlock() {
+		BlockIdGenerator idGenerator = this.createIdGenerator();
+
+		for(int i = 0; i < 50; i++) {
+			assertEquals(1001 + i, idGenerator.nextId());
+		}
+		assertEquals(1, this.sequenceCallCount.get());
+
+		// Block을 다 사용하면 다음 NEXTVAL부터
+		assertEquals(1051, idGenerator.nextId());
+		assertEquals(2, this.sequenceCallCount.get());
+	}
+
+	/**
+	 * 같은 Sequence를 사용하는 두 서버는 겹치지 않는 ID를 만든다
+	 */
+	@Test
+	public void testTwoNodes() {
+		BlockIdGenerator nodeA = this.createIdGenerator();
+		BlockIdGenerator nodeB = this.createIdGenerator();
+
+		Set<Long> ids = ConcurrentHashMap.newKeySet();
+		for(int i = 0; i < 120; i++) {
+			assertTrue(ids.add(nodeA.nextId()));
+			assertTrue(ids.add(nodeB.nextId()));
+		}
+	}
+
+	@Test
+	public void testConcurrentUnique() throws InterruptedException {
+		BlockIdGenerator idGenerator = this.createIdGenerator();
+		Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		for(int thread = 0; thread < 4; thread++) {
+			executorService.execute(() -> {
+				for(int i = 0; i < 5_000; i++) {
+					ids.add(idGenerator.nextId());
+				}
+			});
+		}
+		executorService.shutdown();
+		assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+		assertEquals(20_000, ids.size());
+		// 20,000개를 Block(50) 단위로 받았다
+		assertEquals(400, this.sequenceCallCount.get());
+	}
+
+	/**
+	 * INCREMENT BY 1인 Sequence(변경하지 않은 경우)라면 ID마다 조회한다
+	 */
+	@Test
+	public void testBlockSizeOne() {
+		AtomicLong sequence = new AtomicLong();
+		BlockIdGenerator idGenerator = new BlockIdGenerator(sequence::incrementAndGet, () -> 1);
+		assertEquals(1, idGenerator.nextId());
+		assertEquals(2, idGenerator.nextId());
+		assertEquals(2, sequence.get());
+	}
+}
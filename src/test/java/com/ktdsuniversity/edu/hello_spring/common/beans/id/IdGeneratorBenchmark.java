@@ -0,0 +1,83 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.id;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * ID 생성기의 Thread 별 초당 생성 수 비교 (JMH)
+ *
+ * - timeOrdered: TimeOrderedIdGenerator (ACCESS_LOG)
+ * - block: BlockIdGenerator (BOARD, REPLIES). Sequence 조회는 메모리의 값으로 대신한다 (Block 크기 50)
+ * - accessLogIdString: ACCESS_LOG_ID 문자열까지 만드는 비용
+ * - randomUuid: 비교용 (UUID.randomUUID)
+ *
+ * 여러 Thread가 동시에 만들 때는 -t 옵션으로 Thread 수를 지정한다 (결과는 Thread 별 수의 합계)
+ *
+ * 실행: main 메소드 실행 (IDE) 또는 아래 명령어
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test "-Dexec.args=-cp %classpath org.openjdk.jmh.Main IdGeneratorBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(1)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+	private TimeOrderedIdGenerator timeOrderedIdGenerator;
+	private BlockIdGenerator blockIdGenerator;
+
+	@Setup
+	public void setUp() {
+		this.timeOrderedIdGenerator = new TimeOrderedIdGenerator(1);
+		AtomicLong sequence = new AtomicLong();
+		this.blockIdGenerator = new BlockIdGenerator(() -> sequence.addAndGet(50), () -> 50);
+	}
+
+	@Benchmark
+	public long timeOrdered() {
+		return this.timeOrderedIdGenerator.nextId();
+	}
+
+	@Benchmark
+	public long block() {
+		return this.blockIdGenerator.nextId();
+	}
+
+	@Benchmark
+	public String accessLogIdString() {
+		return "AL-" + TimeOrderedIdGenerator.toSortableString(this.timeOrderedIdGenerator.nextId());
+	}
+
+	@Benchmark
+	public UUID randomUuid() {
+		return UUID.randomUUID();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(IdGeneratorBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,91 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+public class TimeOrderedIdGeneratorTest {
+
+	@Test
+	public void testLayout() {
+		long now = TimeOrderedIdGenerator.EPOCH + 123_456_789L;
+		TimeOrderedIdGenerator idGenerator = new TimeOrderedIdGenerator(7, () -> now);
+
+		long first = idGenerator.nextId();
+		long second = idGenerator.nextId();
+		assertEquals(now, TimeOrderedIdGenerator.timestampOf(first));
+		assertEquals(7, TimeOrderedIdGenerator.nodeIdOf(first));
+		// 같은 ms 안에서는 순번이 증가한다
+		assertEquals(first + 1, second);
+	}
+
+	/**
+	 * 1ms 동안 4096개를 넘게 만들거나 시계가 뒤로 가도 ID는 계속 증가한다
+	 */
+	@Test
+	public void testMonotonic() {
+		AtomicLong clock = new AtomicLong(TimeOrderedIdGenerator.EPOCH + 1000);
+		TimeOrderedIdGenerator idGenerator = new TimeOrderedIdGenerator(1, clock::get);
+
+		long previous = -1;
+		for(int i = 0; i < 10_000; i++) {
+			long id = idGenerator.nextId();
+			assertTrue(id > previous);
+			assertEquals(1, TimeOrderedIdGenerator.nodeIdOf(id));
+			previous = id;
+		}
+
+		clock.addAndGet(-500);
+		assertTrue(idGenerator.nextId() > previous);
+	}
+
+	/**
+	 * 서버 번호가 다르면 같은 시간에 만들어도 겹치지 않는다
+	 */
+	@Test
+	public void testNodeId() {
+		long now = TimeOrderedIdGenerator.EPOCH + 1000;
+		long nodeA = new TimeOrderedIdGenerator(1, () -> now).nextId();
+		long nodeB = new TimeOrderedIdGenerator(2, () -> now).nextId();
+		assertTrue(nodeA != nodeB);
+
+		assertThrows(IllegalArgumentException.class, () -> new TimeOrderedIdGenerator(TimeOrderedIdGenerator.MAX_NODE_ID + 1));
+	}
+
+	@Test
+	public void testConcurrentUnique() throws InterruptedException {
+		TimeOrderedIdGenerator idGenerator = new TimeOrderedIdGenerator(3);
+		Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		for(int thread = 0; thread < 4; thread++) {
+			executorService.execute(() -> {
+				for(int i = 0; i < 20_000; i++) {
+					ids.add(idGenerator.nextId());
+				}
+			});
+		}
+		executorService.shutdown();
+		assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+		assertEquals(80_000, ids.size());
+	}
+
+	/**
+	 * 문자열의 순서와 ID의 순서가 같다
+	 */
+	@Test
+	public void testSortableString() {
+		assertEquals("0000000000001", TimeOrderedIdGenerator.toSortableString(1));
+		assertEquals(13, TimeOrderedIdGenerator.toSortableString(Long.MAX_VALUE).length());
+		assertTrue(TimeOrderedIdGenerator.toSortableString(35).compareTo(TimeOrderedIdGenerator.toSortableString(36)) < 0);
+	}
+}
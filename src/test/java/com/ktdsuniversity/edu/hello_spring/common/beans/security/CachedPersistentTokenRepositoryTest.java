@@ -0,0 +1,151 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.web.authentication.rememberme.PersistentRememberMeToken;
+
+import com.ktdsuniversity.edu.hello_spring.member.dao.RememberMeTokenDao;
+import com.ktdsuniversity.edu.hello_spring.member.vo.RememberMeTokenVO;
+
+public class CachedPersistentTokenRepositoryTest {
+
+	private RememberMeTokenDao rememberMeTokenDao;
+
+	private CachedPersistentTokenRepository tokenRepository;
+
+	@BeforeEach
+	public void setUp() {
+		this.rememberMeTokenDao = mock(RememberMeTokenDao.class);
+		this.tokenRepository = new CachedPersistentTokenRepository(this.rememberMeTokenDao, 100, Duration.ofMinutes(30));
+		when(this.rememberMeTokenDao.updateToken(any())).thenReturn(1);
+	}
+
+	/**
+	 * 한 번 확인한 토큰은 다시 조회하지 않는다
+	 */
+	@Test
+	public void testCachedValidation() {
+		RememberMeTokenVO rememberMeTokenVO = new RememberMeTokenVO();
+		rememberMeTokenVO.setSeries("series");
+		rememberMeTokenVO.setEmail("user@test.com");
+		rememberMeTokenVO.setToken("token");
+		rememberMeTokenVO.setLastUsed("2026-10-17 09:00:00");
+		when(this.rememberMeTokenDao.selectTokenBySeries("series")).thenReturn(rememberMeTokenVO);
+
+		for(int i = 0; i < 3; i++) {
+			PersistentRememberMeToken token = this.tokenRepository.getTokenForSeries("series");
+			assertEquals("user@test.com", token.getUsername());
+			assertEquals("token", token.getTokenValue());
+		}
+		verify(this.rememberMeTokenDao, times(1)).selectTokenBySeries("series");
+
+		// 없는 토큰은 캐시하지 않는다
+		assertNull(this.tokenRepository.getTokenForSeries("unknown"));
+		assertNull(this.tokenRepository.getTokenForSeries("unknown"));
+		verify(this.rememberMeTokenDao, times(2)).selectTokenBySeries("unknown");
+	}
+
+	/**
+	 * 토큰의 값은 데이터베이스에 바로 반영된다
+	 * 마지막 사용 시간은 데이터베이스에 series별 마지막 값만 한 번에 반영된다
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testBatchedUpdate() {
+		this.tokenRepository.createNewToken(new PersistentRememberMeToken("a@test.com", "a", "a0", new Date()));
+		this.tokenRepository.createNewToken(new PersistentRememberMeToken("b@test.com", "b", "b0", new Date()));
+
+		this.tokenRepository.updateToken("a", "a1", new Date());
+		this.tokenRepository.updateToken("a", "a2", new Date());
+		this.tokenRepository.updateToken("b", "b1", new Date());
+
+		assertEquals("a2", this.tokenRepository.getTokenForSeries("a").getTokenValue());
+		ArgumentCaptor<RememberMeTokenVO> tokenCaptor = ArgumentCaptor.forClass(RememberMeTokenVO.class);
+		verify(this.rememberMeTokenDao, times(3)).updateToken(tokenCaptor.capture());
+		assertEquals(List.of("a1", "a2", "b1"), tokenCaptor.getAllValues().stream().map(RememberMeTokenVO::getToken).toList());
+		verify(this.rememberMeTokenDao, never()).updateLastUsedBatch(anyList());
+		verify(this.rememberMeTokenDao, never()).selectTokenBySeries(anyString());
+
+		this.tokenRepository.flush();
+
+		ArgumentCaptor<List<RememberMeTokenVO>> captor = ArgumentCaptor.forClass(List.class);
+		verify(this.rememberMeTokenDao, times(1)).updateLastUsedBatch(captor.capture());
+		assertEquals(2, captor.getValue().size());
+		assertEquals(0, this.tokenRepository.getPendingTokenCount());
+	}
+
+	/**
+	 * 로그아웃하면 캐시와 대기 중인 변경도 삭제되고, 반영에 실패한 변경이 다시 살아나지 않는다
+	 */
+	@Test
+	public void testRemoveUserTokens() {
+		this.tokenRepository.createNewToken(new PersistentRememberMeToken("a@test.com", "a", "a0", new Date()));
+		this.tokenRepository.updateToken("a", "a1", new Date());
+
+		when(this.rememberMeTokenDao.updateLastUsedBatch(anyList())).thenAnswer(invocation -> {
+			// 반영하는 중에 로그아웃
+			this.tokenRepository.removeUserTokens("a@test.com");
+			throw new IllegalStateException("DB error");
+		});
+		this.tokenRepository.flush();
+
+		assertEquals(0, this.tokenRepository.getPendingTokenCount());
+		assertNull(this.tokenRepository.getTokenForSeries("a"));
+		verify(this.rememberMeTokenDao).deleteTokensByEmail("a@test.com");
+	}
+
+	/**
+	 * 데이터베이스에서 조회하는 중에 로그아웃되었다면 조회한 토큰을 캐시하지 않는다
+	 * (캐시하면 로그아웃한 뒤에도 캐시 유효시간 동안 자동 로그인된다)
+	 */
+	@Test
+	public void testLoadInterleavedWithLogout() {
+		RememberMeTokenVO rememberMeTokenVO = new RememberMeTokenVO();
+		rememberMeTokenVO.setSeries("a");
+		rememberMeTokenVO.setEmail("a@test.com");
+		rememberMeTokenVO.setToken("a0");
+		rememberMeTokenVO.setLastUsed("2026-10-17 09:00:00");
+		when(this.rememberMeTokenDao.selectTokenBySeries("a")).thenAnswer(invocation -> {
+			// 삭제되기 전의 값을 읽은 뒤에 로그아웃
+			this.tokenRepository.removeUserTokens("a@test.com");
+			return rememberMeTokenVO;
+		}).thenReturn(null);
+
+		assertEquals("a0", this.tokenRepository.getTokenForSeries("a").getTokenValue());
+		assertNull(this.tokenRepository.getTokenForSeries("a"));
+		verify(this.rememberMeTokenDao, times(2)).selectTokenBySeries("a");
+	}
+
+	/**
+	 * 토큰의 값을 변경하는 중에 로그아웃되었다면 변경한 토큰을 캐시하지 않는다
+	 */
+	@Test
+	public void testUpdateInterleavedWithLogout() {
+		this.tokenRepository.createNewToken(new PersistentRememberMeToken("a@test.com", "a", "a0", new Date()));
+		when(this.rememberMeTokenDao.updateToken(any())).thenAnswer(invocation -> {
+			this.tokenRepository.removeUserTokens("a@test.com");
+			return 0;
+		});
+
+		this.tokenRepository.updateToken("a", "a1", new Date());
+
+		assertEquals(0, this.tokenRepository.getPendingTokenCount());
+		assertNull(this.tokenRepository.getTokenForSeries("a"));
+	}
+}
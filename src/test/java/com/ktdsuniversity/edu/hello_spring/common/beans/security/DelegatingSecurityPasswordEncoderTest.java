@@ -0,0 +1,70 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.ktdsuniversity.edu.hello_spring.common.beans.Sha;
+
+public class DelegatingSecurityPasswordEncoderTest {
+
+	private Sha sha = new Sha();
+
+	private DelegatingSecurityPasswordEncoder passwordEncoder =
+			new DelegatingSecurityPasswordEncoder(new SecurityPasswordEncoder(this.sha), this.sha, 20000, 20000);
+
+	/**
+	 * 이전 방식(SHA-256 1회)으로 저장된 비밀번호도 검증할 수 있어야 하고, 다시 암호화 대상이어야 한다
+	 */
+	@Test
+	public void testLegacyPassword() {
+		String salt = this.sha.generateSalt();
+		String legacyPassword = this.sha.getEncrypt("password1234", salt);
+
+		assertTrue(this.passwordEncoder.matches("password1234", salt, legacyPassword));
+		assertFalse(this.passwordEncoder.matches("password5678", salt, legacyPassword));
+		assertTrue(this.passwordEncoder.upgradeEncoding(legacyPassword));
+	}
+
+	@Test
+	public void testPbkdf2Password() {
+		String salt = this.sha.generateSalt();
+		String password = this.passwordEncoder.encode("password1234", salt);
+
+		assertTrue(password.startsWith(DelegatingSecurityPasswordEncoder.PBKDF2_PREFIX + "20000$"));
+		assertTrue(this.passwordEncoder.matches("password1234", salt, password));
+		assertFalse(this.passwordEncoder.matches("password5678", salt, password));
+		assertFalse(this.passwordEncoder.upgradeEncoding(password));
+	}
+
+	/**
+	 * 다른 서버(또는 이전 실행)에서 측정한 반복횟수가 더 적어도 최소 반복횟수 이상이라면 다시 암호화하지 않는다
+	 */
+	@Test
+	public void testLowerIterationsPassword() {
+		DelegatingSecurityPasswordEncoder fasterServerPasswordEncoder =
+				new DelegatingSecurityPasswordEncoder(new SecurityPasswordEncoder(this.sha), this.sha, 40000, 20000);
+
+		String salt = this.sha.generateSalt();
+		String password = this.passwordEncoder.encode("password1234", salt);
+
+		assertTrue(fasterServerPasswordEncoder.matches("password1234", salt, password));
+		assertFalse(fasterServerPasswordEncoder.upgradeEncoding(password));
+	}
+
+	/**
+	 * 최소 반복횟수를 올리면 그보다 적은 반복횟수로 암호화된 비밀번호는 다시 암호화 대상이어야 한다
+	 */
+	@Test
+	public void testBelowMinIterationsPassword() {
+		DelegatingSecurityPasswordEncoder strongerPasswordEncoder =
+				new DelegatingSecurityPasswordEncoder(new SecurityPasswordEncoder(this.sha), this.sha, 40000, 30000);
+
+		String salt = this.sha.generateSalt();
+		String password = this.passwordEncoder.encode("password1234", salt);
+
+		assertTrue(strongerPasswordEncoder.matches("password1234", salt, password));
+		assertTrue(strongerPasswordEncoder.upgradeEncoding(password));
+	}
+}
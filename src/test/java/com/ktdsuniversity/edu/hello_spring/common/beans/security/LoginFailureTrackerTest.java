@@ -0,0 +1,132 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ktdsuniversity.edu.hello_spring.member.vo.MemberVO;
+
+public class LoginFailureTrackerTest {
+
+	private AtomicLong now = new AtomicLong(System.currentTimeMillis());
+
+	private LoginStateWriter loginStateWriter;
+
+	private LoginFailureTracker loginFailureTracker;
+
+	@BeforeEach
+	public void setUp() {
+		this.loginStateWriter = mock(LoginStateWriter.class);
+		this.loginFailureTracker = new LoginFailureTracker(5, this.loginStateWriter, this.now::get);
+	}
+
+	@Test
+	public void testBlockEmail() {
+		for(int i = 0; i < 4; i++) {
+			this.loginFailureTracker.recordFailure("user@test.com", "10.0.0." + i);
+		}
+		assertFalse(this.loginFailureTracker.isBlocked("user@test.com", "10.0.0.9"));
+
+		this.loginFailureTracker.recordFailure("user@test.com", "10.0.0.4");
+		assertTrue(this.loginFailureTracker.isBlocked("user@test.com", "10.0.0.9"));
+	}
+
+	/**
+	 * 가입하지 않은 이메일로 여러 번 시도한 IP는 다른 이메일로도 로그인할 수 없다
+	 */
+	@Test
+	public void testBlockIp() {
+		for(int i = 0; i < 5; i++) {
+			this.loginFailureTracker.recordFailure(null, "10.0.0.1");
+		}
+		assertTrue(this.loginFailureTracker.isBlocked("other@test.com", "10.0.0.1"));
+		assertFalse(this.loginFailureTracker.isBlocked("other@test.com", "10.0.0.2"));
+	}
+
+	@Test
+	public void testRecordSuccess() {
+		for(int i = 0; i < 5; i++) {
+			this.loginFailureTracker.recordFailure("user@test.com", "10.0.0." + i);
+		}
+		this.loginFailureTracker.recordSuccess("user@test.com", "10.0.0.9");
+
+		assertFalse(this.loginFailureTracker.isBlocked("user@test.com", "10.0.0.9"));
+		verify(this.loginStateWriter, times(5)).recordFailure(eq("user@test.com"), anyString());
+		verify(this.loginStateWriter).recordSuccess("user@test.com", "10.0.0.9");
+	}
+
+	/**
+	 * 1시간이 지난 실패는 세지 않는다
+	 */
+	@Test
+	public void testWindowExpire() {
+		for(int i = 0; i < 5; i++) {
+			this.loginFailureTracker.recordFailure("user@test.com", "10.0.0.1");
+		}
+		this.now.addAndGet(TimeUnit.MINUTES.toMillis(61));
+		assertFalse(this.loginFailureTracker.isBlocked("user@test.com", "10.0.0.1"));
+
+		this.loginFailureTracker.evictExpiredCounters();
+		assertEquals(0, this.loginFailureTracker.getTrackedIpCount());
+		assertEquals(0, this.loginFailureTracker.getTrackedEmailCount());
+	}
+
+	/**
+	 * 재시작 이후에도 데이터베이스의 실패 정보로 차단을 유지한다
+	 */
+	@Test
+	public void testBlockByStoredState() {
+		DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+		MemberVO memberVO = new MemberVO();
+		memberVO.setLoginFailCount(5);
+		memberVO.setLatestLoginFailDate(LocalDateTime.now(ZoneId.systemDefault()).minusMinutes(10).format(formatter));
+		assertTrue(this.loginFailureTracker.isBlocked(memberVO));
+
+		memberVO.setLatestLoginFailDate(LocalDateTime.now(ZoneId.systemDefault()).minusMinutes(70).format(formatter));
+		assertFalse(this.loginFailureTracker.isBlocked(memberVO));
+	}
+
+	/**
+	 * 여러 Thread가 동시에 실패를 기록해도 횟수가 사라지지 않아야 한다
+	 */
+	@Test
+	public void testConcurrentIncrement() throws InterruptedException {
+		LoginFailureTracker.SlidingWindowCounter counter = new LoginFailureTracker.SlidingWindowCounter();
+		long bucket = 1000;
+		int threadCount = 8;
+		int repeat = 10000;
+
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch done = new CountDownLatch(threadCount);
+		for(int i = 0; i < threadCount; i++) {
+			executorService.execute(() -> {
+				for(int j = 0; j < repeat; j++) {
+					counter.increment(bucket);
+				}
+				done.countDown();
+			});
+		}
+		done.await(1, TimeUnit.MINUTES);
+		executorService.shutdown();
+
+		assertEquals(threadCount * repeat, counter.sum(bucket));
+	}
+}
@@ -0,0 +1,102 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.ktdsuniversity.edu.hello_spring.member.dao.MemberDao;
+import com.ktdsuniversity.edu.hello_spring.member.vo.LoginStateVO;
+
+public class LoginStateWriterTest {
+
+	private MemberDao memberDao;
+
+	private LoginStateWriter loginStateWriter;
+
+	@BeforeEach
+	public void setUp() {
+		this.memberDao = mock(MemberDao.class);
+		this.loginStateWriter = new LoginStateWriter(this.memberDao
+												   , mock(ApplicationEventPublisher.class)
+												   , TransactionOperations.withoutTransaction());
+	}
+
+	/**
+	 * 같은 회원의 기록은 하나의 UPDATE로 합쳐져야 한다
+	 */
+	@Test
+	public void testMergeLoginState() {
+		// a: 실패 2번 -> 성공 -> 실패 1번
+		this.loginStateWriter.recordFailure("a@test.com", "10.0.0.1");
+		this.loginStateWriter.recordFailure("a@test.com", "10.0.0.1");
+		this.loginStateWriter.recordSuccess("a@test.com", "10.0.0.2");
+		this.loginStateWriter.recordFailure("a@test.com", "10.0.0.3");
+		// b: 실패 3번
+		for(int i = 0; i < 3; i++) {
+			this.loginStateWriter.recordFailure("b@test.com", "10.0.0.4");
+		}
+
+		this.loginStateWriter.flush();
+
+		Map<String, LoginStateVO> loginStates = this.captureLoginStates();
+		assertEquals(2, loginStates.size());
+
+		LoginStateVO a = loginStates.get("a@test.com");
+		assertTrue(a.isLoginFailCountReset());
+		assertEquals(1, a.getLoginFailCount());
+		assertNotNull(a.getLatestLoginSuccessDate());
+		assertNotNull(a.getLatestLoginFailDate());
+		assertEquals("10.0.0.3", a.getLatestLoginIp());
+
+		LoginStateVO b = loginStates.get("b@test.com");
+		assertFalse(b.isLoginFailCountReset());
+		assertEquals(3, b.getLoginFailCount());
+		assertNull(b.getLatestLoginSuccessDate());
+
+		assertEquals(0, this.loginStateWriter.getPendingLoginStateCount());
+	}
+
+	/**
+	 * 반영에 실패한 기록은 이후의 기록과 합쳐서 다시 반영해야 한다
+	 */
+	@Test
+	public void testRetryAfterFailure() {
+		when(this.memberDao.updateLoginStateBatch(anyList())).thenThrow(new IllegalStateException("DB 연결 실패"))
+															 .thenReturn(1);
+
+		this.loginStateWriter.recordFailure("a@test.com", "10.0.0.1");
+		this.loginStateWriter.flush();
+		assertEquals(1, this.loginStateWriter.getPendingLoginStateCount());
+
+		this.loginStateWriter.recordFailure("a@test.com", "10.0.0.1");
+		this.loginStateWriter.flush();
+
+		assertEquals(2, this.captureLoginStates().get("a@test.com").getLoginFailCount());
+		assertEquals(0, this.loginStateWriter.getPendingLoginStateCount());
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, LoginStateVO> captureLoginStates() {
+		ArgumentCaptor<List<LoginStateVO>> captor = ArgumentCaptor.forClass(List.class);
+		verify(this.memberDao, atLeastOnce()).updateLoginStateBatch(captor.capture());
+		return captor.getValue().stream().collect(Collectors.toMap(LoginStateVO::getEmail, Function.identity()));
+	}
+}
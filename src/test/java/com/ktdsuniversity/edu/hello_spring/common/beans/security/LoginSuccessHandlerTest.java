@@ -0,0 +1,148 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.ktdsuniversity.edu.hello_spring.access.vo.AccessLogVO;
+import com.ktdsuniversity.edu.hello_spring.common.beans.AccessLogWriter;
+import com.ktdsuniversity.edu.hello_spring.member.dao.MemberDao;
+import com.ktdsuniversity.edu.hello_spring.member.vo.LoginUserVO;
+import com.ktdsuniversity.edu.hello_spring.member.vo.MemberVO;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+
+public class LoginSuccessHandlerTest {
+
+	private static final String EMAIL = "user@test.com";
+
+	private static final String IP = "10.0.0.1";
+
+	private MemberDao memberDao;
+
+	private UserDetailsService userDetailsService;
+
+	private DelegatingSecurityPasswordEncoder passwordEncoder;
+
+	private PasswordHashExecutor passwordHashExecutor;
+
+	private LoginStateWriter loginStateWriter;
+
+	private AccessLogWriter accessLogWriter;
+
+	private LoginFailureTracker loginFailureTracker;
+
+	private LoginSuccessHandler loginSuccessHandler;
+
+	@BeforeEach
+	public void setUp() {
+		this.memberDao = mock(MemberDao.class);
+		this.userDetailsService = mock(UserDetailsService.class);
+		this.passwordEncoder = mock(DelegatingSecurityPasswordEncoder.class);
+		this.passwordHashExecutor = mock(PasswordHashExecutor.class);
+		this.loginStateWriter = mock(LoginStateWriter.class);
+		this.accessLogWriter = mock(AccessLogWriter.class);
+		this.loginFailureTracker = new LoginFailureTracker(3, this.loginStateWriter);
+
+		this.loginSuccessHandler = new LoginSuccessHandler(this.memberDao
+														 , this.userDetailsService
+														 , this.passwordEncoder
+														 , this.passwordHashExecutor
+														 , mock(ApplicationEventPublisher.class)
+														 , this.loginFailureTracker
+														 , this.accessLogWriter
+														 , new AuthenticationMetrics(new SimpleMeterRegistry()));
+
+		MemberVO memberVO = new MemberVO();
+		memberVO.setEmail(EMAIL);
+		memberVO.setName("user");
+		memberVO.setPassword("password");
+		memberVO.setSalt("salt");
+		when(this.userDetailsService.loadUserByUsername(EMAIL)).thenReturn(new SecurityUser(memberVO));
+	}
+
+	/**
+	 * 로그인 성공 기록은 principal(LoginUserVO)의 이메일로 남긴다
+	 * (principal의 toString()이나 인증 객체의 이름이 아니라)
+	 */
+	@Test
+	public void testRecordedWithPrincipalEmail() throws IOException, ServletException {
+		for(int i = 0; i < 3; i++) {
+			this.loginFailureTracker.recordFailure(EMAIL, "10.0.0.2");
+		}
+		assertTrue(this.loginFailureTracker.isBlocked(EMAIL, null));
+
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/member/login-proc");
+		request.setRemoteAddr(IP);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+				new LoginUserVO(EMAIL, "user", List.of("READ")), null, AuthorityUtils.createAuthorityList("READ"));
+
+		this.loginSuccessHandler.onAuthenticationSuccess(request, response, authentication);
+
+		// 이메일의 실패 횟수가 초기화된다
+		assertFalse(this.loginFailureTracker.isBlocked(EMAIL, null));
+		verify(this.loginStateWriter).recordSuccess(EMAIL, IP);
+
+		ArgumentCaptor<AccessLogVO> accessLogCaptor = ArgumentCaptor.forClass(AccessLogVO.class);
+		verify(this.accessLogWriter).writeOrInsert(accessLogCaptor.capture());
+		assertEquals(EMAIL, accessLogCaptor.getValue().getAccessEmail());
+		assertEquals("Y", accessLogCaptor.getValue().getLoginSuccessYn());
+
+		assertEquals("/board/list", response.getRedirectedUrl());
+	}
+
+	/**
+	 * 이전 방식의 비밀번호는 암호화 Thread Pool에서 다시 암호화하고 저장한다
+	 * 요청 Thread는 암호화와 저장을 기다리지 않는다
+	 */
+	@Test
+	public void testUpgradePasswordSubmitted() throws IOException, ServletException {
+		when(this.passwordEncoder.upgradeEncoding("password")).thenReturn(true);
+		when(this.passwordEncoder.generateSalt()).thenReturn("newSalt");
+		when(this.passwordEncoder.encode("password1234", "newSalt")).thenReturn("{pbkdf2}20000$hash");
+		when(this.passwordHashExecutor.submit(any())).thenReturn(true);
+
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/member/login-proc");
+		request.setParameter("password", "password1234");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+				new LoginUserVO(EMAIL, "user", List.of("READ")), null, AuthorityUtils.createAuthorityList("READ"));
+
+		this.loginSuccessHandler.onAuthenticationSuccess(request, response, authentication);
+
+		// 요청 Thread에서는 암호화하거나 저장하지 않는다
+		ArgumentCaptor<Runnable> upgradeCaptor = ArgumentCaptor.forClass(Runnable.class);
+		verify(this.passwordHashExecutor).submit(upgradeCaptor.capture());
+		verify(this.passwordEncoder, never()).encode(any(), any());
+		verify(this.memberDao, never()).updatePassword(any());
+		assertEquals("/board/list", response.getRedirectedUrl());
+
+		// 암호화 Thread에서 실행된다
+		upgradeCaptor.getValue().run();
+		ArgumentCaptor<MemberVO> memberCaptor = ArgumentCaptor.forClass(MemberVO.class);
+		verify(this.memberDao).updatePassword(memberCaptor.capture());
+		assertEquals(EMAIL, memberCaptor.getValue().getEmail());
+		assertEquals("{pbkdf2}20000$hash", memberCaptor.getValue().getPassword());
+		assertEquals("newSalt", memberCaptor.getValue().getSalt());
+	}
+}
@@ -0,0 +1,92 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.ktdsuniversity.edu.hello_spring.common.exceptions.PasswordHashRejectedException;
+
+public class PasswordHashExecutorTest {
+
+	private PasswordHashExecutor passwordHashExecutor = new PasswordHashExecutor(1, 1, 5000);
+
+	private ExecutorService requestThreads = Executors.newFixedThreadPool(2);
+
+	@AfterEach
+	public void tearDown() {
+		this.requestThreads.shutdownNow();
+		this.passwordHashExecutor.shutdown();
+	}
+
+	@Test
+	public void testExecute() {
+		assertEquals("hash", this.passwordHashExecutor.execute(() -> "hash"));
+	}
+
+	/**
+	 * 암호화 Thread와 대기열이 모두 사용 중이라면 기다리지 않고 바로 거절해야 한다
+	 */
+	@Test
+	public void testRejectWhenQueueIsFull() throws InterruptedException {
+		CountDownLatch running = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		// 1. 하나뿐인 암호화 Thread를 점유한다
+		this.requestThreads.execute(() -> this.passwordHashExecutor.execute(() -> {
+			running.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return "first";
+		}));
+		running.await(5, TimeUnit.SECONDS);
+
+		// 2. 대기열을 채운다
+		this.requestThreads.execute(() -> this.passwordHashExecutor.execute(() -> "second"));
+		while(this.passwordHashExecutor.getQueueSize() < 1) {
+			Thread.sleep(10);
+		}
+
+		// 3. 더 이상 받을 수 없으므로 거절된다
+		assertThrows(PasswordHashRejectedException.class, () -> this.passwordHashExecutor.execute(() -> "third"));
+		assertEquals(1, this.passwordHashExecutor.getRejectedCount());
+
+		release.countDown();
+	}
+
+	/**
+	 * 결과를 기다리지 않는 작업은 대기열이 가득 찼다면 실행하지 않는다 (로그인 요청의 거절 횟수에는 더하지 않는다)
+	 */
+	@Test
+	public void testSubmit() throws InterruptedException {
+		CountDownLatch running = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		assertTrue(this.passwordHashExecutor.submit(() -> {
+			running.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}));
+		running.await(5, TimeUnit.SECONDS);
+
+		assertTrue(this.passwordHashExecutor.submit(() -> {}));
+		assertFalse(this.passwordHashExecutor.submit(() -> {}));
+		assertEquals(0, this.passwordHashExecutor.getRejectedCount());
+
+		release.countDown();
+	}
+}
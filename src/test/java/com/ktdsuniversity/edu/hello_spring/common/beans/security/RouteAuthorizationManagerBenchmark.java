@@ -0,0 +1,181 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.security;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthenticatedAuthorizationManager;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.access.intercept.RequestMatcherDelegatingAuthorizationManager;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.AnyRequestMatcher;
+
+import com.ktdsuniversity.edu.hello_spring.member.vo.LoginUserVO;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 요청 1건의 권한 검사 시간 비교 (JMH)
+ *
+ * - matchers: Spring Security 기본 방식 (requestMatchers(...).hasAuthority(...)). 선언한 순서대로 규칙을 하나씩 비교한다
+ * - trie: RouteAuthorizationManager (SecurityConfig.routeAuthorizationManager의 전체 규칙)
+ *
+ * 두 방식 모두 같은 규칙이고, 서비스의 모든 URL을 돌아가면서 검사한다 (규칙 목록의 앞/뒤에 있는 URL이 골고루 섞인다)
+ *
+ * 실행: main 메소드 실행 (IDE) 또는 아래 명령어
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test "-Dexec.args=-cp %classpath org.openjdk.jmh.Main RouteAuthorizationManagerBenchmark -prof gc"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouteAuthorizationManagerBenchmark {
+
+	/**
+	 * 서비스의 모든 URL (HTTP Method, 경로)
+	 */
+	private static final String[][] REQUESTS = {
+			{ "GET", "/member/login" },
+			{ "GET", "/member/regist" },
+			{ "POST", "/member/regist" },
+			{ "GET", "/member/regist/available" },
+			{ "GET", "/member/delete-me" },
+			{ "GET", "/member/success-delete-me" },
+			{ "GET", "/board/list" },
+			{ "GET", "/board/write" },
+			{ "POST", "/board/write" },
+			{ "GET", "/board/view" },
+			{ "GET", "/board/modify/1024" },
+			{ "POST", "/board/modify/1024" },
+			{ "GET", "/board/delete/1024" },
+			{ "GET", "/board/file/download/1024" },
+			{ "GET", "/board/excel/download" },
+			{ "GET", "/board/reply/1024" },
+			{ "POST", "/board/reply/1024" },
+			{ "GET", "/board/reply/delete/2048" },
+			{ "POST", "/board/reply/modify/2048" },
+			{ "GET", "/board/reply/recommend/2048" },
+	};
+
+	private RouteAuthorizationManager routeAuthorizationManager;
+	private AuthorizationManager<HttpServletRequest> requestMatcherAuthorizationManager;
+
+	private RequestAuthorizationContext[] contexts;
+	private HttpServletRequest[] requests;
+	private Supplier<Authentication> authentication;
+
+	private int index;
+
+	@Setup
+	public void setUp() {
+		// logback.xml의 DEBUG 로그가 측정에 섞이지 않도록 한다
+		((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.INFO);
+
+		this.routeAuthorizationManager = new SecurityConfig().routeAuthorizationManager();
+		this.requestMatcherAuthorizationManager = createRequestMatcherAuthorizationManager();
+
+		this.contexts = new RequestAuthorizationContext[REQUESTS.length];
+		this.requests = new HttpServletRequest[REQUESTS.length];
+		for(int i = 0; i < REQUESTS.length; i++) {
+			MockHttpServletRequest request = new MockHttpServletRequest(REQUESTS[i][0], REQUESTS[i][1]);
+			request.setServletPath(REQUESTS[i][1]);
+			this.requests[i] = request;
+			this.contexts[i] = new RequestAuthorizationContext(request);
+		}
+
+		// 요청마다 SecurityContext에서 복원되는 인증 정보 (같은 권한, 다른 instance)
+		LoginUserVO loginUserVO = new LoginUserVO("user@test.com", "사용자", List.of("CREATE", "READ", "UPDATE", "DELETE"));
+		this.authentication = () -> new UsernamePasswordAuthenticationToken(loginUserVO, null, AuthorityUtils.createAuthorityList(loginUserVO.getAuthorities()));
+	}
+
+	@Benchmark
+	public AuthorizationDecision trie() {
+		RequestAuthorizationContext context = this.contexts[this.nextIndex()];
+		return this.routeAuthorizationManager.check(this.authentication, context);
+	}
+
+	@Benchmark
+	public AuthorizationDecision matchers() {
+		HttpServletRequest request = this.requests[this.nextIndex()];
+		return this.requestMatcherAuthorizationManager.check(this.authentication, request);
+	}
+
+	private int nextIndex() {
+		int current = this.index;
+		this.index = current + 1 == REQUESTS.length ? 0 : current + 1;
+		return current;
+	}
+
+	/**
+	 * SecurityConfig.routeAuthorizationManager와 같은 규칙을 Spring Security 기본 방식으로 선언한다
+	 */
+	private static AuthorizationManager<HttpServletRequest> createRequestMatcherAuthorizationManager() {
+		AuthorizationManager<RequestAuthorizationContext> permitAll = (authentication, context) -> new AuthorizationDecision(true);
+		return RequestMatcherDelegatingAuthorizationManager.builder()
+				.add(antMatcher(HttpMethod.GET, "/member/login"), permitAll)
+				.add(antMatcher(HttpMethod.GET, "/member/regist"), permitAll)
+				.add(antMatcher(HttpMethod.GET, "/member/regist/available"), permitAll)
+				.add(antMatcher(HttpMethod.GET, "/member/{result}-delete-me"), permitAll)
+				.add(antMatcher(HttpMethod.POST, "/member/regist"), permitAll)
+				.add(antMatcher(HttpMethod.POST, "/member/security/login"), permitAll)
+				.add(antMatcher(null, "/error"), permitAll)
+				.add(antMatcher(HttpMethod.GET, "/board/list"), AuthorityAuthorizationManager.hasAuthority("READ"))
+				.add(antMatcher(HttpMethod.GET, "/board/view"), AuthorityAuthorizationManager.hasAuthority("READ"))
+				.add(antMatcher(HttpMethod.GET, "/board/file/download/{id}"), AuthorityAuthorizationManager.hasAuthority("READ"))
+				.add(antMatcher(HttpMethod.GET, "/board/excel/download"), AuthorityAuthorizationManager.hasAuthority("READ"))
+				.add(antMatcher(HttpMethod.GET, "/board/reply/{boardId}"), AuthorityAuthorizationManager.hasAuthority("READ"))
+				.add(antMatcher(HttpMethod.GET, "/board/write"), AuthorityAuthorizationManager.hasAuthority("CREATE"))
+				.add(antMatcher(HttpMethod.POST, "/board/write"), AuthorityAuthorizationManager.hasAuthority("CREATE"))
+				.add(antMatcher(HttpMethod.POST, "/board/reply/{boardId}"), AuthorityAuthorizationManager.hasAuthority("CREATE"))
+				.add(antMatcher(HttpMethod.GET, "/board/modify/{id}"), AuthorityAuthorizationManager.hasAuthority("UPDATE"))
+				.add(antMatcher(HttpMethod.GET, "/board/reply/recommend/{replyId}"), AuthorityAuthorizationManager.hasAuthority("UPDATE"))
+				.add(antMatcher(HttpMethod.POST, "/board/modify/{id}"), AuthorityAuthorizationManager.hasAuthority("UPDATE"))
+				.add(antMatcher(HttpMethod.POST, "/board/reply/modify/{replyId}"), AuthorityAuthorizationManager.hasAuthority("UPDATE"))
+				.add(antMatcher(HttpMethod.GET, "/board/delete/{id}"), AuthorityAuthorizationManager.hasAuthority("DELETE"))
+				.add(antMatcher(HttpMethod.GET, "/board/reply/delete/{replyId}"), AuthorityAuthorizationManager.hasAuthority("DELETE"))
+				.add(antMatcher(HttpMethod.GET, "/member/delete-me"), AuthorityAuthorizationManager.hasAuthority("DELETE"))
+				.add(AnyRequestMatcher.INSTANCE, AuthenticatedAuthorizationManager.authenticated())
+				.build();
+	}
+
+	private static AntPathRequestMatcher antMatcher(HttpMethod method, String pattern) {
+		return new AntPathRequestMatcher(pattern, method == null ? null : method.name());
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(RouteAuthorizationManagerBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,136 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import com.ktdsuniversity.edu.hello_spring.member.vo.LoginUserVO;
+
+public class RouteAuthorizationManagerTest {
+
+	private final RouteAuthorizationManager routeAuthorizationManager = new SecurityConfig().routeAuthorizationManager();
+
+	@Test
+	public void testFindRoute() {
+		assertEquals("/board/list", this.routeAuthorizationManager.findRoute("GET", "/board/list").getPattern());
+		assertEquals("/board/reply/{boardId}", this.routeAuthorizationManager.findRoute("POST", "/board/reply/12").getPattern());
+		// 고정 경로(delete)가 경로 변수({boardId})보다 우선한다
+		assertEquals("/board/reply/delete/{replyId}", this.routeAuthorizationManager.findRoute("GET", "/board/reply/delete/3").getPattern());
+		assertEquals("/member/{result}-delete-me", this.routeAuthorizationManager.findRoute("GET", "/member/success-delete-me").getPattern());
+		// 규칙에 없는 경로 -> 로그인한 사용자만 접근 가능
+		assertEquals("/**", this.routeAuthorizationManager.findRoute("GET", "/board/unknown").getPattern());
+		assertEquals("/**", this.routeAuthorizationManager.findRoute("DELETE", "/board/list").getPattern());
+	}
+
+	@Test
+	public void testPermitAllDoesNotLoadAuthentication() {
+		AtomicInteger loadCount = new AtomicInteger();
+		Supplier<Authentication> authentication = () -> {
+			loadCount.incrementAndGet();
+			return null;
+		};
+
+		assertTrue(this.routeAuthorizationManager.check(authentication, "GET", "/member/login").isGranted());
+		assertTrue(this.routeAuthorizationManager.check(authentication, "POST", "/member/regist").isGranted());
+		assertEquals(0, loadCount.get());
+
+		assertFalse(this.routeAuthorizationManager.check(authentication, "GET", "/board/list").isGranted());
+		assertEquals(1, loadCount.get());
+	}
+
+	@Test
+	public void testAuthorities() {
+		Authentication anonymous = new AnonymousAuthenticationToken("key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
+		Authentication reader = this.authentication("READ");
+		Authentication member = this.authentication("CREATE", "READ", "UPDATE", "DELETE");
+
+		assertFalse(this.check(anonymous, "GET", "/board/list"));
+		assertFalse(this.check(anonymous, "GET", "/board/unknown"));
+
+		assertTrue(this.check(reader, "GET", "/board/list"));
+		assertTrue(this.check(reader, "GET", "/board/unknown"));
+		assertFalse(this.check(reader, "POST", "/board/write"));
+		assertFalse(this.check(reader, "GET", "/board/delete/1"));
+
+		assertTrue(this.check(member, "POST", "/board/write"));
+		assertTrue(this.check(member, "GET", "/board/delete/1"));
+		assertTrue(this.check(member, "POST", "/board/reply/modify/1"));
+
+		// 사용자는 세 명이지만 권한 목록은 세 종류뿐이다
+		assertTrue(this.check(this.authentication("CREATE", "READ", "UPDATE", "DELETE"), "GET", "/board/view"));
+		assertEquals(3, this.routeAuthorizationManager.getCachedAuthoritySetCount());
+	}
+
+	/**
+	 * 일부만 변수인 경로({result}-delete-me)는 고정된 부분까지 일치해야 한다
+	 * (/member/* 처럼 한 단계 전체를 허용하지 않는다)
+	 */
+	@Test
+	public void testPartialSegmentPattern() {
+		Authentication anonymous = new AnonymousAuthenticationToken("key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
+
+		assertTrue(this.check(anonymous, "GET", "/member/success-delete-me"));
+		assertTrue(this.check(anonymous, "GET", "/member/fail-delete-me"));
+		assertFalse(this.check(anonymous, "GET", "/member/anything"));
+		assertFalse(this.check(anonymous, "GET", "/member/delete-me-later"));
+		assertEquals("/**", this.routeAuthorizationManager.findRoute("GET", "/member/anything").getPattern());
+		// 고정 경로(delete-me)가 일부만 변수인 경로보다 우선한다
+		assertEquals("/member/delete-me", this.routeAuthorizationManager.findRoute("GET", "/member/delete-me").getPattern());
+	}
+
+	/**
+	 * URL Encode 하거나 ;를 붙인 경로도 원래 경로의 규칙을 적용한다
+	 */
+	@Test
+	public void testRequestPathNormalized() {
+		Authentication reader = this.authentication("READ");
+
+		// /board/write는 CREATE 권한이 필요하다 (규칙에 없는 경로라면 로그인만 하면 된다)
+		assertFalse(this.check(reader, this.request("", "/board/%77rite")));
+		assertFalse(this.check(reader, this.request("", "/board/write;jsessionid=1")));
+		assertTrue(this.check(reader, this.request("", "/board/%6Cist")));
+
+		// contextPath는 제외한다
+		assertTrue(this.check(null, this.request("/app", "/app/member/login")));
+	}
+
+	@Test
+	public void testInvalidRule() {
+		assertThrows(IllegalArgumentException.class, () -> RouteAuthorizationManager.builder().permitAll(null, "/a/**/b"));
+		assertThrows(IllegalArgumentException.class,
+				() -> RouteAuthorizationManager.builder().permitAll(HttpMethod.GET, "/a").hasAuthority(HttpMethod.GET, "READ", "/a"));
+	}
+
+	private boolean check(Authentication authentication, String method, String path) {
+		return this.routeAuthorizationManager.check(() -> authentication, method, path).isGranted();
+	}
+
+	private boolean check(Authentication authentication, MockHttpServletRequest request) {
+		return this.routeAuthorizationManager.check(() -> authentication, new RequestAuthorizationContext(request)).isGranted();
+	}
+
+	private MockHttpServletRequest request(String contextPath, String requestURI) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", requestURI);
+		request.setContextPath(contextPath);
+		return request;
+	}
+
+	private Authentication authentication(String... authorities) {
+		LoginUserVO loginUserVO = new LoginUserVO("user@test.com", "사용자", List.of(authorities));
+		return new UsernamePasswordAuthenticationToken(loginUserVO, null, AuthorityUtils.createAuthorityList(authorities));
+	}
+}
@@ -0,0 +1,160 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import com.ktdsuniversity.edu.hello_spring.common.beans.Sha;
+import com.ktdsuniversity.edu.hello_spring.member.vo.MemberVO;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class SecurityAuthenticationProviderTest {
+
+	private static final int USER_COUNT = 256;
+
+	private Map<String, MemberVO> members;
+
+	private SecurityAuthenticationProvider securityAuthenticationProvider;
+
+	private MeterRegistry meterRegistry;
+
+	@BeforeEach
+	public void setUp() {
+		Sha sha = new Sha();
+		this.meterRegistry = new SimpleMeterRegistry();
+
+		// 회원마다 서로 다른 salt로 암호화된 비밀번호를 준비한다
+		this.members = new HashMap<>();
+		for(int i = 0; i < USER_COUNT; i++) {
+			String salt = sha.generateSalt();
+
+			MemberVO memberVO = new MemberVO();
+			memberVO.setEmail("user" + i + "@test.com");
+			memberVO.setName("user" + i);
+			memberVO.setSalt(salt);
+			memberVO.setPassword(sha.getEncrypt("password" + i, salt));
+			this.members.put(memberVO.getEmail(), memberVO);
+		}
+
+		UserDetailsService userDetailsService = username -> {
+			if(username.equals("error@test.com")) {
+				throw new IllegalStateException("데이터베이스 연결 실패");
+			}
+			MemberVO memberVO = this.members.get(username);
+			if(memberVO == null) {
+				throw new UsernameNotFoundException("아이디 또는 비밀번호가 일치하지 않습니다");
+			}
+			return new SecurityUser(memberVO);
+		};
+
+		this.securityAuthenticationProvider = new SecurityAuthenticationProvider(userDetailsService
+																				, new SecurityPasswordEncoder(sha)
+																				, new PasswordHashExecutor(4, USER_COUNT, 60000)
+																				, new LoginFailureTracker(5, null)
+																				, new AuthenticationMetrics(this.meterRegistry));
+	}
+
+	@Test
+	public void testWrongPassword() {
+		assertThrows(BadCredentialsException.class, () ->
+			this.securityAuthenticationProvider.authenticate(
+					new UsernamePasswordAuthenticationToken("user0@test.com", "password1")));
+	}
+
+	/**
+	 * 단계별 걸린 시간이 결과(outcome)별로 나뉘어 기록되어야 한다
+	 */
+	@Test
+	public void testStageMetrics() {
+		this.securityAuthenticationProvider.authenticate(new UsernamePasswordAuthenticationToken("user0@test.com", "password0"));
+		assertThrows(BadCredentialsException.class, () ->
+			this.securityAuthenticationProvider.authenticate(new UsernamePasswordAuthenticationToken("user0@test.com", "password1")));
+		assertThrows(UsernameNotFoundException.class, () ->
+			this.securityAuthenticationProvider.authenticate(new UsernamePasswordAuthenticationToken("nobody@test.com", "password0")));
+
+		assertEquals(1, this.count("authenticate", "success"));
+		assertEquals(1, this.count("authenticate", "bad_credentials"));
+		assertEquals(1, this.count("authenticate", "unknown_user"));
+		assertEquals(2, this.count("user_lookup", "success"));
+		assertEquals(1, this.count("user_lookup", "unknown_user"));
+		assertEquals(1, this.count("password_hash", "success"));
+		assertEquals(1, this.count("password_hash", "bad_credentials"));
+	}
+
+	/**
+	 * 인증 결과가 아닌 예외(데이터베이스 오류 등)는 error로 기록한다
+	 */
+	@Test
+	public void testErrorMetrics() {
+		assertThrows(IllegalStateException.class, () ->
+			this.securityAuthenticationProvider.authenticate(new UsernamePasswordAuthenticationToken("error@test.com", "password0")));
+
+		assertEquals(1, this.count("authenticate", "error"));
+		assertEquals(1, this.count("user_lookup", "error"));
+	}
+
+	private long count(String stage, String outcome) {
+		return this.meterRegistry.get(AuthenticationMetrics.METRIC_NAME)
+								 .tag("stage", stage)
+								 .tag("outcome", outcome)
+								 .timer()
+								 .count();
+	}
+
+	/**
+	 * 하나의 SecurityAuthenticationProvider를 여러 사용자가 동시에 사용해도
+	 * 올바른 비밀번호로 로그인한 사용자가 실패하지 않아야 한다
+	 */
+	@Test
+	public void testConcurrentLogin() throws InterruptedException {
+		ExecutorService executorService = Executors.newFixedThreadPool(USER_COUNT);
+		CountDownLatch ready = new CountDownLatch(USER_COUNT);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(USER_COUNT);
+		AtomicInteger rejectCount = new AtomicInteger();
+
+		for(int i = 0; i < USER_COUNT; i++) {
+			int userNo = i;
+			executorService.execute(() -> {
+				ready.countDown();
+				try {
+					start.await();
+					// 같은 사용자가 여러 번 로그인을 시도해 다른 사용자의 인증과 최대한 겹치도록 한다
+					for(int repeat = 0; repeat < 20; repeat++) {
+						this.securityAuthenticationProvider.authenticate(
+								new UsernamePasswordAuthenticationToken("user" + userNo + "@test.com", "password" + userNo));
+					}
+				} catch (BadCredentialsException bce) {
+					rejectCount.incrementAndGet();
+				} catch (InterruptedException ie) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+
+		ready.await();
+		start.countDown();
+		done.await(1, TimeUnit.MINUTES);
+		executorService.shutdown();
+
+		assertEquals(0, rejectCount.get());
+	}
+}
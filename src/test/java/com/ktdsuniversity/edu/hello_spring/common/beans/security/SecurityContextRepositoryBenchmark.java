@@ -0,0 +1,198 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.security;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+
+import com.ktdsuniversity.edu.hello_spring.member.vo.MemberVO;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+
+import jakarta.servlet.http.Cookie;
+
+/**
+ * 인증 정보 저장 방식 비교 (JMH)
+ *
+ * - session: HttpSessionSecurityContextRepository (HttpSession에 SecurityContext 저장)
+ * - token: SignedTokenSecurityContextRepository (서명된 Cookie, 서버에 저장하지 않음)
+ *
+ * 요청마다 인증 정보를 복원하는 시간(ns/op)과 할당 byte(gc.alloc.rate.norm)를 비교하고
+ * main 으로 실행하면 동시 사용자 10,000명일 때 서버에 남는 heap 크기도 출력한다
+ * (principal이 MemberVO 전체일 때와 LoginUserVO일 때를 비교한다)
+ * (MockHttpSession 기준이므로 Tomcat의 StandardSession보다 작게 측정된다 -> session 방식의 최소값)
+ *
+ * 실행: main 메소드 실행 (IDE) 또는 아래 명령어
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test "-Dexec.args=-cp %classpath org.openjdk.jmh.Main SecurityContextRepositoryBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class SecurityContextRepositoryBenchmark {
+
+	private static final int USER_COUNT = 10_000;
+
+	private HttpSessionSecurityContextRepository sessionRepository;
+	private SignedTokenSecurityContextRepository tokenRepository;
+
+	private MockHttpServletRequest sessionRequest;
+	private MockHttpServletRequest tokenRequest;
+
+	private SecurityContext securityContext;
+
+	@Setup
+	public void setUp() {
+		// logback.xml의 DEBUG 로그가 측정에 섞이지 않도록 한다
+		((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.INFO);
+
+		this.securityContext = new SecurityContextImpl(createAuthentication(0));
+
+		this.sessionRepository = new HttpSessionSecurityContextRepository();
+		this.tokenRepository = createTokenRepository();
+
+		this.sessionRequest = new MockHttpServletRequest();
+		MockHttpSession session = new MockHttpSession();
+		session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, this.securityContext);
+		this.sessionRequest.setSession(session);
+
+		this.tokenRequest = new MockHttpServletRequest();
+		this.tokenRequest.setCookies(new Cookie("HS_TOKEN", this.tokenRepository.createToken(this.securityContext.getAuthentication())));
+	}
+
+	@Benchmark
+	public SecurityContext sessionLoad() {
+		return this.sessionRepository.loadDeferredContext(this.sessionRequest).get();
+	}
+
+	@Benchmark
+	public SecurityContext tokenLoad() {
+		return this.tokenRepository.loadDeferredContext(this.tokenRequest).get();
+	}
+
+	@Benchmark
+	public MockHttpServletResponse tokenSave() {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		this.tokenRepository.saveContext(this.securityContext, this.tokenRequest, response);
+		return response;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		measureRetainedHeap();
+
+		Options options = new OptionsBuilder()
+				.include(SecurityContextRepositoryBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+
+	/**
+	 * 동시 사용자 10,000명의 인증 정보를 유지하기 위해 서버에 남는 heap 크기
+	 * - session: 사용자마다 HttpSession + SecurityContext + 인증 토큰 + principal
+	 *   (이전: MemberVO 전체 + 암호화된 비밀번호(credentials), 현재: LoginUserVO)
+	 * - token: 서버에 남는 정보가 없다 (토큰은 브라우저의 Cookie에 있다)
+	 */
+	static void measureRetainedHeap() {
+		long memberVOHeap = measureSessionHeap(SecurityContextRepositoryBenchmark::createMemberVOAuthentication);
+		long loginUserVOHeap = measureSessionHeap(SecurityContextRepositoryBenchmark::createAuthentication);
+
+		SignedTokenSecurityContextRepository tokenRepository = createTokenRepository();
+		String token = tokenRepository.createToken(createAuthentication(0));
+
+		System.out.printf("session 방식 (MemberVO): 사용자 %,d명 -> 서버 heap 약 %,d byte (1명당 약 %,d byte)%n"
+						, USER_COUNT, memberVOHeap, memberVOHeap / USER_COUNT);
+		System.out.printf("session 방식 (LoginUserVO): 사용자 %,d명 -> 서버 heap 약 %,d byte (1명당 약 %,d byte)%n"
+						, USER_COUNT, loginUserVOHeap, loginUserVOHeap / USER_COUNT);
+		System.out.printf("token 방식: 서버 heap 0 byte (요청마다 Cookie %d byte 전송)%n", token.length());
+	}
+
+	private static long measureSessionHeap(IntFunction<Authentication> authenticationFactory) {
+		long before = usedHeap();
+		List<MockHttpSession> sessions = new ArrayList<>(USER_COUNT);
+		for(int i = 0; i < USER_COUNT; i++) {
+			MockHttpSession session = new MockHttpSession();
+			session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY
+							   , new SecurityContextImpl(authenticationFactory.apply(i)));
+			sessions.add(session);
+		}
+		long retainedHeap = usedHeap() - before;
+		// 측정이 끝날 때까지 session이 GC 되지 않도록 한다
+		if(sessions.size() != USER_COUNT) {
+			throw new IllegalStateException();
+		}
+		return retainedHeap;
+	}
+
+	private static SignedTokenSecurityContextRepository createTokenRepository() {
+		SecurityTokenSigner signer = new SecurityTokenSigner("0123456789abcdef0123456789abcdef".getBytes(), TimeUnit.HOURS.toMillis(24));
+		return new SignedTokenSecurityContextRepository(signer, "HS_TOKEN", Duration.ofMinutes(60));
+	}
+
+	/**
+	 * 현재 로그인 과정과 같이 LoginUserVO(이메일, 이름, 권한)를 principal로 가지는 인증 토큰
+	 */
+	private static UsernamePasswordAuthenticationToken createAuthentication(int userNo) {
+		MemberVO memberVO = createMemberVO(userNo);
+		SecurityUser securityUser = new SecurityUser(memberVO);
+		return new UsernamePasswordAuthenticationToken(securityUser.toLoginUserVO(), null, securityUser.getAuthorities());
+	}
+
+	/**
+	 * 이전 로그인 과정과 같이 MemberVO 전체를 principal로 가지는 인증 토큰
+	 */
+	private static UsernamePasswordAuthenticationToken createMemberVOAuthentication(int userNo) {
+		MemberVO memberVO = createMemberVO(userNo);
+		return new UsernamePasswordAuthenticationToken(memberVO, memberVO.getPassword(), new SecurityUser(memberVO).getAuthorities());
+	}
+
+	private static MemberVO createMemberVO(int userNo) {
+		MemberVO memberVO = new MemberVO();
+		memberVO.setEmail("user" + userNo + "@test.com");
+		memberVO.setName("user" + userNo);
+		memberVO.setPassword("{pbkdf2}310000$" + "0".repeat(64));
+		memberVO.setSalt("71b4866d548d1456");
+		memberVO.setLatestLoginIp("127.0.0.1");
+		memberVO.setLatestLoginSuccessDate("2024-01-01 00:00:00");
+		return memberVO;
+	}
+
+	private static long usedHeap() {
+		for(int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		Runtime runtime = Runtime.getRuntime();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
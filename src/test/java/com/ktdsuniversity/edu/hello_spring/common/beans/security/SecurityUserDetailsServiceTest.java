@@ -0,0 +1,83 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import com.ktdsuniversity.edu.hello_spring.member.dao.MemberDao;
+import com.ktdsuniversity.edu.hello_spring.member.event.MemberChangedEvent;
+import com.ktdsuniversity.edu.hello_spring.member.vo.MemberVO;
+
+public class SecurityUserDetailsServiceTest {
+
+	private MemberDao memberDao;
+
+	private SecurityUserDetailsService securityUserDetailsService;
+
+	@BeforeEach
+	public void setUp() {
+		this.memberDao = mock(MemberDao.class);
+		this.securityUserDetailsService = new SecurityUserDetailsService(this.memberDao, 100, Duration.ofMinutes(1));
+
+		MemberVO memberVO = new MemberVO();
+		memberVO.setEmail("user@test.com");
+		memberVO.setPassword("password");
+		memberVO.setLoginFailCount(1);
+		BDDMockito.given(this.memberDao.selectMemberByEmail("user@test.com")).willReturn(memberVO);
+	}
+
+	@Test
+	public void testCachedLookup() {
+		this.securityUserDetailsService.loadUserByUsername("user@test.com");
+		this.securityUserDetailsService.loadUserByUsername("user@test.com");
+
+		verify(this.memberDao, times(1)).selectMemberByEmail("user@test.com");
+	}
+
+	@Test
+	public void testEvictOnMemberChanged() {
+		this.securityUserDetailsService.loadUserByUsername("user@test.com");
+		this.securityUserDetailsService.evictMember(new MemberChangedEvent("user@test.com"));
+		this.securityUserDetailsService.loadUserByUsername("user@test.com");
+
+		verify(this.memberDao, times(2)).selectMemberByEmail("user@test.com");
+	}
+
+	/**
+	 * 반환한 회원 정보를 변경해도 캐시한 회원 정보는 바뀌지 않는다
+	 */
+	@Test
+	public void testCachedMemberNotShared() {
+		MemberVO first = ((SecurityUser) this.securityUserDetailsService.loadUserByUsername("user@test.com")).getMemberVO();
+		first.setPassword(null);
+		first.setLoginFailCount(5);
+
+		MemberVO second = ((SecurityUser) this.securityUserDetailsService.loadUserByUsername("user@test.com")).getMemberVO();
+		assertNotSame(first, second);
+		assertEquals("password", second.getPassword());
+		assertEquals(1, second.getLoginFailCount());
+		verify(this.memberDao, times(1)).selectMemberByEmail("user@test.com");
+	}
+
+	/**
+	 * 가입하지 않은 이메일은 캐시하지 않는다
+	 */
+	@Test
+	public void testUnknownUserNotCached() {
+		assertThrows(UsernameNotFoundException.class, () -> this.securityUserDetailsService.loadUserByUsername("none@test.com"));
+		assertThrows(UsernameNotFoundException.class, () -> this.securityUserDetailsService.loadUserByUsername("none@test.com"));
+
+		verify(this.memberDao, times(2)).selectMemberByEmail("none@test.com");
+		assertEquals("user@test.com", this.securityUserDetailsService.loadUserByUsername("user@test.com").getUsername());
+	}
+}
@@ -0,0 +1,84 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import com.ktdsuniversity.edu.hello_spring.member.vo.LoginUserVO;
+import com.ktdsuniversity.edu.hello_spring.member.vo.MemberVO;
+
+public class SecurityUserTest {
+
+	@Test
+	public void testLoginUserVOHasNoSecret() {
+		LoginUserVO loginUserVO = new SecurityUser(this.memberVO()).toLoginUserVO();
+
+		assertEquals("user@test.com", loginUserVO.getEmail());
+		assertEquals("사용자", loginUserVO.getName());
+		assertEquals(List.of("CREATE", "READ", "UPDATE", "DELETE"), loginUserVO.getAuthorities());
+		// Authentication.getName()이 이메일을 반환해야 한다
+		assertEquals("user@test.com", this.authentication(loginUserVO).getName());
+	}
+
+	/**
+	 * session을 저장(복제)할 때 직렬화되는 SecurityContext의 크기
+	 * 이전 principal(MemberVO)은 직렬화할 수 없었다
+	 */
+	@Test
+	public void testSerializedSessionSize() throws Exception {
+		SecurityUser securityUser = new SecurityUser(this.memberVO());
+
+		SecurityContext loginUserContext = new SecurityContextImpl(this.authentication(securityUser.toLoginUserVO()));
+		byte[] serialized = this.serialize(loginUserContext);
+		assertTrue(serialized.length < 2048, "serialized bytes: " + serialized.length);
+
+		String serializedText = new String(serialized, StandardCharsets.ISO_8859_1);
+		assertFalse(serializedText.contains("71b4866d548d1456"));
+
+		try(ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+			SecurityContext restored = (SecurityContext) input.readObject();
+			assertEquals(securityUser.toLoginUserVO(), restored.getAuthentication().getPrincipal());
+		}
+
+		SecurityContext memberContext = new SecurityContextImpl(
+				new UsernamePasswordAuthenticationToken(securityUser.getMemberVO(), null, securityUser.getAuthorities()));
+		assertThrows(NotSerializableException.class, () -> this.serialize(memberContext));
+	}
+
+	private UsernamePasswordAuthenticationToken authentication(LoginUserVO loginUserVO) {
+		return new UsernamePasswordAuthenticationToken(loginUserVO, null, new SecurityUser(this.memberVO()).getAuthorities());
+	}
+
+	private byte[] serialize(Object object) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try(ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+			output.writeObject(object);
+		}
+		return bytes.toByteArray();
+	}
+
+	private MemberVO memberVO() {
+		MemberVO memberVO = new MemberVO();
+		memberVO.setEmail("user@test.com");
+		memberVO.setName("사용자");
+		memberVO.setPassword("{pbkdf2}310000$" + "0".repeat(64));
+		memberVO.setSalt("71b4866d548d1456");
+		memberVO.setLatestLoginIp("127.0.0.1");
+		return memberVO;
+	}
+}
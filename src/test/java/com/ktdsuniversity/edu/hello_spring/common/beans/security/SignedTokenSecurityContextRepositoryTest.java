@@ -0,0 +1,120 @@
+package com.ktdsuniversity.edu.hello_spring.common.beans.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import com.ktdsuniversity.edu.hello_spring.member.vo.LoginUserVO;
+
+import jakarta.servlet.http.Cookie;
+
+public class SignedTokenSecurityContextRepositoryTest {
+
+	private static final String COOKIE_NAME = "HS_TOKEN";
+
+	private static final byte[] MASTER_SECRET = "0123456789abcdef0123456789abcdef".getBytes();
+
+	private AtomicLong now = new AtomicLong(System.currentTimeMillis());
+
+	private SignedTokenSecurityContextRepository repository;
+
+	@BeforeEach
+	public void setUp() {
+		SecurityTokenSigner signer = new SecurityTokenSigner(MASTER_SECRET, TimeUnit.HOURS.toMillis(24), this.now::get);
+		this.repository = new SignedTokenSecurityContextRepository(signer, COOKIE_NAME, Duration.ofMinutes(60), this.now::get);
+	}
+
+	@Test
+	public void testSaveAndLoad() {
+		String token = this.login();
+
+		SecurityContext securityContext = this.repository.loadDeferredContext(this.requestWithToken(token)).get();
+		LoginUserVO loginUserVO = (LoginUserVO) securityContext.getAuthentication().getPrincipal();
+		assertEquals("user@test.com", loginUserVO.getEmail());
+		assertEquals("사용자", loginUserVO.getName());
+		assertEquals(List.of("READ", "CREATE"), loginUserVO.getAuthorities());
+		assertNull(securityContext.getAuthentication().getCredentials());
+		assertEquals(2, securityContext.getAuthentication().getAuthorities().size());
+	}
+
+	@Test
+	public void testTamperedToken() {
+		String token = this.login();
+		// 서명은 그대로 두고 내용만 바꾼다
+		String[] parts = token.split("\\.");
+		String tampered = parts[0] + "." + parts[1].substring(0, parts[1].length() - 2) + "AA." + parts[2];
+
+		assertTrue(this.repository.loadDeferredContext(this.requestWithToken(tampered)).isGenerated());
+		assertTrue(this.repository.loadDeferredContext(this.requestWithToken("garbage")).isGenerated());
+	}
+
+	@Test
+	public void testExpiredToken() {
+		String token = this.login();
+		this.now.addAndGet(TimeUnit.MINUTES.toMillis(61));
+
+		assertTrue(this.repository.loadDeferredContext(this.requestWithToken(token)).isGenerated());
+	}
+
+	/**
+	 * 서명 키가 바뀐 직후에도 이전 키로 서명된 토큰은 유효시간 동안 사용할 수 있어야 하고
+	 * 두 번 이상 이전의 키로 서명된 토큰은 거부해야 한다
+	 */
+	@Test
+	public void testKeyRotation() {
+		SignedTokenSecurityContextRepository longLivedRepository = new SignedTokenSecurityContextRepository(
+				new SecurityTokenSigner(MASTER_SECRET, TimeUnit.HOURS.toMillis(1), this.now::get)
+				, COOKIE_NAME, Duration.ofDays(7), this.now::get);
+		String token = longLivedRepository.createToken(this.authentication());
+
+		this.now.addAndGet(TimeUnit.HOURS.toMillis(1));
+		assertFalse(longLivedRepository.loadDeferredContext(this.requestWithToken(token)).isGenerated());
+
+		this.now.addAndGet(TimeUnit.HOURS.toMillis(1));
+		assertTrue(longLivedRepository.loadDeferredContext(this.requestWithToken(token)).isGenerated());
+	}
+
+	@Test
+	public void testLogoutDeletesCookie() {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		this.repository.saveContext(new SecurityContextImpl(), this.requestWithToken(this.login()), response);
+
+		Cookie cookie = response.getCookie(COOKIE_NAME);
+		assertNotNull(cookie);
+		assertEquals(0, cookie.getMaxAge());
+	}
+
+	private String login() {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		this.repository.saveContext(new SecurityContextImpl(this.authentication()), new MockHttpServletRequest(), response);
+		return response.getCookie(COOKIE_NAME).getValue();
+	}
+
+	private UsernamePasswordAuthenticationToken authentication() {
+		LoginUserVO loginUserVO = new LoginUserVO("user@test.com", "사용자", List.of("READ", "CREATE"));
+		return new UsernamePasswordAuthenticationToken(loginUserVO, null
+				, List.of(new SimpleGrantedAuthority("READ"), new SimpleGrantedAuthority("CREATE")));
+	}
+
+	private MockHttpServletRequest requestWithToken(String token) {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setCookies(new Cookie(COOKIE_NAME, token));
+		return request;
+	}
+}
@@ -0,0 +1,59 @@
+package com.ktdsuniversity.edu.hello_spring.member.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.ui.ExtendedModelMap;
+import org.springframework.validation.BeanPropertyBindingResult;
+
+import com.ktdsuniversity.edu.hello_spring.common.exceptions.PasswordHashRejectedException;
+import com.ktdsuniversity.edu.hello_spring.member.service.MemberService;
+import com.ktdsuniversity.edu.hello_spring.member.vo.MemberRegistVO;
+
+public class MemberControllerTest {
+
+	private MemberService memberService;
+
+	private MemberController memberController;
+
+	@BeforeEach
+	public void setUp() {
+		this.memberService = mock(MemberService.class);
+
+		this.memberController = new MemberController();
+		ReflectionTestUtils.setField(this.memberController, "memberService", this.memberService);
+	}
+
+	/**
+	 * 비밀번호 암호화 요청이 너무 많아 가입하지 못했다면 입력한 내용을 유지하고 다시 시도하도록 안내한다 (500 화면이 아니다)
+	 */
+	@Test
+	public void testRegistRejected() {
+		MemberRegistVO memberRegistVO = new MemberRegistVO();
+		memberRegistVO.setEmail("user@test.com");
+		when(this.memberService.insertNewMember(memberRegistVO)).thenThrow(new PasswordHashRejectedException("rejected"));
+
+		ExtendedModelMap model = new ExtendedModelMap();
+		String view = this.memberController.doRegistMember(memberRegistVO, new BeanPropertyBindingResult(memberRegistVO, "memberRegistVO"), model);
+
+		assertEquals("member/memberregist", view);
+		assertSame(memberRegistVO, model.get("memberRegistVO"));
+		assertNotNull(model.get("message"));
+	}
+
+	@Test
+	public void testRegist() {
+		MemberRegistVO memberRegistVO = new MemberRegistVO();
+		when(this.memberService.insertNewMember(memberRegistVO)).thenReturn(true);
+
+		String view = this.memberController.doRegistMember(memberRegistVO, new BeanPropertyBindingResult(memberRegistVO, "memberRegistVO"), new ExtendedModelMap());
+
+		assertEquals("redirect:/member/login", view);
+	}
+}